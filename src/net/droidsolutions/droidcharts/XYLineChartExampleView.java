@@ -1,6 +1,5 @@
 package net.droidsolutions.droidcharts;
 
-import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.core.ChartFactory;
 import net.droidsolutions.droidcharts.core.JFreeChart;
 import net.droidsolutions.droidcharts.core.axis.CategoryAxis;
@@ -11,6 +10,7 @@ import net.droidsolutions.droidcharts.core.data.PieDataset;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
 import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+import net.droidsolutions.droidcharts.core.panel.ChartRenderService;
 import net.droidsolutions.droidcharts.core.plot.PlotOrientation;
 import net.droidsolutions.droidcharts.core.plot.XYPlot;
 import net.droidsolutions.droidcharts.core.renderer.xy.XYLineAndShapeRenderer;
@@ -18,13 +18,17 @@ import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Rect;
 import android.os.Handler;
 import android.view.View;
 
 public class XYLineChartExampleView extends View {
-	/** The view bounds. */
-	private Rect mRect = new Rect();
+	/** The chart. */
+	private JFreeChart mChart;
+	/**
+	 * Renders the chart off the user interface thread (only while the view is
+	 * attached to a window).
+	 */
+	private ChartRenderService mRenderService;
 	/** The user interface thread handler. */
 	private Handler mHandler;
 
@@ -39,19 +43,41 @@ public class XYLineChartExampleView extends View {
 	public XYLineChartExampleView(Context context) {
 		super(context);
 		mHandler = new Handler();
+		final XYDataset dataset = createDataset();
+		mChart = createChart(dataset);
 	}
 
-	protected void onDraw(Canvas canvas) {
+	protected void onAttachedToWindow() {
+		super.onAttachedToWindow();
+		mRenderService = new ChartRenderService(mChart);
+		mRenderService.setRenderCallback(new Runnable() {
+			public void run() {
+				postInvalidate();
+			}
+		});
+		mRenderService.setSize(getWidth(), getHeight());
+	}
+
+	protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+		super.onSizeChanged(w, h, oldw, oldh);
+		if (mRenderService != null) {
+			mRenderService.setSize(w, h);
+		}
+	}
 
+	protected void onDraw(Canvas canvas) {
 		super.onDraw(canvas);
-		canvas.getClipBounds(mRect);
+		if (mRenderService != null) {
+			mRenderService.draw(canvas, 0, 0);
+		}
+	}
 
-		final XYDataset dataset = createDataset();
-		final JFreeChart chart = createChart(dataset);
-		chart.draw(canvas, new Rectangle2D.Double(0, 0, mRect.width(), mRect
-				.height()));
-		Paint p = new Paint();
-		p.setColor(Color.RED);
+	protected void onDetachedFromWindow() {
+		super.onDetachedFromWindow();
+		if (mRenderService != null) {
+			mRenderService.shutdown();
+			mRenderService = null;
+		}
 	}
 
 	/**
@@ -0,0 +1,503 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2004, by Object Refinery Limited and Contributors.
+ * 
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ * 
+ * --------------------------
+ * ChangeEventDispatcher.java
+ * --------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.common;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalesces change notifications so that an object that changes many times
+ * between two display frames notifies its listeners only once.  Series,
+ * datasets, plots and charts that are given a dispatcher post themselves to
+ * it (as a {@link Source}) instead of notifying their listeners directly, and
+ * each tick of the dispatcher asks every pending source to deliver a single
+ * merged event.
+ * <P>
+ * Ticks are throttled to the frame interval (16 milliseconds by default), as
+ * measured by a pluggable {@link Clock}.  When a {@link Scheduler} is set the
+ * dispatcher requests a tick for itself whenever a change is posted;
+ * otherwise the owner calls {@link #tick()} once per frame (or
+ * {@link #flush()} to deliver pending events immediately).  Sources that are
+ * posted while a tick is dispatching (a chart notified by its plot, for
+ * example) are delivered in the same tick.
+ * <P>
+ * Changes can be posted from any thread; events are delivered on the thread
+ * that calls {@link #tick()}.
+ */
+public class ChangeEventDispatcher {
+
+	/**
+	 * An object that can defer its change notifications to a dispatcher.
+	 */
+	public interface Source {
+
+		/**
+		 * Sends a single change event, covering all the changes posted since
+		 * the last dispatch, to the registered listeners.
+		 */
+		public void dispatchChange();
+
+	}
+
+	/**
+	 * A source of time for the frame throttling.
+	 */
+	public interface Clock {
+
+		/**
+		 * Returns the current time in milliseconds (the origin is arbitrary,
+		 * only differences are used).
+		 *
+		 * @return The time.
+		 */
+		public long currentTimeMillis();
+
+	}
+
+	/**
+	 * Schedules the ticks of a dispatcher (on a display frame callback or a
+	 * message queue, for instance).
+	 */
+	public interface Scheduler {
+
+		/**
+		 * Arranges for <code>dispatcher.tick()</code> to be called after the
+		 * specified delay.
+		 *
+		 * @param dispatcher
+		 *            the dispatcher.
+		 * @param delayMillis
+		 *            the delay in milliseconds.
+		 */
+		public void scheduleTick(ChangeEventDispatcher dispatcher,
+				long delayMillis);
+
+	}
+
+	/** A clock based on {@link System#nanoTime()}. */
+	public static final Clock SYSTEM_CLOCK = new Clock() {
+		public long currentTimeMillis() {
+			return System.nanoTime() / 1000000L;
+		}
+	};
+
+	/** The default frame interval (in milliseconds). */
+	public static final long DEFAULT_FRAME_INTERVAL = 16L;
+
+	/**
+	 * The maximum number of rounds of cascaded changes that are delivered in
+	 * one tick.
+	 */
+	private static final int MAX_ROUNDS = 8;
+
+	/** The lock for the pending sources and counters. */
+	private final Object lock = new Object();
+
+	/** The clock. */
+	private Clock clock;
+
+	/** The scheduler (<code>null</code> if ticks are driven by the owner). */
+	private Scheduler scheduler;
+
+	/** The minimum time between two dispatches (in milliseconds). */
+	private long frameInterval;
+
+	/** The pending sources, in the order they were first posted. */
+	private List pending;
+
+	/** The pending sources, keyed by identity. */
+	private Map pendingSet;
+
+	/** A flag that indicates whether a tick has been scheduled. */
+	private boolean tickScheduled;
+
+	/** A flag that indicates whether a tick is dispatching. */
+	private boolean dispatching;
+
+	/** A flag that indicates whether anything has been dispatched yet. */
+	private boolean dispatched;
+
+	/** The clock time of the last dispatch. */
+	private long lastDispatchTime;
+
+	/** The number of changes posted. */
+	private long receivedCount;
+
+	/** The number of merged events dispatched. */
+	private long dispatchedCount;
+
+	/** The number of ticks that dispatched at least one event. */
+	private long frameCount;
+
+	/**
+	 * Creates a new dispatcher with no scheduler, so that the owner is
+	 * responsible for calling {@link #tick()}.
+	 */
+	public ChangeEventDispatcher() {
+		this(null, SYSTEM_CLOCK);
+	}
+
+	/**
+	 * Creates a new dispatcher that uses the specified scheduler.
+	 *
+	 * @param scheduler
+	 *            the scheduler (<code>null</code> permitted).
+	 */
+	public ChangeEventDispatcher(Scheduler scheduler) {
+		this(scheduler, SYSTEM_CLOCK);
+	}
+
+	/**
+	 * Creates a new dispatcher that uses the specified scheduler and clock.
+	 *
+	 * @param scheduler
+	 *            the scheduler (<code>null</code> permitted).
+	 * @param clock
+	 *            the clock (<code>null</code> not permitted).
+	 */
+	public ChangeEventDispatcher(Scheduler scheduler, Clock clock) {
+		if (clock == null) {
+			throw new IllegalArgumentException("Null 'clock' argument.");
+		}
+		this.scheduler = scheduler;
+		this.clock = clock;
+		this.frameInterval = DEFAULT_FRAME_INTERVAL;
+		this.pending = new ArrayList();
+		this.pendingSet = new IdentityHashMap();
+	}
+
+	/**
+	 * Returns the clock.
+	 *
+	 * @return The clock (never <code>null</code>).
+	 *
+	 * @see #setClock(Clock)
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Sets the clock used to throttle the dispatches.
+	 *
+	 * @param clock
+	 *            the clock (<code>null</code> not permitted).
+	 *
+	 * @see #getClock()
+	 */
+	public void setClock(Clock clock) {
+		if (clock == null) {
+			throw new IllegalArgumentException("Null 'clock' argument.");
+		}
+		synchronized (this.lock) {
+			this.clock = clock;
+			this.dispatched = false;
+		}
+	}
+
+	/**
+	 * Returns the scheduler.
+	 *
+	 * @return The scheduler (possibly <code>null</code>).
+	 *
+	 * @see #setScheduler(Scheduler)
+	 */
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Sets the scheduler.  If this is <code>null</code>, the owner of the
+	 * dispatcher must call {@link #tick()}.
+	 *
+	 * @param scheduler
+	 *            the scheduler (<code>null</code> permitted).
+	 *
+	 * @see #getScheduler()
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		long delay;
+		synchronized (this.lock) {
+			this.scheduler = scheduler;
+			this.tickScheduled = false;
+			if (scheduler == null || this.pending.isEmpty()) {
+				return;
+			}
+			this.tickScheduled = true;
+			delay = getDelay(this.clock.currentTimeMillis());
+		}
+		scheduler.scheduleTick(this, delay);
+	}
+
+	/**
+	 * Returns the minimum time between two dispatches.
+	 *
+	 * @return The frame interval (in milliseconds).
+	 *
+	 * @see #setFrameInterval(long)
+	 */
+	public long getFrameInterval() {
+		return this.frameInterval;
+	}
+
+	/**
+	 * Sets the minimum time between two dispatches.  A value of zero
+	 * disables the throttling, so that each tick dispatches the pending
+	 * changes.
+	 *
+	 * @param millis
+	 *            the interval in milliseconds (negative values not
+	 *            permitted).
+	 *
+	 * @see #getFrameInterval()
+	 */
+	public void setFrameInterval(long millis) {
+		if (millis < 0L) {
+			throw new IllegalArgumentException("Negative 'millis' argument.");
+		}
+		synchronized (this.lock) {
+			this.frameInterval = millis;
+		}
+	}
+
+	/**
+	 * Records a change to a source.  The source is notified (once, however
+	 * many times it is posted) on the next tick that dispatches.
+	 *
+	 * @param source
+	 *            the source (<code>null</code> not permitted).
+	 */
+	public void post(Source source) {
+		if (source == null) {
+			throw new IllegalArgumentException("Null 'source' argument.");
+		}
+		Scheduler s;
+		long delay;
+		synchronized (this.lock) {
+			this.receivedCount++;
+			if (this.pendingSet.put(source, source) == null) {
+				this.pending.add(source);
+			}
+			s = this.scheduler;
+			if (s == null || this.tickScheduled || this.dispatching) {
+				return;
+			}
+			this.tickScheduled = true;
+			delay = getDelay(this.clock.currentTimeMillis());
+		}
+		s.scheduleTick(this, delay);
+	}
+
+	/**
+	 * Returns <code>true</code> if there are changes waiting to be
+	 * dispatched.
+	 *
+	 * @return A boolean.
+	 */
+	public boolean hasPendingChanges() {
+		synchronized (this.lock) {
+			return !this.pending.isEmpty();
+		}
+	}
+
+	/**
+	 * Dispatches the pending changes, unless less than the frame interval has
+	 * passed since the last dispatch (in which case another tick is
+	 * scheduled, if there is a scheduler).
+	 *
+	 * @return <code>true</code> if any events were dispatched.
+	 */
+	public boolean tick() {
+		Scheduler s;
+		long delay;
+		synchronized (this.lock) {
+			this.tickScheduled = false;
+			if (this.pending.isEmpty() || this.dispatching) {
+				return false;
+			}
+			long now = this.clock.currentTimeMillis();
+			delay = getDelay(now);
+			if (delay == 0L) {
+				this.dispatching = true;
+				this.lastDispatchTime = now;
+				this.dispatched = true;
+				s = null;
+			} else {
+				s = this.scheduler;
+				if (s == null) {
+					return false;
+				}
+				this.tickScheduled = true;
+			}
+		}
+		if (s != null) {
+			s.scheduleTick(this, delay);
+			return false;
+		}
+		dispatchPending();
+		return true;
+	}
+
+	/**
+	 * Dispatches the pending changes immediately, ignoring the frame
+	 * interval.
+	 *
+	 * @return <code>true</code> if any events were dispatched.
+	 */
+	public boolean flush() {
+		synchronized (this.lock) {
+			if (this.pending.isEmpty() || this.dispatching) {
+				return false;
+			}
+			this.dispatching = true;
+			this.lastDispatchTime = this.clock.currentTimeMillis();
+			this.dispatched = true;
+		}
+		dispatchPending();
+		return true;
+	}
+
+	/**
+	 * Delivers the pending sources (and any sources they post in turn).  The
+	 * caller must have set the dispatching flag.
+	 */
+	private void dispatchPending() {
+		Scheduler s = null;
+		long delay = 0L;
+		try {
+			for (int round = 0; round < MAX_ROUNDS; round++) {
+				Object[] sources;
+				synchronized (this.lock) {
+					if (this.pending.isEmpty()) {
+						break;
+					}
+					sources = this.pending.toArray();
+					this.pending.clear();
+					this.pendingSet.clear();
+					this.dispatchedCount += sources.length;
+				}
+				for (int i = 0; i < sources.length; i++) {
+					((Source) sources[i]).dispatchChange();
+				}
+			}
+		} finally {
+			synchronized (this.lock) {
+				this.dispatching = false;
+				this.frameCount++;
+				if (!this.pending.isEmpty() && this.scheduler != null
+						&& !this.tickScheduled) {
+					this.tickScheduled = true;
+					s = this.scheduler;
+					delay = getDelay(this.clock.currentTimeMillis());
+				}
+			}
+		}
+		if (s != null) {
+			s.scheduleTick(this, delay);
+		}
+	}
+
+	/**
+	 * Returns the time until the next dispatch is permitted.  The caller
+	 * must hold the lock.
+	 *
+	 * @param now
+	 *            the current clock time.
+	 *
+	 * @return The delay in milliseconds (zero or greater).
+	 */
+	private long getDelay(long now) {
+		if (!this.dispatched) {
+			return 0L;
+		}
+		long elapsed = now - this.lastDispatchTime;
+		if (elapsed < 0L || elapsed >= this.frameInterval) {
+			return 0L;
+		}
+		return this.frameInterval - elapsed;
+	}
+
+	/**
+	 * Returns the number of changes that have been posted.
+	 *
+	 * @return The count.
+	 */
+	public long getReceivedCount() {
+		synchronized (this.lock) {
+			return this.receivedCount;
+		}
+	}
+
+	/**
+	 * Returns the number of merged events that have been dispatched (one for
+	 * each pending source in each tick).
+	 *
+	 * @return The count.
+	 */
+	public long getDispatchedCount() {
+		synchronized (this.lock) {
+			return this.dispatchedCount;
+		}
+	}
+
+	/**
+	 * Returns the number of ticks that have dispatched events.
+	 *
+	 * @return The count.
+	 */
+	public long getFrameCount() {
+		synchronized (this.lock) {
+			return this.frameCount;
+		}
+	}
+
+	/**
+	 * Resets the received, dispatched and frame counts to zero.
+	 */
+	public void resetCounters() {
+		synchronized (this.lock) {
+			this.receivedCount = 0L;
+			this.dispatchedCount = 0L;
+			this.frameCount = 0L;
+		}
+	}
+
+}
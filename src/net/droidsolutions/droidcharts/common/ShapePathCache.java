@@ -0,0 +1,309 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2004, by Object Refinery Limited and Contributors.
+ * 
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ * 
+ * -------------------
+ * ShapePathCache.java
+ * -------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.common;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import net.droidsolutions.droidcharts.awt.PathIterator;
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.awt.Shape;
+
+/**
+ * Converts {@link Shape} objects to Android {@link Path} objects and caches
+ * the result, so that a renderer drawing the same series shape at many
+ * locations converts it only once.  Each cached path is stamped at the
+ * required location with {@link Path#offset(float, float, Path)} into a
+ * reusable scratch path, so drawing a shape allocates nothing.
+ * <P>
+ * Shapes are cached by identity, so a shape must not be modified after it
+ * has been drawn through the cache (call {@link #clear()} if it is).  An
+ * instance is not thread-safe and is intended to be owned by a single
+ * renderer.
+ */
+public class ShapePathCache {
+
+	/** The maximum number of shapes that are cached. */
+	private static final int MAX_ENTRIES = 64;
+
+	/** The cached entries, keyed by shape. */
+	private Map entries;
+
+	/** A path that is reused for translated and one-off shapes. */
+	private Path scratchPath;
+
+	/** A coordinate buffer that is reused for each conversion. */
+	private float[] coords;
+
+	/**
+	 * Creates a new, empty cache.
+	 */
+	public ShapePathCache() {
+		this.entries = new IdentityHashMap();
+		this.scratchPath = new Path();
+		this.coords = new float[6];
+	}
+
+	/**
+	 * Returns the (cached) path for a shape. The path is shared, so callers
+	 * must not modify it.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 *
+	 * @return The path.
+	 */
+	public Path getPath(Shape shape) {
+		return getEntry(shape).path;
+	}
+
+	/**
+	 * Returns the (cached) bounds for a shape. The rectangle is shared, so
+	 * callers must not modify it.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 *
+	 * @return The bounds.
+	 */
+	public Rectangle2D getBounds(Shape shape) {
+		return getEntry(shape).bounds;
+	}
+
+	/**
+	 * Returns <code>true</code> if the shape, translated by
+	 * <code>(transX, transY)</code>, has bounds that intersect the specified
+	 * area.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 * @param transX
+	 *            the x translation.
+	 * @param transY
+	 *            the y translation.
+	 * @param area
+	 *            the area (<code>null</code> not permitted).
+	 *
+	 * @return A boolean.
+	 */
+	public boolean intersects(Shape shape, double transX, double transY,
+			Rectangle2D area) {
+		Rectangle2D bounds = getBounds(shape);
+		return area.intersects(bounds.getX() + transX, bounds.getY() + transY,
+				bounds.getWidth(), bounds.getHeight());
+	}
+
+	/**
+	 * Returns the path for a shape translated by <code>(transX,
+	 * transY)</code>. The result is a scratch path owned by this cache and is
+	 * only valid until the next call to this method or
+	 * {@link #convert(Shape)}.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 * @param transX
+	 *            the x translation.
+	 * @param transY
+	 *            the y translation.
+	 *
+	 * @return The translated path.
+	 */
+	public Path getTranslatedPath(Shape shape, double transX, double transY) {
+		getPath(shape).offset((float) transX, (float) transY,
+				this.scratchPath);
+		return this.scratchPath;
+	}
+
+	/**
+	 * Draws a shape translated by <code>(transX, transY)</code>.
+	 *
+	 * @param g2
+	 *            the canvas.
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 * @param transX
+	 *            the x translation.
+	 * @param transY
+	 *            the y translation.
+	 * @param paint
+	 *            the paint.
+	 */
+	public void drawShape(Canvas g2, Shape shape, double transX,
+			double transY, Paint paint) {
+		g2.drawPath(getTranslatedPath(shape, transX, transY), paint);
+	}
+
+	/**
+	 * Converts a shape that is not worth caching (for example, a shape that
+	 * is recreated for each item) into the scratch path. The result is only
+	 * valid until the next call to this method or
+	 * {@link #getTranslatedPath(Shape, double, double)}.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 *
+	 * @return The scratch path.
+	 */
+	public Path convert(Shape shape) {
+		if (shape == null) {
+			throw new IllegalArgumentException("Null 'shape' argument.");
+		}
+		this.scratchPath.reset();
+		appendPath(this.scratchPath, shape.getPathIterator(null), this.coords);
+		return this.scratchPath;
+	}
+
+	/**
+	 * Removes all cached paths.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the cache entry for a shape, creating it if necessary.
+	 *
+	 * @param shape
+	 *            the shape.
+	 *
+	 * @return The entry.
+	 */
+	private Entry getEntry(Shape shape) {
+		if (shape == null) {
+			throw new IllegalArgumentException("Null 'shape' argument.");
+		}
+		Entry entry = (Entry) this.entries.get(shape);
+		if (entry == null) {
+			if (this.entries.size() >= MAX_ENTRIES) {
+				this.entries.clear();
+			}
+			Path path = new Path();
+			appendPath(path, shape.getPathIterator(null), this.coords);
+			entry = new Entry(path, shape.getBounds2D());
+			this.entries.put(shape, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Creates a new Android path for a shape.
+	 *
+	 * @param shape
+	 *            the shape (<code>null</code> not permitted).
+	 *
+	 * @return The path.
+	 */
+	public static Path createPath(Shape shape) {
+		if (shape == null) {
+			throw new IllegalArgumentException("Null 'shape' argument.");
+		}
+		Path path = new Path();
+		appendPath(path, shape.getPathIterator(null), new float[6]);
+		return path;
+	}
+
+	/**
+	 * Appends the segments of a path iterator to an Android path.
+	 *
+	 * @param path
+	 *            the target path.
+	 * @param pi
+	 *            the path iterator.
+	 * @param coords
+	 *            a buffer with room for at least six coordinates.
+	 */
+	public static void appendPath(Path path, PathIterator pi, float[] coords) {
+		if (pi.getWindingRule() == PathIterator.WIND_EVEN_ODD) {
+			path.setFillType(Path.FillType.EVEN_ODD);
+		} else {
+			path.setFillType(Path.FillType.WINDING);
+		}
+		while (!pi.isDone()) {
+			switch (pi.currentSegment(coords)) {
+			case PathIterator.SEG_CLOSE:
+				path.close();
+				break;
+			case PathIterator.SEG_CUBICTO:
+				path.cubicTo(coords[0], coords[1], coords[2], coords[3],
+						coords[4], coords[5]);
+				break;
+			case PathIterator.SEG_LINETO:
+				path.lineTo(coords[0], coords[1]);
+				break;
+			case PathIterator.SEG_MOVETO:
+				path.moveTo(coords[0], coords[1]);
+				break;
+			case PathIterator.SEG_QUADTO:
+				path.quadTo(coords[0], coords[1], coords[2], coords[3]);
+				break;
+			}
+			pi.next();
+		}
+	}
+
+	/**
+	 * A converted path and the bounds of the original shape.
+	 */
+	private static class Entry {
+
+		/** The path. */
+		private Path path;
+
+		/** The shape bounds. */
+		private Rectangle2D bounds;
+
+		/**
+		 * Creates a new entry.
+		 *
+		 * @param path
+		 *            the path.
+		 * @param bounds
+		 *            the bounds.
+		 */
+		Entry(Path path, Rectangle2D bounds) {
+			this.path = path;
+			this.bounds = bounds;
+		}
+	}
+
+}
@@ -146,6 +146,9 @@
  * 18-Dec-2008 : Use ResourceBundleWrapper - see patch 1607918 by
  *               Jess Thrysoee (DG);
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
+ * 17-Oct-2026 : Restored the change listener list (DS);
+ * 17-Oct-2026 : Added support for a ChangeEventDispatcher that merges change
+ *               events (DS);
  *
  */
 
@@ -161,6 +164,7 @@ import net.droidsolutions.droidcharts.awt.Point2D;
 import net.droidsolutions.droidcharts.awt.Rectangle;
 import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.common.Align;
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
 import net.droidsolutions.droidcharts.common.Drawable;
 import net.droidsolutions.droidcharts.common.HorizontalAlignment;
 import net.droidsolutions.droidcharts.common.RectangleEdge;
@@ -174,18 +178,24 @@ import net.droidsolutions.droidcharts.core.block.LineBorder;
 import net.droidsolutions.droidcharts.core.block.RectangleConstraint;
 import net.droidsolutions.droidcharts.core.data.Range;
 import net.droidsolutions.droidcharts.core.entity.EntityCollection;
+import net.droidsolutions.droidcharts.core.entity.StandardEntityCollection;
 import net.droidsolutions.droidcharts.core.event.ChartChangeEvent;
+import net.droidsolutions.droidcharts.core.event.ChartChangeEventType;
+import net.droidsolutions.droidcharts.core.event.ChartChangeListener;
 import net.droidsolutions.droidcharts.core.event.PlotChangeEvent;
 import net.droidsolutions.droidcharts.core.event.PlotChangeListener;
 import net.droidsolutions.droidcharts.core.event.TitleChangeEvent;
 import net.droidsolutions.droidcharts.core.event.TitleChangeListener;
+import net.droidsolutions.droidcharts.core.panel.Overlay;
 import net.droidsolutions.droidcharts.core.plot.CategoryPlot;
+import net.droidsolutions.droidcharts.core.plot.LayeredPlot;
 import net.droidsolutions.droidcharts.core.plot.Plot;
 import net.droidsolutions.droidcharts.core.plot.PlotRenderingInfo;
 import net.droidsolutions.droidcharts.core.plot.XYPlot;
 import net.droidsolutions.droidcharts.core.title.LegendTitle;
 import net.droidsolutions.droidcharts.core.title.TextTitle;
 import net.droidsolutions.droidcharts.core.title.Title;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -214,7 +224,8 @@ import android.graphics.Typeface;
  * @see Plot
  */
 public class JFreeChart implements Drawable, TitleChangeListener,
-		PlotChangeListener, Serializable, Cloneable {
+		PlotChangeListener, ChangeEventDispatcher.Source, Serializable,
+		Cloneable {
 
 	/** For serialization. */
 	private static final long serialVersionUID = -3470703747817429120L;
@@ -270,6 +281,84 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	 */
 	private boolean notify;
 
+	/** Storage for registered change listeners. */
+	private transient List changeListeners;
+
+	/**
+	 * The dispatcher that coalesces change events (<code>null</code> if
+	 * events are sent immediately).
+	 */
+	private transient ChangeEventDispatcher changeDispatcher;
+
+	/**
+	 * The event that merges the changes recorded since the last dispatch
+	 * (<code>null</code> if there are none).
+	 */
+	private transient ChartChangeEvent pendingEvent;
+
+	/**
+	 * A flag that controls whether the chart keeps its layers in offscreen
+	 * bitmaps between calls to the draw() method.
+	 */
+	private boolean layerCacheEnabled;
+
+	/** The cached background layer (background and border). */
+	private transient Bitmap backgroundLayer;
+
+	/**
+	 * The cached axis layer (the plot background, axes and gridlines, or the
+	 * whole plot if it is not a {@link LayeredPlot}).
+	 */
+	private transient Bitmap axisLayer;
+
+	/**
+	 * The cached data layer (the data items and everything drawn over them,
+	 * only used for a {@link LayeredPlot}).
+	 */
+	private transient Bitmap dataLayer;
+
+	/** The cached title layer (title, subtitles and legends). */
+	private transient Bitmap titleLayer;
+
+	/** A flag that indicates whether the background layer is up to date. */
+	private transient boolean backgroundLayerValid;
+
+	/** A flag that indicates whether the axis layer is up to date. */
+	private transient boolean axisLayerValid;
+
+	/** A flag that indicates whether the data layer is up to date. */
+	private transient boolean dataLayerValid;
+
+	/** A flag that indicates whether the title layer is up to date. */
+	private transient boolean titleLayerValid;
+
+	/** The chart area used for the cached layers. */
+	private transient Rectangle2D layerArea;
+
+	/** The anchor used for the cached plot layers. */
+	private transient Point2D layerAnchor;
+
+	/**
+	 * The rendering info recorded when the axis layer was drawn
+	 * (<code>null</code> if none was requested).
+	 */
+	private transient ChartRenderingInfo axisLayerInfo;
+
+	/**
+	 * The rendering info recorded when the data layer was drawn
+	 * (<code>null</code> if none was requested).
+	 */
+	private transient ChartRenderingInfo dataLayerInfo;
+
+	/** The overlays that are painted on top of the chart. */
+	private List overlays;
+
+	/**
+	 * The rendering info used when overlays are registered and the caller
+	 * does not supply one.
+	 */
+	private transient ChartRenderingInfo overlayInfo;
+
 	/**
 	 * Creates a new chart with the given title and plot. The
 	 * <code>createLegend</code> argument specifies whether or not a legend
@@ -306,8 +395,10 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 		this.borderPaint.setStrokeWidth(borderStroke);
 
 		this.plot = plot;
+		plot.addChangeListener(this);
 
 		this.subtitles = new ArrayList();
+		this.overlays = new ArrayList();
 
 		// create a legend, if requested...
 		if (createLegend) {
@@ -330,6 +421,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 		}
 
 		this.backgroundPaint = DEFAULT_BACKGROUND_PAINT;
+		this.notify = true;
 
 	}
 
@@ -356,6 +448,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	 */
 	public void setBorderVisible(boolean visible) {
 		this.borderVisible = visible;
+		this.backgroundLayerValid = false;
 	}
 
 	/**
@@ -379,6 +472,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	 */
 	public void setBorderStroke(float stroke) {
 		this.borderStroke = stroke;
+		this.backgroundLayerValid = false;
 	}
 
 	/**
@@ -402,6 +496,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	 */
 	public void setBorderPaint(Paint paint) {
 		this.borderPaint = paint;
+		this.backgroundLayerValid = false;
 	}
 
 	/**
@@ -429,6 +524,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 			throw new IllegalArgumentException("Null 'padding' argument.");
 		}
 		this.padding = padding;
+		this.titleLayerValid = false;
 	}
 
 	/**
@@ -459,6 +555,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	public void setTitle(TextTitle title) {
 
 		this.title = title;
+		this.titleLayerValid = false;
 
 	}
 
@@ -505,6 +602,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 			throw new IllegalArgumentException("Null 'subtitle' argument.");
 		}
 		this.subtitles.add(subtitle);
+		this.titleLayerValid = false;
 	}
 
 	/**
@@ -557,6 +655,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
 	public void removeSubtitle(Title title) {
 		this.subtitles.remove(title);
+		this.titleLayerValid = false;
 	}
 
 	/**
@@ -601,6 +700,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
 		}
 		this.subtitles.clear();
+		this.titleLayerValid = false;
 	}
 
 	/**
@@ -792,6 +892,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 				this.backgroundPaint = paint;
 			}
 		}
+		this.backgroundLayerValid = false;
 
 	}
 
@@ -843,12 +944,42 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 	 */
 	public void draw(Canvas g2, Rectangle2D chartArea, Point2D anchor,
 			ChartRenderingInfo info) {
-		EntityCollection entities = null;
-		Rect savedClip = g2.getClipBounds();
-		// ensure no drawing occurs outside chart area...
-		g2.clipRect((float) chartArea.getMinX(), (float) chartArea.getMinY(),
-				(float) chartArea.getMaxX(), (float) chartArea.getMaxY());
+		if (info == null && !this.overlays.isEmpty()) {
+			// overlays need to know where the plot was drawn
+			if (this.overlayInfo == null) {
+				this.overlayInfo = new ChartRenderingInfo(null);
+			}
+			info = this.overlayInfo;
+		}
+		if (this.layerCacheEnabled) {
+			drawCachedLayers(g2, chartArea, anchor, info);
+		} else {
+			Rect savedClip = g2.getClipBounds();
+			// ensure no drawing occurs outside chart area...
+			g2.clipRect((float) chartArea.getMinX(), (float) chartArea
+					.getMinY(), (float) chartArea.getMaxX(), (float) chartArea
+					.getMaxY());
+			drawBackground(g2, chartArea);
+			drawPlot(g2, chartArea, anchor, info);
+			drawTitles(g2, chartArea);
+			g2.clipRect(savedClip);
+		}
+
+		for (int i = 0; i < this.overlays.size(); i++) {
+			Overlay overlay = (Overlay) this.overlays.get(i);
+			overlay.paintOverlay(g2, this, info);
+		}
+	}
 
+	/**
+	 * Draws the chart background and border.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param chartArea
+	 *            the area within which the chart should be drawn.
+	 */
+	private void drawBackground(Canvas g2, Rectangle2D chartArea) {
 		// draw the chart background...
 		if (this.backgroundPaint != null) {
 			g2.drawRect((float) chartArea.getMinX(), (float) chartArea
@@ -868,18 +999,43 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 						(float) borderArea.getMaxY(), borderPaint);
 			}
 		}
+	}
 
+	/**
+	 * Draws the plot (axes and data visualisation).
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param chartArea
+	 *            the area within which the chart should be drawn.
+	 * @param anchor
+	 *            the anchor point (<code>null</code> permitted).
+	 * @param info
+	 *            records info about the drawing (<code>null</code>
+	 *            permitted).
+	 */
+	private void drawPlot(Canvas g2, Rectangle2D chartArea, Point2D anchor,
+			ChartRenderingInfo info) {
 		// Rectangle2D plotArea = nonTitleArea;
 		Rectangle2D plotArea = chartArea;
 
-		// draw the plot (axes and data visualisation)
 		PlotRenderingInfo plotInfo = null;
 		if (info != null) {
 			plotInfo = info.getPlotInfo();
 		}
 		this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+	}
 
-		// draw the title and subtitles...
+	/**
+	 * Draws the title and subtitles.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param chartArea
+	 *            the area within which the chart should be drawn.
+	 */
+	private void drawTitles(Canvas g2, Rectangle2D chartArea) {
+		EntityCollection entities = null;
 		Rectangle2D nonTitleArea = new Rectangle2D.Double();
 		nonTitleArea.setRect(chartArea);
 		if (this.padding != null)
@@ -904,9 +1060,387 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 				}
 			}
 		}
+	}
+
+	/**
+	 * Draws the chart by compositing the cached layers, redrawing only the
+	 * layers that have been invalidated since the last call.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param chartArea
+	 *            the area within which the chart should be drawn.
+	 * @param anchor
+	 *            the anchor point (<code>null</code> permitted).
+	 * @param info
+	 *            records info about the drawing (<code>null</code>
+	 *            permitted).
+	 */
+	private void drawCachedLayers(Canvas g2, Rectangle2D chartArea,
+			Point2D anchor, ChartRenderingInfo info) {
+		int width = (int) Math.ceil(chartArea.getWidth());
+		int height = (int) Math.ceil(chartArea.getHeight());
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		boolean layered = this.plot instanceof LayeredPlot;
+		if (this.backgroundLayer == null
+				|| this.backgroundLayer.getWidth() != width
+				|| this.backgroundLayer.getHeight() != height
+				|| layered != (this.dataLayer != null)) {
+			releaseLayers();
+			this.backgroundLayer = Bitmap.createBitmap(width, height,
+					Bitmap.Config.ARGB_8888);
+			this.axisLayer = Bitmap.createBitmap(width, height,
+					Bitmap.Config.ARGB_8888);
+			if (layered) {
+				this.dataLayer = Bitmap.createBitmap(width, height,
+						Bitmap.Config.ARGB_8888);
+			}
+			this.titleLayer = Bitmap.createBitmap(width, height,
+					Bitmap.Config.ARGB_8888);
+		}
+		if (!chartArea.equals(this.layerArea)) {
+			invalidateLayers();
+			this.layerArea = (Rectangle2D) chartArea.clone();
+		}
+		// the crosshairs depend on the anchor
+		if (anchor == null ? this.layerAnchor != null : !anchor
+				.equals(this.layerAnchor)) {
+			if (layered) {
+				this.dataLayerValid = false;
+			} else {
+				this.axisLayerValid = false;
+			}
+		}
+		// an axis range may have changed with the data (auto-range)
+		if (layered && !((LayeredPlot) this.plot).isAxisLayerCurrent(
+				chartArea)) {
+			this.axisLayerValid = false;
+		}
+		// a cached layer can only be used if it recorded the rendering info
+		// that is requested now
+		if (!isLayerInfoAvailable(this.axisLayerInfo, info)) {
+			this.axisLayerValid = false;
+		}
+		if (layered && !isLayerInfoAvailable(this.dataLayerInfo, info)) {
+			this.dataLayerValid = false;
+		}
+		if (!this.axisLayerValid) {
+			// the data area depends on the axes
+			this.dataLayerValid = false;
+		}
+
+		if (!this.backgroundLayerValid) {
+			drawBackground(createLayerCanvas(this.backgroundLayer, chartArea),
+					chartArea);
+			this.backgroundLayerValid = true;
+		}
+		if (!this.axisLayerValid) {
+			this.axisLayerInfo = createLayerInfo(info);
+			Canvas canvas = createLayerCanvas(this.axisLayer, chartArea);
+			if (layered) {
+				PlotRenderingInfo plotInfo = null;
+				if (this.axisLayerInfo != null) {
+					plotInfo = this.axisLayerInfo.getPlotInfo();
+				}
+				((LayeredPlot) this.plot).drawAxisLayer(canvas, chartArea,
+						null, plotInfo);
+			} else {
+				drawPlot(canvas, chartArea, anchor, this.axisLayerInfo);
+			}
+			this.axisLayerValid = true;
+		}
+		if (layered && !this.dataLayerValid) {
+			this.dataLayerInfo = createLayerInfo(info);
+			PlotRenderingInfo plotInfo = null;
+			if (this.dataLayerInfo != null) {
+				plotInfo = this.dataLayerInfo.getPlotInfo();
+			}
+			((LayeredPlot) this.plot).drawDataLayer(createLayerCanvas(
+					this.dataLayer, chartArea), chartArea, anchor, plotInfo);
+			this.dataLayerValid = true;
+		}
+		this.layerAnchor = anchor == null ? null : (Point2D) anchor.clone();
+		if (!this.titleLayerValid) {
+			drawTitles(createLayerCanvas(this.titleLayer, chartArea),
+					chartArea);
+			this.titleLayerValid = true;
+		}
+		copyLayerInfo(this.axisLayerInfo, info);
+		if (layered) {
+			copyLayerInfo(this.dataLayerInfo, info);
+		}
+
+		float x = (float) chartArea.getX();
+		float y = (float) chartArea.getY();
+		g2.drawBitmap(this.backgroundLayer, x, y, null);
+		g2.drawBitmap(this.axisLayer, x, y, null);
+		if (layered) {
+			g2.drawBitmap(this.dataLayer, x, y, null);
+		}
+		g2.drawBitmap(this.titleLayer, x, y, null);
+	}
+
+	/**
+	 * Creates a rendering info object that records what a layer adds to the
+	 * rendering info supplied by the caller. If the caller's entity
+	 * collection is a {@link StandardEntityCollection}, the layer's
+	 * collection has the same cell size and virtual item entities flag, so
+	 * that item entities are only created when the caller looks them up.
+	 * 
+	 * @param info
+	 *            the rendering info supplied by the caller
+	 *            (<code>null</code> permitted).
+	 * 
+	 * @return A new rendering info object, or <code>null</code> if
+	 *         <code>info</code> is <code>null</code>.
+	 */
+	private ChartRenderingInfo createLayerInfo(ChartRenderingInfo info) {
+		if (info == null) {
+			return null;
+		}
+		EntityCollection entities = null;
+		EntityCollection target = info.getEntityCollection();
+		if (target instanceof StandardEntityCollection) {
+			StandardEntityCollection sec = (StandardEntityCollection) target;
+			StandardEntityCollection layerEntities = new StandardEntityCollection(
+					sec.getCellSize());
+			layerEntities.setVirtualItemEntities(sec.isVirtualItemEntities());
+			entities = layerEntities;
+		} else if (target != null) {
+			entities = new StandardEntityCollection();
+		}
+		return new ChartRenderingInfo(entities);
+	}
+
+	/**
+	 * Returns <code>true</code> if the rendering info recorded for a layer
+	 * has everything that the caller asks for.
+	 * 
+	 * @param recorded
+	 *            the rendering info recorded for the layer (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            the rendering info supplied by the caller
+	 *            (<code>null</code> permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	private boolean isLayerInfoAvailable(ChartRenderingInfo recorded,
+			ChartRenderingInfo info) {
+		if (info == null) {
+			return true;
+		}
+		if (recorded == null) {
+			return false;
+		}
+		EntityCollection target = info.getEntityCollection();
+		EntityCollection entities = recorded.getEntityCollection();
+		if (target == null) {
+			return true;
+		}
+		if (entities == null) {
+			return false;
+		}
+		// record the entities again if the caller has switched to (or from)
+		// virtual item entities
+		if (target instanceof StandardEntityCollection
+				&& entities instanceof StandardEntityCollection) {
+			return ((StandardEntityCollection) target).isVirtualItemEntities()
+					== ((StandardEntityCollection) entities)
+							.isVirtualItemEntities();
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the rendering info recorded for a layer to the rendering info
+	 * supplied by the caller, so that it is filled in whether or not the
+	 * layer was redrawn.
+	 * 
+	 * @param recorded
+	 *            the rendering info recorded for the layer (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            the rendering info supplied by the caller
+	 *            (<code>null</code> permitted).
+	 */
+	private void copyLayerInfo(ChartRenderingInfo recorded,
+			ChartRenderingInfo info) {
+		if (recorded == null || info == null) {
+			return;
+		}
+		PlotRenderingInfo source = recorded.getPlotInfo();
+		PlotRenderingInfo target = info.getPlotInfo();
+		if (source.getPlotArea() != null) {
+			target.setPlotArea(source.getPlotArea());
+		}
+		if (!source.getDataArea().isEmpty()) {
+			target.setDataArea(source.getDataArea());
+		}
+		for (int i = 0; i < source.getSubplotCount(); i++) {
+			target.addSubplotInfo(source.getSubplotInfo(i));
+		}
+		if (info.getEntityCollection() != null
+				&& recorded.getEntityCollection() != null) {
+			info.getEntityCollection().addAll(recorded.getEntityCollection());
+		}
+	}
+
+	/**
+	 * Clears a layer bitmap and returns a canvas for drawing on it, using the
+	 * same coordinate space as the chart area.
+	 * 
+	 * @param layer
+	 *            the layer bitmap.
+	 * @param chartArea
+	 *            the chart area.
+	 * 
+	 * @return A canvas.
+	 */
+	private Canvas createLayerCanvas(Bitmap layer, Rectangle2D chartArea) {
+		layer.eraseColor(Color.TRANSPARENT);
+		Canvas canvas = new Canvas(layer);
+		canvas.translate((float) -chartArea.getX(), (float) -chartArea.getY());
+		return canvas;
+	}
+
+	/**
+	 * Returns a flag that controls whether the chart keeps its background,
+	 * plot and title layers in offscreen bitmaps between calls to the
+	 * <code>draw()</code> methods.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setLayerCacheEnabled(boolean)
+	 */
+	public boolean isLayerCacheEnabled() {
+		return this.layerCacheEnabled;
+	}
+
+	/**
+	 * Sets a flag that controls whether the chart keeps its background, plot
+	 * and title layers in offscreen bitmaps between calls to the
+	 * <code>draw()</code> methods. If the plot is a {@link LayeredPlot}, its
+	 * axes and its data are kept in separate layers, so a data change only
+	 * redraws the axes if an axis range has changed. The rendering info
+	 * passed to <code>draw()</code> is filled in from the cached layers.
+	 * When the cache is enabled, a layer is only redrawn after it has been
+	 * invalidated, for example by
+	 * {@link #plotChanged(PlotChangeEvent)},
+	 * {@link #titleChanged(TitleChangeEvent)} or
+	 * {@link #invalidateLayers(ChartChangeEvent)}, so callers that modify the
+	 * plot, titles or data must report the change. Overlays are painted on
+	 * top of the layers with each draw.
+	 * 
+	 * @param enabled
+	 *            the flag.
+	 * 
+	 * @see #isLayerCacheEnabled()
+	 */
+	public void setLayerCacheEnabled(boolean enabled) {
+		this.layerCacheEnabled = enabled;
+		if (!enabled) {
+			releaseLayers();
+		}
+	}
+
+	/**
+	 * Marks all cached layers as out of date.
+	 */
+	public void invalidateLayers() {
+		this.backgroundLayerValid = false;
+		this.axisLayerValid = false;
+		this.dataLayerValid = false;
+		this.titleLayerValid = false;
+	}
+
+	/**
+	 * Marks the cached layers that are affected by a change event as out of
+	 * date. Dataset updates invalidate the data layer (or the whole plot if
+	 * it is not a {@link LayeredPlot}), other plot changes invalidate the
+	 * axis and data layers, title changes invalidate the title layer and any
+	 * other change invalidates all the layers.
+	 * 
+	 * @param event
+	 *            the event (<code>null</code> not permitted).
+	 */
+	public void invalidateLayers(ChartChangeEvent event) {
+		if (event == null) {
+			throw new IllegalArgumentException("Null 'event' argument.");
+		}
+		ChartChangeEventType type = event.getType();
+		if (type == ChartChangeEventType.DATASET_UPDATED
+				|| type == ChartChangeEventType.NEW_DATASET) {
+			this.dataLayerValid = false;
+			if (!(this.plot instanceof LayeredPlot)) {
+				this.axisLayerValid = false;
+			}
+		} else if (event instanceof PlotChangeEvent) {
+			this.axisLayerValid = false;
+			this.dataLayerValid = false;
+		} else if (event instanceof TitleChangeEvent) {
+			this.titleLayerValid = false;
+		} else {
+			invalidateLayers();
+		}
+	}
 
-		g2.clipRect(savedClip);
+	/**
+	 * Releases the bitmaps used by the layer cache.
+	 */
+	private void releaseLayers() {
+		if (this.backgroundLayer != null) {
+			this.backgroundLayer.recycle();
+			this.axisLayer.recycle();
+			this.titleLayer.recycle();
+		}
+		if (this.dataLayer != null) {
+			this.dataLayer.recycle();
+		}
+		this.backgroundLayer = null;
+		this.axisLayer = null;
+		this.dataLayer = null;
+		this.titleLayer = null;
+		this.layerArea = null;
+		this.layerAnchor = null;
+		this.axisLayerInfo = null;
+		this.dataLayerInfo = null;
+		invalidateLayers();
+	}
 
+	/**
+	 * Adds an overlay that is painted on top of the chart each time it is
+	 * drawn. Overlays are not part of the cached layers, so updating an
+	 * overlay (a crosshair that follows the user's finger, for example) does
+	 * not require the chart to be redrawn.
+	 * 
+	 * @param overlay
+	 *            the overlay (<code>null</code> not permitted).
+	 * 
+	 * @see #removeOverlay(Overlay)
+	 */
+	public void addOverlay(Overlay overlay) {
+		if (overlay == null) {
+			throw new IllegalArgumentException("Null 'overlay' argument.");
+		}
+		this.overlays.add(overlay);
+	}
+
+	/**
+	 * Removes an overlay from the chart.
+	 * 
+	 * @param overlay
+	 *            the overlay (<code>null</code> not permitted).
+	 * 
+	 * @see #addOverlay(Overlay)
+	 */
+	public void removeOverlay(Overlay overlay) {
+		if (overlay == null) {
+			throw new IllegalArgumentException("Null 'overlay' argument.");
+		}
+		this.overlays.remove(overlay);
 	}
 
 	/**
@@ -1038,16 +1572,193 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
 	}
 
+	/**
+	 * Registers an object for notification of changes to the chart.
+	 * 
+	 * @param listener
+	 *            the listener (<code>null</code> not permitted).
+	 * 
+	 * @see #removeChangeListener(ChartChangeListener)
+	 */
+	public void addChangeListener(ChartChangeListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Null 'listener' argument.");
+		}
+		if (this.changeListeners == null) {
+			this.changeListeners = new ArrayList();
+		}
+		this.changeListeners.add(listener);
+	}
+
+	/**
+	 * Deregisters an object for notification of changes to the chart.
+	 * 
+	 * @param listener
+	 *            the listener (<code>null</code> not permitted)
+	 * 
+	 * @see #addChangeListener(ChartChangeListener)
+	 */
+	public void removeChangeListener(ChartChangeListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Null 'listener' argument.");
+		}
+		if (this.changeListeners != null) {
+			this.changeListeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Returns a flag that controls whether or not change events are sent to
+	 * registered listeners.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setNotify(boolean)
+	 */
+	public boolean isNotify() {
+		return this.notify;
+	}
+
+	/**
+	 * Sets a flag that controls whether or not listeners receive
+	 * {@link ChartChangeEvent} notifications.
+	 * 
+	 * @param notify
+	 *            a boolean.
+	 * 
+	 * @see #isNotify()
+	 */
+	public void setNotify(boolean notify) {
+		this.notify = notify;
+		// if the flag is being set to true, there may be queued up changes...
+		if (notify) {
+			notifyListeners(new ChartChangeEvent(this));
+		}
+	}
+
+	/**
+	 * Returns the dispatcher that coalesces the change events for this chart.
+	 * 
+	 * @return The dispatcher (possibly <code>null</code>).
+	 * 
+	 * @see #setChangeDispatcher(ChangeEventDispatcher)
+	 */
+	public ChangeEventDispatcher getChangeDispatcher() {
+		return this.changeDispatcher;
+	}
+
+	/**
+	 * Sets the dispatcher that coalesces the change events for this chart
+	 * and its plot. While a dispatcher is set, the changes reported to the
+	 * chart are merged and the registered listeners receive a single
+	 * {@link ChartChangeEvent} when the dispatcher next ticks (typically once
+	 * per display frame), however many times the plot or its datasets
+	 * changed. The merged event has the type of the changes it replaces if
+	 * they all have the same type, and {@link ChartChangeEventType#GENERAL}
+	 * otherwise. The cached layers are still invalidated as soon as each
+	 * change is reported. To coalesce the events inside a dataset or series
+	 * as well, pass the same dispatcher to its
+	 * <code>setChangeDispatcher()</code> method.
+	 * 
+	 * @param dispatcher
+	 *            the dispatcher (<code>null</code> to send events
+	 *            immediately).
+	 * 
+	 * @see #getChangeDispatcher()
+	 */
+	public void setChangeDispatcher(ChangeEventDispatcher dispatcher) {
+		this.changeDispatcher = dispatcher;
+		this.plot.setChangeDispatcher(dispatcher);
+		if (dispatcher == null) {
+			dispatchChange();
+		}
+	}
+
+	/**
+	 * Sends a default {@link ChartChangeEvent} to all registered listeners.
+	 * <P>
+	 * This method is for convenience only.
+	 */
+	public void fireChartChanged() {
+		ChartChangeEvent event = new ChartChangeEvent(this);
+		invalidateLayers(event);
+		notifyListeners(event);
+	}
+
+	/**
+	 * Sends a {@link ChartChangeEvent} to all registered listeners or, if a
+	 * change dispatcher is set, merges the event with the pending changes
+	 * and posts the chart to the dispatcher.
+	 * 
+	 * @param event
+	 *            information about the event that triggered the
+	 *            notification.
+	 */
+	protected void notifyListeners(ChartChangeEvent event) {
+		if (!this.notify) {
+			return;
+		}
+		ChangeEventDispatcher dispatcher = this.changeDispatcher;
+		if (dispatcher == null) {
+			deliver(event);
+			return;
+		}
+		synchronized (this) {
+			if (this.pendingEvent == null) {
+				this.pendingEvent = event;
+			} else if (this.pendingEvent.getType() == event.getType()) {
+				this.pendingEvent = event;
+			} else {
+				this.pendingEvent = new ChartChangeEvent(this, this,
+						ChartChangeEventType.GENERAL);
+			}
+		}
+		dispatcher.post(this);
+	}
+
+	/**
+	 * Sends the event that merges the pending changes (if there is one) to
+	 * the registered listeners. This is called by the change dispatcher.
+	 */
+	public void dispatchChange() {
+		ChartChangeEvent event;
+		synchronized (this) {
+			event = this.pendingEvent;
+			this.pendingEvent = null;
+		}
+		if (event != null) {
+			deliver(event);
+		}
+	}
+
+	/**
+	 * Sends an event to the registered listeners.
+	 * 
+	 * @param event
+	 *            the event.
+	 */
+	private void deliver(ChartChangeEvent event) {
+		if (this.changeListeners == null) {
+			return;
+		}
+		Object[] listeners = this.changeListeners.toArray();
+		for (int i = listeners.length - 1; i >= 0; i--) {
+			((ChartChangeListener) listeners[i]).chartChanged(event);
+		}
+	}
+
 	@Override
 	public void titleChanged(TitleChangeEvent event) {
-		// TODO Auto-generated method stub
-
+		invalidateLayers(event);
+		event.setChart(this);
+		notifyListeners(event);
 	}
 
 	@Override
 	public void plotChanged(PlotChangeEvent event) {
-		// TODO Auto-generated method stub
-
+		invalidateLayers(event);
+		event.setChart(this);
+		notifyListeners(event);
 	}
 
 }
@@ -93,6 +93,7 @@
  *               simpler for renderers with hidden series (PK);
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 16-Apr-2009 : Added tick mark drawing (DG);
+ * 17-Oct-2026 : Cache category label layouts between draws (DS);
  *
  */
 
@@ -122,6 +123,7 @@ import net.droidsolutions.droidcharts.core.plot.Plot;
 import net.droidsolutions.droidcharts.core.plot.PlotRenderingInfo;
 import net.droidsolutions.droidcharts.core.text.G2TextMeasurer;
 import net.droidsolutions.droidcharts.core.text.TextBlock;
+import net.droidsolutions.droidcharts.core.text.TextMeasureStyle;
 import net.droidsolutions.droidcharts.core.text.TextUtilities;
 import android.graphics.Canvas;
 import android.graphics.Paint;
@@ -180,6 +182,15 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 	/** Storage for the category label tooltips (if any). */
 	private Map categoryLabelToolTips;
 
+	/**
+	 * A flag that controls whether category label layouts are cached between
+	 * draws.
+	 */
+	private boolean labelLayoutCacheEnabled;
+
+	/** The cached category label layouts (created when first needed). */
+	private transient Map labelLayouts;
+
 	/**
 	 * Creates a new category axis with no label.
 	 */
@@ -208,6 +219,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 		this.tickLabelFontMap = new HashMap();
 		this.tickLabelPaintMap = new HashMap();
 		this.categoryLabelToolTips = new HashMap();
+		this.labelLayoutCacheEnabled = true;
 
 	}
 
@@ -311,6 +323,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 	 */
 	public void setMaximumCategoryLabelLines(int lines) {
 		this.maximumCategoryLabelLines = lines;
+		clearLabelLayouts();
 	}
 
 	/**
@@ -388,6 +401,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 			throw new IllegalArgumentException("Null 'positions' argument.");
 		}
 		this.categoryLabelPositions = positions;
+		clearLabelLayouts();
 	}
 
 	/**
@@ -432,6 +446,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 		} else {
 			this.tickLabelFontMap.put(category, font);
 		}
+		clearLabelLayouts();
 	}
 
 	/**
@@ -476,6 +491,94 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 		} else {
 			this.tickLabelPaintMap.put(category, paint);
 		}
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Sets the font for the tick labels and clears the cached category label
+	 * layouts.
+	 * 
+	 * @param font
+	 *            the font (<code>null</code> not allowed).
+	 */
+	public void setTickLabelFont(Font font) {
+		super.setTickLabelFont(font);
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Sets the paint used to draw tick labels and clears the cached category
+	 * label layouts.
+	 * 
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 */
+	public void setTickLabelPaint(Paint paint) {
+		super.setTickLabelPaint(paint);
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Sets the insets for the tick labels and clears the cached category label
+	 * layouts.
+	 * 
+	 * @param insets
+	 *            the insets (<code>null</code> not permitted).
+	 */
+	public void setTickLabelInsets(RectangleInsets insets) {
+		super.setTickLabelInsets(insets);
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Sets the paint for the axis label and clears the cached category label
+	 * layouts (this paint is used to measure the category labels when they
+	 * are wrapped).
+	 * 
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 */
+	public void setLabelPaint(Paint paint) {
+		super.setLabelPaint(paint);
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Returns the flag that controls whether category label layouts are
+	 * cached between draws.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setLabelLayoutCacheEnabled(boolean)
+	 */
+	public boolean isLabelLayoutCacheEnabled() {
+		return this.labelLayoutCacheEnabled;
+	}
+
+	/**
+	 * Sets the flag that controls whether category label layouts are cached
+	 * between draws. A cached layout is used again for the same category,
+	 * font, available width and label position, so redrawing an axis whose
+	 * categories have not changed does not break or measure any text. The
+	 * cache is cleared by the setters for the attributes that affect the
+	 * layout, and a layout is also created again if the text size or
+	 * typeface of the paint it was measured with has changed.
+	 * 
+	 * @param enabled
+	 *            the flag.
+	 * 
+	 * @see #isLabelLayoutCacheEnabled()
+	 */
+	public void setLabelLayoutCacheEnabled(boolean enabled) {
+		this.labelLayoutCacheEnabled = enabled;
+		clearLabelLayouts();
+	}
+
+	/**
+	 * Clears the cached category label layouts.
+	 */
+	protected void clearLabelLayouts() {
+		this.labelLayouts = null;
 	}
 
 	/**
@@ -1165,20 +1268,21 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 					l = (float) dataArea.getHeight();
 				}
 			}
+			if (this.labelLayouts != null
+					&& this.labelLayouts.size() > Math.max(64,
+							4 * categories.size())) {
+				// drop layouts for categories that are no longer shown
+				this.labelLayouts.clear();
+			}
 			int categoryIndex = 0;
 			Iterator iterator = categories.iterator();
 			while (iterator.hasNext()) {
 				Comparable category = (Comparable) iterator.next();
 				// g2.setFont(getTickLabelFont(category));
-				TextBlock label = createLabel(category, l * r, edge, g2);
-				if (edge == RectangleEdge.TOP || edge == RectangleEdge.BOTTOM) {
-					max = Math.max(max, calculateTextBlockHeight(label,
-							position, g2));
-				} else if (edge == RectangleEdge.LEFT
-						|| edge == RectangleEdge.RIGHT) {
-					max = Math.max(max, calculateTextBlockWidth(label,
-							position, g2));
-				}
+				LabelLayout layout = getLabelLayout(category, l * r, position,
+						edge, g2);
+				TextBlock label = layout.block;
+				max = Math.max(max, layout.extent);
 				Tick tick = new CategoryTick(category, label, position
 						.getLabelAnchor(), position.getRotationAnchor(),
 						position.getAngle());
@@ -1270,6 +1374,53 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 		}
 	}
 
+	/**
+	 * Returns the layout of a category label, from the cache if possible.
+	 * 
+	 * @param category
+	 *            the category.
+	 * @param width
+	 *            the available width.
+	 * @param position
+	 *            the label position.
+	 * @param edge
+	 *            the edge on which the axis appears.
+	 * @param g2
+	 *            the graphics device.
+	 * 
+	 * @return The layout.
+	 */
+	private LabelLayout getLabelLayout(Comparable category, float width,
+			CategoryLabelPosition position, RectangleEdge edge, Canvas g2) {
+		Paint measurePaint = getLabelPaint();
+		Paint tickPaint = getTickLabelPaint(category);
+		LabelKey key = null;
+		if (this.labelLayoutCacheEnabled) {
+			key = new LabelKey(category, getTickLabelFont(category), width,
+					position, edge);
+			if (this.labelLayouts == null) {
+				this.labelLayouts = new HashMap();
+			}
+			LabelLayout layout = (LabelLayout) this.labelLayouts.get(key);
+			if (layout != null && layout.matches(measurePaint, tickPaint)) {
+				return layout;
+			}
+		}
+		TextBlock label = createLabel(category, width, edge, g2);
+		double extent = 0.0;
+		if (edge == RectangleEdge.TOP || edge == RectangleEdge.BOTTOM) {
+			extent = calculateTextBlockHeight(label, position, g2);
+		} else if (edge == RectangleEdge.LEFT || edge == RectangleEdge.RIGHT) {
+			extent = calculateTextBlockWidth(label, position, g2);
+		}
+		LabelLayout layout = new LabelLayout(label, extent, measurePaint,
+				tickPaint);
+		if (key != null) {
+			this.labelLayouts.put(key, layout);
+		}
+		return layout;
+	}
+
 	/**
 	 * Creates a label.
 	 * 
@@ -1347,4 +1498,144 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
 	}
 
+	/**
+	 * The key for a cached category label layout.
+	 */
+	private static final class LabelKey {
+
+		/** The category. */
+		private Comparable category;
+
+		/** The font. */
+		private Font font;
+
+		/** The available width. */
+		private float width;
+
+		/** The label position. */
+		private CategoryLabelPosition position;
+
+		/** The edge on which the axis appears. */
+		private RectangleEdge edge;
+
+		/**
+		 * Creates a new key.
+		 * 
+		 * @param category
+		 *            the category.
+		 * @param font
+		 *            the font.
+		 * @param width
+		 *            the available width.
+		 * @param position
+		 *            the label position.
+		 * @param edge
+		 *            the edge on which the axis appears.
+		 */
+		LabelKey(Comparable category, Font font, float width,
+				CategoryLabelPosition position, RectangleEdge edge) {
+			this.category = category;
+			this.font = font;
+			this.width = width;
+			this.position = position;
+			this.edge = edge;
+		}
+
+		/**
+		 * Tests this key for equality with an arbitrary object.
+		 * 
+		 * @param obj
+		 *            the object (<code>null</code> permitted).
+		 * 
+		 * @return A boolean.
+		 */
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof LabelKey)) {
+				return false;
+			}
+			LabelKey that = (LabelKey) obj;
+			return this.category.equals(that.category)
+					&& this.font == that.font
+					&& Float.floatToIntBits(this.width) == Float
+							.floatToIntBits(that.width)
+					&& this.position.equals(that.position)
+					&& this.edge.equals(that.edge);
+		}
+
+		/**
+		 * Returns a hash code for this key.
+		 * 
+		 * @return A hash code.
+		 */
+		public int hashCode() {
+			int result = this.category.hashCode();
+			result = 37 * result + System.identityHashCode(this.font);
+			result = 37 * result + Float.floatToIntBits(this.width);
+			result = 37 * result + this.position.hashCode();
+			result = 37 * result + this.edge.hashCode();
+			return result;
+		}
+
+	}
+
+	/**
+	 * A cached category label layout.
+	 */
+	private static final class LabelLayout {
+
+		/** The label. */
+		private TextBlock block;
+
+		/** The height or width of the label, depending on the axis edge. */
+		private double extent;
+
+		/** The text settings of the paint used to measure the label. */
+		private TextMeasureStyle measureStyle;
+
+		/** The text settings of the tick label paint. */
+		private TextMeasureStyle tickStyle;
+
+		/**
+		 * Creates a new layout.
+		 * 
+		 * @param block
+		 *            the label.
+		 * @param extent
+		 *            the height or width of the label.
+		 * @param measurePaint
+		 *            the paint used to measure the label.
+		 * @param tickPaint
+		 *            the tick label paint.
+		 */
+		LabelLayout(TextBlock block, double extent, Paint measurePaint,
+				Paint tickPaint) {
+			this.block = block;
+			this.extent = extent;
+			this.measureStyle = new TextMeasureStyle(measurePaint);
+			this.tickStyle = new TextMeasureStyle(tickPaint);
+		}
+
+		/**
+		 * Returns <code>true</code> if the text settings of the paints
+		 * match the ones this layout was created with.  The settings are
+		 * compared with {@link TextMeasureStyle}, as for the cached text
+		 * bounds that the layout was measured with.
+		 * 
+		 * @param measurePaint
+		 *            the paint used to measure the label.
+		 * @param tickPaint
+		 *            the tick label paint.
+		 * 
+		 * @return A boolean.
+		 */
+		boolean matches(Paint measurePaint, Paint tickPaint) {
+			return this.measureStyle.matches(measurePaint)
+					&& this.tickStyle.matches(tickPaint);
+		}
+
+	}
+
 }
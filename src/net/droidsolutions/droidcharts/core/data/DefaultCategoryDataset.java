@@ -214,7 +214,8 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	}
 
 	/**
-	 * Adds a value to the table. Performs the same function as setValue().
+	 * Adds a value to the table and sends a {@link DatasetChangeEvent} to all
+	 * registered listeners.  Performs the same function as setValue().
 	 * 
 	 * @param value
 	 *            the value.
@@ -228,10 +229,12 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void addValue(Number value, Comparable rowKey, Comparable columnKey) {
 		this.data.addValue(value, rowKey, columnKey);
+		fireDatasetChanged();
 	}
 
 	/**
-	 * Adds a value to the table.
+	 * Adds a value to the table and sends a {@link DatasetChangeEvent} to all
+	 * registered listeners.
 	 * 
 	 * @param value
 	 *            the value.
@@ -261,6 +264,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void setValue(Number value, Comparable rowKey, Comparable columnKey) {
 		this.data.setValue(value, rowKey, columnKey);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -317,6 +321,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void removeValue(Comparable rowKey, Comparable columnKey) {
 		this.data.removeValue(rowKey, columnKey);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -330,6 +335,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void removeRow(int rowIndex) {
 		this.data.removeRow(rowIndex);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -343,6 +349,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void removeRow(Comparable rowKey) {
 		this.data.removeRow(rowKey);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -356,6 +363,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void removeColumn(int columnIndex) {
 		this.data.removeColumn(columnIndex);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -372,6 +380,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void removeColumn(Comparable columnKey) {
 		this.data.removeColumn(columnKey);
+		fireDatasetChanged();
 	}
 
 	/**
@@ -380,6 +389,7 @@ public class DefaultCategoryDataset extends AbstractDataset implements
 	 */
 	public void clear() {
 		this.data.clear();
+		fireDatasetChanged();
 	}
 
 	/**
@@ -54,11 +54,19 @@
  * 31-Oct-2007 : Performance improvements by using separate lists for keys and
  *               values (TM);
  * 21-Nov-2007 : Fixed bug in removeValue() method from previous patch (DG);
+ * 17-Oct-2026 : Store the items in arrays with a movable start and keep the
+ *               index up to date incrementally, added setValues() method,
+ *               kept the list-based serialized form (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.data;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -77,24 +85,59 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	/** For serialization. */
 	private static final long serialVersionUID = 8468154364608194797L;
 
-	/** Storage for the keys. */
-	private ArrayList keys;
+	/**
+	 * The serialized form, which is unchanged from the list-based
+	 * implementation: the keys and the values as lists, and a map from each
+	 * key to its index.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("keys", ArrayList.class),
+			new ObjectStreamField("values", ArrayList.class),
+			new ObjectStreamField("indexMap", HashMap.class) };
 
-	/** Storage for the values. */
-	private ArrayList values;
+	/** The initial capacity of the key and value arrays. */
+	private static final int INITIAL_CAPACITY = 8;
 
 	/**
-	 * Contains (key, Integer) mappings, where the Integer is the index for the
-	 * key in the list.
+	 * Storage for the keys. The item at index <code>i</code> is stored at
+	 * <code>start + i</code>, so that the first item can be removed without
+	 * moving the others.
 	 */
-	private HashMap indexMap;
+	private transient Comparable[] keys;
+
+	/** Storage for the values (laid out in the same way as the keys). */
+	private transient Number[] values;
+
+	/** The array position of the first item. */
+	private transient int start;
+
+	/** The number of items. */
+	private transient int size;
+
+	/**
+	 * Contains (key, Integer) mappings, where the Integer minus
+	 * {@link #indexBase} is the index for the key in the list. Removing the
+	 * first item only needs the base to be incremented, and appending an item
+	 * only needs one new mapping.
+	 */
+	private transient HashMap indexMap;
+
+	/** The value subtracted from the mapped integers to give the index. */
+	private transient int indexBase;
+
+	/**
+	 * A flag that indicates that the mappings must be rebuilt before they
+	 * are used (after an item is inserted or removed in the middle of the
+	 * list).
+	 */
+	private transient boolean indexStale;
 
 	/**
 	 * Creates a new collection (initially empty).
 	 */
 	public DefaultKeyedValues() {
-		this.keys = new ArrayList();
-		this.values = new ArrayList();
+		this.keys = new Comparable[INITIAL_CAPACITY];
+		this.values = new Number[INITIAL_CAPACITY];
 		this.indexMap = new HashMap();
 	}
 
@@ -104,7 +147,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 * @return The item count.
 	 */
 	public int getItemCount() {
-		return this.indexMap.size();
+		return this.size;
 	}
 
 	/**
@@ -119,7 +162,8 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 *             if <code>item</code> is out of bounds.
 	 */
 	public Number getValue(int item) {
-		return (Number) this.values.get(item);
+		checkIndex(item);
+		return this.values[this.start + item];
 	}
 
 	/**
@@ -134,7 +178,21 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 *             if <code>item</code> is out of bounds.
 	 */
 	public Comparable getKey(int index) {
-		return (Comparable) this.keys.get(index);
+		checkIndex(index);
+		return this.keys[this.start + index];
+	}
+
+	/**
+	 * Throws an exception if an item index is out of bounds.
+	 * 
+	 * @param index
+	 *            the item index.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+					+ this.size);
+		}
 	}
 
 	/**
@@ -152,11 +210,14 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 		if (key == null) {
 			throw new IllegalArgumentException("Null 'key' argument.");
 		}
+		if (this.indexStale) {
+			rebuildIndex();
+		}
 		final Integer i = (Integer) this.indexMap.get(key);
 		if (i == null) {
 			return -1; // key not found
 		}
-		return i.intValue();
+		return i.intValue() - this.indexBase;
 	}
 
 	/**
@@ -165,7 +226,11 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 * @return The keys (never <code>null</code>).
 	 */
 	public List getKeys() {
-		return (List) this.keys.clone();
+		ArrayList result = new ArrayList(this.size);
+		for (int i = 0; i < this.size; i++) {
+			result.add(this.keys[this.start + i]);
+		}
+		return result;
 	}
 
 	/**
@@ -243,15 +308,98 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 		}
 		int keyIndex = getIndex(key);
 		if (keyIndex >= 0) {
-			this.keys.set(keyIndex, key);
-			this.values.set(keyIndex, value);
+			this.keys[this.start + keyIndex] = key;
+			this.values[this.start + keyIndex] = value;
 		} else {
-			this.keys.add(key);
-			this.values.add(value);
-			this.indexMap.put(key, new Integer(this.keys.size() - 1));
+			append(key, value);
+		}
+	}
+
+	/**
+	 * Updates existing values, or adds new values to the end of the
+	 * collection, for several keys at once. This has the same effect as
+	 * calling {@link #setValue(Comparable, double)} for each key in turn.
+	 * 
+	 * @param keys
+	 *            the keys (<code>null</code> not permitted, and no key may be
+	 *            <code>null</code>).
+	 * @param values
+	 *            the values (<code>null</code> not permitted, with the same
+	 *            length as <code>keys</code>).
+	 */
+	public void setValues(Comparable[] keys, double[] values) {
+		if (keys == null) {
+			throw new IllegalArgumentException("Null 'keys' argument.");
+		}
+		if (values == null) {
+			throw new IllegalArgumentException("Null 'values' argument.");
+		}
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException(
+					"The 'keys' and 'values' arrays must have the same length.");
+		}
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] == null) {
+				throw new IllegalArgumentException("Null key at index " + i
+						+ ".");
+			}
+		}
+		ensureCapacity(this.size + keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			setValue(keys[i], new Double(values[i]));
+		}
+	}
+
+	/**
+	 * Adds an item with a new key at the end of the list.
+	 * 
+	 * @param key
+	 *            the key.
+	 * @param value
+	 *            the value.
+	 */
+	private void append(Comparable key, Number value) {
+		ensureCapacity(this.size + 1);
+		int position = this.start + this.size;
+		this.keys[position] = key;
+		this.values[position] = value;
+		this.size++;
+		if (!this.indexStale) {
+			this.indexMap.put(key, new Integer(this.indexBase + this.size
+					- 1));
 		}
 	}
 
+	/**
+	 * Makes room for the specified number of items after the array position
+	 * of the first item, moving the items to the start of the arrays or
+	 * growing the arrays if necessary.
+	 * 
+	 * @param capacity
+	 *            the number of items.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (this.start + capacity <= this.keys.length) {
+			return;
+		}
+		Comparable[] k = this.keys;
+		Number[] v = this.values;
+		if (capacity > this.keys.length / 2) {
+			int length = Math.max(capacity, this.keys.length * 2);
+			k = new Comparable[length];
+			v = new Number[length];
+		}
+		System.arraycopy(this.keys, this.start, k, 0, this.size);
+		System.arraycopy(this.values, this.start, v, 0, this.size);
+		if (k == this.keys) {
+			Arrays.fill(k, this.size, this.start + this.size, null);
+			Arrays.fill(v, this.size, this.start + this.size, null);
+		}
+		this.keys = k;
+		this.values = v;
+		this.start = 0;
+	}
+
 	/**
 	 * Inserts a new value at the specified position in the dataset or, if there
 	 * is an existing item with the specified key, updates the value for that
@@ -293,30 +441,56 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 		}
 		int pos = getIndex(key);
 		if (pos == position) {
-			this.keys.set(pos, key);
-			this.values.set(pos, value);
-		} else {
-			if (pos >= 0) {
-				this.keys.remove(pos);
-				this.values.remove(pos);
+			this.keys[this.start + pos] = key;
+			this.values[this.start + pos] = value;
+			return;
+		}
+		if (pos >= 0) {
+			if (position == this.size) {
+				// the item cannot be moved past the end of the list
+				throw new IndexOutOfBoundsException("Index: " + position
+						+ ", Size: " + (this.size - 1));
 			}
-
-			this.keys.add(position, key);
-			this.values.add(position, value);
-			rebuildIndex();
+			removeValue(pos);
+		}
+		if (position == this.size) {
+			append(key, value);
+			return;
 		}
+		if (position == 0 && this.start > 0) {
+			// there is room in front of the first item
+			this.start--;
+			this.keys[this.start] = key;
+			this.values[this.start] = value;
+			this.size++;
+			if (!this.indexStale) {
+				this.indexBase--;
+				this.indexMap.put(key, new Integer(this.indexBase));
+			}
+			return;
+		}
+		ensureCapacity(this.size + 1);
+		int p = this.start + position;
+		System.arraycopy(this.keys, p, this.keys, p + 1, this.size - position);
+		System.arraycopy(this.values, p, this.values, p + 1, this.size
+				- position);
+		this.keys[p] = key;
+		this.values[p] = value;
+		this.size++;
+		this.indexStale = true;
 	}
 
 	/**
-	 * Rebuilds the key to indexed-position mapping after an positioned insert
-	 * or a remove operation.
+	 * Rebuilds the key to indexed-position mapping after an item has been
+	 * inserted or removed in the middle of the list.
 	 */
 	private void rebuildIndex() {
 		this.indexMap.clear();
-		for (int i = 0; i < this.keys.size(); i++) {
-			final Object key = this.keys.get(i);
-			this.indexMap.put(key, new Integer(i));
+		this.indexBase = 0;
+		for (int i = 0; i < this.size; i++) {
+			this.indexMap.put(this.keys[this.start + i], new Integer(i));
 		}
+		this.indexStale = false;
 	}
 
 	/**
@@ -330,9 +504,38 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 *             if <code>index</code> is not within the specified range.
 	 */
 	public void removeValue(int index) {
-		this.keys.remove(index);
-		this.values.remove(index);
-		rebuildIndex();
+		checkIndex(index);
+		int p = this.start + index;
+		Comparable key = this.keys[p];
+		if (index == 0) {
+			this.keys[p] = null;
+			this.values[p] = null;
+			this.start++;
+			this.size--;
+			if (!this.indexStale) {
+				this.indexMap.remove(key);
+				this.indexBase++;
+			}
+		} else {
+			int moved = this.size - index - 1;
+			System.arraycopy(this.keys, p + 1, this.keys, p, moved);
+			System.arraycopy(this.values, p + 1, this.values, p, moved);
+			this.size--;
+			this.keys[this.start + this.size] = null;
+			this.values[this.start + this.size] = null;
+			if (!this.indexStale) {
+				this.indexMap.remove(key);
+				this.indexStale = (moved > 0);
+			}
+		}
+		if (this.size == 0) {
+			this.start = 0;
+		}
+		if (this.indexBase > Integer.MAX_VALUE / 2
+				|| this.indexBase < Integer.MIN_VALUE / 2) {
+			// renumber before the mapped integers can overflow
+			this.indexStale = true;
+		}
 	}
 
 	/**
@@ -361,9 +564,13 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 * @since 1.0.2
 	 */
 	public void clear() {
-		this.keys.clear();
-		this.values.clear();
+		Arrays.fill(this.keys, null);
+		Arrays.fill(this.values, null);
+		this.start = 0;
+		this.size = 0;
 		this.indexMap.clear();
+		this.indexBase = 0;
+		this.indexStale = false;
 	}
 
 	/**
@@ -373,12 +580,11 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 *            the sort order (<code>null</code> not permitted).
 	 */
 	public void sortByKeys(SortOrder order) {
-		final int size = this.keys.size();
+		final int size = this.size;
 		final DefaultKeyedValue[] data = new DefaultKeyedValue[size];
 
 		for (int i = 0; i < size; i++) {
-			data[i] = new DefaultKeyedValue((Comparable) this.keys.get(i),
-					(Number) this.values.get(i));
+			data[i] = new DefaultKeyedValue(getKey(i), getValue(i));
 		}
 
 		Comparator comparator = new KeyedValueComparator(
@@ -401,11 +607,10 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 *            the sort order (<code>null</code> not permitted).
 	 */
 	public void sortByValues(SortOrder order) {
-		final int size = this.keys.size();
+		final int size = this.size;
 		final DefaultKeyedValue[] data = new DefaultKeyedValue[size];
 		for (int i = 0; i < size; i++) {
-			data[i] = new DefaultKeyedValue((Comparable) this.keys.get(i),
-					(Number) this.values.get(i));
+			data[i] = new DefaultKeyedValue(getKey(i), getValue(i));
 		}
 
 		Comparator comparator = new KeyedValueComparator(
@@ -469,7 +674,12 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 * @return A hash code.
 	 */
 	public int hashCode() {
-		return (this.keys != null ? this.keys.hashCode() : 0);
+		// the same as the hash code of the list of keys
+		int result = 1;
+		for (int i = 0; i < this.size; i++) {
+			result = 31 * result + this.keys[this.start + i].hashCode();
+		}
+		return result;
 	}
 
 	/**
@@ -483,10 +693,71 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable, Serializable
 	 */
 	public Object clone() throws CloneNotSupportedException {
 		DefaultKeyedValues clone = (DefaultKeyedValues) super.clone();
-		clone.keys = (ArrayList) this.keys.clone();
-		clone.values = (ArrayList) this.values.clone();
+		clone.keys = (Comparable[]) this.keys.clone();
+		clone.values = (Number[]) this.values.clone();
 		clone.indexMap = (HashMap) this.indexMap.clone();
 		return clone;
 	}
 
+	/**
+	 * Provides serialization support. The items are written in the
+	 * list-based form, so that the serialized data can still be read by (and
+	 * from) earlier versions of this class.
+	 * 
+	 * @param stream
+	 *            the output stream.
+	 * 
+	 * @throws IOException
+	 *             if there is an I/O error.
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		ArrayList keyList = new ArrayList(this.size);
+		ArrayList valueList = new ArrayList(this.size);
+		HashMap map = new HashMap();
+		for (int i = 0; i < this.size; i++) {
+			keyList.add(this.keys[this.start + i]);
+			valueList.add(this.values[this.start + i]);
+			map.put(this.keys[this.start + i], new Integer(i));
+		}
+		ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("keys", keyList);
+		fields.put("values", valueList);
+		fields.put("indexMap", map);
+		stream.writeFields();
+	}
+
+	/**
+	 * Provides serialization support.
+	 * 
+	 * @param stream
+	 *            the input stream.
+	 * 
+	 * @throws IOException
+	 *             if there is an I/O error.
+	 * @throws ClassNotFoundException
+	 *             if there is a classpath problem.
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream.GetField fields = stream.readFields();
+		List keyList = (List) fields.get("keys", null);
+		List valueList = (List) fields.get("values", null);
+		if (keyList == null || valueList == null
+				|| keyList.size() != valueList.size()) {
+			throw new InvalidObjectException("Inconsistent keys and values.");
+		}
+		int count = keyList.size();
+		int capacity = Math.max(INITIAL_CAPACITY, count);
+		this.keys = new Comparable[capacity];
+		this.values = new Number[capacity];
+		for (int i = 0; i < count; i++) {
+			this.keys[i] = (Comparable) keyList.get(i);
+			this.values[i] = (Number) valueList.get(i);
+		}
+		this.start = 0;
+		this.size = count;
+		this.indexMap = new HashMap();
+		rebuildIndex();
+	}
+
 }
@@ -51,6 +51,7 @@
  *               dataset (DG);
  * 28-Sep-2006 : Added sortByKeys() and sortByValues() methods (DG);
  * 30-Apr-2007 : Added new insertValues() methods (DG);
+ * 17-Oct-2026 : Added setValues() method (DS);
  *
  */
 
@@ -194,7 +195,7 @@ public class DefaultPieDataset extends AbstractDataset
      */
     public void setValue(Comparable key, Number value) {
         this.data.setValue(key, value);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -211,6 +212,22 @@ public class DefaultPieDataset extends AbstractDataset
         setValue(key, new Double(value));
     }
 
+    /**
+     * Sets the data values for several keys at once (adding any new keys at
+     * the end of the dataset) and sends a single {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param keys  the keys (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, with the
+     *     same length as <code>keys</code>).
+     *
+     * @see DefaultKeyedValues#setValues(Comparable[], double[])
+     */
+    public void setValues(Comparable[] keys, double[] values) {
+        this.data.setValues(keys, values);
+        fireDatasetChanged();
+    }
+
     /**
      * Inserts a new value at the specified position in the dataset or, if
      * there is an existing item with the specified key, updates the value
@@ -243,7 +260,7 @@ public class DefaultPieDataset extends AbstractDataset
      */
     public void insertValue(int position, Comparable key, Number value) {
         this.data.insertValue(position, key, value);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -257,7 +274,7 @@ public class DefaultPieDataset extends AbstractDataset
      */
     public void remove(Comparable key) {
         this.data.removeValue(key);
-        //fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -269,7 +286,7 @@ public class DefaultPieDataset extends AbstractDataset
     public void clear() {
         if (getItemCount() > 0) {
             this.data.clear();
-            //fireDatasetChanged();
+            fireDatasetChanged();
         }
     }
 
@@ -283,7 +300,7 @@ public class DefaultPieDataset extends AbstractDataset
      */
     public void sortByKeys(SortOrder order) {
         this.data.sortByKeys(order);
-       // fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -296,7 +313,7 @@ public class DefaultPieDataset extends AbstractDataset
      */
     public void sortByValues(SortOrder order) {
         this.data.sortByValues(order);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
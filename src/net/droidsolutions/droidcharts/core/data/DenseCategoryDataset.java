@@ -0,0 +1,496 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data;
+
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.util.List;
+
+import net.droidsolutions.droidcharts.core.data.general.AbstractDataset;
+
+/**
+ * An implementation of the {@link CategoryDataset} interface that stores its
+ * values in a {@link DenseKeyedValues2D}.  It has the same methods as
+ * {@link DefaultCategoryDataset}, but adding values does not slow down as
+ * the table grows, and {@link #getDoubleValue(int, int)} reads a value
+ * without creating a <code>Number</code>.  This makes it suitable for large
+ * tables where most cells hold a value.  A <code>NaN</code> value is treated
+ * as <code>null</code>.
+ */
+public class DenseCategoryDataset extends AbstractDataset implements
+		CategoryDataset, Serializable {
+
+	/** For serialization. */
+	private static final long serialVersionUID = 3411297185094283377L;
+
+	/** A storage structure for the data. */
+	private DenseKeyedValues2D data;
+
+	/**
+	 * Creates a new (empty) dataset.
+	 */
+	public DenseCategoryDataset() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new (empty) dataset.
+	 * 
+	 * @param sortRowKeys
+	 *            if the row keys should be sorted.
+	 */
+	public DenseCategoryDataset(boolean sortRowKeys) {
+		this.data = new DenseKeyedValues2D(sortRowKeys);
+	}
+
+	/**
+	 * Returns the number of rows in the table.
+	 * 
+	 * @return The row count.
+	 * 
+	 * @see #getColumnCount()
+	 */
+	public int getRowCount() {
+		return this.data.getRowCount();
+	}
+
+	/**
+	 * Returns the number of columns in the table.
+	 * 
+	 * @return The column count.
+	 * 
+	 * @see #getRowCount()
+	 */
+	public int getColumnCount() {
+		return this.data.getColumnCount();
+	}
+
+	/**
+	 * Returns a value from the table.
+	 * 
+	 * @param row
+	 *            the row index (zero-based).
+	 * @param column
+	 *            the column index (zero-based).
+	 * 
+	 * @return The value (possibly <code>null</code>).
+	 * 
+	 * @see #addValue(Number, Comparable, Comparable)
+	 * @see #removeValue(Comparable, Comparable)
+	 */
+	public Number getValue(int row, int column) {
+		return this.data.getValue(row, column);
+	}
+
+	/**
+	 * Returns a value from the table as a primitive.
+	 * 
+	 * @param row
+	 *            the row index (zero-based).
+	 * @param column
+	 *            the column index (zero-based).
+	 * 
+	 * @return The value (<code>Double.NaN</code> for a <code>null</code>
+	 *         value).
+	 * 
+	 * @see #getValue(int, int)
+	 */
+	public double getDoubleValue(int row, int column) {
+		return this.data.getDoubleValue(row, column);
+	}
+
+	/**
+	 * Returns the key for the specified row.
+	 * 
+	 * @param row
+	 *            the row index (zero-based).
+	 * 
+	 * @return The row key.
+	 * 
+	 * @see #getRowIndex(Comparable)
+	 * @see #getRowKeys()
+	 * @see #getColumnKey(int)
+	 */
+	public Comparable getRowKey(int row) {
+		return this.data.getRowKey(row);
+	}
+
+	/**
+	 * Returns the row index for a given key.
+	 * 
+	 * @param key
+	 *            the row key (<code>null</code> not permitted).
+	 * 
+	 * @return The row index.
+	 * 
+	 * @see #getRowKey(int)
+	 */
+	public int getRowIndex(Comparable key) {
+		// defer null argument check
+		return this.data.getRowIndex(key);
+	}
+
+	/**
+	 * Returns the row keys.
+	 * 
+	 * @return The keys.
+	 * 
+	 * @see #getRowKey(int)
+	 */
+	public List getRowKeys() {
+		return this.data.getRowKeys();
+	}
+
+	/**
+	 * Returns a column key.
+	 * 
+	 * @param column
+	 *            the column index (zero-based).
+	 * 
+	 * @return The column key.
+	 * 
+	 * @see #getColumnIndex(Comparable)
+	 */
+	public Comparable getColumnKey(int column) {
+		return this.data.getColumnKey(column);
+	}
+
+	/**
+	 * Returns the column index for a given key.
+	 * 
+	 * @param key
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @return The column index.
+	 * 
+	 * @see #getColumnKey(int)
+	 */
+	public int getColumnIndex(Comparable key) {
+		// defer null argument check
+		return this.data.getColumnIndex(key);
+	}
+
+	/**
+	 * Returns the column keys.
+	 * 
+	 * @return The keys.
+	 * 
+	 * @see #getColumnKey(int)
+	 */
+	public List getColumnKeys() {
+		return this.data.getColumnKeys();
+	}
+
+	/**
+	 * Returns the value for a pair of keys.
+	 * 
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @return The value (possibly <code>null</code>).
+	 * 
+	 * @throws UnknownKeyException
+	 *             if either key is not defined in the dataset.
+	 * 
+	 * @see #addValue(Number, Comparable, Comparable)
+	 */
+	public Number getValue(Comparable rowKey, Comparable columnKey) {
+		return this.data.getValue(rowKey, columnKey);
+	}
+
+	/**
+	 * Adds a value to the table. Performs the same function as setValue().
+	 * 
+	 * @param value
+	 *            the value.
+	 * @param rowKey
+	 *            the row key.
+	 * @param columnKey
+	 *            the column key.
+	 * 
+	 * @see #getValue(Comparable, Comparable)
+	 * @see #removeValue(Comparable, Comparable)
+	 */
+	public void addValue(Number value, Comparable rowKey, Comparable columnKey) {
+		this.data.addValue(value, rowKey, columnKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Adds a value to the table.
+	 * 
+	 * @param value
+	 *            the value.
+	 * @param rowKey
+	 *            the row key.
+	 * @param columnKey
+	 *            the column key.
+	 * 
+	 * @see #getValue(Comparable, Comparable)
+	 */
+	public void addValue(double value, Comparable rowKey, Comparable columnKey) {
+		setValue(value, rowKey, columnKey);
+	}
+
+	/**
+	 * Adds or updates a value in the table and sends a
+	 * {@link DatasetChangeEvent} to all registered listeners.
+	 * 
+	 * @param value
+	 *            the value (<code>null</code> permitted).
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @see #getValue(Comparable, Comparable)
+	 */
+	public void setValue(Number value, Comparable rowKey, Comparable columnKey) {
+		this.data.setValue(value, rowKey, columnKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Adds or updates a value in the table and sends a
+	 * {@link DatasetChangeEvent} to all registered listeners.
+	 * 
+	 * @param value
+	 *            the value.
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @see #getValue(Comparable, Comparable)
+	 */
+	public void setValue(double value, Comparable rowKey, Comparable columnKey) {
+		this.data.setValue(value, rowKey, columnKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Adds the specified value to an existing value in the dataset (if the
+	 * existing value is <code>null</code>, it is treated as if it were 0.0).
+	 * 
+	 * @param value
+	 *            the value.
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @throws UnknownKeyException
+	 *             if either key is not defined in the dataset.
+	 */
+	public void incrementValue(double value, Comparable rowKey,
+			Comparable columnKey) {
+		double existing = 0.0;
+		Number n = getValue(rowKey, columnKey);
+		if (n != null) {
+			existing = n.doubleValue();
+		}
+		setValue(existing + value, rowKey, columnKey);
+	}
+
+	/**
+	 * Removes a value from the dataset and sends a {@link DatasetChangeEvent}
+	 * to all registered listeners.
+	 * 
+	 * @param rowKey
+	 *            the row key.
+	 * @param columnKey
+	 *            the column key.
+	 * 
+	 * @see #addValue(Number, Comparable, Comparable)
+	 */
+	public void removeValue(Comparable rowKey, Comparable columnKey) {
+		this.data.removeValue(rowKey, columnKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Removes a row from the dataset and sends a {@link DatasetChangeEvent} to
+	 * all registered listeners.
+	 * 
+	 * @param rowIndex
+	 *            the row index.
+	 * 
+	 * @see #removeColumn(int)
+	 */
+	public void removeRow(int rowIndex) {
+		this.data.removeRow(rowIndex);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Removes a row from the dataset and sends a {@link DatasetChangeEvent} to
+	 * all registered listeners.
+	 * 
+	 * @param rowKey
+	 *            the row key.
+	 * 
+	 * @see #removeColumn(Comparable)
+	 */
+	public void removeRow(Comparable rowKey) {
+		this.data.removeRow(rowKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+	 * to all registered listeners.
+	 * 
+	 * @param columnIndex
+	 *            the column index.
+	 * 
+	 * @see #removeRow(int)
+	 */
+	public void removeColumn(int columnIndex) {
+		this.data.removeColumn(columnIndex);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+	 * to all registered listeners.
+	 * 
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 * 
+	 * @see #removeRow(Comparable)
+	 * 
+	 * @throws UnknownKeyException
+	 *             if <code>columnKey</code> is not defined in the dataset.
+	 */
+	public void removeColumn(Comparable columnKey) {
+		this.data.removeColumn(columnKey);
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+	 * to all registered listeners.
+	 */
+	public void clear() {
+		this.data.clear();
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Tests this dataset for equality with an arbitrary object.
+	 * 
+	 * @param obj
+	 *            the object (<code>null</code> permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof CategoryDataset)) {
+			return false;
+		}
+		CategoryDataset that = (CategoryDataset) obj;
+		if (!getRowKeys().equals(that.getRowKeys())) {
+			return false;
+		}
+		if (!getColumnKeys().equals(that.getColumnKeys())) {
+			return false;
+		}
+		int rowCount = getRowCount();
+		int colCount = getColumnCount();
+		for (int r = 0; r < rowCount; r++) {
+			for (int c = 0; c < colCount; c++) {
+				Number v1 = getValue(r, c);
+				Number v2 = that.getValue(r, c);
+				if (v1 == null) {
+					if (v2 != null) {
+						return false;
+					}
+				} else if (!v1.equals(v2)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a hash code for the dataset.
+	 * 
+	 * @return A hash code.
+	 */
+	public int hashCode() {
+		int result = getRowKeys().hashCode();
+		result = 29 * result + getColumnKeys().hashCode();
+		return result;
+	}
+
+	/**
+	 * Returns a clone of the dataset.
+	 * 
+	 * @return A clone.
+	 * 
+	 * @throws CloneNotSupportedException
+	 *             if there is a problem cloning the dataset.
+	 */
+	public Object clone() throws CloneNotSupportedException {
+		DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+		clone.data = (DenseKeyedValues2D) this.data.clone();
+		return clone;
+	}
+
+	/**
+	 * Validates the dataset after deserialization (there is nothing to
+	 * check).
+	 * 
+	 * @throws InvalidObjectException
+	 *             never.
+	 */
+	public void validateObject() throws InvalidObjectException {
+		// nothing to check
+	}
+
+}
@@ -0,0 +1,651 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DenseKeyedValues2D.java
+ * -----------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table of values, where each value is associated with a row key and a
+ * column key, that stores the values in a dense <code>double</code> array.
+ * It offers the same methods as {@link DefaultKeyedValues2D}, but is
+ * intended for large tables where most cells hold a value:
+ * <ul>
+ * <li>the row and column keys are indexed with hash maps (or a binary
+ * search, if the row keys are sorted), so that adding a value does not
+ * scan the existing keys;</li>
+ * <li>the values are stored column by column, so that reading the rows of
+ * one column after another (as a <code>CategoryPlot</code> does when it is
+ * drawn) reads consecutive array elements;</li>
+ * <li>{@link #getDoubleValue(int, int)} reads a value without creating a
+ * <code>Number</code>.</li>
+ * </ul>
+ * A <code>null</code> value is stored as <code>Double.NaN</code>, so a
+ * <code>NaN</code> value cannot be told apart from a <code>null</code>
+ * value, and the values are returned as <code>Double</code> instances
+ * whatever type of <code>Number</code> they were added as.
+ */
+public class DenseKeyedValues2D implements KeyedValues2D, Cloneable,
+		Serializable {
+
+	/** For serialization. */
+	private static final long serialVersionUID = 7297263140652734011L;
+
+	/** The initial capacity for rows and columns. */
+	private static final int INITIAL_CAPACITY = 8;
+
+	/** The row keys. */
+	private List rowKeys;
+
+	/** The column keys. */
+	private List columnKeys;
+
+	/**
+	 * The row index for each row key (<code>null</code> if the row keys are
+	 * sorted).
+	 */
+	private Map rowIndex;
+
+	/** The column index for each column key. */
+	private Map columnIndex;
+
+	/**
+	 * The values, column by column: the value for (row, column) is at
+	 * <code>column * rowCapacity + row</code>.
+	 */
+	private double[] cells;
+
+	/** The number of rows that the cell array has room for. */
+	private int rowCapacity;
+
+	/** If the row keys should be sorted by their comparable order. */
+	private boolean sortRowKeys;
+
+	/**
+	 * Creates a new instance (initially empty).
+	 */
+	public DenseKeyedValues2D() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new instance (initially empty).
+	 *
+	 * @param sortRowKeys
+	 *            if the row keys should be sorted.
+	 */
+	public DenseKeyedValues2D(boolean sortRowKeys) {
+		this.sortRowKeys = sortRowKeys;
+		this.rowKeys = new java.util.ArrayList();
+		this.columnKeys = new java.util.ArrayList();
+		if (!sortRowKeys) {
+			this.rowIndex = new HashMap();
+		}
+		this.columnIndex = new HashMap();
+		this.rowCapacity = INITIAL_CAPACITY;
+		this.cells = new double[INITIAL_CAPACITY * INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns the row count.
+	 *
+	 * @return The row count.
+	 *
+	 * @see #getColumnCount()
+	 */
+	public int getRowCount() {
+		return this.rowKeys.size();
+	}
+
+	/**
+	 * Returns the column count.
+	 *
+	 * @return The column count.
+	 *
+	 * @see #getRowCount()
+	 */
+	public int getColumnCount() {
+		return this.columnKeys.size();
+	}
+
+	/**
+	 * Returns the value for a given row and column.
+	 *
+	 * @param row
+	 *            the row index.
+	 * @param column
+	 *            the column index.
+	 *
+	 * @return The value (possibly <code>null</code>).
+	 *
+	 * @see #getDoubleValue(int, int)
+	 * @see #getValue(Comparable, Comparable)
+	 */
+	public Number getValue(int row, int column) {
+		double value = getDoubleValue(row, column);
+		return (Double.isNaN(value) ? null : new Double(value));
+	}
+
+	/**
+	 * Returns the value for a given row and column as a primitive.
+	 *
+	 * @param row
+	 *            the row index.
+	 * @param column
+	 *            the column index.
+	 *
+	 * @return The value (<code>Double.NaN</code> for a <code>null</code>
+	 *         value).
+	 *
+	 * @see #getValue(int, int)
+	 */
+	public double getDoubleValue(int row, int column) {
+		if (row < 0 || row >= this.rowKeys.size()) {
+			throw new IndexOutOfBoundsException("Row index out of bounds: "
+					+ row);
+		}
+		if (column < 0 || column >= this.columnKeys.size()) {
+			throw new IndexOutOfBoundsException("Column index out of bounds: "
+					+ column);
+		}
+		return this.cells[column * this.rowCapacity + row];
+	}
+
+	/**
+	 * Returns the key for a given row.
+	 *
+	 * @param row
+	 *            the row index (in the range 0 to {@link #getRowCount()} - 1).
+	 *
+	 * @return The row key.
+	 *
+	 * @see #getRowIndex(Comparable)
+	 * @see #getColumnKey(int)
+	 */
+	public Comparable getRowKey(int row) {
+		return (Comparable) this.rowKeys.get(row);
+	}
+
+	/**
+	 * Returns the row index for a given key.
+	 *
+	 * @param key
+	 *            the key (<code>null</code> not permitted).
+	 *
+	 * @return The row index (negative if the key is not defined).
+	 *
+	 * @see #getRowKey(int)
+	 * @see #getColumnIndex(Comparable)
+	 */
+	public int getRowIndex(Comparable key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Null 'key' argument.");
+		}
+		if (this.sortRowKeys) {
+			return Collections.binarySearch(this.rowKeys, key);
+		}
+		Integer index = (Integer) this.rowIndex.get(key);
+		return (index != null ? index.intValue() : -1);
+	}
+
+	/**
+	 * Returns the row keys in an unmodifiable list.
+	 *
+	 * @return The row keys.
+	 *
+	 * @see #getColumnKeys()
+	 */
+	public List getRowKeys() {
+		return Collections.unmodifiableList(this.rowKeys);
+	}
+
+	/**
+	 * Returns the key for a given column.
+	 *
+	 * @param column
+	 *            the column (in the range 0 to {@link #getColumnCount()} - 1).
+	 *
+	 * @return The key.
+	 *
+	 * @see #getColumnIndex(Comparable)
+	 * @see #getRowKey(int)
+	 */
+	public Comparable getColumnKey(int column) {
+		return (Comparable) this.columnKeys.get(column);
+	}
+
+	/**
+	 * Returns the column index for a given key.
+	 *
+	 * @param key
+	 *            the key (<code>null</code> not permitted).
+	 *
+	 * @return The column index (-1 if the key is not defined).
+	 *
+	 * @see #getColumnKey(int)
+	 * @see #getRowIndex(Comparable)
+	 */
+	public int getColumnIndex(Comparable key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Null 'key' argument.");
+		}
+		Integer index = (Integer) this.columnIndex.get(key);
+		return (index != null ? index.intValue() : -1);
+	}
+
+	/**
+	 * Returns the column keys in an unmodifiable list.
+	 *
+	 * @return The column keys.
+	 *
+	 * @see #getRowKeys()
+	 */
+	public List getColumnKeys() {
+		return Collections.unmodifiableList(this.columnKeys);
+	}
+
+	/**
+	 * Returns the value for the given row and column keys. This method will
+	 * throw an {@link UnknownKeyException} if either key is not defined in the
+	 * data structure.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @return The value (possibly <code>null</code>).
+	 *
+	 * @see #addValue(Number, Comparable, Comparable)
+	 * @see #removeValue(Comparable, Comparable)
+	 */
+	public Number getValue(Comparable rowKey, Comparable columnKey) {
+		if (rowKey == null) {
+			throw new IllegalArgumentException("Null 'rowKey' argument.");
+		}
+		if (columnKey == null) {
+			throw new IllegalArgumentException("Null 'columnKey' argument.");
+		}
+		int column = getColumnIndex(columnKey);
+		if (column < 0) {
+			throw new UnknownKeyException("Unrecognised columnKey: "
+					+ columnKey);
+		}
+		int row = getRowIndex(rowKey);
+		if (row < 0) {
+			throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+		}
+		return getValue(row, column);
+	}
+
+	/**
+	 * Adds a value to the table. Performs the same function as
+	 * #setValue(Number, Comparable, Comparable).
+	 *
+	 * @param value
+	 *            the value (<code>null</code> permitted).
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @see #setValue(Number, Comparable, Comparable)
+	 * @see #removeValue(Comparable, Comparable)
+	 */
+	public void addValue(Number value, Comparable rowKey, Comparable columnKey) {
+		// defer argument checking
+		setValue(value, rowKey, columnKey);
+	}
+
+	/**
+	 * Adds or updates a value.
+	 *
+	 * @param value
+	 *            the value (<code>null</code> permitted).
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @see #addValue(Number, Comparable, Comparable)
+	 * @see #removeValue(Comparable, Comparable)
+	 */
+	public void setValue(Number value, Comparable rowKey, Comparable columnKey) {
+		setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+				columnKey);
+	}
+
+	/**
+	 * Adds or updates a value.
+	 *
+	 * @param value
+	 *            the value (<code>Double.NaN</code> for <code>null</code>).
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @see #setValue(Number, Comparable, Comparable)
+	 */
+	public void setValue(double value, Comparable rowKey, Comparable columnKey) {
+		if (columnKey == null) {
+			throw new IllegalArgumentException("Null 'columnKey' argument.");
+		}
+		int row = getRowIndex(rowKey);
+		if (row < 0) {
+			row = addRow(rowKey, row);
+		}
+		int column = getColumnIndex(columnKey);
+		if (column < 0) {
+			column = addColumn(columnKey);
+		}
+		this.cells[column * this.rowCapacity + row] = value;
+	}
+
+	/**
+	 * Adds a row with no values.
+	 *
+	 * @param rowKey
+	 *            the row key.
+	 * @param searchResult
+	 *            the (negative) result of {@link #getRowIndex(Comparable)}.
+	 *
+	 * @return The row index.
+	 */
+	private int addRow(Comparable rowKey, int searchResult) {
+		int rowCount = this.rowKeys.size();
+		int columnCount = this.columnKeys.size();
+		if (rowCount == this.rowCapacity) {
+			setCapacity(this.rowCapacity * 2, Math.max(columnCount,
+					INITIAL_CAPACITY));
+		}
+		int row;
+		if (this.sortRowKeys) {
+			row = -searchResult - 1;
+			for (int c = 0; c < columnCount; c++) {
+				int start = c * this.rowCapacity;
+				System.arraycopy(this.cells, start + row, this.cells, start
+						+ row + 1, rowCount - row);
+			}
+			this.rowKeys.add(row, rowKey);
+		} else {
+			row = rowCount;
+			this.rowKeys.add(rowKey);
+			this.rowIndex.put(rowKey, new Integer(row));
+		}
+		for (int c = 0; c < columnCount; c++) {
+			this.cells[c * this.rowCapacity + row] = Double.NaN;
+		}
+		return row;
+	}
+
+	/**
+	 * Adds a column with no values.
+	 *
+	 * @param columnKey
+	 *            the column key.
+	 *
+	 * @return The column index.
+	 */
+	private int addColumn(Comparable columnKey) {
+		int column = this.columnKeys.size();
+		if ((column + 1) * this.rowCapacity > this.cells.length) {
+			setCapacity(this.rowCapacity, (column + 1) * 2);
+		}
+		this.columnKeys.add(columnKey);
+		this.columnIndex.put(columnKey, new Integer(column));
+		int start = column * this.rowCapacity;
+		java.util.Arrays.fill(this.cells, start, start + this.rowCapacity,
+				Double.NaN);
+		return column;
+	}
+
+	/**
+	 * Moves the values to a new cell array.
+	 *
+	 * @param rowCapacity
+	 *            the number of rows to make room for.
+	 * @param columnCapacity
+	 *            the number of columns to make room for.
+	 */
+	private void setCapacity(int rowCapacity, int columnCapacity) {
+		double[] cells = new double[rowCapacity * columnCapacity];
+		int rowCount = this.rowKeys.size();
+		int columnCount = this.columnKeys.size();
+		if (rowCapacity == this.rowCapacity) {
+			System.arraycopy(this.cells, 0, cells, 0, columnCount
+					* rowCapacity);
+		} else {
+			for (int c = 0; c < columnCount; c++) {
+				System.arraycopy(this.cells, c * this.rowCapacity, cells, c
+						* rowCapacity, rowCount);
+			}
+		}
+		this.cells = cells;
+		this.rowCapacity = rowCapacity;
+	}
+
+	/**
+	 * Removes a value from the table by setting it to <code>null</code>. If all
+	 * the values in the specified row and/or column are now <code>null</code>,
+	 * the row and/or column is removed from the table.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @see #addValue(Number, Comparable, Comparable)
+	 */
+	public void removeValue(Comparable rowKey, Comparable columnKey) {
+		setValue(Double.NaN, rowKey, columnKey);
+		int row = getRowIndex(rowKey);
+		int column = getColumnIndex(columnKey);
+
+		// 1. check whether the row is now empty.
+		boolean allNull = true;
+		for (int c = 0, columnCount = this.columnKeys.size(); c < columnCount; c++) {
+			if (!Double.isNaN(this.cells[c * this.rowCapacity + row])) {
+				allNull = false;
+				break;
+			}
+		}
+		if (allNull) {
+			removeRow(row);
+		}
+
+		// 2. check whether the column is now empty.
+		allNull = true;
+		int start = column * this.rowCapacity;
+		for (int r = 0, rowCount = this.rowKeys.size(); r < rowCount; r++) {
+			if (!Double.isNaN(this.cells[start + r])) {
+				allNull = false;
+				break;
+			}
+		}
+		if (allNull) {
+			removeColumn(column);
+		}
+	}
+
+	/**
+	 * Removes a row.
+	 *
+	 * @param rowIndex
+	 *            the row index.
+	 *
+	 * @see #removeRow(Comparable)
+	 * @see #removeColumn(int)
+	 */
+	public void removeRow(int rowIndex) {
+		int rowCount = this.rowKeys.size();
+		Comparable rowKey = (Comparable) this.rowKeys.remove(rowIndex);
+		int moved = rowCount - rowIndex - 1;
+		if (moved > 0) {
+			for (int c = 0, columnCount = this.columnKeys.size(); c < columnCount; c++) {
+				int start = c * this.rowCapacity + rowIndex;
+				System.arraycopy(this.cells, start + 1, this.cells, start,
+						moved);
+			}
+		}
+		if (this.rowIndex != null) {
+			this.rowIndex.remove(rowKey);
+			for (int r = rowIndex; r < rowCount - 1; r++) {
+				this.rowIndex.put(this.rowKeys.get(r), new Integer(r));
+			}
+		}
+	}
+
+	/**
+	 * Removes a row from the table.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 *
+	 * @see #removeRow(int)
+	 * @see #removeColumn(Comparable)
+	 *
+	 * @throws UnknownKeyException
+	 *             if <code>rowKey</code> is not defined in the table.
+	 */
+	public void removeRow(Comparable rowKey) {
+		if (rowKey == null) {
+			throw new IllegalArgumentException("Null 'rowKey' argument.");
+		}
+		int index = getRowIndex(rowKey);
+		if (index >= 0) {
+			removeRow(index);
+		} else {
+			throw new UnknownKeyException("Unknown key: " + rowKey);
+		}
+	}
+
+	/**
+	 * Removes a column.
+	 *
+	 * @param columnIndex
+	 *            the column index.
+	 *
+	 * @see #removeColumn(Comparable)
+	 * @see #removeRow(int)
+	 */
+	public void removeColumn(int columnIndex) {
+		int columnCount = this.columnKeys.size();
+		Comparable columnKey = (Comparable) this.columnKeys
+				.remove(columnIndex);
+		int moved = columnCount - columnIndex - 1;
+		if (moved > 0) {
+			System.arraycopy(this.cells, (columnIndex + 1) * this.rowCapacity,
+					this.cells, columnIndex * this.rowCapacity, moved
+							* this.rowCapacity);
+		}
+		this.columnIndex.remove(columnKey);
+		for (int c = columnIndex; c < columnCount - 1; c++) {
+			this.columnIndex.put(this.columnKeys.get(c), new Integer(c));
+		}
+	}
+
+	/**
+	 * Removes a column from the table.
+	 *
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @throws UnknownKeyException
+	 *             if the table does not contain a column with the specified
+	 *             key.
+	 * @throws IllegalArgumentException
+	 *             if <code>columnKey</code> is <code>null</code>.
+	 *
+	 * @see #removeColumn(int)
+	 * @see #removeRow(Comparable)
+	 */
+	public void removeColumn(Comparable columnKey) {
+		if (columnKey == null) {
+			throw new IllegalArgumentException("Null 'columnKey' argument.");
+		}
+		int index = getColumnIndex(columnKey);
+		if (index < 0) {
+			throw new UnknownKeyException("Unknown key: " + columnKey);
+		}
+		removeColumn(index);
+	}
+
+	/**
+	 * Clears all the data and associated keys.
+	 */
+	public void clear() {
+		this.rowKeys.clear();
+		this.columnKeys.clear();
+		if (this.rowIndex != null) {
+			this.rowIndex.clear();
+		}
+		this.columnIndex.clear();
+		this.rowCapacity = INITIAL_CAPACITY;
+		this.cells = new double[INITIAL_CAPACITY * INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns a clone.
+	 *
+	 * @return A clone.
+	 *
+	 * @throws CloneNotSupportedException
+	 *             this class will not throw this exception, but subclasses
+	 *             (if any) might.
+	 */
+	public Object clone() throws CloneNotSupportedException {
+		DenseKeyedValues2D clone = (DenseKeyedValues2D) super.clone();
+		clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+		clone.columnKeys = new java.util.ArrayList(this.columnKeys);
+		if (this.rowIndex != null) {
+			clone.rowIndex = new HashMap(this.rowIndex);
+		}
+		clone.columnIndex = new HashMap(this.columnIndex);
+		clone.cells = (double[]) this.cells.clone();
+		return clone;
+	}
+
+}
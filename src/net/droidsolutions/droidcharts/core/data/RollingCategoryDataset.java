@@ -0,0 +1,667 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * RollingCategoryDataset.java
+ * ---------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data;
+
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.droidsolutions.droidcharts.core.data.general.AbstractDataset;
+
+/**
+ * A {@link CategoryDataset} whose columns are a fixed number of consecutive
+ * time buckets (per-minute counters, for example), for live bar charts.
+ * Values are accumulated with
+ * {@link #increment(Comparable, long, double)}, and an increment for a time
+ * after the newest bucket rolls the window forward, discarding the oldest
+ * buckets.
+ * <P>
+ * The values of each row are kept in a ring buffer with one slot per
+ * bucket, so rolling the window clears one slot in each row (rather than
+ * removing and adding columns) and sends a single {@link DatasetChangeEvent}.
+ * By default, an increment only sends an event when it rolls the window or
+ * adds a row, so a counter that is incremented many times per frame does not
+ * redraw the chart each time; the other increments are reported by the next
+ * call to {@link #advance(long)} (which the chart's frame timer can make),
+ * or by every increment if {@link #setNotifyOnIncrement(boolean)} is set.
+ * <P>
+ * The column keys are <code>Long</code> instances holding the start time of
+ * each bucket, oldest first.  There are no columns until the first bucket is
+ * set by {@link #increment(Comparable, long, double)} or
+ * {@link #advance(long)}; after that there are always
+ * {@link #getBucketCount()} columns.  A cell that has not been incremented
+ * since its bucket started has a <code>null</code> value.
+ */
+public class RollingCategoryDataset extends AbstractDataset implements
+		CategoryDataset, Serializable {
+
+	/** For serialization. */
+	private static final long serialVersionUID = 6016402311284736574L;
+
+	/** The number of buckets. */
+	private int bucketCount;
+
+	/** The length of a bucket in milliseconds. */
+	private long bucketMillis;
+
+	/** The row keys. */
+	private List rowKeys;
+
+	/** The row index for each row key. */
+	private Map rowIndex;
+
+	/**
+	 * The values for each row, indexed by bucket number modulo the bucket
+	 * count (<code>NaN</code> for <code>null</code>).
+	 */
+	private List rowValues;
+
+	/**
+	 * The number of the newest bucket (the bucket start time divided by the
+	 * bucket length).
+	 */
+	private long newestBucket;
+
+	/** A flag that indicates whether the first bucket has been set. */
+	private boolean started;
+
+	/**
+	 * A flag that controls whether every increment sends a change event
+	 * (by default, only increments that roll the window or add a row do).
+	 */
+	private boolean notifyOnIncrement;
+
+	/**
+	 * A flag that indicates that values have changed since the last change
+	 * event.
+	 */
+	private transient boolean changePending;
+
+	/** The column keys (<code>null</code> until needed after a roll). */
+	private transient List columnKeys;
+
+	/**
+	 * Creates a new (empty) dataset.
+	 *
+	 * @param bucketCount
+	 *            the number of buckets (must be positive).
+	 * @param bucketMillis
+	 *            the length of each bucket in milliseconds (must be
+	 *            positive).
+	 */
+	public RollingCategoryDataset(int bucketCount, long bucketMillis) {
+		if (bucketCount <= 0) {
+			throw new IllegalArgumentException(
+					"Requires 'bucketCount' to be positive.");
+		}
+		if (bucketMillis <= 0L) {
+			throw new IllegalArgumentException(
+					"Requires 'bucketMillis' to be positive.");
+		}
+		this.bucketCount = bucketCount;
+		this.bucketMillis = bucketMillis;
+		this.rowKeys = new ArrayList();
+		this.rowIndex = new HashMap();
+		this.rowValues = new ArrayList();
+	}
+
+	/**
+	 * Returns the number of buckets.
+	 *
+	 * @return The bucket count.
+	 */
+	public int getBucketCount() {
+		return this.bucketCount;
+	}
+
+	/**
+	 * Returns the length of each bucket.
+	 *
+	 * @return The length in milliseconds.
+	 */
+	public long getBucketMillis() {
+		return this.bucketMillis;
+	}
+
+	/**
+	 * Returns the flag that controls whether every increment sends a
+	 * {@link DatasetChangeEvent}.
+	 *
+	 * @return The flag.
+	 *
+	 * @see #setNotifyOnIncrement(boolean)
+	 */
+	public boolean getNotifyOnIncrement() {
+		return this.notifyOnIncrement;
+	}
+
+	/**
+	 * Sets the flag that controls whether every increment sends a
+	 * {@link DatasetChangeEvent}.  The default is <code>false</code>: only
+	 * increments that roll the window or add a row send an event, and the
+	 * others are reported by the next call to {@link #advance(long)}.
+	 *
+	 * @param notify
+	 *            the flag.
+	 *
+	 * @see #getNotifyOnIncrement()
+	 */
+	public void setNotifyOnIncrement(boolean notify) {
+		this.notifyOnIncrement = notify;
+	}
+
+	/**
+	 * Returns the start time of the newest bucket.
+	 *
+	 * @return The start time in milliseconds (<code>Long.MIN_VALUE</code> if
+	 *         no bucket has been set yet).
+	 */
+	public long getNewestBucketTime() {
+		if (!this.started) {
+			return Long.MIN_VALUE;
+		}
+		return this.newestBucket * this.bucketMillis;
+	}
+
+	/**
+	 * Returns the number of rows in the table.
+	 *
+	 * @return The row count.
+	 *
+	 * @see #getColumnCount()
+	 */
+	public int getRowCount() {
+		return this.rowKeys.size();
+	}
+
+	/**
+	 * Returns the number of columns in the table.
+	 *
+	 * @return The column count.
+	 *
+	 * @see #getRowCount()
+	 */
+	public int getColumnCount() {
+		return (this.started ? this.bucketCount : 0);
+	}
+
+	/**
+	 * Returns a value from the table.
+	 *
+	 * @param row
+	 *            the row index (zero-based).
+	 * @param column
+	 *            the column index (zero-based, oldest bucket first).
+	 *
+	 * @return The value (possibly <code>null</code>).
+	 */
+	public Number getValue(int row, int column) {
+		if (column < 0 || column >= getColumnCount()) {
+			throw new IndexOutOfBoundsException("Column index out of bounds: "
+					+ column);
+		}
+		double[] values = (double[]) this.rowValues.get(row);
+		double value = values[getSlot(this.newestBucket - this.bucketCount + 1
+				+ column)];
+		return (Double.isNaN(value) ? null : new Double(value));
+	}
+
+	/**
+	 * Returns the key for the specified row.
+	 *
+	 * @param row
+	 *            the row index (zero-based).
+	 *
+	 * @return The row key.
+	 *
+	 * @see #getRowIndex(Comparable)
+	 */
+	public Comparable getRowKey(int row) {
+		return (Comparable) this.rowKeys.get(row);
+	}
+
+	/**
+	 * Returns the row index for a given key.
+	 *
+	 * @param key
+	 *            the row key (<code>null</code> not permitted).
+	 *
+	 * @return The row index (-1 if the key is not defined).
+	 *
+	 * @see #getRowKey(int)
+	 */
+	public int getRowIndex(Comparable key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Null 'key' argument.");
+		}
+		Integer index = (Integer) this.rowIndex.get(key);
+		return (index != null ? index.intValue() : -1);
+	}
+
+	/**
+	 * Returns the row keys.
+	 *
+	 * @return The keys (in an unmodifiable list).
+	 */
+	public List getRowKeys() {
+		return Collections.unmodifiableList(this.rowKeys);
+	}
+
+	/**
+	 * Returns a column key.
+	 *
+	 * @param column
+	 *            the column index (zero-based, oldest bucket first).
+	 *
+	 * @return The column key (the start time of the bucket, as a
+	 *         <code>Long</code>).
+	 *
+	 * @see #getColumnIndex(Comparable)
+	 */
+	public Comparable getColumnKey(int column) {
+		return (Comparable) getColumnKeys().get(column);
+	}
+
+	/**
+	 * Returns the column index for a given key.
+	 *
+	 * @param key
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @return The column index (-1 if the key is not the start time of a
+	 *         bucket in the window).
+	 *
+	 * @see #getColumnKey(int)
+	 */
+	public int getColumnIndex(Comparable key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Null 'key' argument.");
+		}
+		if (!this.started || !(key instanceof Long)) {
+			return -1;
+		}
+		long time = ((Long) key).longValue();
+		long bucket = getBucket(time);
+		if (bucket * this.bucketMillis != time) {
+			return -1;
+		}
+		long column = bucket - (this.newestBucket - this.bucketCount + 1);
+		if (column < 0 || column >= this.bucketCount) {
+			return -1;
+		}
+		return (int) column;
+	}
+
+	/**
+	 * Returns the column keys.
+	 *
+	 * @return The keys (in an unmodifiable list).
+	 */
+	public List getColumnKeys() {
+		if (this.columnKeys == null) {
+			List keys = new ArrayList(getColumnCount());
+			long oldest = this.newestBucket - this.bucketCount + 1;
+			for (int c = 0; c < getColumnCount(); c++) {
+				keys.add(new Long((oldest + c) * this.bucketMillis));
+			}
+			this.columnKeys = Collections.unmodifiableList(keys);
+		}
+		return this.columnKeys;
+	}
+
+	/**
+	 * Returns the value for a pair of keys.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param columnKey
+	 *            the column key (<code>null</code> not permitted).
+	 *
+	 * @return The value (possibly <code>null</code>).
+	 *
+	 * @throws UnknownKeyException
+	 *             if either key is not defined in the dataset.
+	 */
+	public Number getValue(Comparable rowKey, Comparable columnKey) {
+		int row = getRowIndex(rowKey);
+		if (row < 0) {
+			throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+		}
+		int column = getColumnIndex(columnKey);
+		if (column < 0) {
+			throw new UnknownKeyException("Unrecognised columnKey: "
+					+ columnKey);
+		}
+		return getValue(row, column);
+	}
+
+	/**
+	 * Adds an amount to the value for a row in the bucket that contains the
+	 * specified time.  If the time is after the newest bucket, the window is
+	 * rolled forward first.  A {@link DatasetChangeEvent} is sent to all
+	 * registered listeners if the window moves or a row is added, or for
+	 * every increment if the notify-on-increment flag is set (see
+	 * {@link #setNotifyOnIncrement(boolean)}).
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param bucketTime
+	 *            the time in milliseconds (any time within the bucket).
+	 * @param delta
+	 *            the amount to add (a <code>null</code> value is treated as
+	 *            zero).
+	 *
+	 * @return <code>false</code> if the time is before the oldest bucket (in
+	 *         which case the dataset is not changed), and <code>true</code>
+	 *         otherwise.
+	 */
+	public boolean increment(Comparable rowKey, long bucketTime, double delta) {
+		return increment(rowKey, bucketTime, delta, this.notifyOnIncrement);
+	}
+
+	/**
+	 * Adds an amount to the value for a row in the bucket that contains the
+	 * specified time.  If the time is after the newest bucket, the window is
+	 * rolled forward first.  A {@link DatasetChangeEvent} is sent to all
+	 * registered listeners if the window moves, a row is added or
+	 * <code>notify</code> is <code>true</code>; otherwise the change is
+	 * reported by the next call to {@link #advance(long)}.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 * @param bucketTime
+	 *            the time in milliseconds (any time within the bucket).
+	 * @param delta
+	 *            the amount to add (a <code>null</code> value is treated as
+	 *            zero).
+	 * @param notify
+	 *            notify listeners even if the window does not move?
+	 *
+	 * @return <code>false</code> if the time is before the oldest bucket (in
+	 *         which case the dataset is not changed), and <code>true</code>
+	 *         otherwise.
+	 */
+	public boolean increment(Comparable rowKey, long bucketTime, double delta,
+			boolean notify) {
+		if (rowKey == null) {
+			throw new IllegalArgumentException("Null 'rowKey' argument.");
+		}
+		long bucket = getBucket(bucketTime);
+		if (this.started && bucket <= this.newestBucket - this.bucketCount) {
+			return false;
+		}
+		boolean structureChanged = roll(bucket);
+		int row = getRowIndex(rowKey);
+		if (row < 0) {
+			structureChanged = true;
+			row = this.rowKeys.size();
+			double[] values = new double[this.bucketCount];
+			Arrays.fill(values, Double.NaN);
+			this.rowKeys.add(rowKey);
+			this.rowIndex.put(rowKey, new Integer(row));
+			this.rowValues.add(values);
+		}
+		double[] values = (double[]) this.rowValues.get(row);
+		int slot = getSlot(bucket);
+		double existing = values[slot];
+		values[slot] = (Double.isNaN(existing) ? 0.0 : existing) + delta;
+		if (notify || structureChanged) {
+			fireDatasetChanged();
+		} else {
+			this.changePending = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Rolls the window forward (if necessary) so that the newest bucket
+	 * contains the specified time, and sends a {@link DatasetChangeEvent} to
+	 * all registered listeners if the window has moved or there are
+	 * increments that have not been reported yet.  This lets the chart move
+	 * on when no values are being added, and, called once per frame, shows
+	 * the increments made since the last frame with a single event.
+	 *
+	 * @param time
+	 *            the time in milliseconds.
+	 */
+	public void advance(long time) {
+		if (roll(getBucket(time)) || this.changePending) {
+			fireDatasetChanged();
+		}
+	}
+
+	/**
+	 * Sends a {@link DatasetChangeEvent} to all registered listeners, and
+	 * clears the record of unreported increments.
+	 */
+	protected void fireDatasetChanged() {
+		this.changePending = false;
+		super.fireDatasetChanged();
+	}
+
+	/**
+	 * Rolls the window forward so that the specified bucket is the newest,
+	 * clearing the slots of the buckets that enter the window.  This takes
+	 * time proportional to the number of rows times the number of buckets
+	 * rolled (at most the bucket count).
+	 *
+	 * @param bucket
+	 *            the bucket number.
+	 *
+	 * @return <code>true</code> if the window has moved.
+	 */
+	private boolean roll(long bucket) {
+		if (!this.started) {
+			this.started = true;
+			this.newestBucket = bucket;
+			this.columnKeys = null;
+			return true;
+		}
+		if (bucket <= this.newestBucket) {
+			return false;
+		}
+		long cleared = Math.min(bucket - this.newestBucket, this.bucketCount);
+		int rowCount = this.rowValues.size();
+		for (long b = bucket - cleared + 1; b <= bucket; b++) {
+			int slot = getSlot(b);
+			for (int r = 0; r < rowCount; r++) {
+				((double[]) this.rowValues.get(r))[slot] = Double.NaN;
+			}
+		}
+		this.newestBucket = bucket;
+		this.columnKeys = null;
+		return true;
+	}
+
+	/**
+	 * Returns the number of the bucket that contains a time.
+	 *
+	 * @param time
+	 *            the time in milliseconds.
+	 *
+	 * @return The bucket number.
+	 */
+	private long getBucket(long time) {
+		long bucket = time / this.bucketMillis;
+		if (time < 0L && bucket * this.bucketMillis != time) {
+			bucket--;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Returns the ring buffer slot for a bucket.
+	 *
+	 * @param bucket
+	 *            the bucket number.
+	 *
+	 * @return The slot index.
+	 */
+	private int getSlot(long bucket) {
+		long slot = bucket % this.bucketCount;
+		return (int) (slot < 0L ? slot + this.bucketCount : slot);
+	}
+
+	/**
+	 * Removes a row from the dataset and sends a {@link DatasetChangeEvent} to
+	 * all registered listeners.
+	 *
+	 * @param rowKey
+	 *            the row key (<code>null</code> not permitted).
+	 *
+	 * @throws UnknownKeyException
+	 *             if <code>rowKey</code> is not defined in the dataset.
+	 */
+	public void removeRow(Comparable rowKey) {
+		int row = getRowIndex(rowKey);
+		if (row < 0) {
+			throw new UnknownKeyException("Unknown key: " + rowKey);
+		}
+		this.rowKeys.remove(row);
+		this.rowValues.remove(row);
+		this.rowIndex.remove(rowKey);
+		for (int r = row; r < this.rowKeys.size(); r++) {
+			this.rowIndex.put(this.rowKeys.get(r), new Integer(r));
+		}
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Clears all data (and the window position) from the dataset and sends a
+	 * {@link DatasetChangeEvent} to all registered listeners.
+	 */
+	public void clear() {
+		this.rowKeys.clear();
+		this.rowIndex.clear();
+		this.rowValues.clear();
+		this.started = false;
+		this.columnKeys = null;
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Tests this dataset for equality with an arbitrary object.
+	 *
+	 * @param obj
+	 *            the object (<code>null</code> permitted).
+	 *
+	 * @return A boolean.
+	 */
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof CategoryDataset)) {
+			return false;
+		}
+		CategoryDataset that = (CategoryDataset) obj;
+		if (!getRowKeys().equals(that.getRowKeys())) {
+			return false;
+		}
+		if (!getColumnKeys().equals(that.getColumnKeys())) {
+			return false;
+		}
+		int rowCount = getRowCount();
+		int colCount = getColumnCount();
+		for (int r = 0; r < rowCount; r++) {
+			for (int c = 0; c < colCount; c++) {
+				Number v1 = getValue(r, c);
+				Number v2 = that.getValue(r, c);
+				if (v1 == null) {
+					if (v2 != null) {
+						return false;
+					}
+				} else if (!v1.equals(v2)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a hash code for the dataset.
+	 *
+	 * @return A hash code.
+	 */
+	public int hashCode() {
+		int result = getRowKeys().hashCode();
+		result = 29 * result + getColumnKeys().hashCode();
+		return result;
+	}
+
+	/**
+	 * Returns a clone of the dataset.
+	 *
+	 * @return A clone.
+	 *
+	 * @throws CloneNotSupportedException
+	 *             if there is a problem cloning the dataset.
+	 */
+	public Object clone() throws CloneNotSupportedException {
+		RollingCategoryDataset clone = (RollingCategoryDataset) super.clone();
+		clone.rowKeys = new ArrayList(this.rowKeys);
+		clone.rowIndex = new HashMap(this.rowIndex);
+		clone.rowValues = new ArrayList(this.rowValues.size());
+		for (int r = 0; r < this.rowValues.size(); r++) {
+			clone.rowValues.add(((double[]) this.rowValues.get(r)).clone());
+		}
+		return clone;
+	}
+
+	/**
+	 * Validates the dataset after deserialization (there is nothing to
+	 * check).
+	 *
+	 * @throws InvalidObjectException
+	 *             never.
+	 */
+	public void validateObject() throws InvalidObjectException {
+		// nothing to check
+	}
+
+}
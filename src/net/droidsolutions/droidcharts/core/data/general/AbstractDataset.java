@@ -52,6 +52,8 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 17-Oct-2026 : Restored the change listener list and added support for a
+ *               ChangeEventDispatcher (DS);
  *
  */
 
@@ -59,15 +61,19 @@ package net.droidsolutions.droidcharts.core.data.general;
 
 import java.io.ObjectInputValidation;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
-;
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
 
 /**
  * An abstract implementation of the {@link Dataset} interface, containing a
- * mechanism for registering change listeners.
+ * mechanism for registering change listeners. If a
+ * {@link ChangeEventDispatcher} is set, changes are coalesced and the
+ * listeners receive at most one event per dispatcher tick.
  */
 public abstract class AbstractDataset implements Dataset, Cloneable,
-		Serializable, ObjectInputValidation {
+		Serializable, ObjectInputValidation, ChangeEventDispatcher.Source {
 
 	/** For serialization. */
 	private static final long serialVersionUID = 1918768939869230744L;
@@ -75,6 +81,15 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
 	/** The group that the dataset belongs to. */
 	private DatasetGroup group;
 
+	/** Storage for registered change listeners. */
+	private transient List listeners;
+
+	/**
+	 * The dispatcher that coalesces change events (<code>null</code> if
+	 * events are sent immediately).
+	 */
+	private transient ChangeEventDispatcher changeDispatcher;
+
 	/**
 	 * Constructs a dataset. By default, the dataset is assigned to its own
 	 * group.
@@ -109,4 +124,135 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
 		this.group = group;
 	}
 
+	/**
+	 * Registers an object to receive notification of changes to the dataset.
+	 * 
+	 * @param listener
+	 *            the object to register.
+	 * 
+	 * @see #removeChangeListener(DatasetChangeListener)
+	 */
+	public void addChangeListener(DatasetChangeListener listener) {
+		if (this.listeners == null) {
+			this.listeners = new ArrayList();
+		}
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Deregisters an object so that it no longer receives notification of
+	 * changes to the dataset.
+	 * 
+	 * @param listener
+	 *            the object to deregister.
+	 * 
+	 * @see #addChangeListener(DatasetChangeListener)
+	 */
+	public void removeChangeListener(DatasetChangeListener listener) {
+		if (this.listeners != null) {
+			this.listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the specified object is registered with
+	 * the dataset as a listener. Most applications won't need to call this
+	 * method, it exists mainly for use by unit testing code.
+	 * 
+	 * @param listener
+	 *            the listener.
+	 * 
+	 * @return A boolean.
+	 */
+	public boolean hasListener(DatasetChangeListener listener) {
+		return this.listeners != null && this.listeners.contains(listener);
+	}
+
+	/**
+	 * Returns the dispatcher that coalesces the change events for this
+	 * dataset.
+	 * 
+	 * @return The dispatcher (possibly <code>null</code>).
+	 * 
+	 * @see #setChangeDispatcher(ChangeEventDispatcher)
+	 */
+	public ChangeEventDispatcher getChangeDispatcher() {
+		return this.changeDispatcher;
+	}
+
+	/**
+	 * Sets the dispatcher that coalesces the change events for this dataset.
+	 * While a dispatcher is set, {@link #fireDatasetChanged()} only records
+	 * the change and the registered listeners receive a single event when
+	 * the dispatcher next ticks.
+	 * 
+	 * @param dispatcher
+	 *            the dispatcher (<code>null</code> to send events
+	 *            immediately).
+	 * 
+	 * @see #getChangeDispatcher()
+	 */
+	public void setChangeDispatcher(ChangeEventDispatcher dispatcher) {
+		this.changeDispatcher = dispatcher;
+	}
+
+	/**
+	 * Notifies all registered listeners that the dataset has changed.
+	 * 
+	 * @see #addChangeListener(DatasetChangeListener)
+	 */
+	protected void fireDatasetChanged() {
+		ChangeEventDispatcher dispatcher = this.changeDispatcher;
+		if (dispatcher != null) {
+			dispatcher.post(this);
+		} else {
+			notifyListeners(new DatasetChangeEvent(this, this));
+		}
+	}
+
+	/**
+	 * Sends a single change event to the registered listeners. This is
+	 * called by the change dispatcher.
+	 */
+	public void dispatchChange() {
+		notifyListeners(new DatasetChangeEvent(this, this));
+	}
+
+	/**
+	 * Notifies all registered listeners that the dataset has changed.
+	 * 
+	 * @param event
+	 *            contains information about the event that triggered the
+	 *            notification.
+	 * 
+	 * @see #addChangeListener(DatasetChangeListener)
+	 * @see #removeChangeListener(DatasetChangeListener)
+	 */
+	protected void notifyListeners(DatasetChangeEvent event) {
+		if (this.listeners == null) {
+			return;
+		}
+		Object[] listenerList = this.listeners.toArray();
+		for (int i = listenerList.length - 1; i >= 0; i--) {
+			((DatasetChangeListener) listenerList[i]).datasetChanged(event);
+		}
+	}
+
+	/**
+	 * Returns a clone of the dataset. The cloned dataset will NOT include the
+	 * {@link DatasetChangeListener} references that have been registered with
+	 * this dataset.
+	 * 
+	 * @return A clone.
+	 * 
+	 * @throws CloneNotSupportedException
+	 *             if the dataset does not support cloning.
+	 */
+	public Object clone() throws CloneNotSupportedException {
+		AbstractDataset clone = (AbstractDataset) super.clone();
+		clone.listeners = null;
+		clone.changeDispatcher = null;
+		return clone;
+	}
+
 }
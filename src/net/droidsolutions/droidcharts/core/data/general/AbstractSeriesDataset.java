@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 17-Oct-2026 : Restored the SeriesChangeListener implementation (DS);
  *
  */
 
@@ -51,7 +52,7 @@ import java.io.Serializable;
  * a mechanism for registering change listeners.
  */
 public abstract class AbstractSeriesDataset extends AbstractDataset implements
-		SeriesDataset, Serializable {
+		SeriesDataset, SeriesChangeListener, Serializable {
 
 	/** For serialization. */
 	private static final long serialVersionUID = -6074996219705033171L;
@@ -103,4 +104,16 @@ public abstract class AbstractSeriesDataset extends AbstractDataset implements
 		return -1;
 	}
 
+	/**
+	 * The dataset is registered as a change listener with the series that it
+	 * holds, so that this method is called when a series changes. It passes
+	 * the change on to the dataset's own listeners.
+	 * 
+	 * @param event
+	 *            information about the change.
+	 */
+	public void seriesChanged(SeriesChangeEvent event) {
+		fireDatasetChanged();
+	}
+
 }
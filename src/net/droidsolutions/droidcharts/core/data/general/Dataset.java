@@ -44,6 +44,8 @@
  *               getLegendItemLabels() methods...leave this to client code (DG);
  * 27-Sep-2002 : Added get/setDatasetGroup() methods (DG);
  * 10-Jan-2003 : Updated Javadocs (DG);
+ * 17-Oct-2026 : Restored the addChangeListener() and removeChangeListener()
+ *               methods (DS);
  *
  */
 
@@ -62,6 +64,22 @@ package net.droidsolutions.droidcharts.core.data.general;
  */
 public interface Dataset {
 
+	/**
+	 * Registers an object for notification of changes to the dataset.
+	 * 
+	 * @param listener
+	 *            the object to register.
+	 */
+	public void addChangeListener(DatasetChangeListener listener);
+
+	/**
+	 * Deregisters an object for notification of changes to the dataset.
+	 * 
+	 * @param listener
+	 *            the object to deregister.
+	 */
+	public void removeChangeListener(DatasetChangeListener listener);
+
 	/**
 	 * Returns the dataset group.
 	 * 
@@ -116,6 +116,8 @@
  *               account hidden series (DG);
  * 01-Apr-2009 : Handle a StatisticalCategoryDataset in
  *               iterateToFindRangeBounds() (DG);
+ * 17-Oct-2026 : Use XYSeries.findRangeBounds() for an XYSeriesCollection in
+ *               iterateToFindRangeBounds() (DS);
  *
  */
 
@@ -139,6 +141,7 @@ import net.droidsolutions.droidcharts.core.data.StatisticalCategoryDataset;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 import net.droidsolutions.droidcharts.core.data.xy.XYDomainInfo;
 import net.droidsolutions.droidcharts.core.data.xy.XYRangeInfo;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
 
 /**
  * A collection of useful static methods relating to datasets.
@@ -910,8 +913,22 @@ public final class DatasetUtilities {
 		double minimum = Double.POSITIVE_INFINITY;
 		double maximum = Double.NEGATIVE_INFINITY;
 
-		// handle three cases by dataset type
-		if (includeInterval && dataset instanceof OHLCDataset) {
+		// handle four cases by dataset type
+		if (dataset instanceof XYSeriesCollection) {
+			// the y-interval of an XYSeriesCollection is just the y-value, and
+			// each series can search (and possibly index) its own items
+			XYSeriesCollection collection = (XYSeriesCollection) dataset;
+			Iterator iterator = visibleSeriesKeys.iterator();
+			while (iterator.hasNext()) {
+				Comparable seriesKey = (Comparable) iterator.next();
+				int series = dataset.indexOf(seriesKey);
+				Range r = collection.getSeries(series).findRangeBounds(xRange);
+				if (r != null) {
+					minimum = Math.min(minimum, r.getLowerBound());
+					maximum = Math.max(maximum, r.getUpperBound());
+				}
+			}
+		} else if (includeInterval && dataset instanceof OHLCDataset) {
 			// handle special case of OHLCDataset
 			OHLCDataset ohlc = (OHLCDataset) dataset;
 			Iterator iterator = visibleSeriesKeys.iterator();
@@ -49,6 +49,8 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 04-May-2006 : Updated API docs (DG);
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
+ * 17-Oct-2026 : Restored the change listener list and added support for a
+ *               ChangeEventDispatcher (DS);
  *
  */
 
@@ -57,8 +59,10 @@ package net.droidsolutions.droidcharts.core.data.general;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
-
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
 
 /**
  * Base class representing a data series.  Subclasses are left to implement the
@@ -68,9 +72,12 @@ import java.io.Serializable;
  * register a <code>PropertyChangeListener</code>.
  * <P>
  * You can also register a {@link SeriesChangeListener} to receive notification
- * of changes to the series data.
+ * of changes to the series data.  If a {@link ChangeEventDispatcher} is set,
+ * the changes are coalesced and the listeners receive at most one event per
+ * dispatcher tick.
  */
-public abstract class Series implements Cloneable, Serializable {
+public abstract class Series implements Cloneable, Serializable,
+        ChangeEventDispatcher.Source {
 
     /** For serialization. */
     private static final long serialVersionUID = -6906561437538683581L;
@@ -81,7 +88,14 @@ public abstract class Series implements Cloneable, Serializable {
     /** A description of the series. */
     private String description;
 
+    /** Storage for registered change listeners. */
+    private transient List listeners;
 
+    /**
+     * The dispatcher that coalesces change events (<code>null</code> if
+     * events are sent immediately).
+     */
+    private transient ChangeEventDispatcher changeDispatcher;
 
     /** Object to support property change notification. */
     private PropertyChangeSupport propertyChangeSupport;
@@ -235,23 +249,93 @@ public abstract class Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
 
         Series clone = (Series) super.clone();
-       
+        clone.listeners = null;
+        clone.changeDispatcher = null;
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         return clone;
 
     }
 
 
+    /**
+     * Registers an object with this series, to receive notification whenever
+     * the series changes.
+     * <P>
+     * Objects being registered must implement the {@link SeriesChangeListener}
+     * interface.
+     *
+     * @param listener  the listener to register.
+     */
+    public void addChangeListener(SeriesChangeListener listener) {
+        if (this.listeners == null) {
+            this.listeners = new ArrayList();
+        }
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Deregisters an object, so that it not longer receives notification
+     * whenever the series changes.
+     *
+     * @param listener  the listener to deregister.
+     */
+    public void removeChangeListener(SeriesChangeListener listener) {
+        if (this.listeners != null) {
+            this.listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns the dispatcher that coalesces the change events for this
+     * series.
+     *
+     * @return The dispatcher (possibly <code>null</code>).
+     *
+     * @see #setChangeDispatcher(ChangeEventDispatcher)
+     */
+    public ChangeEventDispatcher getChangeDispatcher() {
+        return this.changeDispatcher;
+    }
+
+    /**
+     * Sets the dispatcher that coalesces the change events for this series.
+     * While a dispatcher is set, {@link #fireSeriesChanged()} only records
+     * the change and the registered listeners receive a single event when
+     * the dispatcher next ticks.
+     *
+     * @param dispatcher  the dispatcher (<code>null</code> to send events
+     *                    immediately).
+     *
+     * @see #getChangeDispatcher()
+     */
+    public void setChangeDispatcher(ChangeEventDispatcher dispatcher) {
+        this.changeDispatcher = dispatcher;
+    }
+
     /**
      * General method for signalling to registered listeners that the series
      * has been changed.
      */
     public void fireSeriesChanged() {
         if (this.notify) {
-            notifyListeners(new SeriesChangeEvent(this));
+            ChangeEventDispatcher dispatcher = this.changeDispatcher;
+            if (dispatcher != null) {
+                dispatcher.post(this);
+            }
+            else {
+                notifyListeners(new SeriesChangeEvent(this));
+            }
         }
     }
 
+    /**
+     * Sends a single change event to the registered listeners.  This is
+     * called by the change dispatcher.
+     */
+    public void dispatchChange() {
+        notifyListeners(new SeriesChangeEvent(this));
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
@@ -260,13 +344,13 @@ public abstract class Series implements Cloneable, Serializable {
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
-   /*    Object[] listenerList = this.listeners.getListenerList();
-        for (int i = listenerList.length - 2; i >= 0; i -= 2) {
-            if (listenerList[i] == SeriesChangeListener.class) {
-                ((SeriesChangeListener) listenerList[i + 1]).seriesChanged(
-                        event);
-            }
-        }*/
+        if (this.listeners == null) {
+            return;
+        }
+        Object[] listenerList = this.listeners.toArray();
+        for (int i = listenerList.length - 1; i >= 0; i--) {
+            ((SeriesChangeListener) listenerList[i]).seriesChanged(event);
+        }
 
     }
 
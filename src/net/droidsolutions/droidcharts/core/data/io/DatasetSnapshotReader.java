@@ -0,0 +1,497 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * DatasetSnapshotReader.java
+ * --------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import net.droidsolutions.droidcharts.core.data.DefaultCategoryDataset;
+import net.droidsolutions.droidcharts.core.data.general.Dataset;
+import net.droidsolutions.droidcharts.core.data.xy.DoubleArrayXYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+
+/**
+ * Reads datasets from a stream written by a {@link DatasetSnapshotWriter}.
+ * XY series are restored as {@link DoubleArrayXYSeries} instances: each
+ * column is decoded straight into a <code>double[]</code> that is passed to
+ * the series in one call, so restoring a series allocates a few arrays
+ * rather than objects for each item.  The input is buffered internally, so
+ * the stream does not need to be buffered.
+ * <P>
+ * A reader is not thread-safe.
+ */
+public class DatasetSnapshotReader {
+
+    /** The size of the input buffer. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The input stream. */
+    private InputStream in;
+
+    /** The input buffer. */
+    private byte[] buffer;
+
+    /** The position of the next byte in the input buffer. */
+    private int position;
+
+    /** The number of bytes in the input buffer. */
+    private int limit;
+
+    /** The key dictionary (the keys in the order they were first read). */
+    private List keys;
+
+    /** A flag that indicates whether the end tag has been read. */
+    private boolean finished;
+
+    /**
+     * Creates a new reader and reads the snapshot header.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem or the stream does not
+     *     contain a snapshot.
+     */
+    public DatasetSnapshotReader(InputStream in) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Null 'in' argument.");
+        }
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.keys = new ArrayList();
+        if (readInt() != SnapshotFormat.MAGIC) {
+            throw new IOException("Not a dataset snapshot.");
+        }
+        int version = readByte();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+    }
+
+    /**
+     * Reads the next dataset.
+     *
+     * @return An {@link XYSeriesCollection} or a
+     *     {@link DefaultCategoryDataset}, or <code>null</code> if there are
+     *     no more datasets.
+     *
+     * @throws IOException if there is an I/O problem or the snapshot is
+     *     corrupt.
+     */
+    public Dataset readDataset() throws IOException {
+        if (this.finished) {
+            return null;
+        }
+        int tag = readByte();
+        if (tag == SnapshotFormat.TAG_XY_SERIES_COLLECTION) {
+            return readXYSeriesCollectionBody();
+        }
+        else if (tag == SnapshotFormat.TAG_CATEGORY_DATASET) {
+            return readCategoryDatasetBody();
+        }
+        else if (tag == SnapshotFormat.TAG_END) {
+            this.finished = true;
+            return null;
+        }
+        throw new IOException("Unknown dataset tag: " + tag);
+    }
+
+    /**
+     * Reads the next dataset, which must be an XY series collection.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the next dataset is
+     *     missing or of a different type.
+     */
+    public XYSeriesCollection readXYSeriesCollection() throws IOException {
+        Dataset dataset = readDataset();
+        if (!(dataset instanceof XYSeriesCollection)) {
+            throw new IOException("Expected an XYSeriesCollection.");
+        }
+        return (XYSeriesCollection) dataset;
+    }
+
+    /**
+     * Reads the next dataset, which must be a category dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the next dataset is
+     *     missing or of a different type.
+     */
+    public DefaultCategoryDataset readCategoryDataset() throws IOException {
+        Dataset dataset = readDataset();
+        if (!(dataset instanceof DefaultCategoryDataset)) {
+            throw new IOException("Expected a DefaultCategoryDataset.");
+        }
+        return (DefaultCategoryDataset) dataset;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * Reads an XY series collection (after its tag).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private XYSeriesCollection readXYSeriesCollectionBody()
+            throws IOException {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        int seriesCount = readCount();
+        for (int s = 0; s < seriesCount; s++) {
+            Comparable key = readKey();
+            int flags = readByte();
+            int maximum = readCount();
+            int itemCount = readCount();
+            double[] xs = new double[itemCount];
+            int encoding = readByte();
+            if (encoding == SnapshotFormat.X_DELTA_OF_DELTA) {
+                long previous = 0L;
+                long previousDelta = 0L;
+                for (int i = 0; i < itemCount; i++) {
+                    previousDelta += unzigzag(readVarLong());
+                    previous += previousDelta;
+                    xs[i] = previous;
+                }
+            }
+            else if (encoding == SnapshotFormat.X_RAW) {
+                for (int i = 0; i < itemCount; i++) {
+                    xs[i] = Double.longBitsToDouble(readLong());
+                }
+            }
+            else {
+                throw new IOException("Unknown x encoding: " + encoding);
+            }
+            double[] ys = new double[itemCount];
+            readValues(ys, (flags & SnapshotFormat.FLAG_FLOAT_VALUES) != 0);
+            DoubleArrayXYSeries series = new DoubleArrayXYSeries(key,
+                    (flags & SnapshotFormat.FLAG_AUTO_SORT) != 0,
+                    (flags & SnapshotFormat.FLAG_ALLOW_DUPLICATE_X_VALUES)
+                    != 0, Math.max(itemCount, 1));
+            if (maximum > 0) {
+                series.setMaximumItemCount(maximum);
+            }
+            series.addAll(xs, ys);
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a category dataset (after its tag).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private DefaultCategoryDataset readCategoryDatasetBody()
+            throws IOException {
+        int rowCount = readCount();
+        int columnCount = readCount();
+        Comparable[] rowKeys = new Comparable[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            rowKeys[r] = readKey();
+        }
+        Comparable[] columnKeys = new Comparable[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            columnKeys[c] = readKey();
+        }
+        boolean floatValues
+                = (readByte() & SnapshotFormat.FLAG_FLOAT_VALUES) != 0;
+        long cellCount = (long) rowCount * columnCount;
+        byte[] present = new byte[(int) ((cellCount + 7) / 8)];
+        int valueCount = 0;
+        for (int i = 0; i < present.length; i++) {
+            present[i] = (byte) readByte();
+            valueCount += Integer.bitCount(present[i] & 0xFF);
+        }
+        double[] values = new double[valueCount];
+        readValues(values, floatValues);
+
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        int cell = 0;
+        int v = 0;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                Number value = null;
+                if ((present[cell >>> 3] & (1 << (cell & 7))) != 0) {
+                    value = new Double(values[v++]);
+                }
+                dataset.addValue(value, rowKeys[r], columnKeys[c]);
+                cell++;
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a column of values stored as floats or doubles.
+     *
+     * @param values  the array to fill.
+     * @param floatValues  <code>true</code> if the values are floats.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void readValues(double[] values, boolean floatValues)
+            throws IOException {
+        if (floatValues) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Float.intBitsToFloat(readInt());
+            }
+        }
+        else {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Double.longBitsToDouble(readLong());
+            }
+        }
+    }
+
+    /**
+     * Reads a key, from the dictionary or (the first time the key occurs)
+     * in full.
+     *
+     * @return The key.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private Comparable readKey() throws IOException {
+        int ref = readCount();
+        if (ref > 0) {
+            if (ref > this.keys.size()) {
+                throw new IOException("Invalid key reference: " + ref);
+            }
+            return (Comparable) this.keys.get(ref - 1);
+        }
+        Comparable key;
+        int type = readByte();
+        switch (type) {
+        case SnapshotFormat.KEY_STRING:
+            key = new String(readBytes(readCount()), "UTF-8");
+            break;
+        case SnapshotFormat.KEY_INTEGER:
+            key = new Integer((int) unzigzag(readVarLong()));
+            break;
+        case SnapshotFormat.KEY_LONG:
+            key = new Long(unzigzag(readVarLong()));
+            break;
+        case SnapshotFormat.KEY_DOUBLE:
+            key = new Double(Double.longBitsToDouble(readLong()));
+            break;
+        case SnapshotFormat.KEY_DATE:
+            key = new Date(unzigzag(readVarLong()));
+            break;
+        case SnapshotFormat.KEY_SERIALIZED:
+            ObjectInputStream ois = new ObjectInputStream(
+                    new ByteArrayInputStream(readBytes(readCount())));
+            try {
+                key = (Comparable) ois.readObject();
+            }
+            catch (ClassNotFoundException e) {
+                throw new IOException("Unknown key class: " + e.getMessage());
+            }
+            finally {
+                ois.close();
+            }
+            break;
+        default:
+            throw new IOException("Unknown key type: " + type);
+        }
+        this.keys.add(key);
+        return key;
+    }
+
+    /**
+     * Ensures that at least the specified number of bytes are in the input
+     * buffer.
+     *
+     * @param required  the number of bytes (at most the buffer size).
+     *
+     * @throws IOException if there is an I/O problem or the stream ends.
+     */
+    private void require(int required) throws IOException {
+        if (this.limit - this.position >= required) {
+            return;
+        }
+        int remaining = this.limit - this.position;
+        System.arraycopy(this.buffer, this.position, this.buffer, 0,
+                remaining);
+        this.position = 0;
+        this.limit = remaining;
+        while (this.limit < required) {
+            int n = this.in.read(this.buffer, this.limit,
+                    this.buffer.length - this.limit);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of snapshot.");
+            }
+            this.limit += n;
+        }
+    }
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @return The byte.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int readByte() throws IOException {
+        if (this.position == this.limit) {
+            require(1);
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    /**
+     * Reads the specified number of bytes.
+     *
+     * @param length  the number of bytes.
+     *
+     * @return The bytes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private byte[] readBytes(int length) throws IOException {
+        byte[] result = new byte[length];
+        int n = Math.min(length, this.limit - this.position);
+        System.arraycopy(this.buffer, this.position, result, 0, n);
+        this.position += n;
+        while (n < length) {
+            int r = this.in.read(result, n, length - n);
+            if (r < 0) {
+                throw new EOFException("Unexpected end of snapshot.");
+            }
+            n += r;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a 4 byte big-endian integer.
+     *
+     * @return The value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int readInt() throws IOException {
+        require(4);
+        byte[] b = this.buffer;
+        int p = this.position;
+        this.position = p + 4;
+        return ((b[p] & 0xFF) << 24) | ((b[p + 1] & 0xFF) << 16)
+                | ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+    }
+
+    /**
+     * Reads an 8 byte big-endian long.
+     *
+     * @return The value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private long readLong() throws IOException {
+        long high = readInt();
+        return (high << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @return The value.
+     *
+     * @throws IOException if there is an I/O problem or the varint is
+     *     malformed.
+     */
+    private long readVarLong() throws IOException {
+        long result = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint.");
+    }
+
+    /**
+     * Reads a count (a varint that must fit in a non-negative int).
+     *
+     * @return The count.
+     *
+     * @throws IOException if there is an I/O problem or the count is out of
+     *     range.
+     */
+    private int readCount() throws IOException {
+        long count = readVarLong();
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Invalid count: " + count);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reverses the zigzag encoding of a signed value.
+     *
+     * @param v  the encoded value.
+     *
+     * @return The signed value.
+     */
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+}
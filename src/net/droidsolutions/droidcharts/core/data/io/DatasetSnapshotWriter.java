@@ -0,0 +1,494 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * DatasetSnapshotWriter.java
+ * --------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.droidsolutions.droidcharts.core.data.CategoryDataset;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+
+/**
+ * Writes datasets to a stream in the compact, columnar snapshot format
+ * described in {@link SnapshotFormat}, so that they can be restored quickly
+ * (for example, after the process has been killed) with a
+ * {@link DatasetSnapshotReader}.  The values are encoded directly from the
+ * primitive accessors of the datasets, and the output is buffered
+ * internally, so the stream does not need to be buffered.
+ * <P>
+ * A writer is not thread-safe.  Call {@link #close()} (or {@link #finish()})
+ * when all the datasets have been written, to write the end tag.
+ */
+public class DatasetSnapshotWriter {
+
+    /** The size of the output buffer. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The output stream. */
+    private OutputStream out;
+
+    /** The output buffer. */
+    private byte[] buffer;
+
+    /** The number of bytes in the output buffer. */
+    private int count;
+
+    /** The key dictionary (maps each key written so far to its index). */
+    private Map keys;
+
+    /** A flag that controls whether y-values are written as floats. */
+    private boolean floatValues;
+
+    /** A flag that indicates whether the end tag has been written. */
+    private boolean finished;
+
+    /**
+     * Creates a new writer and writes the snapshot header.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public DatasetSnapshotWriter(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.keys = new HashMap();
+        this.floatValues = false;
+        writeInt(SnapshotFormat.MAGIC);
+        writeByte(SnapshotFormat.VERSION);
+    }
+
+    /**
+     * Returns the flag that controls whether y-values (and category values)
+     * are written as 4 byte floats rather than 8 byte doubles.
+     *
+     * @return A boolean.
+     *
+     * @see #setFloatValues(boolean)
+     */
+    public boolean getFloatValues() {
+        return this.floatValues;
+    }
+
+    /**
+     * Sets the flag that controls whether y-values (and category values) are
+     * written as 4 byte floats rather than 8 byte doubles.  This halves the
+     * size of the value column at the cost of precision, and applies to the
+     * datasets written after the flag is changed.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getFloatValues()
+     */
+    public void setFloatValues(boolean flag) {
+        this.floatValues = flag;
+    }
+
+    /**
+     * Writes an XY series collection.  The series settings (key, auto-sort
+     * and duplicate flags and the maximum item count) are written with the
+     * items.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeXYSeriesCollection(XYSeriesCollection dataset)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        checkNotFinished();
+        writeByte(SnapshotFormat.TAG_XY_SERIES_COLLECTION);
+        int seriesCount = dataset.getSeriesCount();
+        writeVarLong(seriesCount);
+        for (int s = 0; s < seriesCount; s++) {
+            writeSeries(dataset.getSeries(s));
+        }
+    }
+
+    /**
+     * Writes a category dataset.  It is restored as a
+     * {@link net.droidsolutions.droidcharts.core.data.DefaultCategoryDataset}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeCategoryDataset(CategoryDataset dataset)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        checkNotFinished();
+        writeByte(SnapshotFormat.TAG_CATEGORY_DATASET);
+        int rowCount = dataset.getRowCount();
+        int columnCount = dataset.getColumnCount();
+        writeVarLong(rowCount);
+        writeVarLong(columnCount);
+        for (int r = 0; r < rowCount; r++) {
+            writeKey(dataset.getRowKey(r));
+        }
+        for (int c = 0; c < columnCount; c++) {
+            writeKey(dataset.getColumnKey(c));
+        }
+        writeByte(this.floatValues ? SnapshotFormat.FLAG_FLOAT_VALUES : 0);
+        int bits = 0;
+        int bitCount = 0;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                if (dataset.getValue(r, c) != null) {
+                    bits |= 1 << bitCount;
+                }
+                if (++bitCount == 8) {
+                    writeByte(bits);
+                    bits = 0;
+                    bitCount = 0;
+                }
+            }
+        }
+        if (bitCount > 0) {
+            writeByte(bits);
+        }
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                Number value = dataset.getValue(r, c);
+                if (value != null) {
+                    writeValue(value.doubleValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes any buffered data to the stream and flushes the stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        this.out.flush();
+    }
+
+    /**
+     * Writes the end tag and flushes the stream, without closing it.  No
+     * more datasets can be written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void finish() throws IOException {
+        if (!this.finished) {
+            writeByte(SnapshotFormat.TAG_END);
+            this.finished = true;
+        }
+        flush();
+    }
+
+    /**
+     * Writes the end tag (if necessary) and closes the stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        try {
+            finish();
+        }
+        finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * Writes a series.
+     *
+     * @param series  the series.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeSeries(XYSeries series) throws IOException {
+        writeKey(series.getKey());
+        int flags = 0;
+        if (series.getAutoSort()) {
+            flags |= SnapshotFormat.FLAG_AUTO_SORT;
+        }
+        if (series.getAllowDuplicateXValues()) {
+            flags |= SnapshotFormat.FLAG_ALLOW_DUPLICATE_X_VALUES;
+        }
+        if (this.floatValues) {
+            flags |= SnapshotFormat.FLAG_FLOAT_VALUES;
+        }
+        writeByte(flags);
+        int maximum = series.getMaximumItemCount();
+        writeVarLong(maximum == Integer.MAX_VALUE ? 0 : maximum);
+        int itemCount = series.getItemCount();
+        writeVarLong(itemCount);
+
+        boolean integral = true;
+        for (int i = 0; i < itemCount && integral; i++) {
+            integral = isExactInteger(series.getXValue(i));
+        }
+        if (integral) {
+            writeByte(SnapshotFormat.X_DELTA_OF_DELTA);
+            long previous = 0L;
+            long previousDelta = 0L;
+            for (int i = 0; i < itemCount; i++) {
+                long x = (long) series.getXValue(i);
+                long delta = x - previous;
+                writeVarLong(zigzag(delta - previousDelta));
+                previous = x;
+                previousDelta = delta;
+            }
+        }
+        else {
+            writeByte(SnapshotFormat.X_RAW);
+            for (int i = 0; i < itemCount; i++) {
+                writeLong(Double.doubleToRawLongBits(series.getXValue(i)));
+            }
+        }
+        for (int i = 0; i < itemCount; i++) {
+            writeValue(series.getYValue(i));
+        }
+    }
+
+    /**
+     * Writes a value as a float or a double, depending on the
+     * <code>floatValues</code> flag.
+     *
+     * @param value  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeValue(double value) throws IOException {
+        if (this.floatValues) {
+            writeInt(Float.floatToRawIntBits((float) value));
+        }
+        else {
+            writeLong(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    /**
+     * Writes a key, adding it to the dictionary if it has not been written
+     * before.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeKey(Comparable key) throws IOException {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer index = (Integer) this.keys.get(key);
+        if (index != null) {
+            writeVarLong(index.intValue() + 1);
+            return;
+        }
+        this.keys.put(key, new Integer(this.keys.size()));
+        writeVarLong(0);
+        if (key instanceof String) {
+            writeByte(SnapshotFormat.KEY_STRING);
+            byte[] bytes = ((String) key).getBytes("UTF-8");
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+        else if (key instanceof Integer) {
+            writeByte(SnapshotFormat.KEY_INTEGER);
+            writeVarLong(zigzag(((Integer) key).intValue()));
+        }
+        else if (key instanceof Long) {
+            writeByte(SnapshotFormat.KEY_LONG);
+            writeVarLong(zigzag(((Long) key).longValue()));
+        }
+        else if (key instanceof Double) {
+            writeByte(SnapshotFormat.KEY_DOUBLE);
+            writeLong(Double.doubleToRawLongBits(((Double) key).doubleValue()));
+        }
+        else if (key.getClass() == Date.class) {
+            writeByte(SnapshotFormat.KEY_DATE);
+            writeVarLong(zigzag(((Date) key).getTime()));
+        }
+        else {
+            writeByte(SnapshotFormat.KEY_SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(bytes);
+            oos.writeObject(key);
+            oos.close();
+            writeVarLong(bytes.size());
+            writeBytes(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Checks that the end tag has not been written.
+     */
+    private void checkNotFinished() {
+        if (this.finished) {
+            throw new IllegalStateException("The snapshot is finished.");
+        }
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param b  the byte (only the low 8 bits are used).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeByte(int b) throws IOException {
+        if (this.count == this.buffer.length) {
+            flushBuffer();
+        }
+        this.buffer[this.count++] = (byte) b;
+    }
+
+    /**
+     * Writes a byte array.
+     *
+     * @param bytes  the bytes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        flushBuffer();
+        this.out.write(bytes);
+    }
+
+    /**
+     * Writes a 4 byte big-endian integer.
+     *
+     * @param v  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeInt(int v) throws IOException {
+        if (this.count + 4 > this.buffer.length) {
+            flushBuffer();
+        }
+        byte[] b = this.buffer;
+        int p = this.count;
+        b[p] = (byte) (v >>> 24);
+        b[p + 1] = (byte) (v >>> 16);
+        b[p + 2] = (byte) (v >>> 8);
+        b[p + 3] = (byte) v;
+        this.count = p + 4;
+    }
+
+    /**
+     * Writes an 8 byte big-endian long.
+     *
+     * @param v  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeLong(long v) throws IOException {
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
+    }
+
+    /**
+     * Writes an unsigned varint (7 bits per byte, least significant group
+     * first).
+     *
+     * @param v  the value (treated as unsigned).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeVarLong(long v) throws IOException {
+        if (this.count + 10 > this.buffer.length) {
+            flushBuffer();
+        }
+        while ((v & ~0x7FL) != 0) {
+            this.buffer[this.count++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        this.buffer[this.count++] = (byte) v;
+    }
+
+    /**
+     * Writes the buffered bytes to the stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flushBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a value is an integer that can be
+     * converted to a long and back without loss (and is not negative zero).
+     *
+     * @param x  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean isExactInteger(double x) {
+        return x == Math.rint(x) && Math.abs(x)
+                <= SnapshotFormat.MAX_EXACT_INTEGER
+                && !(x == 0.0 && 1.0 / x < 0.0);
+    }
+
+    /**
+     * Maps a signed value to an unsigned value so that values of small
+     * magnitude have short varint encodings.
+     *
+     * @param v  the value.
+     *
+     * @return The zigzag-encoded value.
+     */
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+}
@@ -0,0 +1,133 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * SnapshotFormat.java
+ * -------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.io;
+
+/**
+ * The constants that define the dataset snapshot format written by
+ * {@link DatasetSnapshotWriter} and read by {@link DatasetSnapshotReader}.
+ * <P>
+ * A snapshot starts with the magic number and version, followed by any
+ * number of datasets (each introduced by a tag byte) and an end tag.  All
+ * fixed-width values are big-endian; counts are unsigned varints and
+ * signed integers are zigzag-encoded varints.
+ * <P>
+ * Series, row and column keys are written through a dictionary that is
+ * shared by the whole snapshot: the first occurrence of a key is written in
+ * full (as a varint 0, a key type byte and the key value) and later
+ * occurrences as the varint <code>index + 1</code>.
+ * <P>
+ * An {@link net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection}
+ * is written as the series count followed, for each series, by its key, a
+ * flags byte, the maximum item count (0 for no limit), the item count, the
+ * x column and the y column.  The x column starts with an encoding byte:
+ * {@link #X_DELTA_OF_DELTA} (used when every x-value is an integer, as for
+ * timestamps and indices) stores the zigzag varint difference between
+ * successive deltas, so evenly spaced values take one byte each, while
+ * {@link #X_RAW} stores 8 byte doubles.  The y column holds 8 byte doubles,
+ * or 4 byte floats if the {@link #FLAG_FLOAT_VALUES} flag is set.
+ * <P>
+ * A {@link net.droidsolutions.droidcharts.core.data.CategoryDataset} is
+ * written as the row and column counts, the row keys, the column keys, a
+ * flags byte, a bitmap (row by row) of the cells that hold a value and the
+ * non-<code>null</code> values.
+ */
+final class SnapshotFormat {
+
+    /** The magic number at the start of a snapshot ("DCSS"). */
+    static final int MAGIC = 0x44435353;
+
+    /** The format version. */
+    static final int VERSION = 1;
+
+    /** The tag that marks the end of a snapshot. */
+    static final int TAG_END = 0;
+
+    /** The tag for an XY series collection. */
+    static final int TAG_XY_SERIES_COLLECTION = 1;
+
+    /** The tag for a category dataset. */
+    static final int TAG_CATEGORY_DATASET = 2;
+
+    /** The series flag for the auto-sort setting. */
+    static final int FLAG_AUTO_SORT = 1;
+
+    /** The series flag for the allow-duplicate-x-values setting. */
+    static final int FLAG_ALLOW_DUPLICATE_X_VALUES = 2;
+
+    /** The flag for values stored as 4 byte floats. */
+    static final int FLAG_FLOAT_VALUES = 4;
+
+    /** The x column encoding for 8 byte doubles. */
+    static final int X_RAW = 0;
+
+    /** The x column encoding for integers stored as delta-of-delta. */
+    static final int X_DELTA_OF_DELTA = 1;
+
+    /** The largest magnitude for which all integers are exact doubles. */
+    static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+
+    /** The key type for a string. */
+    static final int KEY_STRING = 1;
+
+    /** The key type for an integer. */
+    static final int KEY_INTEGER = 2;
+
+    /** The key type for a long. */
+    static final int KEY_LONG = 3;
+
+    /** The key type for a double. */
+    static final int KEY_DOUBLE = 4;
+
+    /** The key type for a date. */
+    static final int KEY_DATE = 5;
+
+    /** The key type for any other (serializable) key. */
+    static final int KEY_SERIALIZED = 6;
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private SnapshotFormat() {
+        // nothing to do
+    }
+
+}
@@ -0,0 +1,1287 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * ConcurrentXYSeries.java
+ * -----------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
+import net.droidsolutions.droidcharts.core.data.Range;
+import net.droidsolutions.droidcharts.core.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that one producer thread can append to while other
+ * threads (for example, the thread that draws the chart) read it, without
+ * any locking.
+ * <P>
+ * The values are stored in fixed-size chunks of primitive arrays.  The
+ * writer fills the slots after the last published item and then publishes
+ * an immutable {@link Snapshot} (the chunk directory, the item range and the
+ * bounds) through a single atomic reference.  A slot is never written again
+ * once a snapshot covers it, and chunks that fall out of a sliding window
+ * are dropped by copying the directory rather than by clearing it, so a
+ * reader always sees a complete, consistent snapshot.  Every reading method
+ * (<code>getItemCount()</code>, <code>getXValue()</code>,
+ * <code>getMinY()</code> and so on) reads the published snapshot once.
+ * <P>
+ * Snapshots are published at most once per publish interval (16ms, or
+ * about once per frame, by default), so a fast producer does not flood the
+ * chart with changes.  The listeners (normally the chart, which lays out its
+ * axes in response) are never called on the producer thread.  If the series
+ * has a {@link ChangeEventDispatcher}, the producer posts the change to it,
+ * and the dispatcher publishes the latest items and sends one
+ * {@link SeriesChangeEvent} on its own thread (the UI thread, for a
+ * <code>HandlerChangeScheduler</code>), so the items added after the last
+ * automatic publication are never left behind.  Without a dispatcher, the
+ * thread that draws the chart should call {@link #publish()} at the start of
+ * each frame, which publishes the latest items and notifies the listeners
+ * on that thread.
+ * <P>
+ * Without a maximum item count the index of an item never changes, so a
+ * reader can mix calls to the series freely: the item count it sees only
+ * grows.  With a maximum item count, publishing can shift the items, so a
+ * reader that makes several calls (such as a renderer) should either work
+ * from {@link #getSnapshot()}, or disable automatic publishing (with a
+ * negative publish interval) and call {@link #publish()} itself.
+ * <P>
+ * The methods that change the series must only be called from one thread
+ * at a time.  Only appending (in ascending x order, if the series is
+ * sorted), removing the first items and clearing the series are supported.
+ */
+public class ConcurrentXYSeries extends XYSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4408170290658306213L;
+
+    /** The default publish interval (in milliseconds). */
+    public static final long DEFAULT_PUBLISH_INTERVAL = 16L;
+
+    /** The base 2 logarithm of the number of items in a chunk. */
+    private static final int CHUNK_SHIFT = 10;
+
+    /** The number of items in a chunk. */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /** The mask for the position of an item within its chunk. */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /** The chunk directory for the x-values (writer only). */
+    private double[][] xChunks;
+
+    /** The chunk directory for the y-values (writer only). */
+    private double[][] yChunks;
+
+    /** The chunk number of the first directory entry (writer only). */
+    private long baseChunk;
+
+    /** The position of the first item (writer only). */
+    private long start;
+
+    /** The position after the last item (writer only). */
+    private long end;
+
+    /** The lowest x-value (writer only). */
+    private double minX;
+
+    /** The highest x-value (writer only). */
+    private double maxX;
+
+    /** The lowest y-value (writer only). */
+    private double minY;
+
+    /** The highest y-value (writer only). */
+    private double maxY;
+
+    /**
+     * The deques that track the window minimum and maximum values, or
+     * <code>null</code> if no maximum item count has been set (writer only).
+     */
+    private DoubleArrayXYSeries.MonotonicDeque minXDeque;
+
+    private DoubleArrayXYSeries.MonotonicDeque maxXDeque;
+
+    private DoubleArrayXYSeries.MonotonicDeque minYDeque;
+
+    private DoubleArrayXYSeries.MonotonicDeque maxYDeque;
+
+    /** The version of the latest snapshot (writer only). */
+    private long version;
+
+    /**
+     * The count of changes other than appends, for the next snapshot (writer
+     * only).
+     */
+    private int modificationCount;
+
+    /** The time of the last automatic publication (writer only). */
+    private long lastPublishTime;
+
+    /** The publish interval in milliseconds (negative for manual only). */
+    private volatile long publishInterval;
+
+    /** The latest snapshot created by the writer. */
+    private volatile Snapshot latest;
+
+    /** The published snapshot (the one that readers see). */
+    private AtomicReference published;
+
+    /**
+     * A flag that is set when the listeners have not been told about the
+     * latest changes.
+     */
+    private AtomicBoolean changePending;
+
+    /**
+     * Creates a new empty series.  By default, items must be added in
+     * ascending order of x-value, and duplicate x-values are allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public ConcurrentXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether the items must be added
+     *                  in ascending order of x-value.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public ConcurrentXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        super(key, autoSort, allowDuplicateXValues);
+        this.publishInterval = DEFAULT_PUBLISH_INTERVAL;
+        this.published = new AtomicReference();
+        this.changePending = new AtomicBoolean();
+        initStorage();
+        this.published.set(this.latest);
+    }
+
+    /**
+     * Returns the publish interval.
+     *
+     * @return The interval in milliseconds (negative if snapshots are only
+     *     published by {@link #publish()}).
+     *
+     * @see #setPublishInterval(long)
+     */
+    public long getPublishInterval() {
+        return this.publishInterval;
+    }
+
+    /**
+     * Sets the minimum time between the automatic publication of snapshots.
+     * Zero publishes every change, and a negative interval disables
+     * automatic publication (and the posting of changes to the dispatcher),
+     * so that snapshots are only published by {@link #publish()}.
+     *
+     * @param millis  the interval in milliseconds.
+     *
+     * @see #getPublishInterval()
+     */
+    public void setPublishInterval(long millis) {
+        this.publishInterval = millis;
+    }
+
+    /**
+     * Publishes the latest changes to readers and, if the listeners have not
+     * been told about them, sends a {@link SeriesChangeEvent} (through the
+     * dispatcher, if there is one).  The event is sent on the calling
+     * thread, so this method should be called by the thread that reads the
+     * series (for example, at the start of each frame), not by the producer.
+     *
+     * @return <code>true</code> if there were changes to report.
+     */
+    public boolean publish() {
+        boolean published = publishLatest();
+        if (this.changePending.getAndSet(false) || published) {
+            fireSeriesChanged();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the latest items and sends a single change event to the
+     * registered listeners.  This is called by the change dispatcher, on
+     * its own thread, after the producer has posted a change.
+     */
+    public void dispatchChange() {
+        this.changePending.set(false);
+        publishLatest();
+        super.dispatchChange();
+    }
+
+    /**
+     * Returns the published snapshot.  The snapshot never changes, so a
+     * reader that needs to make several calls can use it without seeing the
+     * items move.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    public Snapshot getSnapshot() {
+        return (Snapshot) this.published.get();
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return getSnapshot().getMinX();
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return getSnapshot().getMaxX();
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return getSnapshot().getMinY();
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return getSnapshot().getMaxY();
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return getSnapshot().getItemCount();
+    }
+
+    /**
+     * Returns the modification count of the published snapshot.  Evicting,
+     * deleting or clearing items increments the count; appending does not.
+     *
+     * @return The modification count.
+     */
+    public int getModificationCount() {
+        return getSnapshot().modificationCount;
+    }
+
+    /**
+     * Returns an unmodifiable view of the data items in the published
+     * snapshot.  The items are created as they are accessed.
+     *
+     * @return The list of data items.
+     */
+    public List getItems() {
+        final Snapshot snapshot = getSnapshot();
+        return Collections.unmodifiableList(new AbstractList() {
+            public Object get(int index) {
+                return new XYDataItem(snapshot.getXValue(index),
+                        snapshot.getYValue(index));
+            }
+            public int size() {
+                return snapshot.getItemCount();
+            }
+        });
+    }
+
+    /**
+     * Returns the data item with the specified index.  The item is created
+     * on demand, so changing it does not modify the series.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    public XYDataItem getDataItem(int index) {
+        Snapshot snapshot = getSnapshot();
+        return new XYDataItem(snapshot.getXValue(index),
+                snapshot.getYValue(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        return getSnapshot().getXValue(index);
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int index) {
+        return getSnapshot().getYValue(index);
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the result follows the same convention as
+     * <code>Arrays.binarySearch()</code>.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int indexOf(Number x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return getSnapshot().indexOf(x.doubleValue(), getAutoSort());
+    }
+
+    /**
+     * Returns a new array containing the x and y values from the published
+     * snapshot.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        Snapshot snapshot = getSnapshot();
+        int n = snapshot.getItemCount();
+        double[][] result = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            result[0][i] = snapshot.getXValue(i);
+            result[1][i] = snapshot.getYValue(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values for the items with an x-value in the
+     * specified range, from the published snapshot.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The y-range (<code>null</code> if there are no y-values in the
+     *     x-range).
+     */
+    public Range findRangeBounds(Range xRange) {
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        Snapshot snapshot = getSnapshot();
+        int n = snapshot.getItemCount();
+        int first = 0;
+        int last = n - 1;
+        if (getAutoSort()) {
+            first = snapshot.search(xRange.getLowerBound(), false);
+            last = snapshot.search(xRange.getUpperBound(), true) - 1;
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int i = first; i <= last; i++) {
+            double y = snapshot.getYValue(i);
+            if (!Double.isNaN(y) && xRange.contains(snapshot.getXValue(i))) {
+                minimum = Math.min(minimum, y);
+                maximum = Math.max(maximum, y);
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * The range index is not supported by this series, so this method does
+     * nothing.
+     *
+     * @param enabled  ignored.
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        // not supported: the index would be updated by the writer thread
+    }
+
+    /**
+     * The level-of-detail pyramid is not supported by this series, so this
+     * method does nothing.
+     *
+     * @param enabled  ignored.
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+        // not supported: the pyramid would be updated by the writer thread
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series,
+     * removing the oldest items if necessary.  Any value other than
+     * <code>Integer.MAX_VALUE</code> switches the series to sliding window
+     * mode, where each append that exceeds the maximum evicts the first item
+     * in constant time.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (maximum != Integer.MAX_VALUE) {
+            if (this.minYDeque == null) {
+                this.minXDeque = new DoubleArrayXYSeries.MonotonicDeque(false);
+                this.maxXDeque = new DoubleArrayXYSeries.MonotonicDeque(true);
+                this.minYDeque = new DoubleArrayXYSeries.MonotonicDeque(false);
+                this.maxYDeque = new DoubleArrayXYSeries.MonotonicDeque(true);
+            }
+        }
+        else {
+            this.minXDeque = null;
+            this.maxXDeque = null;
+            this.minYDeque = null;
+            this.maxYDeque = null;
+        }
+        long remove = (this.end - this.start) - maximum;
+        if (remove > 0) {
+            this.start += remove;
+            this.modificationCount++;
+        }
+        findBoundsByIteration();
+        changed(remove > 0);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners (subject to the
+     * publish interval).
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(XYDataItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners (subject to the publish interval).
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners (subject to the
+     * publish interval).
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  notify listeners?
+     */
+    public void add(double x, Number y, boolean notify) {
+        add(x, y != null ? y.doubleValue() : Double.NaN, notify);
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners (subject to the
+     * publish interval).
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(Number x, Number y, boolean notify) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        add(x.doubleValue(), y, notify);
+    }
+
+    /**
+     * Appends a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners (subject to the
+     * publish interval).  This is the method that all the other
+     * <code>add()</code> methods delegate to.
+     *
+     * @param x  the x value.
+     * @param y  the y value (<code>Double.NaN</code> for a missing value).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the series is sorted and the x-value is
+     *     less than the last x-value, or if the x-value is a duplicate and
+     *     the <code>allowDuplicateXValues</code> flag is not set.
+     */
+    public void add(double x, double y, boolean notify) {
+        checkAppend(x);
+        append(x, y);
+        changed(notify);
+    }
+
+    /**
+     * Appends the specified (x, y) values to the series and publishes them
+     * with a single snapshot.
+     *
+     * @param xs  the x-values (<code>null</code> not permitted).
+     * @param ys  the y-values (<code>null</code> not permitted, must have the
+     *            same length as <code>xs</code>).
+     *
+     * @throws SeriesException if an x-value cannot be appended (see
+     *     {@link #add(double, double, boolean)}).  The values before it
+     *     have been added.
+     */
+    public void addAll(double[] xs, double[] ys) {
+        if (xs == null) {
+            throw new IllegalArgumentException("Null 'xs' argument.");
+        }
+        if (ys == null) {
+            throw new IllegalArgumentException("Null 'ys' argument.");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException(
+                    "The 'xs' and 'ys' arrays must have the same length.");
+        }
+        try {
+            for (int i = 0; i < xs.length; i++) {
+                checkAppend(xs[i]);
+                append(xs[i], ys[i]);
+            }
+        }
+        finally {
+            changed(true);
+        }
+    }
+
+    /**
+     * Appends all the items in another series to this series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void addAll(XYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        double[][] values = series.toArray();
+        addAll(values[0], values[1]);
+    }
+
+    /**
+     * Deletes a range of items from the start of the series.
+     *
+     * @param start  the start index (must be zero).
+     * @param end  the end index (zero-based).
+     *
+     * @throws UnsupportedOperationException if <code>start</code> is not
+     *     zero.
+     */
+    public void delete(int start, int end) {
+        if (start != 0) {
+            throw new UnsupportedOperationException(
+                    "Only the first items can be removed.");
+        }
+        int count = (int) (this.end - this.start);
+        if (end < start || end >= count) {
+            throw new IndexOutOfBoundsException("Index: " + end + ", Size: "
+                    + count);
+        }
+        this.start += end + 1;
+        this.modificationCount++;
+        findBoundsByIteration();
+        changed(true);
+    }
+
+    /**
+     * Removes the first item from the series.
+     *
+     * @param index  the index of the item to remove (must be zero).
+     *
+     * @return The item removed.
+     *
+     * @throws UnsupportedOperationException if <code>index</code> is not
+     *     zero.
+     */
+    public XYDataItem remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException(
+                    "Only the first items can be removed.");
+        }
+        if (this.end == this.start) {
+            throw new IndexOutOfBoundsException("Index: 0, Size: 0");
+        }
+        XYDataItem item = new XYDataItem(getValue(this.xChunks, this.start),
+                getValue(this.yChunks, this.start));
+        delete(0, 0);
+        return item;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners (subject to the
+     * publish interval).
+     */
+    public void clear() {
+        if (this.end > this.start) {
+            long v = this.version;
+            initStorage();
+            this.version = v;
+            this.modificationCount++;
+            changed(true);
+        }
+    }
+
+    /**
+     * Not supported by this series.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    public void update(int index, Number y) {
+        throw new UnsupportedOperationException(
+                "Published items cannot be changed.");
+    }
+
+    /**
+     * Appends an item to the series if the x-value is greater than the last
+     * x-value (updating an existing item is not supported).
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return Always <code>null</code>, as no item is overwritten.
+     *
+     * @throws UnsupportedOperationException if the item would have to be
+     *     updated rather than appended.
+     */
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (this.end > this.start && (!getAutoSort()
+                || x <= getValue(this.xChunks, this.end - 1))) {
+            throw new UnsupportedOperationException(
+                    "Published items cannot be changed.");
+        }
+        add(x, y, true);
+        return null;
+    }
+
+    /**
+     * Appends an item to the series if the x-value is greater than the last
+     * x-value (updating an existing item is not supported).
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @return Always <code>null</code>, as no item is overwritten.
+     */
+    public XYDataItem addOrUpdate(Number x, Number y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return addOrUpdate(x.doubleValue(), y != null ? y.doubleValue()
+                : Double.NaN);
+    }
+
+    /**
+     * Creates a new series by copying a subset of the published items.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        ConcurrentXYSeries copy = (ConcurrentXYSeries) super.clone();
+        copy.copyFrom(getSnapshot(), start, end);
+        return copy;
+    }
+
+    /**
+     * Returns a clone of the series, containing the published items.  The
+     * clone has its own storage.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ConcurrentXYSeries clone = (ConcurrentXYSeries) super.clone();
+        Snapshot snapshot = getSnapshot();
+        clone.copyFrom(snapshot, 0, snapshot.getItemCount() - 1);
+        return clone;
+    }
+
+    /**
+     * Replaces the storage of this series (a fresh clone) with a copy of a
+     * range of items.
+     *
+     * @param snapshot  the snapshot to copy from.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     */
+    private void copyFrom(Snapshot snapshot, int first, int last) {
+        this.published = new AtomicReference();
+        this.changePending = new AtomicBoolean();
+        if (this.minYDeque != null) {
+            this.minXDeque = new DoubleArrayXYSeries.MonotonicDeque(false);
+            this.maxXDeque = new DoubleArrayXYSeries.MonotonicDeque(true);
+            this.minYDeque = new DoubleArrayXYSeries.MonotonicDeque(false);
+            this.maxYDeque = new DoubleArrayXYSeries.MonotonicDeque(true);
+        }
+        initStorage();
+        for (int i = first; i <= last; i++) {
+            append(snapshot.getXValue(i), snapshot.getYValue(i));
+        }
+        this.latest = createSnapshot();
+        this.published.set(this.latest);
+    }
+
+    /**
+     * Creates empty storage and a snapshot for it.  The old storage is left
+     * untouched, as published snapshots may still refer to it.
+     */
+    private void initStorage() {
+        this.xChunks = new double[4][];
+        this.yChunks = new double[4][];
+        this.baseChunk = 0L;
+        this.start = 0L;
+        this.end = 0L;
+        this.version = 0L;
+        findBoundsByIteration();
+        this.latest = createSnapshot();
+    }
+
+    /**
+     * Checks that an x-value can be appended to the series.
+     *
+     * @param x  the x-value.
+     */
+    private void checkAppend(double x) {
+        if (this.end == this.start) {
+            return;
+        }
+        if (getAutoSort()) {
+            double last = getValue(this.xChunks, this.end - 1);
+            if (x < last) {
+                throw new SeriesException(
+                        "X-values must be added in ascending order.");
+            }
+            if (x == last && !getAllowDuplicateXValues()) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else if (!getAllowDuplicateXValues()) {
+            for (long p = this.start; p < this.end; p++) {
+                if (getValue(this.xChunks, p) == x) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends an item to the unpublished part of the storage, evicting the
+     * first item if the series is full.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void append(double x, double y) {
+        int slot = (int) ((this.end >>> CHUNK_SHIFT) - this.baseChunk);
+        if (slot >= this.xChunks.length) {
+            slot = compactDirectory();
+        }
+        if (this.xChunks[slot] == null) {
+            this.xChunks[slot] = new double[CHUNK_SIZE];
+            this.yChunks[slot] = new double[CHUNK_SIZE];
+        }
+        int p = (int) this.end & CHUNK_MASK;
+        this.xChunks[slot][p] = x;
+        this.yChunks[slot][p] = y;
+        long sequence = this.end;
+        this.end++;
+        boolean evicted = false;
+        if (this.end - this.start > getMaximumItemCount()) {
+            if (this.minYDeque != null) {
+                this.minXDeque.removeFirst(this.start);
+                this.maxXDeque.removeFirst(this.start);
+                this.minYDeque.removeFirst(this.start);
+                this.maxYDeque.removeFirst(this.start);
+            }
+            this.start++;
+            this.modificationCount++;
+            evicted = true;
+        }
+        if (this.minYDeque != null) {
+            this.minXDeque.add(sequence, x);
+            this.maxXDeque.add(sequence, x);
+            this.minYDeque.add(sequence, y);
+            this.maxYDeque.add(sequence, y);
+            updateBoundsFromWindow();
+        }
+        else if (evicted) {
+            findBoundsByIteration();
+        }
+        else {
+            updateBoundsForAddedItem(x, y);
+        }
+    }
+
+    /**
+     * Replaces the chunk directories with new ones that start at the chunk
+     * holding the first item and have room for twice the live chunks.  The
+     * old directories are not modified.
+     *
+     * @return The directory slot for the chunk that holds the next item.
+     */
+    private int compactDirectory() {
+        long firstChunk = this.start >>> CHUNK_SHIFT;
+        long nextChunk = this.end >>> CHUNK_SHIFT;
+        int live = (int) (nextChunk - firstChunk);
+        int length = Math.max(4, 2 * (live + 1));
+        double[][] x = new double[length][];
+        double[][] y = new double[length][];
+        int from = (int) (firstChunk - this.baseChunk);
+        System.arraycopy(this.xChunks, from, x, 0, live);
+        System.arraycopy(this.yChunks, from, y, 0, live);
+        this.xChunks = x;
+        this.yChunks = y;
+        this.baseChunk = firstChunk;
+        return live;
+    }
+
+    /**
+     * Records a change: creates a new snapshot, publishes it if the publish
+     * interval has elapsed and, the first time the listeners fall behind,
+     * posts the change to the dispatcher.  The listeners are never called
+     * from here, as this runs on the producer thread.  Changes made within
+     * the interval are published when the dispatcher delivers the event (or
+     * by the next call to {@link #publish()}).
+     *
+     * @param notify  notify listeners?
+     */
+    private void changed(boolean notify) {
+        this.latest = createSnapshot();
+        long interval = this.publishInterval;
+        if (interval < 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - this.lastPublishTime >= interval * 1000000L) {
+            this.lastPublishTime = now;
+            publishLatest();
+        }
+        if (notify && getNotify() && this.changePending.compareAndSet(false,
+                true)) {
+            ChangeEventDispatcher dispatcher = getChangeDispatcher();
+            if (dispatcher != null) {
+                dispatcher.post(this);
+            }
+        }
+    }
+
+    /**
+     * Publishes the latest snapshot, unless a newer one has already been
+     * published.  This method can be called from any thread.
+     *
+     * @return <code>true</code> if the published snapshot changed.
+     */
+    private boolean publishLatest() {
+        while (true) {
+            Snapshot current = (Snapshot) this.published.get();
+            Snapshot next = this.latest;
+            if (next.version <= current.version) {
+                return false;
+            }
+            if (this.published.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot of the writer state.
+     *
+     * @return The snapshot.
+     */
+    private Snapshot createSnapshot() {
+        this.version++;
+        return new Snapshot(this.xChunks, this.yChunks, this.baseChunk,
+                this.start, (int) (this.end - this.start), this.minX,
+                this.maxX, this.minY, this.maxY, this.version,
+                this.modificationCount);
+    }
+
+    /**
+     * Returns the value at a position in the storage (writer only).
+     *
+     * @param chunks  the chunk directory.
+     * @param position  the position.
+     *
+     * @return The value.
+     */
+    private double getValue(double[][] chunks, long position) {
+        return chunks[(int) ((position >>> CHUNK_SHIFT) - this.baseChunk)]
+                [(int) position & CHUNK_MASK];
+    }
+
+    /**
+     * Resets the bounds and recalculates them from the items (rebuilding
+     * the window deques, if there are any).
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        if (this.minYDeque != null) {
+            this.minXDeque.clear();
+            this.maxXDeque.clear();
+            this.minYDeque.clear();
+            this.maxYDeque.clear();
+        }
+        for (long p = this.start; p < this.end; p++) {
+            double x = getValue(this.xChunks, p);
+            double y = getValue(this.yChunks, p);
+            if (this.minYDeque != null) {
+                this.minXDeque.add(p, x);
+                this.maxXDeque.add(p, x);
+                this.minYDeque.add(p, y);
+                this.maxYDeque.add(p, y);
+            }
+            else {
+                updateBoundsForAddedItem(x, y);
+            }
+        }
+        if (this.minYDeque != null) {
+            updateBoundsFromWindow();
+        }
+    }
+
+    /**
+     * Updates the bounds for an appended item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        if (!Double.isNaN(x)) {
+            this.minX = Double.isNaN(this.minX) ? x : Math.min(this.minX, x);
+            this.maxX = Double.isNaN(this.maxX) ? x : Math.max(this.maxX, x);
+        }
+        if (!Double.isNaN(y)) {
+            this.minY = Double.isNaN(this.minY) ? y : Math.min(this.minY, y);
+            this.maxY = Double.isNaN(this.maxY) ? y : Math.max(this.maxY, y);
+        }
+    }
+
+    /**
+     * Sets the bounds from the window deques.
+     */
+    private void updateBoundsFromWindow() {
+        this.minX = this.minXDeque.getFirstValue();
+        this.maxX = this.maxXDeque.getFirstValue();
+        this.minY = this.minYDeque.getFirstValue();
+        this.maxY = this.maxYDeque.getFirstValue();
+    }
+
+    /**
+     * An immutable view of the series at the time it was published.
+     */
+    public static final class Snapshot implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 2297513960351873052L;
+
+        /** The chunk directory for the x-values. */
+        private final double[][] xChunks;
+
+        /** The chunk directory for the y-values. */
+        private final double[][] yChunks;
+
+        /** The chunk number of the first directory entry. */
+        private final long baseChunk;
+
+        /** The position of the first item. */
+        private final long start;
+
+        /** The number of items. */
+        private final int itemCount;
+
+        /** The lowest x-value. */
+        private final double minX;
+
+        /** The highest x-value. */
+        private final double maxX;
+
+        /** The lowest y-value. */
+        private final double minY;
+
+        /** The highest y-value. */
+        private final double maxY;
+
+        /** The version (increases with each change to the series). */
+        private final long version;
+
+        /** The count of changes other than appends. */
+        private final int modificationCount;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param xChunks  the chunk directory for the x-values.
+         * @param yChunks  the chunk directory for the y-values.
+         * @param baseChunk  the chunk number of the first directory entry.
+         * @param start  the position of the first item.
+         * @param itemCount  the number of items.
+         * @param minX  the lowest x-value.
+         * @param maxX  the highest x-value.
+         * @param minY  the lowest y-value.
+         * @param maxY  the highest y-value.
+         * @param version  the version.
+         * @param modificationCount  the modification count.
+         */
+        Snapshot(double[][] xChunks, double[][] yChunks, long baseChunk,
+                long start, int itemCount, double minX, double maxX,
+                double minY, double maxY, long version,
+                int modificationCount) {
+            this.xChunks = xChunks;
+            this.yChunks = yChunks;
+            this.baseChunk = baseChunk;
+            this.start = start;
+            this.itemCount = itemCount;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minY = minY;
+            this.maxY = maxY;
+            this.version = version;
+            this.modificationCount = modificationCount;
+        }
+
+        /**
+         * Returns the number of items.
+         *
+         * @return The item count.
+         */
+        public int getItemCount() {
+            return this.itemCount;
+        }
+
+        /**
+         * Returns the x-value of an item.
+         *
+         * @param index  the index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public double getXValue(int index) {
+            checkIndex(index);
+            long p = this.start + index;
+            return this.xChunks[(int) ((p >>> CHUNK_SHIFT) - this.baseChunk)]
+                    [(int) p & CHUNK_MASK];
+        }
+
+        /**
+         * Returns the y-value of an item.
+         *
+         * @param index  the index (zero-based).
+         *
+         * @return The y-value (<code>Double.NaN</code> for a missing value).
+         */
+        public double getYValue(int index) {
+            checkIndex(index);
+            long p = this.start + index;
+            return this.yChunks[(int) ((p >>> CHUNK_SHIFT) - this.baseChunk)]
+                    [(int) p & CHUNK_MASK];
+        }
+
+        /**
+         * Returns the smallest x-value, ignoring any Double.NaN values.
+         *
+         * @return The smallest x-value.
+         */
+        public double getMinX() {
+            return this.minX;
+        }
+
+        /**
+         * Returns the largest x-value, ignoring any Double.NaN values.
+         *
+         * @return The largest x-value.
+         */
+        public double getMaxX() {
+            return this.maxX;
+        }
+
+        /**
+         * Returns the smallest y-value, ignoring any Double.NaN values.
+         *
+         * @return The smallest y-value.
+         */
+        public double getMinY() {
+            return this.minY;
+        }
+
+        /**
+         * Returns the largest y-value, ignoring any Double.NaN values.
+         *
+         * @return The largest y-value.
+         */
+        public double getMaxY() {
+            return this.maxY;
+        }
+
+        /**
+         * Returns the index of the item with the specified x-value.
+         *
+         * @param x  the x-value.
+         * @param sorted  <code>true</code> to use a binary search.
+         *
+         * @return The index (negative if there is no such item).
+         */
+        int indexOf(double x, boolean sorted) {
+            if (sorted) {
+                int index = search(x, false);
+                if (index < this.itemCount && getXValue(index) == x) {
+                    return index;
+                }
+                return -(index + 1);
+            }
+            for (int i = 0; i < this.itemCount; i++) {
+                if (getXValue(i) == x) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the index of the first item with an x-value greater than
+         * (or, if <code>inclusive</code> is <code>false</code>, greater than
+         * or equal to) the specified value, for a sorted series.
+         *
+         * @param x  the x-value.
+         * @param inclusive  skip items with x-values equal to <code>x</code>?
+         *
+         * @return The index (<code>getItemCount()</code> if there is none).
+         */
+        int search(double x, boolean inclusive) {
+            int low = 0;
+            int high = this.itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                double midX = getXValue(mid);
+                if (midX < x || (inclusive && midX == x)) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Checks that an index is within the bounds of the snapshot.
+         *
+         * @param index  the index.
+         */
+        private void checkIndex(int index) {
+            if (index < 0 || index >= this.itemCount) {
+                throw new IndexOutOfBoundsException("Index: " + index
+                        + ", Size: " + this.itemCount);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,1411 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * DoubleArrayXYSeries.java
+ * ------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.droidsolutions.droidcharts.core.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its x and y values in growable
+ * <code>double[]</code> columns instead of a list of {@link XYDataItem}
+ * objects.  A series with several hundred thousand items then costs two
+ * primitive arrays rather than three objects per item, and the
+ * {@link #getXValue(int)} and {@link #getYValue(int)} methods (used by
+ * {@link XYSeriesCollection} and the renderers) never create a
+ * <code>Number</code>.
+ * <P>
+ * Missing y-values are stored as <code>Double.NaN</code> and are reported
+ * as <code>null</code> by {@link #getY(int)}.  The {@link XYDataItem}
+ * instances returned by {@link #getDataItem(int)} and {@link #getItems()}
+ * are created on demand, so changing them does not modify the series - use
+ * the <code>update()</code> methods for that.
+ * <P>
+ * The value arrays are used as a circular buffer, so removing the first
+ * item is O(1).  When a maximum item count is set (see
+ * {@link #setMaximumItemCount(int)}) the series acts as a sliding window:
+ * appending a new item and evicting the oldest one are both O(1), and the
+ * minimum and maximum values are maintained by monotonic deques so the
+ * bounds stay exact without rescanning the data.
+ */
+public class DoubleArrayXYSeries extends XYSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3215730953493178716L;
+
+    /** The default initial capacity of the value arrays. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** The x-values (a circular buffer starting at <code>head</code>). */
+    private double[] xValues;
+
+    /** The y-values (<code>Double.NaN</code> for missing values). */
+    private double[] yValues;
+
+    /** The position of the first item in the value arrays. */
+    private int head;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /**
+     * The sequence number of the first item.  Items appended to the end of
+     * the series are numbered consecutively, which is how the window deques
+     * identify the items they refer to.
+     */
+    private long firstSequence;
+
+    /**
+     * The deques that track the window minimum and maximum values, or
+     * <code>null</code> if no maximum item count has been set.  The x deques
+     * are only used for series that are not sorted.
+     */
+    private MonotonicDeque minXDeque;
+
+    private MonotonicDeque maxXDeque;
+
+    private MonotonicDeque minYDeque;
+
+    private MonotonicDeque maxYDeque;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public DoubleArrayXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public DoubleArrayXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new empty series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public DoubleArrayXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty series with storage preallocated for the
+     * specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public DoubleArrayXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.head = 0;
+        this.itemCount = 0;
+        resetBounds();
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns an unmodifiable view of the data items in the series.  The
+     * items are created as they are accessed.
+     *
+     * @return The list of data items.
+     */
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            public Object get(int index) {
+                return getDataItem(index);
+            }
+            public int size() {
+                return getItemCount();
+            }
+        });
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series,
+     * removing the oldest items (and notifying listeners) if necessary.  Any
+     * value other than <code>Integer.MAX_VALUE</code> switches the series to
+     * sliding window mode, where each append that exceeds the maximum evicts
+     * the first item in constant time.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (maximum != Integer.MAX_VALUE) {
+            if (this.minYDeque == null) {
+                this.minXDeque = new MonotonicDeque(false);
+                this.maxXDeque = new MonotonicDeque(true);
+                this.minYDeque = new MonotonicDeque(false);
+                this.maxYDeque = new MonotonicDeque(true);
+            }
+        }
+        else {
+            this.minXDeque = null;
+            this.maxXDeque = null;
+            this.minYDeque = null;
+            this.maxYDeque = null;
+        }
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+        }
+        findBoundsByIteration();
+        if (remove > 0) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the series is in sliding window mode,
+     * that is, if a maximum item count has been set.
+     *
+     * @return A boolean.
+     */
+    private boolean isWindowed() {
+        return this.minYDeque != null;
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(XYDataItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  notify listeners?
+     */
+    public void add(double x, Number y, boolean notify) {
+        add(x, y != null ? y.doubleValue() : Double.NaN, notify);
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(Number x, Number y, boolean notify) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        add(x.doubleValue(), y, notify);
+    }
+
+    /**
+     * Adds a data item to the series (in the correct position if the
+     * <code>autoSort</code> flag is set for the series) and, if requested,
+     * sends a {@link SeriesChangeEvent} to all registered listeners.  This
+     * is the method that all the other <code>add()</code> methods delegate
+     * to.
+     *
+     * @param x  the x value.
+     * @param y  the y value (<code>Double.NaN</code> for a missing value).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (getAutoSort()) {
+            if (this.itemCount == 0
+                    || x > this.xValues[physicalIndex(this.itemCount - 1)]) {
+                index = this.itemCount;  // the common, append-only case
+            }
+            else {
+                index = insertionIndex(x);
+                if (!getAllowDuplicateXValues() && index > 0
+                        && this.xValues[physicalIndex(index - 1)] == x) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        if (index == this.itemCount) {
+            // evict before appending, so that a full window never needs to
+            // grow the arrays
+            if (this.itemCount > 0
+                    && this.itemCount >= getMaximumItemCount()) {
+                removeFirst();
+            }
+            append(x, y);
+            if (this.itemCount > getMaximumItemCount()) {
+                removeFirst();
+            }
+        }
+        else {
+            insert(index, x, y);
+            if (isWindowed()) {
+                findBoundsByIteration();
+            }
+            else {
+                updateBoundsForAddedItem(x, y);
+            }
+            if (this.itemCount > getMaximumItemCount()) {
+                removeFirst();
+            }
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds the specified (x, y) values to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  The values are
+     * copied straight into the value arrays: if the series is sorted, the new
+     * values are sorted (unless they are already in order) and merged with
+     * the existing items in one pass.
+     *
+     * @param xs  the x-values (<code>null</code> not permitted).
+     * @param ys  the y-values (<code>null</code> not permitted, must have the
+     *            same length as <code>xs</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void addAll(double[] xs, double[] ys) {
+        if (xs == null) {
+            throw new IllegalArgumentException("Null 'xs' argument.");
+        }
+        if (ys == null) {
+            throw new IllegalArgumentException("Null 'ys' argument.");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException(
+                    "The 'xs' and 'ys' arrays must have the same length.");
+        }
+        int n = xs.length;
+        if (n == 0) {
+            return;
+        }
+        if (getAutoSort()) {
+            double[] newX = xs;
+            double[] newY = ys;
+            if (!isAscending(xs)) {
+                newX = (double[]) xs.clone();
+                newY = (double[]) ys.clone();
+                sort(newX, newY, 0, n, new double[n], new double[n]);
+            }
+            if (!getAllowDuplicateXValues()) {
+                checkSortedDuplicates(newX);
+            }
+            if (this.itemCount == 0
+                    || newX[0] >= this.xValues[physicalIndex(
+                    this.itemCount - 1)]) {
+                appendValues(newX, newY);
+            }
+            else {
+                mergeValues(newX, newY);
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues()) {
+                checkUnsortedDuplicates(xs);
+            }
+            appendValues(xs, ys);
+        }
+        int remove = this.itemCount - getMaximumItemCount();
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+        }
+        else if (isWindowed()) {
+            findBoundsByIteration();
+        }
+        else {
+            for (int i = 0; i < n; i++) {
+                updateBoundsForAddedItem(xs[i], ys[i]);
+            }
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds all the items in another series to this series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void addAll(XYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        double[][] values = series.toArray();
+        addAll(values[0], values[1]);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    public void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    public XYDataItem remove(int index) {
+        XYDataItem removed = getDataItem(index);
+        if (index == 0) {
+            removeFirst();
+        }
+        else {
+            int p = physicalIndex(index);
+            double x = this.xValues[p];
+            double y = this.yValues[p];
+            removeRange(index, index + 1);
+            if (isWindowed()) {
+                findBoundsByIteration();
+            }
+            else {
+                updateBoundsForRemovedItem(x, y);
+            }
+        }
+        fireSeriesChanged();
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.head = 0;
+            this.itemCount = 0;
+            invalidateIndexes();
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item for the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return A new data item.
+     */
+    public XYDataItem getDataItem(int index) {
+        checkIndex(index);
+        return new XYDataItem(new Double(getXValue(index)), getY(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[physicalIndex(index)];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[physicalIndex(index)];
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     */
+    public void update(int index, Number y) {
+        checkIndex(index);
+        updateValue(index, y != null ? y.doubleValue() : Double.NaN);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The item that was overwritten, if any.
+     */
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y, true);
+            return null;
+        }
+        int index = indexOf(x);
+        if (index < 0) {
+            add(x, y, true);
+            return null;
+        }
+        XYDataItem overwritten = getDataItem(index);
+        updateValue(index, y);
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public XYDataItem addOrUpdate(Number x, Number y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return addOrUpdate(x.doubleValue(),
+                y != null ? y.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int indexOf(Number x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the result follows the same convention as
+     * <code>Arrays.binarySearch()</code>.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            int low = 0;
+            int high = this.itemCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double midX = this.xValues[physicalIndex(mid)];
+                if (midX < x) {
+                    low = mid + 1;
+                }
+                else if (midX > x) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+        else {
+            for (int i = 0; i < this.itemCount; i++) {
+                if (this.xValues[physicalIndex(i)] == x) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][this.itemCount];
+        copyValues(0, this.itemCount, result[0], result[1]);
+        return result;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        DoubleArrayXYSeries copy = (DoubleArrayXYSeries) super.clone();
+        int count = 0;
+        if (this.itemCount > 0 && end >= start) {
+            checkIndex(start);
+            checkIndex(end);
+            count = end - start + 1;
+        }
+        copy.xValues = new double[Math.max(count, 1)];
+        copy.yValues = new double[Math.max(count, 1)];
+        copyValues(start, count, copy.xValues, copy.yValues);
+        copy.head = 0;
+        copy.itemCount = count;
+        copy.copyDeques();
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DoubleArrayXYSeries clone = (DoubleArrayXYSeries) super.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.yValues = (double[]) this.yValues.clone();
+        clone.copyDeques();
+        return clone;
+    }
+
+    /**
+     * Replaces the window deques (shared with the original after a
+     * shallow clone) with new, empty ones and rebuilds them.
+     */
+    private void copyDeques() {
+        if (isWindowed()) {
+            this.minXDeque = new MonotonicDeque(false);
+            this.maxXDeque = new MonotonicDeque(true);
+            this.minYDeque = new MonotonicDeque(false);
+            this.maxYDeque = new MonotonicDeque(true);
+            findBoundsByIteration();
+        }
+    }
+
+    /**
+     * Returns the index at which an item with the specified x-value should be
+     * inserted to keep the series sorted (after any existing items with the
+     * same x-value).
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int insertionIndex(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[physicalIndex(mid)] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in the value arrays of the item with the specified
+     * (logical) index.
+     *
+     * @param index  the item index.
+     *
+     * @return The array position.
+     */
+    private int physicalIndex(int index) {
+        int p = this.head + index;
+        return (p < this.xValues.length) ? p : p - this.xValues.length;
+    }
+
+    /**
+     * Copies a run of items into the given arrays, unwrapping the circular
+     * buffer.
+     *
+     * @param start  the index of the first item to copy.
+     * @param count  the number of items.
+     * @param x  the destination for the x-values.
+     * @param y  the destination for the y-values.
+     */
+    private void copyValues(int start, int count, double[] x, double[] y) {
+        copyValues(start, count, x, y, 0);
+    }
+
+    /**
+     * Copies a run of items into the given arrays, starting at the specified
+     * offset, unwrapping the circular buffer.
+     *
+     * @param start  the index of the first item to copy.
+     * @param count  the number of items.
+     * @param x  the destination for the x-values.
+     * @param y  the destination for the y-values.
+     * @param offset  the destination offset.
+     */
+    private void copyValues(int start, int count, double[] x, double[] y,
+            int offset) {
+        if (count <= 0) {
+            return;
+        }
+        int p = physicalIndex(start);
+        int firstRun = Math.min(count, this.xValues.length - p);
+        System.arraycopy(this.xValues, p, x, offset, firstRun);
+        System.arraycopy(this.yValues, p, y, offset, firstRun);
+        if (firstRun < count) {
+            System.arraycopy(this.xValues, 0, x, offset + firstRun,
+                    count - firstRun);
+            System.arraycopy(this.yValues, 0, y, offset + firstRun,
+                    count - firstRun);
+        }
+    }
+
+    /**
+     * Moves the items to the start of the value arrays (so that the buffer no
+     * longer wraps around), optionally growing the arrays at the same time.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void linearize(int capacity) {
+        if (this.head == 0 && capacity <= this.xValues.length) {
+            return;
+        }
+        int newCapacity = this.xValues.length;
+        if (capacity > newCapacity) {
+            newCapacity = Math.max(capacity, newCapacity * 2);
+        }
+        double[] x = new double[newCapacity];
+        double[] y = new double[newCapacity];
+        copyValues(0, this.itemCount, x, y);
+        this.xValues = x;
+        this.yValues = y;
+        this.head = 0;
+    }
+
+    /**
+     * Appends a value pair to the end of the series and updates the bounds.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void append(double x, double y) {
+        if (this.itemCount == this.xValues.length) {
+            linearize(this.itemCount + 1);
+        }
+        int p = physicalIndex(this.itemCount);
+        this.xValues[p] = x;
+        this.yValues[p] = y;
+        long sequence = this.firstSequence + this.itemCount;
+        this.itemCount++;
+        indexesAppended(y);
+        if (isWindowed()) {
+            pushToWindow(sequence, x, y);
+            updateBoundsFromWindow();
+        }
+        else {
+            updateBoundsForAddedItem(x, y);
+        }
+    }
+
+    /**
+     * Removes the first item from the series and updates the bounds.  This
+     * runs in constant time for a windowed series.
+     */
+    private void removeFirst() {
+        int p = this.head;
+        double x = this.xValues[p];
+        double y = this.yValues[p];
+        if (isWindowed()) {
+            this.minXDeque.removeFirst(this.firstSequence);
+            this.maxXDeque.removeFirst(this.firstSequence);
+            this.minYDeque.removeFirst(this.firstSequence);
+            this.maxYDeque.removeFirst(this.firstSequence);
+        }
+        removeRange(0, 1);
+        if (isWindowed()) {
+            updateBoundsFromWindow();
+        }
+        else {
+            updateBoundsForRemovedItem(x, y);
+        }
+    }
+
+    /**
+     * Copies a batch of values to the end of the series.  The bounds are not
+     * updated.
+     *
+     * @param xs  the x-values.
+     * @param ys  the y-values.
+     */
+    private void appendValues(double[] xs, double[] ys) {
+        int n = xs.length;
+        linearize(this.itemCount + n);
+        System.arraycopy(xs, 0, this.xValues, this.itemCount, n);
+        System.arraycopy(ys, 0, this.yValues, this.itemCount, n);
+        this.itemCount += n;
+        for (int i = 0; i < n; i++) {
+            indexesAppended(ys[i]);
+        }
+    }
+
+    /**
+     * Merges a batch of sorted values with the (sorted) items in the series.
+     * New values are placed after any existing items with the same x-value.
+     * The bounds are not updated.
+     *
+     * @param xs  the x-values (in ascending order).
+     * @param ys  the y-values.
+     */
+    private void mergeValues(double[] xs, double[] ys) {
+        int total = this.itemCount + xs.length;
+        int capacity = Math.max(total, this.xValues.length);
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < this.itemCount && j < xs.length) {
+            int p = physicalIndex(i);
+            if (this.xValues[p] <= xs[j]) {
+                x[k] = this.xValues[p];
+                y[k++] = this.yValues[p];
+                i++;
+            }
+            else {
+                x[k] = xs[j];
+                y[k++] = ys[j++];
+            }
+        }
+        copyValues(i, this.itemCount - i, x, y, k);
+        k += this.itemCount - i;
+        System.arraycopy(xs, j, x, k, xs.length - j);
+        System.arraycopy(ys, j, y, k, xs.length - j);
+        this.xValues = x;
+        this.yValues = y;
+        this.head = 0;
+        this.itemCount = total;
+        invalidateIndexes();
+    }
+
+    /**
+     * Throws an exception if a batch of sorted x-values contains a duplicate,
+     * or a value that is already in the series.
+     *
+     * @param xs  the x-values (in ascending order).
+     */
+    private void checkSortedDuplicates(double[] xs) {
+        for (int i = 0; i < xs.length; i++) {
+            if ((i > 0 && xs[i] == xs[i - 1]) || indexOf(xs[i]) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+    }
+
+    /**
+     * Throws an exception if a batch of x-values contains a duplicate, or a
+     * value that is already in the series.
+     *
+     * @param xs  the x-values.
+     */
+    private void checkUnsortedDuplicates(double[] xs) {
+        Set seen = new HashSet(2 * (this.itemCount + xs.length));
+        for (int i = 0; i < this.itemCount; i++) {
+            seen.add(new Double(this.xValues[physicalIndex(i)]));
+        }
+        for (int i = 0; i < xs.length; i++) {
+            if (!seen.add(new Double(xs[i]))) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the values are in ascending order.
+     *
+     * @param values  the values.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts a range of (x, y) pairs into ascending order by x-value.  This is
+     * a merge sort, so pairs with equal x-values keep their order.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values.
+     * @param start  the start of the range (inclusive).
+     * @param end  the end of the range (exclusive).
+     * @param tmpX  workspace (at least as long as <code>x</code>).
+     * @param tmpY  workspace (at least as long as <code>y</code>).
+     */
+    private static void sort(double[] x, double[] y, int start, int end,
+            double[] tmpX, double[] tmpY) {
+        int length = end - start;
+        if (length < 8) {
+            for (int i = start + 1; i < end; i++) {
+                double xi = x[i];
+                double yi = y[i];
+                int j = i - 1;
+                while (j >= start && x[j] > xi) {
+                    x[j + 1] = x[j];
+                    y[j + 1] = y[j];
+                    j--;
+                }
+                x[j + 1] = xi;
+                y[j + 1] = yi;
+            }
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        sort(x, y, start, mid, tmpX, tmpY);
+        sort(x, y, mid, end, tmpX, tmpY);
+        if (x[mid - 1] <= x[mid]) {
+            return;
+        }
+        System.arraycopy(x, start, tmpX, start, length);
+        System.arraycopy(y, start, tmpY, start, length);
+        int i = start;
+        int j = mid;
+        for (int k = start; k < end; k++) {
+            if (j >= end || (i < mid && tmpX[i] <= tmpX[j])) {
+                x[k] = tmpX[i];
+                y[k] = tmpY[i++];
+            }
+            else {
+                x[k] = tmpX[j];
+                y[k] = tmpY[j++];
+            }
+        }
+    }
+
+    /**
+     * Inserts a value pair at the specified index, growing the arrays if
+     * necessary.  The bounds are not updated.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        linearize(this.itemCount + 1);
+        if (index < this.itemCount) {
+            System.arraycopy(this.xValues, index, this.xValues, index + 1,
+                    this.itemCount - index);
+            System.arraycopy(this.yValues, index, this.yValues, index + 1,
+                    this.itemCount - index);
+        }
+        this.xValues[index] = x;
+        this.yValues[index] = y;
+        this.itemCount++;
+        invalidateIndexes();
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).  Removing from the start of the series
+     * just advances the head of the buffer.  The bounds are not updated.
+     *
+     * @param start  the first index.
+     * @param end  the end index (exclusive).
+     */
+    private void removeRange(int start, int end) {
+        int count = end - start;
+        if (start == 0) {
+            this.firstSequence += count;
+            this.itemCount -= count;
+            this.head = (this.itemCount == 0) ? 0 : physicalIndex(count);
+            indexesRemovedFirst(count);
+            return;
+        }
+        linearize(this.itemCount);
+        int tail = this.itemCount - end;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, end, this.xValues, start, tail);
+            System.arraycopy(this.yValues, end, this.yValues, start, tail);
+        }
+        this.itemCount -= count;
+        invalidateIndexes();
+    }
+
+    /**
+     * Changes the y-value at the specified index and updates the bounds.
+     *
+     * @param index  the index.
+     * @param y  the new y-value.
+     */
+    private void updateValue(int index, double y) {
+        int p = physicalIndex(index);
+        double oldY = this.yValues[p];
+        this.yValues[p] = y;
+        indexesUpdated(index, y);
+        if (isWindowed() || (!Double.isNaN(oldY)
+                && (oldY <= this.minY || oldY >= this.maxY))) {
+            findBoundsByIteration();
+        }
+        else if (!Double.isNaN(y)) {
+            this.minY = Double.isNaN(this.minY) ? y : Math.min(this.minY, y);
+            this.maxY = Double.isNaN(this.maxY) ? y : Math.max(this.maxY, y);
+        }
+    }
+
+    /**
+     * Checks that an index is within the bounds of the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.itemCount);
+        }
+    }
+
+    /**
+     * Resets the cached bounds to <code>Double.NaN</code>.
+     */
+    private void resetBounds() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Updates the cached bounds for a newly added item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        if (!Double.isNaN(x)) {
+            this.minX = Double.isNaN(this.minX) ? x : Math.min(this.minX, x);
+            this.maxX = Double.isNaN(this.maxX) ? x : Math.max(this.maxX, x);
+        }
+        if (!Double.isNaN(y)) {
+            this.minY = Double.isNaN(this.minY) ? y : Math.min(this.minY, y);
+            this.maxY = Double.isNaN(this.maxY) ? y : Math.max(this.maxY, y);
+        }
+    }
+
+    /**
+     * Updates the cached bounds on the basis that an item with the specified
+     * values has just been removed.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean xBound = !Double.isNaN(x) && (x <= this.minX
+                || x >= this.maxX);
+        boolean yBound = !Double.isNaN(y) && (y <= this.minY
+                || y >= this.maxY);
+        if (yBound || (xBound && !getAutoSort())) {
+            findBoundsByIteration();
+        }
+        else if (xBound) {
+            if (this.itemCount == 0) {
+                resetBounds();
+            }
+            else {
+                this.minX = this.xValues[this.head];
+                this.maxX = this.xValues[physicalIndex(this.itemCount - 1)];
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values by iterating through the value
+     * arrays.  For a windowed series this rebuilds the window deques, which
+     * is needed after any change other than an append or an eviction.
+     */
+    private void findBoundsByIteration() {
+        resetBounds();
+        if (isWindowed()) {
+            this.minXDeque.clear();
+            this.maxXDeque.clear();
+            this.minYDeque.clear();
+            this.maxYDeque.clear();
+            for (int i = 0; i < this.itemCount; i++) {
+                int p = physicalIndex(i);
+                pushToWindow(this.firstSequence + i, this.xValues[p],
+                        this.yValues[p]);
+            }
+            updateBoundsFromWindow();
+        }
+        else {
+            for (int i = 0; i < this.itemCount; i++) {
+                int p = physicalIndex(i);
+                updateBoundsForAddedItem(this.xValues[p], this.yValues[p]);
+            }
+        }
+    }
+
+    /**
+     * Adds an item that has been appended to the series to the window
+     * deques.
+     *
+     * @param sequence  the sequence number of the item.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void pushToWindow(long sequence, double x, double y) {
+        if (!getAutoSort()) {
+            this.minXDeque.add(sequence, x);
+            this.maxXDeque.add(sequence, x);
+        }
+        this.minYDeque.add(sequence, y);
+        this.maxYDeque.add(sequence, y);
+    }
+
+    /**
+     * Sets the cached bounds from the window deques (or, for the x-values of
+     * a sorted series, from the first and last items).
+     */
+    private void updateBoundsFromWindow() {
+        if (this.itemCount == 0) {
+            resetBounds();
+            return;
+        }
+        if (getAutoSort()) {
+            this.minX = this.xValues[this.head];
+            this.maxX = this.xValues[physicalIndex(this.itemCount - 1)];
+        }
+        else {
+            this.minX = this.minXDeque.getFirstValue();
+            this.maxX = this.maxXDeque.getFirstValue();
+        }
+        this.minY = this.minYDeque.getFirstValue();
+        this.maxY = this.maxYDeque.getFirstValue();
+    }
+
+    /**
+     * A double-ended queue of (sequence, value) pairs in which the values are
+     * monotonic, so that the first entry is always the minimum (or maximum)
+     * of the items added since the last evicted one.  Adding and evicting are
+     * both amortized O(1).  <code>Double.NaN</code> values are ignored.
+     * The deque is also used by {@link ConcurrentXYSeries}.
+     */
+    static class MonotonicDeque implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2468964829271930874L;
+
+        /** Track the maximum (<code>true</code>) or minimum. */
+        private boolean max;
+
+        /** The sequence numbers (a circular buffer). */
+        private long[] sequences;
+
+        /** The values (a circular buffer). */
+        private double[] values;
+
+        /** The position of the first entry. */
+        private int first;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new empty deque.
+         *
+         * @param max  track the maximum (<code>true</code>) or minimum.
+         */
+        MonotonicDeque(boolean max) {
+            this.max = max;
+            this.sequences = new long[16];
+            this.values = new double[16];
+        }
+
+        /**
+         * Adds a value, discarding the entries that it supersedes.
+         *
+         * @param sequence  the sequence number of the item.
+         * @param value  the value.
+         */
+        void add(long sequence, double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            while (this.size > 0) {
+                double last = this.values[position(this.size - 1)];
+                if (this.max ? last > value : last < value) {
+                    break;
+                }
+                this.size--;
+            }
+            if (this.size == this.values.length) {
+                long[] s = new long[this.size * 2];
+                double[] v = new double[this.size * 2];
+                for (int i = 0; i < this.size; i++) {
+                    s[i] = this.sequences[position(i)];
+                    v[i] = this.values[position(i)];
+                }
+                this.sequences = s;
+                this.values = v;
+                this.first = 0;
+            }
+            int p = position(this.size);
+            this.sequences[p] = sequence;
+            this.values[p] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes the first entry if it belongs to the evicted item.
+         *
+         * @param sequence  the sequence number of the evicted item.
+         */
+        void removeFirst(long sequence) {
+            if (this.size > 0 && this.sequences[this.first] == sequence) {
+                this.first = position(1);
+                this.size--;
+            }
+        }
+
+        /**
+         * Returns the current extreme value.
+         *
+         * @return The value (<code>Double.NaN</code> if the deque is empty).
+         */
+        double getFirstValue() {
+            return (this.size > 0) ? this.values[this.first] : Double.NaN;
+        }
+
+        /**
+         * Removes all entries.
+         */
+        void clear() {
+            this.first = 0;
+            this.size = 0;
+        }
+
+        private int position(int index) {
+            int p = this.first + index;
+            return (p < this.values.length) ? p : p - this.values.length;
+        }
+
+    }
+
+}
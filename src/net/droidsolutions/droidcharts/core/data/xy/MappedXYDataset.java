@@ -0,0 +1,732 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import net.droidsolutions.droidcharts.core.data.DomainInfo;
+import net.droidsolutions.droidcharts.core.data.DomainOrder;
+import net.droidsolutions.droidcharts.core.data.Range;
+import net.droidsolutions.droidcharts.core.data.RangeInfo;
+
+/**
+ * An {@link net.droidsolutions.droidcharts.core.data.XYDataset} with a
+ * single series that reads its (x, y) values directly from a memory-mapped
+ * file, so that a series with far more items than would fit in the heap as
+ * {@link XYDataItem} objects can be plotted.  The x-values must be in
+ * ascending order, which allows the renderers to find the visible items with
+ * a binary search, and the bounds of the data are stored in the file header,
+ * so finding the axis ranges does not read the items.
+ * <P>
+ * The file consists of a 48 byte header followed by one 16 byte record for
+ * each item (the x-value followed by the y-value).  All values are big-endian
+ * (as written by {@link java.io.DataOutputStream}):
+ * <ul>
+ * <li>int: the magic number <code>0x44435859</code>;</li>
+ * <li>int: the format version (1);</li>
+ * <li>long: the item count;</li>
+ * <li>double: the minimum and maximum x-values;</li>
+ * <li>double: the minimum and maximum y-values (ignoring
+ * <code>Double.NaN</code>).</li>
+ * </ul>
+ * The records are mapped in segments of 4M items, so that no single mapping
+ * needs a large block of address space.  Items appended with
+ * {@link #add(double, double)} are written to the end of the file and only
+ * mapped (by remapping the last segment) when they are first read.
+ * <P>
+ * Instances are not thread-safe, and must be closed with {@link #close()}
+ * when they are no longer required.
+ */
+public class MappedXYDataset extends AbstractXYDataset
+        implements DomainInfo, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5243101682774417609L;
+
+    /** The magic number at the start of the file ("DCXY"). */
+    public static final int MAGIC = 0x44435859;
+
+    /** The file format version. */
+    public static final int VERSION = 1;
+
+    /** The size of the header (in bytes). */
+    public static final int HEADER_SIZE = 48;
+
+    /** The size of each item record (in bytes). */
+    public static final int RECORD_SIZE = 16;
+
+    /** The base 2 logarithm of the number of items in a segment. */
+    private static final int SEGMENT_SHIFT = 22;
+
+    /** The mask for the index of an item within its segment. */
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    /** The number of item records written to the file with each write. */
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+
+    /** The series key. */
+    private Comparable seriesKey;
+
+    /** The file. */
+    private File file;
+
+    /** A flag that indicates whether items can be added. */
+    private boolean writable;
+
+    /** The file. */
+    private transient RandomAccessFile randomAccessFile;
+
+    /** The channel for the file. */
+    private transient FileChannel channel;
+
+    /** The mapped segments (the last segment may be partly mapped). */
+    private transient MappedByteBuffer[] segments;
+
+    /** The number of items that have been mapped. */
+    private transient int mappedCount;
+
+    /** A buffer for writing records (<code>null</code> until needed). */
+    private transient ByteBuffer writeBuffer;
+
+    /** A buffer for reading and writing the header. */
+    private transient ByteBuffer headerBuffer;
+
+    /** The number of items. */
+    private transient int itemCount;
+
+    /** The minimum x-value. */
+    private transient double minimumX;
+
+    /** The maximum x-value. */
+    private transient double maximumX;
+
+    /** The minimum y-value. */
+    private transient double minimumY;
+
+    /** The maximum y-value. */
+    private transient double maximumY;
+
+    /**
+     * Opens a dataset for reading.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be read or is not in the
+     *     required format.
+     */
+    public MappedXYDataset(Comparable seriesKey, File file)
+            throws IOException {
+        this(seriesKey, file, false);
+    }
+
+    /**
+     * Opens a dataset.  If the dataset is writable and the file does not
+     * exist (or is empty), an empty dataset is created.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     * @param writable  a flag that controls whether items can be added.
+     *
+     * @throws IOException if the file cannot be opened or is not in the
+     *     required format.
+     */
+    public MappedXYDataset(Comparable seriesKey, File file, boolean writable)
+            throws IOException {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.seriesKey = seriesKey;
+        this.file = file;
+        this.writable = writable;
+        open();
+    }
+
+    /**
+     * Returns the file.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns <code>true</code> if items can be added to the dataset.
+     *
+     * @return A boolean.
+     */
+    public boolean isWritable() {
+        return this.writable;
+    }
+
+    /**
+     * Returns the number of series in the dataset (always 1).
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (must be zero).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        checkSeries(series);
+        return this.seriesKey;
+    }
+
+    /**
+     * Returns the order of the domain (x-) values, which is always
+     * {@link DomainOrder#ASCENDING}.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (must be zero).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        checkSeries(series);
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        checkSeries(series);
+        if (item < 0 || item >= this.mappedCount) {
+            map(item);
+        }
+        return this.segments[item >>> SEGMENT_SHIFT].getDouble(
+                (item & SEGMENT_MASK) * RECORD_SIZE);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int series, int item) {
+        checkSeries(series);
+        if (item < 0 || item >= this.mappedCount) {
+            map(item);
+        }
+        return this.segments[item >>> SEGMENT_SHIFT].getDouble(
+                (item & SEGMENT_MASK) * RECORD_SIZE + 8);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        return new Double(y);
+    }
+
+    /**
+     * Adds an item to the end of the dataset.  The item is written to the
+     * file immediately, but is only mapped when it is first read.
+     *
+     * @param x  the x-value (not less than the x-value of the last item).
+     * @param y  the y-value (<code>Double.NaN</code> permitted).
+     *
+     * @throws IOException if there is a problem writing to the file.
+     */
+    public void add(double x, double y) throws IOException {
+        add(new double[] {x}, new double[] {y});
+    }
+
+    /**
+     * Adds items to the end of the dataset and sends a single
+     * {@link net.droidsolutions.droidcharts.core.data.general.DatasetChangeEvent}
+     * to all registered listeners.  The items are written to the file in
+     * blocks of records, with a single update of the header.  If a write
+     * fails, the item count and the bounds of the dataset are not changed.
+     *
+     * @param xValues  the x-values, in ascending order and not less than the
+     *     x-value of the last item (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is a problem writing to the file.
+     */
+    public void add(double[] xValues, double[] yValues) throws IOException {
+        if (xValues == null) {
+            throw new IllegalArgumentException("Null 'xValues' argument.");
+        }
+        if (yValues == null) {
+            throw new IllegalArgumentException("Null 'yValues' argument.");
+        }
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays must have equal length.");
+        }
+        if (!this.writable) {
+            throw new IllegalStateException("The dataset is read-only.");
+        }
+        ensureOpen();
+        double lastX = this.itemCount > 0 ? this.maximumX
+                : Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < xValues.length; i++) {
+            if (Double.isNaN(xValues[i]) || xValues[i] < lastX) {
+                throw new IllegalArgumentException(
+                        "The x-values must be in ascending order.");
+            }
+            lastX = xValues[i];
+        }
+        if ((long) this.itemCount + xValues.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many items.");
+        }
+        if (this.writeBuffer == null) {
+            this.writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_RECORDS
+                    * RECORD_SIZE);
+        }
+        long position = HEADER_SIZE + (long) this.itemCount * RECORD_SIZE;
+        int i = 0;
+        while (i < xValues.length) {
+            this.writeBuffer.clear();
+            int end = Math.min(i + WRITE_BUFFER_RECORDS, xValues.length);
+            for (; i < end; i++) {
+                this.writeBuffer.putDouble(xValues[i]);
+                this.writeBuffer.putDouble(yValues[i]);
+            }
+            this.writeBuffer.flip();
+            while (this.writeBuffer.hasRemaining()) {
+                position += this.channel.write(this.writeBuffer, position);
+            }
+        }
+        // the bounds and the item count only change once every record has
+        // been written, and are restored if the header cannot be updated
+        int oldCount = this.itemCount;
+        double oldMinimumX = this.minimumX;
+        double oldMaximumX = this.maximumX;
+        double oldMinimumY = this.minimumY;
+        double oldMaximumY = this.maximumY;
+        for (i = 0; i < xValues.length; i++) {
+            include(xValues[i], yValues[i]);
+        }
+        this.itemCount += xValues.length;
+        try {
+            writeHeader();
+        }
+        catch (IOException e) {
+            this.itemCount = oldCount;
+            this.minimumX = oldMinimumX;
+            this.maximumX = oldMaximumX;
+            this.minimumY = oldMinimumY;
+            this.maximumY = oldMaximumY;
+            throw e;
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        return this.minimumX;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        return this.maximumX;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if the dataset is empty).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return new Range(this.minimumX, this.maximumX);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        return this.minimumY;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        return this.maximumY;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        if (Double.isNaN(this.minimumY)) {
+            return null;
+        }
+        return new Range(this.minimumY, this.maximumY);
+    }
+
+    /**
+     * Closes the file and releases the mapped segments.  Reading from the
+     * dataset after it has been closed reopens the file.
+     *
+     * @throws IOException if there is a problem closing the file.
+     */
+    public void close() throws IOException {
+        this.segments = new MappedByteBuffer[0];
+        this.mappedCount = 0;
+        if (this.randomAccessFile != null) {
+            RandomAccessFile f = this.randomAccessFile;
+            this.randomAccessFile = null;
+            this.channel = null;
+            f.close();
+        }
+    }
+
+    /**
+     * Opens the file and reads the header.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private void open() throws IOException {
+        this.randomAccessFile = new RandomAccessFile(this.file,
+                this.writable ? "rw" : "r");
+        this.channel = this.randomAccessFile.getChannel();
+        this.segments = new MappedByteBuffer[0];
+        this.mappedCount = 0;
+        this.headerBuffer = ByteBuffer.allocate(HEADER_SIZE);
+        try {
+            long size = this.channel.size();
+            if (size == 0 && this.writable) {
+                this.itemCount = 0;
+                this.minimumX = Double.NaN;
+                this.maximumX = Double.NaN;
+                this.minimumY = Double.NaN;
+                this.maximumY = Double.NaN;
+                writeHeader();
+                return;
+            }
+            readHeader(size);
+        }
+        catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the header.  If the file holds fewer records than the header
+     * states (for example, because a write was interrupted), the item count
+     * is reduced and the bounds are recalculated.
+     *
+     * @param size  the file size.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private void readHeader(long size) throws IOException {
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a mapped XY dataset: " + this.file);
+        }
+        this.headerBuffer.clear();
+        long position = 0;
+        while (this.headerBuffer.hasRemaining()) {
+            int n = this.channel.read(this.headerBuffer, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of file: " + this.file);
+            }
+            position += n;
+        }
+        this.headerBuffer.flip();
+        if (this.headerBuffer.getInt() != MAGIC) {
+            throw new IOException("Not a mapped XY dataset: " + this.file);
+        }
+        int version = this.headerBuffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + ": "
+                    + this.file);
+        }
+        long count = this.headerBuffer.getLong();
+        this.minimumX = this.headerBuffer.getDouble();
+        this.maximumX = this.headerBuffer.getDouble();
+        this.minimumY = this.headerBuffer.getDouble();
+        this.maximumY = this.headerBuffer.getDouble();
+        long available = (size - HEADER_SIZE) / RECORD_SIZE;
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Invalid item count " + count + ": "
+                    + this.file);
+        }
+        if (count > available) {
+            this.itemCount = (int) available;
+            recalculateBounds();
+            if (this.writable) {
+                writeHeader();
+            }
+        }
+        else {
+            this.itemCount = (int) count;
+        }
+    }
+
+    /**
+     * Writes the header (the item count and the bounds).
+     *
+     * @throws IOException if there is a problem writing to the file.
+     */
+    private void writeHeader() throws IOException {
+        this.headerBuffer.clear();
+        this.headerBuffer.putInt(MAGIC);
+        this.headerBuffer.putInt(VERSION);
+        this.headerBuffer.putLong(this.itemCount);
+        this.headerBuffer.putDouble(this.minimumX);
+        this.headerBuffer.putDouble(this.maximumX);
+        this.headerBuffer.putDouble(this.minimumY);
+        this.headerBuffer.putDouble(this.maximumY);
+        this.headerBuffer.flip();
+        long position = 0;
+        while (this.headerBuffer.hasRemaining()) {
+            position += this.channel.write(this.headerBuffer, position);
+        }
+    }
+
+    /**
+     * Recalculates the bounds from the items.
+     */
+    private void recalculateBounds() {
+        this.minimumX = Double.NaN;
+        this.maximumX = Double.NaN;
+        this.minimumY = Double.NaN;
+        this.maximumY = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            include(getXValue(0, i), getYValue(0, i));
+        }
+    }
+
+    /**
+     * Updates the bounds to include an item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void include(double x, double y) {
+        if (Double.isNaN(this.minimumX)) {
+            this.minimumX = x;
+        }
+        this.maximumX = x;
+        if (!Double.isNaN(y)) {
+            if (Double.isNaN(this.minimumY)) {
+                this.minimumY = y;
+                this.maximumY = y;
+            }
+            else {
+                this.minimumY = Math.min(this.minimumY, y);
+                this.maximumY = Math.max(this.maximumY, y);
+            }
+        }
+    }
+
+    /**
+     * Maps the items (including those that have been appended since the
+     * last mapping) so that the specified item can be read.  Only the last
+     * segment and any new segments are mapped again.
+     *
+     * @param item  the item index.
+     */
+    private void map(int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + item + ", Size: "
+                    + this.itemCount);
+        }
+        try {
+            ensureOpen();
+            int segmentCount = ((this.itemCount - 1) >>> SEGMENT_SHIFT) + 1;
+            int first = this.mappedCount >>> SEGMENT_SHIFT;
+            if (segmentCount != this.segments.length) {
+                MappedByteBuffer[] s = new MappedByteBuffer[segmentCount];
+                System.arraycopy(this.segments, 0, s, 0,
+                        Math.min(this.segments.length, segmentCount));
+                this.segments = s;
+            }
+            for (int i = first; i < segmentCount; i++) {
+                int start = i << SEGMENT_SHIFT;
+                int count = Math.min(this.itemCount - start, SEGMENT_MASK + 1);
+                this.segments[i] = this.channel.map(
+                        FileChannel.MapMode.READ_ONLY, HEADER_SIZE
+                        + (long) start * RECORD_SIZE,
+                        (long) count * RECORD_SIZE);
+            }
+            this.mappedCount = this.itemCount;
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Unable to map " + this.file
+                    + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reopens the file if the dataset has been closed.
+     *
+     * @throws IOException if there is a problem opening the file.
+     */
+    private void ensureOpen() throws IOException {
+        if (this.channel == null) {
+            open();
+        }
+    }
+
+    /**
+     * Checks that a series index is valid.
+     *
+     * @param series  the series index.
+     */
+    private void checkSeries(int series) {
+        if (series != 0) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+    }
+
+    /**
+     * Validates the object after deserialization (there is nothing to check,
+     * as the state is read from the file).
+     *
+     * @throws InvalidObjectException never.
+     */
+    public void validateObject() throws InvalidObjectException {
+        // nothing to check
+    }
+
+    /**
+     * Provides serialization support.  The dataset is reopened from its
+     * file.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        open();
+    }
+
+}
@@ -0,0 +1,273 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * XYRangeIndex.java
+ * -----------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import net.droidsolutions.droidcharts.core.data.Range;
+
+/**
+ * A segment tree that records the minimum and maximum y-value of a series,
+ * so that the range of the y-values for any run of items can be found in
+ * O(log n) time.  Appending an item, evicting items from the start of the
+ * series and changing a y-value all update the tree incrementally; an
+ * {@link XYSeries} discards its index (and builds a new one when it is next
+ * needed) after any other change.
+ * <P>
+ * Items are stored at consecutive leaves starting from an offset, so that
+ * evicting the first items only advances the offset.  When the last leaf is
+ * used, the live items are moved back to the start of a tree with twice
+ * their count as capacity, so appends (including those to a sliding window)
+ * cost amortized O(log n).  <code>Double.NaN</code> values are ignored.
+ */
+public class XYRangeIndex implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6174928710542583192L;
+
+    /** The minimum capacity of the tree. */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /**
+     * The minimum values.  The node at position <code>i</code> has children
+     * at positions <code>2i</code> and <code>2i + 1</code>, and the leaves
+     * start at position <code>capacity</code>.
+     */
+    private double[] minima;
+
+    /** The maximum values, arranged in the same way as the minima. */
+    private double[] maxima;
+
+    /** The number of leaves (a power of two). */
+    private int capacity;
+
+    /** The leaf offset of the first item. */
+    private int offset;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /**
+     * Creates a new, empty index.
+     */
+    public XYRangeIndex() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Returns the number of items in the index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Adds a y-value to the end of the index.
+     *
+     * @param y  the y-value (<code>Double.NaN</code> permitted).
+     */
+    public void add(double y) {
+        if (this.offset + this.itemCount == this.capacity) {
+            compact(this.itemCount + 1);
+        }
+        setLeaf(this.offset + this.itemCount, y);
+        this.itemCount++;
+    }
+
+    /**
+     * Removes items from the start of the index.  This runs in constant time.
+     *
+     * @param count  the number of items to remove.
+     */
+    public void removeFirst(int count) {
+        if (count < 0 || count > this.itemCount) {
+            throw new IndexOutOfBoundsException("Count: " + count
+                    + ", Size: " + this.itemCount);
+        }
+        // the evicted leaves are left in place: queries never cover them
+        this.offset += count;
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Changes the y-value of an item.
+     *
+     * @param item  the item index.
+     * @param y  the new y-value (<code>Double.NaN</code> permitted).
+     */
+    public void set(int item, double y) {
+        checkIndex(item);
+        setLeaf(this.offset + item, y);
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        allocate(MINIMUM_CAPACITY);
+        this.offset = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the range of the y-values for the items from
+     * <code>firstItem</code> to <code>lastItem</code> inclusive.
+     *
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     *
+     * @return The range (<code>null</code> if all the y-values are
+     *     <code>Double.NaN</code>).
+     */
+    public Range getRange(int firstItem, int lastItem) {
+        checkIndex(firstItem);
+        checkIndex(lastItem);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int low = this.capacity + this.offset + firstItem;
+        int high = this.capacity + this.offset + lastItem + 1;
+        while (low < high) {
+            if ((low & 1) == 1) {
+                min = Math.min(min, this.minima[low]);
+                max = Math.max(max, this.maxima[low]);
+                low++;
+            }
+            if ((high & 1) == 1) {
+                high--;
+                min = Math.min(min, this.minima[high]);
+                max = Math.max(max, this.maxima[high]);
+            }
+            low >>>= 1;
+            high >>>= 1;
+        }
+        if (min > max) {
+            return null;
+        }
+        return new Range(min, max);
+    }
+
+    /**
+     * Sets a leaf value and updates its ancestors.
+     *
+     * @param leaf  the leaf position (relative to the first leaf).
+     * @param y  the value.
+     */
+    private void setLeaf(int leaf, double y) {
+        int node = this.capacity + leaf;
+        if (Double.isNaN(y)) {
+            this.minima[node] = Double.POSITIVE_INFINITY;
+            this.maxima[node] = Double.NEGATIVE_INFINITY;
+        }
+        else {
+            this.minima[node] = y;
+            this.maxima[node] = y;
+        }
+        node >>>= 1;
+        while (node > 0) {
+            this.minima[node] = Math.min(this.minima[2 * node],
+                    this.minima[2 * node + 1]);
+            this.maxima[node] = Math.max(this.maxima[2 * node],
+                    this.maxima[2 * node + 1]);
+            node >>>= 1;
+        }
+    }
+
+    /**
+     * Moves the items to the start of a new tree with room for at least
+     * twice the required number of items.
+     *
+     * @param required  the number of items that must fit.
+     */
+    private void compact(int required) {
+        double[] oldMinima = this.minima;
+        double[] oldMaxima = this.maxima;
+        int oldStart = this.capacity + this.offset;
+        int newCapacity = MINIMUM_CAPACITY;
+        while (newCapacity < 2 * required) {
+            newCapacity *= 2;
+        }
+        allocate(newCapacity);
+        System.arraycopy(oldMinima, oldStart, this.minima, newCapacity,
+                this.itemCount);
+        System.arraycopy(oldMaxima, oldStart, this.maxima, newCapacity,
+                this.itemCount);
+        for (int node = newCapacity - 1; node > 0; node--) {
+            this.minima[node] = Math.min(this.minima[2 * node],
+                    this.minima[2 * node + 1]);
+            this.maxima[node] = Math.max(this.maxima[2 * node],
+                    this.maxima[2 * node + 1]);
+        }
+        this.offset = 0;
+    }
+
+    /**
+     * Allocates an empty tree with the specified number of leaves.
+     *
+     * @param leaves  the number of leaves (a power of two).
+     */
+    private void allocate(int leaves) {
+        this.capacity = leaves;
+        this.minima = new double[2 * leaves];
+        this.maxima = new double[2 * leaves];
+        Arrays.fill(this.minima, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.maxima, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Checks that an item index is within the bounds of the index.
+     *
+     * @param item  the item index.
+     */
+    private void checkIndex(int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + item + ", Size: "
+                    + this.itemCount);
+        }
+    }
+
+}
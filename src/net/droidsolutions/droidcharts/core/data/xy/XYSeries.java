@@ -72,16 +72,23 @@
  *               Ted Schwartz (DG);
  * 24-Nov-2008 : Further fix for 1955483 (DG);
  * 06-Mar-2009 : Added minX, maxX, minY and maxY fields (DG);
+ * 17-Oct-2026 : Added optional range index and findRangeBounds() method,
+ *               and optional level-of-detail pyramid (DS);
+ * 17-Oct-2026 : Added getModificationCount() method (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.data.xy;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
+import net.droidsolutions.droidcharts.core.data.Range;
 import net.droidsolutions.droidcharts.core.data.general.Series;
 import net.droidsolutions.droidcharts.core.data.general.SeriesException;
 
@@ -130,6 +137,30 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /** A flag that controls whether a range index is used. */
+    private boolean rangeIndexEnabled;
+
+    /**
+     * The range index (<code>null</code> if the index is disabled or must be
+     * rebuilt before it is next used).
+     */
+    private transient XYRangeIndex rangeIndex;
+
+    /** A flag that controls whether a level-of-detail pyramid is used. */
+    private boolean levelOfDetailEnabled;
+
+    /**
+     * The level-of-detail pyramid (<code>null</code> if it is disabled or
+     * must be rebuilt before it is next used).
+     */
+    private transient XYSeriesPyramid pyramid;
+
+    /**
+     * A count of the changes to the series, other than appending items at
+     * the end.
+     */
+    private transient volatile int modificationCount;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -375,6 +406,10 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners).
+     * <p>
+     * Removing the first item shifts every remaining item, so for a long
+     * sliding window consider {@link DoubleArrayXYSeries}, which evicts in
+     * constant time.
      *
      * @param maximum  the maximum number of items for the series.
      */
@@ -383,6 +418,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            indexesRemovedFirst(remove);
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -539,15 +575,170 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        indexesAdded(item);
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = (XYDataItem) this.data.remove(0);
             updateBoundsForRemovedItem(removed);
+            indexesRemovedFirst(1);
         }
         if (notify) {
             fireSeriesChanged();
         }
     }
 
+    /**
+     * Adds the specified (x, y) values to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  This is much
+     * faster than calling {@link #add(double, double)} for each item: when
+     * the series is sorted the new items are sorted once and merged with the
+     * existing items in a single pass, duplicate x-values are detected with
+     * a hash set and the bounds are updated in one sweep.
+     * <P>
+     * If the x-values contain a duplicate and the
+     * <code>allowDuplicateXValues</code> flag is not set, an exception is
+     * thrown and the series is left unchanged.  If the maximum item count is
+     * exceeded, the first items in the series are removed.
+     *
+     * @param xs  the x-values (<code>null</code> not permitted).
+     * @param ys  the y-values (<code>null</code> not permitted, must have the
+     *            same length as <code>xs</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void addAll(double[] xs, double[] ys) {
+        if (xs == null) {
+            throw new IllegalArgumentException("Null 'xs' argument.");
+        }
+        if (ys == null) {
+            throw new IllegalArgumentException("Null 'ys' argument.");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException(
+                    "The 'xs' and 'ys' arrays must have the same length.");
+        }
+        XYDataItem[] items = new XYDataItem[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            items[i] = new XYDataItem(xs[i], ys[i]);
+        }
+        addItems(items);
+    }
+
+    /**
+     * Adds copies of all the items in another series to this series and
+     * sends a single {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     *
+     * @see #addAll(double[], double[])
+     */
+    public void addAll(XYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        int count = series.getItemCount();
+        XYDataItem[] items = new XYDataItem[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = new XYDataItem(series.getX(i), series.getY(i));
+        }
+        addItems(items);
+    }
+
+    /**
+     * Adds a batch of new items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param items  the new items (this array may be reordered).
+     */
+    private void addItems(XYDataItem[] items) {
+        if (items.length == 0) {
+            return;
+        }
+        if (!this.allowDuplicateXValues) {
+            // compare the double values, as add() and indexOf() do, so that
+            // (for example) Integer 1 and Double 1.0 are the same x-value
+            Set seen = new HashSet(2 * (this.data.size() + items.length));
+            for (int i = 0; i < this.data.size(); i++) {
+                seen.add(createXKey(((XYDataItem) this.data.get(i)).getX()));
+            }
+            for (int i = 0; i < items.length; i++) {
+                if (!seen.add(createXKey(items[i].getX()))) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        boolean appended = true;
+        if (this.autoSort) {
+            // Arrays.sort() is stable for objects, so items with equal
+            // x-values keep their order, and existing items stay ahead of
+            // new ones - the same result as a sequence of add() calls
+            Arrays.sort(items);
+            appended = this.data.isEmpty() || items[0].compareTo(
+                    this.data.get(this.data.size() - 1)) >= 0;
+            List merged = new java.util.ArrayList(this.data.size()
+                    + items.length);
+            int i = 0;
+            int j = 0;
+            while (i < this.data.size() && j < items.length) {
+                XYDataItem existing = (XYDataItem) this.data.get(i);
+                if (existing.compareTo(items[j]) <= 0) {
+                    merged.add(existing);
+                    i++;
+                }
+                else {
+                    merged.add(items[j++]);
+                }
+            }
+            while (i < this.data.size()) {
+                merged.add(this.data.get(i++));
+            }
+            while (j < items.length) {
+                merged.add(items[j++]);
+            }
+            this.data = merged;
+        }
+        else {
+            this.data.addAll(Arrays.asList(items));
+        }
+        if (appended) {
+            for (int i = 0; i < items.length; i++) {
+                indexesAppended(items[i].getYValue());
+            }
+        }
+        else {
+            invalidateIndexes();
+        }
+        int remove = this.data.size() - this.maximumItemCount;
+        if (remove > 0) {
+            this.data.subList(0, remove).clear();
+            indexesRemovedFirst(remove);
+            findBoundsByIteration();
+        }
+        else {
+            for (int i = 0; i < items.length; i++) {
+                updateBoundsForAddedItem(items[i]);
+            }
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Returns the key used to detect duplicate x-values in
+     * {@link #addItems(XYDataItem[])}.
+     *
+     * @param x  the x-value.
+     *
+     * @return The x-value as a <code>Double</code> (with negative zero
+     *     replaced by zero, since <code>XYDataItem.compareTo()</code> treats
+     *     them as equal).
+     */
+    private static Double createXKey(Number x) {
+        return new Double(x.doubleValue() + 0.0);
+    }
+
     /**
      * Deletes a range of items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -557,6 +748,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        if (start == 0) {
+            indexesRemovedFirst(end + 1);
+        }
+        else {
+            invalidateIndexes();
+        }
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -572,6 +769,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public XYDataItem remove(int index) {
         XYDataItem removed = (XYDataItem) this.data.remove(index);
         updateBoundsForRemovedItem(removed);
+        if (index == 0) {
+            indexesRemovedFirst(1);
+        }
+        else {
+            invalidateIndexes();
+        }
         fireSeriesChanged();
         return removed;
     }
@@ -597,6 +800,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            invalidateIndexes();
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -638,6 +842,35 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     * Subclasses that store their data in primitive form should override
+     * this method so that renderers can read the series without boxing.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @see #getX(int)
+     */
+    public double getXValue(int index) {
+        return getDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     * A <code>null</code> y-value is returned as <code>Double.NaN</code>.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @see #getY(int)
+     */
+    public double getYValue(int index) {
+        return getDataItem(index).getYValue();
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -658,6 +891,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        indexesUpdated(index, item.getYValue());
 
         if (iterate) {
             findBoundsByIteration();
@@ -800,6 +1034,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(y);
+            indexesUpdated(index, existing.getYValue());
 
             if (iterate) {
                 findBoundsByIteration();
@@ -823,11 +1058,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 this.data.add(item);
             }
             updateBoundsForAddedItem(item);
+            indexesAdded(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = (XYDataItem) this.data.remove(0);
                 updateBoundsForRemovedItem(removed);
+                indexesRemovedFirst(1);
             }
         }
         fireSeriesChanged();
@@ -859,6 +1096,258 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns the flag that controls whether the series maintains a range
+     * index for {@link #findRangeBounds(Range)}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRangeIndexEnabled(boolean)
+     */
+    public boolean isRangeIndexEnabled() {
+        return this.rangeIndexEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the series maintains a range index
+     * for {@link #findRangeBounds(Range)}.  The index is a segment tree over
+     * the y-values (about 32 bytes per item) that is built when it is first
+     * needed and then updated in O(log n) time as items are appended,
+     * evicted from the start of the series or updated.  Other changes cause
+     * the index to be rebuilt on the next query.
+     *
+     * @param enabled  the flag.
+     *
+     * @see #isRangeIndexEnabled()
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        this.rangeIndexEnabled = enabled;
+        this.rangeIndex = null;
+    }
+
+    /**
+     * Returns the range of the y-values for the items with an x-value in the
+     * specified range, ignoring any <code>Double.NaN</code> values.  For a
+     * sorted series the items are located with a binary search and, if the
+     * range index is enabled, the y-range is found in O(log n) time.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The y-range (<code>null</code> if there are no y-values in the
+     *     x-range).
+     *
+     * @see #setRangeIndexEnabled(boolean)
+     */
+    public Range findRangeBounds(Range xRange) {
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        int itemCount = getItemCount();
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        if (!this.autoSort) {
+            for (int i = 0; i < itemCount; i++) {
+                double y = getYValue(i);
+                if (xRange.contains(getXValue(i)) && !Double.isNaN(y)) {
+                    minimum = Math.min(minimum, y);
+                    maximum = Math.max(maximum, y);
+                }
+            }
+        }
+        else {
+            // first item with x >= lower bound
+            int low = 0;
+            int high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getXValue(mid) < xRange.getLowerBound()) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            int firstItem = low;
+            // first item with x > upper bound
+            high = itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getXValue(mid) <= xRange.getUpperBound()) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            int lastItem = low - 1;
+            if (firstItem > lastItem) {
+                return null;
+            }
+            if (this.rangeIndexEnabled) {
+                if (this.rangeIndex == null) {
+                    XYRangeIndex index = new XYRangeIndex();
+                    for (int i = 0; i < itemCount; i++) {
+                        index.add(getYValue(i));
+                    }
+                    this.rangeIndex = index;
+                }
+                return this.rangeIndex.getRange(firstItem, lastItem);
+            }
+            for (int i = firstItem; i <= lastItem; i++) {
+                double y = getYValue(i);
+                if (!Double.isNaN(y)) {
+                    minimum = Math.min(minimum, y);
+                    maximum = Math.max(maximum, y);
+                }
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the flag that controls whether the series maintains a
+     * level-of-detail pyramid.
+     *
+     * @return A boolean.
+     *
+     * @see #setLevelOfDetailEnabled(boolean)
+     */
+    public boolean isLevelOfDetailEnabled() {
+        return this.levelOfDetailEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the series maintains a
+     * level-of-detail pyramid (see {@link XYSeriesPyramid}), which is used
+     * by {@link #getLevelOfDetailSelection(int, int, int)}.  The pyramid is
+     * built when it is first needed and then updated as items are appended,
+     * evicted from the start of the series or updated.  Other changes cause
+     * the pyramid to be rebuilt on the next query.
+     *
+     * @param enabled  the flag.
+     *
+     * @see #isLevelOfDetailEnabled()
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+        this.levelOfDetailEnabled = enabled;
+        this.pyramid = null;
+    }
+
+    /**
+     * Returns the indices of the items that represent the items from
+     * <code>firstItem</code> to <code>lastItem</code> when they are drawn
+     * across the specified number of pixels, using the level-of-detail
+     * pyramid (see {@link XYSeriesPyramid#getSelection(int, int, int)}).
+     *
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param pixelCount  the number of pixels.
+     *
+     * @return The item indices in ascending order, or <code>null</code> if
+     *     the level-of-detail pyramid is disabled or would not reduce the
+     *     number of items.
+     */
+    public int[] getLevelOfDetailSelection(int firstItem, int lastItem,
+            int pixelCount) {
+        if (!this.levelOfDetailEnabled) {
+            return null;
+        }
+        if (this.pyramid == null) {
+            this.pyramid = new XYSeriesPyramid(this);
+        }
+        return this.pyramid.getSelection(firstItem, lastItem, pixelCount);
+    }
+
+    /**
+     * Returns a count that is incremented by every change to the series
+     * other than appending items at the end (inserting, removing or updating
+     * items).  A caller that finds the same count as before therefore knows
+     * that the items it has already seen are unchanged, and that any items
+     * beyond the old item count have been appended since.
+     *
+     * @return The modification count.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Updates the indexes (the range index and the level-of-detail pyramid)
+     * for an item that has just been added to the series.
+     *
+     * @param item  the item.
+     */
+    private void indexesAdded(XYDataItem item) {
+        if (this.data.get(this.data.size() - 1) == item) {
+            indexesAppended(item.getYValue());
+        }
+        else {
+            invalidateIndexes();
+        }
+    }
+
+    /**
+     * Updates the indexes for an item that has just been appended to the
+     * series.  Subclasses in this package that store their own data call
+     * this method (and the other <code>indexes...()</code> methods).
+     *
+     * @param y  the y-value of the item.
+     */
+    void indexesAppended(double y) {
+        if (this.rangeIndex != null) {
+            this.rangeIndex.add(y);
+        }
+        if (this.pyramid != null) {
+            this.pyramid.add(y);
+        }
+    }
+
+    /**
+     * Updates the indexes (and the modification count) for items that have
+     * just been removed from the start of the series.
+     *
+     * @param count  the number of items removed.
+     */
+    void indexesRemovedFirst(int count) {
+        this.modificationCount++;
+        if (this.rangeIndex != null) {
+            this.rangeIndex.removeFirst(count);
+        }
+        if (this.pyramid != null) {
+            this.pyramid.removeFirst(this, count);
+        }
+    }
+
+    /**
+     * Updates the indexes (and the modification count) for an item whose
+     * y-value has just changed.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value.
+     */
+    void indexesUpdated(int index, double y) {
+        this.modificationCount++;
+        if (this.rangeIndex != null) {
+            this.rangeIndex.set(index, y);
+        }
+        if (this.pyramid != null) {
+            this.pyramid.update(this, index);
+        }
+    }
+
+    /**
+     * Discards the indexes, so that they are rebuilt when they are next used,
+     * and increments the modification count.
+     */
+    void invalidateIndexes() {
+        this.modificationCount++;
+        this.rangeIndex = null;
+        this.pyramid = null;
+    }
+
     /**
      * Returns a new array containing the x and y values from this series.
      *
@@ -897,6 +1386,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         XYSeries copy = (XYSeries) super.clone();
         copy.data = new java.util.ArrayList();
+        copy.rangeIndex = null;
+        copy.pyramid = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
@@ -915,6 +1406,21 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
   
 
+    /**
+     * Returns a clone of the series.  The clone does not share the range
+     * index or level-of-detail pyramid of this series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        XYSeries clone = (XYSeries) super.clone();
+        clone.rangeIndex = null;
+        clone.pyramid = null;
+        return clone;
+    }
+
     /**
      * Returns a hash code.
      *
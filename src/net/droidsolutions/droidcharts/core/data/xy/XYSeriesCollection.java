@@ -56,6 +56,7 @@
  *               sorted in ascending order (DG);
  * 06-Mar-2009 : Implemented RangeInfo (DG);
  * 06-Mar-2009 : Fixed equals() implementation (DG);
+ * 17-Oct-2026 : Reinstated the series change listeners and change events (DS);
  *
  */
 
@@ -94,6 +95,12 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /**
+     * A flag that controls whether the series in the collection maintain a
+     * level-of-detail pyramid.
+     */
+    private boolean levelOfDetailEnabled;
+
     /**
      * Constructs an empty dataset.
      */
@@ -109,10 +116,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     public XYSeriesCollection(XYSeries series) {
         this.data = new java.util.ArrayList();
         this.intervalDelegate = new IntervalXYDelegate(this, false);
-       // addChangeListener(this.intervalDelegate);
+        addChangeListener(this.intervalDelegate);
         if (series != null) {
             this.data.add(series);
-       //     series.addChangeListener(this);
+            series.addChangeListener(this);
         }
     }
 
@@ -143,8 +150,42 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("Null 'series' argument.");
         }
         this.data.add(series);
-      //  series.addChangeListener(this);
-      //  fireDatasetChanged();
+        if (this.levelOfDetailEnabled) {
+            series.setLevelOfDetailEnabled(true);
+        }
+        series.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the flag that controls whether the series in the collection
+     * maintain a level-of-detail pyramid.
+     *
+     * @return A boolean.
+     *
+     * @see #setLevelOfDetailEnabled(boolean)
+     */
+    public boolean isLevelOfDetailEnabled() {
+        return this.levelOfDetailEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the series in the collection (and
+     * any series added later) maintain a level-of-detail pyramid, which an
+     * {@link net.droidsolutions.droidcharts.core.plot.XYPlot} uses when its
+     * decimation mode is
+     * {@link net.droidsolutions.droidcharts.core.plot.DecimationMode#LEVEL_OF_DETAIL}.
+     *
+     * @param enabled  the flag.
+     *
+     * @see #isLevelOfDetailEnabled()
+     * @see XYSeries#setLevelOfDetailEnabled(boolean)
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+        this.levelOfDetailEnabled = enabled;
+        for (int i = 0; i < this.data.size(); i++) {
+            ((XYSeries) this.data.get(i)).setLevelOfDetailEnabled(enabled);
+        }
     }
 
     /**
@@ -160,9 +201,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
 
         // fetch the series, remove the change listener, then remove the series.
         XYSeries ts = (XYSeries) this.data.get(series);
-      //  ts.removeChangeListener(this);
+        ts.removeChangeListener(this);
         this.data.remove(series);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -176,9 +217,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("Null 'series' argument.");
         }
         if (this.data.contains(series)) {
-           // series.removeChangeListener(this);
+            series.removeChangeListener(this);
             this.data.remove(series);
-          //  fireDatasetChanged();
+            fireDatasetChanged();
         }
     }
 
@@ -190,13 +231,13 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         // Unregister the collection as a change listener to each series in
         // the collection.
         for (int i = 0; i < this.data.size(); i++) {
-          XYSeries series = (XYSeries) this.data.get(i);
-        //  series.removeChangeListener(this);
+            XYSeries series = (XYSeries) this.data.get(i);
+            series.removeChangeListener(this);
         }
 
         // Remove all the series from the collection and notify listeners.
         this.data.clear();
-       // fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -318,8 +359,22 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getX(int series, int item) {
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(item);
-        return xyItem.getX();
+        return ts.getX(item);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for the specified series
+     * and item.  This reads the series directly, so no <code>Number</code>
+     * object is created for series with primitive storage.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    public double getXValue(int series, int item) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getXValue(item);
     }
 
     /**
@@ -356,8 +411,21 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getY(int series, int index) {
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(index);
-        return xyItem.getY();
+        return ts.getY(index);
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param index  the index of the item of interest (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int series, int index) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getYValue(index);
     }
 
     /**
@@ -506,7 +574,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("Negative 'width' argument.");
         }
         this.intervalDelegate.setFixedIntervalWidth(width);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -527,7 +595,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public void setIntervalPositionFactor(double factor) {
         this.intervalDelegate.setIntervalPositionFactor(factor);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
@@ -547,7 +615,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public void setAutoWidth(boolean b) {
         this.intervalDelegate.setAutoWidth(b);
-      //  fireDatasetChanged();
+        fireDatasetChanged();
     }
 
     /**
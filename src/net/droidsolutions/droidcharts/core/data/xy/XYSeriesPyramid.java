@@ -0,0 +1,668 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * XYSeriesPyramid.java
+ * --------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A level-of-detail pyramid for the y-values of an {@link XYSeries}.  Level
+ * <code>L</code> (for <code>L &gt;= 1</code>) divides the items into buckets
+ * of <code>2^L</code> consecutive items and records the minimum, maximum and
+ * average y-value of each bucket, together with the indices of the items
+ * that hold the minimum and maximum (and of the first missing value, so that
+ * gaps in the series survive).
+ * <P>
+ * The pyramid is updated as items are appended (O(log n) per item), evicted
+ * from the start of the series or changed (O(log n) per change, as only the
+ * buckets containing the item are recalculated).  Buckets are aligned to the
+ * position of an item since the pyramid was built, so evicting items never
+ * moves the other items between buckets.
+ * <P>
+ * {@link #getSelection(int, int, int)} picks the level whose bucket size best
+ * matches the number of items per pixel and returns the indices of the items
+ * to draw, so the cost of drawing a zoomed-out series depends on the width
+ * of the plot rather than on the number of items.
+ */
+public class XYSeriesPyramid implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4417580903468624817L;
+
+    /** The levels (the level at position 0 has buckets of two items). */
+    private List levels;
+
+    /** The position (since the pyramid was built) of the first item. */
+    private long firstPosition;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /**
+     * Creates a new, empty pyramid.
+     */
+    public XYSeriesPyramid() {
+        this.levels = new ArrayList();
+        this.levels.add(new Level());
+    }
+
+    /**
+     * Creates a new pyramid for the items in a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public XYSeriesPyramid(XYSeries series) {
+        this();
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        int count = series.getItemCount();
+        for (int i = 0; i < count; i++) {
+            add(series.getYValue(i));
+        }
+    }
+
+    /**
+     * Returns the number of items covered by the pyramid.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of levels in the pyramid.  Level <code>L</code> has
+     * buckets of <code>2^L</code> items, for <code>L</code> from 1 to the
+     * level count.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return this.levels.size();
+    }
+
+    /**
+     * Returns the smallest y-value in the bucket (at the specified level)
+     * that contains an item.
+     *
+     * @param level  the level (from 1 to {@link #getLevelCount()}).
+     * @param item  the item index.
+     *
+     * @return The minimum (<code>Double.NaN</code> if the bucket has no
+     *     y-values).
+     */
+    public double getMinimum(int level, int item) {
+        Level lv = getLevel(level);
+        int p = lv.position(bucketFor(level, item));
+        return lv.counts[p] > 0 ? lv.minima[p] : Double.NaN;
+    }
+
+    /**
+     * Returns the largest y-value in the bucket (at the specified level)
+     * that contains an item.
+     *
+     * @param level  the level (from 1 to {@link #getLevelCount()}).
+     * @param item  the item index.
+     *
+     * @return The maximum (<code>Double.NaN</code> if the bucket has no
+     *     y-values).
+     */
+    public double getMaximum(int level, int item) {
+        Level lv = getLevel(level);
+        int p = lv.position(bucketFor(level, item));
+        return lv.counts[p] > 0 ? lv.maxima[p] : Double.NaN;
+    }
+
+    /**
+     * Returns the average y-value in the bucket (at the specified level)
+     * that contains an item.
+     *
+     * @param level  the level (from 1 to {@link #getLevelCount()}).
+     * @param item  the item index.
+     *
+     * @return The average (<code>Double.NaN</code> if the bucket has no
+     *     y-values).
+     */
+    public double getAverage(int level, int item) {
+        Level lv = getLevel(level);
+        int p = lv.position(bucketFor(level, item));
+        return lv.counts[p] > 0 ? lv.sums[p] / lv.counts[p] : Double.NaN;
+    }
+
+    /**
+     * Adds the y-value of an item appended to the series.
+     *
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(double y) {
+        long position = this.firstPosition + this.itemCount;
+        this.itemCount++;
+        for (int i = 0; i < this.levels.size(); i++) {
+            Level lv = (Level) this.levels.get(i);
+            long bucket = position >> (i + 1);
+            if (!lv.contains(bucket)) {
+                lv.appendBucket(bucket);
+            }
+            lv.addItem(lv.position(bucket), position, y);
+        }
+        // add a level when the top level has two complete buckets
+        int top = this.levels.size();
+        if (this.itemCount >> top >= 2 && top < 62) {
+            this.levels.add(createLevel((Level) this.levels.get(top - 1)));
+        }
+    }
+
+    /**
+     * Updates the pyramid after items have been removed from the start of the
+     * series.
+     *
+     * @param series  the series (with the items already removed).
+     * @param count  the number of items removed.
+     */
+    public void removeFirst(XYSeries series, int count) {
+        if (count < 0 || count > this.itemCount) {
+            throw new IndexOutOfBoundsException("Count: " + count
+                    + ", Size: " + this.itemCount);
+        }
+        this.firstPosition += count;
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            clear();
+            return;
+        }
+        for (int i = 0; i < this.levels.size(); i++) {
+            int level = i + 1;
+            Level lv = (Level) this.levels.get(i);
+            long bucket = this.firstPosition >> level;
+            lv.removeBefore(bucket);
+            if ((this.firstPosition & ((1L << level) - 1)) != 0) {
+                // the first bucket has lost some of its items
+                recalculate(series, level, bucket);
+            }
+        }
+    }
+
+    /**
+     * Updates the pyramid after the y-value of an item has changed.
+     *
+     * @param series  the series (with the new y-value).
+     * @param item  the item index.
+     */
+    public void update(XYSeries series, int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + item + ", Size: "
+                    + this.itemCount);
+        }
+        long position = this.firstPosition + item;
+        for (int level = 1; level <= this.levels.size(); level++) {
+            recalculate(series, level, position >> level);
+        }
+    }
+
+    /**
+     * Removes all items from the pyramid.
+     */
+    public void clear() {
+        this.levels.clear();
+        this.levels.add(new Level());
+        this.firstPosition = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the indices of the items that should be drawn to represent the
+     * items from <code>firstItem</code> to <code>lastItem</code> across the
+     * specified number of pixels.  The level is chosen so that each pixel
+     * holds one or two buckets; for each bucket the minimum and maximum items
+     * (and the first missing value, if any) are selected, in order, along
+     * with the first and last items.  Buckets that straddle either end of
+     * the run are replaced by the buckets of the lower levels that lie within
+     * it, so the extremes of the run are always selected.
+     *
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param pixelCount  the number of pixels.
+     *
+     * @return The item indices in ascending order, or <code>null</code> if
+     *     there are too few items per pixel to make the selection
+     *     worthwhile.
+     */
+    public int[] getSelection(int firstItem, int lastItem, int pixelCount) {
+        if (firstItem < 0 || lastItem >= this.itemCount
+                || lastItem < firstItem || pixelCount <= 0) {
+            return null;
+        }
+        int itemsPerPixel = (lastItem - firstItem + 1) / pixelCount;
+        int level = 0;
+        while ((2 << level) <= itemsPerPixel) {
+            level++;
+        }
+        level = Math.min(level, this.levels.size());
+        if (level < 2) {
+            return null;
+        }
+        long firstBucket = (this.firstPosition + firstItem) >> level;
+        long lastBucket = (this.firstPosition + lastItem) >> level;
+        int[] result = new int[(int) (3 * (lastBucket - firstBucket + 1))
+                + 6 * level + 2];
+        result[0] = firstItem;
+        int size = 1;
+        long[] candidates = new long[3];
+        for (long b = firstBucket; b <= lastBucket; b++) {
+            size = select(level, b, this.firstPosition + firstItem,
+                    this.firstPosition + lastItem, result, size, candidates);
+        }
+        if (lastItem > result[size - 1]) {
+            result[size++] = lastItem;
+        }
+        int[] trimmed = new int[size];
+        System.arraycopy(result, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    /**
+     * Adds the selected items for a bucket to an array.  If the bucket is
+     * not entirely within the run of positions, its two halves (the buckets
+     * of the level below) are selected instead.
+     *
+     * @param level  the level.
+     * @param bucket  the bucket.
+     * @param first  the position of the first item in the run.
+     * @param last  the position of the last item in the run.
+     * @param result  the selected item indices.
+     * @param size  the number of item indices in <code>result</code>.
+     * @param candidates  a work array with room for three positions.
+     *
+     * @return The new number of item indices in <code>result</code>.
+     */
+    private int select(int level, long bucket, long first, long last,
+            int[] result, int size, long[] candidates) {
+        long bucketStart = bucket << level;
+        long bucketEnd = bucketStart + (1L << level) - 1;
+        if (bucketEnd < first || bucketStart > last) {
+            return size;
+        }
+        if (bucketStart < first || bucketEnd > last) {
+            // level 1 buckets that straddle an end hold only that end item
+            if (level > 1) {
+                size = select(level - 1, 2 * bucket, first, last, result,
+                        size, candidates);
+                size = select(level - 1, 2 * bucket + 1, first, last,
+                        result, size, candidates);
+            }
+            return size;
+        }
+        Level lv = getLevel(level);
+        if (!lv.contains(bucket)) {
+            return size;
+        }
+        int p = lv.position(bucket);
+        candidates[0] = lv.minItems[p];
+        candidates[1] = lv.maxItems[p];
+        candidates[2] = lv.gapItems[p];
+        sort(candidates);
+        int lastItem = (int) (last - this.firstPosition);
+        for (int c = 0; c < 3; c++) {
+            if (candidates[c] < 0) {
+                continue;
+            }
+            int item = (int) (candidates[c] - this.firstPosition);
+            if (item > result[size - 1] && item < lastItem) {
+                result[size++] = item;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Recalculates a bucket from the level below (or, for the first level,
+     * from the items in the series).
+     *
+     * @param series  the series.
+     * @param level  the level.
+     * @param bucket  the bucket.
+     */
+    private void recalculate(XYSeries series, int level, long bucket) {
+        Level lv = getLevel(level);
+        if (!lv.contains(bucket)) {
+            return;
+        }
+        int p = lv.position(bucket);
+        lv.clearBucket(p);
+        if (level == 1) {
+            long end = this.firstPosition + this.itemCount;
+            for (long pos = 2 * bucket; pos <= 2 * bucket + 1; pos++) {
+                if (pos >= this.firstPosition && pos < end) {
+                    lv.addItem(p, pos, series.getYValue(
+                            (int) (pos - this.firstPosition)));
+                }
+            }
+        }
+        else {
+            Level child = getLevel(level - 1);
+            for (long b = 2 * bucket; b <= 2 * bucket + 1; b++) {
+                if (child.contains(b)) {
+                    lv.addBucket(p, child, child.position(b));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the next level up from a level.
+     *
+     * @param child  the level below.
+     *
+     * @return The new level.
+     */
+    private static Level createLevel(Level child) {
+        Level lv = new Level();
+        for (int i = 0; i < child.size; i++) {
+            long b = child.firstBucket + i;
+            if (!lv.contains(b >> 1)) {
+                lv.appendBucket(b >> 1);
+            }
+            lv.addBucket(lv.position(b >> 1), child, child.start + i);
+        }
+        return lv;
+    }
+
+    /**
+     * Returns a level.
+     *
+     * @param level  the level (from 1 to {@link #getLevelCount()}).
+     *
+     * @return The level.
+     */
+    private Level getLevel(int level) {
+        if (level < 1 || level > this.levels.size()) {
+            throw new IllegalArgumentException("Requires 'level' in the range "
+                    + "1 to " + this.levels.size() + ".");
+        }
+        return (Level) this.levels.get(level - 1);
+    }
+
+    /**
+     * Returns the bucket (at the specified level) that contains an item.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The bucket.
+     */
+    private long bucketFor(int level, int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + item + ", Size: "
+                    + this.itemCount);
+        }
+        return (this.firstPosition + item) >> level;
+    }
+
+    /**
+     * Sorts three values into ascending order.
+     *
+     * @param values  the values.
+     */
+    private static void sort(long[] values) {
+        for (int i = 1; i < 3; i++) {
+            long v = values[i];
+            int j = i - 1;
+            while (j >= 0 && values[j] > v) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = v;
+        }
+    }
+
+    /**
+     * The buckets for one level of the pyramid.  The buckets are stored in
+     * parallel arrays from <code>start</code>, and removing buckets from the
+     * front only advances <code>start</code>.
+     */
+    private static class Level implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -1908357160931374412L;
+
+        /** The minimum y-value of each bucket. */
+        private double[] minima;
+
+        /** The maximum y-value of each bucket. */
+        private double[] maxima;
+
+        /** The sum of the y-values of each bucket. */
+        private double[] sums;
+
+        /** The number of y-values (excluding missing values) in each bucket. */
+        private int[] counts;
+
+        /** The position of the item with the minimum y-value. */
+        private long[] minItems;
+
+        /** The position of the item with the maximum y-value. */
+        private long[] maxItems;
+
+        /** The position of the first missing value (or -1). */
+        private long[] gapItems;
+
+        /** The bucket number of the first bucket. */
+        private long firstBucket;
+
+        /** The array index of the first bucket. */
+        private int start;
+
+        /** The number of buckets. */
+        private int size;
+
+        /**
+         * Creates a new, empty level.
+         */
+        Level() {
+            allocate(8);
+        }
+
+        /**
+         * Returns <code>true</code> if the level contains a bucket.
+         *
+         * @param bucket  the bucket number.
+         *
+         * @return A boolean.
+         */
+        boolean contains(long bucket) {
+            return bucket >= this.firstBucket
+                    && bucket < this.firstBucket + this.size;
+        }
+
+        /**
+         * Returns the array index of a bucket.
+         *
+         * @param bucket  the bucket number.
+         *
+         * @return The array index.
+         */
+        int position(long bucket) {
+            return this.start + (int) (bucket - this.firstBucket);
+        }
+
+        /**
+         * Appends an empty bucket.
+         *
+         * @param bucket  the bucket number (the bucket after the last one,
+         *     if the level is not empty).
+         */
+        void appendBucket(long bucket) {
+            if (this.size == 0) {
+                this.firstBucket = bucket;
+                this.start = 0;
+            }
+            if (this.start + this.size == this.counts.length) {
+                Level old = new Level();
+                old.minima = this.minima;
+                old.maxima = this.maxima;
+                old.sums = this.sums;
+                old.counts = this.counts;
+                old.minItems = this.minItems;
+                old.maxItems = this.maxItems;
+                old.gapItems = this.gapItems;
+                allocate(Math.max(8, 2 * (this.size + 1)));
+                copy(old, this.start, this.size);
+                this.start = 0;
+            }
+            clearBucket(this.start + this.size);
+            this.size++;
+        }
+
+        /**
+         * Removes the buckets before the specified bucket.
+         *
+         * @param bucket  the bucket number.
+         */
+        void removeBefore(long bucket) {
+            int count = (int) Math.min(this.size, Math.max(0,
+                    bucket - this.firstBucket));
+            this.start += count;
+            this.size -= count;
+            this.firstBucket += count;
+        }
+
+        /**
+         * Resets a bucket.
+         *
+         * @param p  the array index.
+         */
+        void clearBucket(int p) {
+            this.minima[p] = Double.POSITIVE_INFINITY;
+            this.maxima[p] = Double.NEGATIVE_INFINITY;
+            this.sums[p] = 0.0;
+            this.counts[p] = 0;
+            this.minItems[p] = -1;
+            this.maxItems[p] = -1;
+            this.gapItems[p] = -1;
+        }
+
+        /**
+         * Adds an item to a bucket.
+         *
+         * @param p  the array index.
+         * @param item  the item position.
+         * @param y  the y-value.
+         */
+        void addItem(int p, long item, double y) {
+            if (Double.isNaN(y)) {
+                if (this.gapItems[p] < 0) {
+                    this.gapItems[p] = item;
+                }
+                return;
+            }
+            this.counts[p]++;
+            this.sums[p] += y;
+            if (y < this.minima[p]) {
+                this.minima[p] = y;
+                this.minItems[p] = item;
+            }
+            if (y > this.maxima[p]) {
+                this.maxima[p] = y;
+                this.maxItems[p] = item;
+            }
+        }
+
+        /**
+         * Adds a bucket from the level below to a bucket.  Child buckets
+         * must be added in order.
+         *
+         * @param p  the array index.
+         * @param child  the level below.
+         * @param cp  the array index in the level below.
+         */
+        void addBucket(int p, Level child, int cp) {
+            this.counts[p] += child.counts[cp];
+            this.sums[p] += child.sums[cp];
+            if (child.minima[cp] < this.minima[p]) {
+                this.minima[p] = child.minima[cp];
+                this.minItems[p] = child.minItems[cp];
+            }
+            if (child.maxima[cp] > this.maxima[p]) {
+                this.maxima[p] = child.maxima[cp];
+                this.maxItems[p] = child.maxItems[cp];
+            }
+            if (this.gapItems[p] < 0) {
+                this.gapItems[p] = child.gapItems[cp];
+            }
+        }
+
+        /**
+         * Allocates new (empty) arrays.
+         *
+         * @param capacity  the capacity.
+         */
+        private void allocate(int capacity) {
+            this.minima = new double[capacity];
+            this.maxima = new double[capacity];
+            this.sums = new double[capacity];
+            this.counts = new int[capacity];
+            this.minItems = new long[capacity];
+            this.maxItems = new long[capacity];
+            this.gapItems = new long[capacity];
+        }
+
+        /**
+         * Copies buckets from another level to the start of this level.
+         *
+         * @param source  the source level.
+         * @param from  the first array index to copy.
+         * @param count  the number of buckets.
+         */
+        private void copy(Level source, int from, int count) {
+            System.arraycopy(source.minima, from, this.minima, 0, count);
+            System.arraycopy(source.maxima, from, this.maxima, 0, count);
+            System.arraycopy(source.sums, from, this.sums, 0, count);
+            System.arraycopy(source.counts, from, this.counts, 0, count);
+            System.arraycopy(source.minItems, from, this.minItems, 0, count);
+            System.arraycopy(source.maxItems, from, this.maxItems, 0, count);
+            System.arraycopy(source.gapItems, from, this.gapItems, 0, count);
+        }
+    }
+
+}
@@ -44,19 +44,43 @@
  * 20-May-2005 : Fixed bug 1113521 - inefficiency in getEntity() method (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Implemented PublicCloneable and fixed clone() method (DG);
+ * 17-Oct-2026 : Added a grid index for getEntity(double, double) (DS);
+ * 17-Oct-2026 : Added addXYItem() method and virtual item entities (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.entity;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.awt.Shape;
+import net.droidsolutions.droidcharts.common.ShapeUtilities;
+import net.droidsolutions.droidcharts.core.data.XYDataset;
 
 /**
  * A standard implementation of the {@link EntityCollection} interface.
+ * <P>
+ * The bounding box of each entity is entered into a uniform grid as the
+ * entity is added, so that {@link #getEntity(double, double)} only has to
+ * test the entities in one grid cell (plus any entities that are too large
+ * to be entered cell by cell).  The area of an entity should not be changed
+ * after it has been added to the collection.
+ * <P>
+ * If virtual item entities are enabled (see
+ * {@link #setVirtualItemEntities(boolean)}), the items added with
+ * {@link #addXYItem(Shape, XYDataset, int, int, double, double)} are
+ * recorded in arrays, and each {@link XYItemEntity} (with its translated
+ * hotspot shape) is only created when it is returned by one of the lookup
+ * methods or by iteration.
  */
 public class StandardEntityCollection implements EntityCollection, Cloneable,
 		Serializable {
@@ -64,14 +88,106 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	/** For serialization. */
 	private static final long serialVersionUID = 5384773031184897047L;
 
+	/** The default size of a grid cell (in Java2D units). */
+	public static final double DEFAULT_CELL_SIZE = 32.0;
+
+	/**
+	 * The maximum number of grid cells an entity is entered into; larger
+	 * entities are tested on every lookup.
+	 */
+	private static final int MAX_CELLS_PER_ENTITY = 16;
+
 	/** Storage for the entities. */
 	private List entities;
 
+	/** The size of a grid cell. */
+	private double cellSize;
+
+	/** The grid cells (keyed by a Long made from the cell coordinates). */
+	private transient Map cells;
+
+	/** The indices of the entities that are not entered in the grid. */
+	private transient Cell largeEntities;
+
+	/** The number of entities entered in the index. */
+	private transient int indexedCount;
+
+	/** A flag that controls whether item entities are created on demand. */
+	private boolean virtualItemEntities;
+
+	/**
+	 * The recorded items, by entity index (<code>null</code> until an item is
+	 * recorded).  The entity list holds <code>null</code> for each item that
+	 * has not been created yet.
+	 */
+	private transient VirtualItems virtualItems;
+
+	/** The hotspot whose bounds were found last. */
+	private transient Shape lastHotspot;
+
+	/** The bounds of the last hotspot. */
+	private transient Rectangle2D lastHotspotBounds;
+
 	/**
 	 * Constructs a new entity collection (initially empty).
 	 */
 	public StandardEntityCollection() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a new entity collection (initially empty) with the specified
+	 * grid cell size.  The best size is a few times the size of a typical
+	 * entity.
+	 * 
+	 * @param cellSize
+	 *            the cell size (in Java2D units, must be positive).
+	 */
+	public StandardEntityCollection(double cellSize) {
+		if (!(cellSize > 0.0) || Double.isInfinite(cellSize)) {
+			throw new IllegalArgumentException(
+					"Requires 'cellSize' to be positive.");
+		}
 		this.entities = new java.util.ArrayList();
+		this.cellSize = cellSize;
+	}
+
+	/**
+	 * Returns the size of the grid cells used to index the entities.
+	 * 
+	 * @return The cell size.
+	 */
+	public double getCellSize() {
+		return this.cellSize;
+	}
+
+	/**
+	 * Returns the flag that controls whether the entities for the items added
+	 * with {@link #addXYItem(Shape, XYDataset, int, int, double, double)} are
+	 * created on demand.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setVirtualItemEntities(boolean)
+	 */
+	public boolean isVirtualItemEntities() {
+		return this.virtualItemEntities;
+	}
+
+	/**
+	 * Sets the flag that controls whether the entities for the items added
+	 * with {@link #addXYItem(Shape, XYDataset, int, int, double, double)} are
+	 * created on demand.  This saves creating an entity and a hotspot shape
+	 * for every item drawn, at the cost of creating them when they are
+	 * looked up.  The flag applies to the items added after it is set.
+	 * 
+	 * @param virtual
+	 *            the flag.
+	 * 
+	 * @see #isVirtualItemEntities()
+	 */
+	public void setVirtualItemEntities(boolean virtual) {
+		this.virtualItemEntities = virtual;
 	}
 
 	/**
@@ -94,7 +210,11 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	 * @see #add(ChartEntity)
 	 */
 	public ChartEntity getEntity(int index) {
-		return (ChartEntity) this.entities.get(index);
+		ChartEntity entity = (ChartEntity) this.entities.get(index);
+		if (entity == null) {
+			entity = createVirtualEntity(index);
+		}
+		return entity;
 	}
 
 	/**
@@ -102,6 +222,10 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	 */
 	public void clear() {
 		this.entities.clear();
+		this.cells = null;
+		this.largeEntities = null;
+		this.indexedCount = 0;
+		this.virtualItems = null;
 	}
 
 	/**
@@ -115,6 +239,13 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 			throw new IllegalArgumentException("Null 'entity' argument.");
 		}
 		this.entities.add(entity);
+		if (this.cells == null
+				|| this.indexedCount != this.entities.size() - 1) {
+			rebuildIndex();
+		} else {
+			addToIndex(this.indexedCount);
+			this.indexedCount++;
+		}
 	}
 
 	/**
@@ -124,7 +255,105 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	 *            the collection of entities (<code>null</code> not permitted).
 	 */
 	public void addAll(EntityCollection collection) {
-		this.entities.addAll(collection.getEntities());
+		if (collection instanceof StandardEntityCollection) {
+			// copy the recorded items without creating their entities
+			StandardEntityCollection sec = (StandardEntityCollection) collection;
+			int entityCount = sec.entities.size();
+			for (int i = 0; i < entityCount; i++) {
+				ChartEntity entity = (ChartEntity) sec.entities.get(i);
+				if (entity != null) {
+					add(entity);
+				} else {
+					VirtualItems v = sec.virtualItems;
+					addXYItem(v.hotspots[i], v.datasets[i], v.series[i],
+							v.items[i], v.x[i], v.y[i]);
+				}
+			}
+			return;
+		}
+		Iterator iterator = collection.getEntities().iterator();
+		while (iterator.hasNext()) {
+			add((ChartEntity) iterator.next());
+		}
+	}
+
+	/**
+	 * Adds an entity for a data item in an {@link XYDataset}.  If virtual
+	 * item entities are enabled, only the arguments are recorded and the
+	 * {@link XYItemEntity} is created when it is first requested.
+	 * 
+	 * @param hotspot
+	 *            the hotspot shape, relative to the item's position
+	 *            (<code>null</code> not permitted).  The shape is shared
+	 *            rather than copied, so it must not be changed afterwards.
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index.
+	 * @param item
+	 *            the item index.
+	 * @param x
+	 *            the x-coordinate of the item (in Java2D space).
+	 * @param y
+	 *            the y-coordinate of the item (in Java2D space).
+	 */
+	public void addXYItem(Shape hotspot, XYDataset dataset, int series,
+			int item, double x, double y) {
+		if (hotspot == null) {
+			throw new IllegalArgumentException("Null 'hotspot' argument.");
+		}
+		if (!this.virtualItemEntities) {
+			add(new XYItemEntity(ShapeUtilities.createTranslatedShape(hotspot,
+					x, y), dataset, series, item, "", ""));
+			return;
+		}
+		int index = this.entities.size();
+		if (this.virtualItems == null) {
+			this.virtualItems = new VirtualItems();
+		}
+		this.virtualItems.set(index, hotspot, dataset, series, item, x, y);
+		this.entities.add(null);
+		if (this.cells == null || this.indexedCount != index) {
+			rebuildIndex();
+		} else {
+			addToIndex(index);
+			this.indexedCount++;
+		}
+	}
+
+	/**
+	 * Creates the entity for a recorded item and puts it in the list.
+	 * 
+	 * @param index
+	 *            the entity index.
+	 * 
+	 * @return The entity.
+	 */
+	private ChartEntity createVirtualEntity(int index) {
+		VirtualItems v = this.virtualItems;
+		ChartEntity entity = new XYItemEntity(
+				ShapeUtilities.createTranslatedShape(v.hotspots[index],
+						v.x[index], v.y[index]), v.datasets[index],
+				v.series[index], v.items[index], "", "");
+		this.entities.set(index, entity);
+		v.clear(index);
+		return entity;
+	}
+
+	/**
+	 * Creates the entities for all the recorded items.
+	 */
+	private void createVirtualEntities() {
+		if (this.virtualItems == null) {
+			return;
+		}
+		int entityCount = this.entities.size();
+		for (int i = 0; i < entityCount; i++) {
+			if (this.entities.get(i) == null) {
+				createVirtualEntity(i);
+			}
+		}
+		this.virtualItems = null;
 	}
 
 	/**
@@ -139,22 +368,129 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	 * @return The entity (possibly <code>null</code>).
 	 */
 	public ChartEntity getEntity(double x, double y) {
-		int entityCount = this.entities.size();
-		for (int i = entityCount - 1; i >= 0; i--) {
-			ChartEntity entity = (ChartEntity) this.entities.get(i);
-			if (entity.getArea().contains(x, y)) {
-				return entity;
+		if (this.cells == null || this.indexedCount != this.entities.size()) {
+			rebuildIndex();
+		}
+		Cell cell = null;
+		double cx = Math.floor(x / this.cellSize);
+		double cy = Math.floor(y / this.cellSize);
+		if (Math.abs(cx) <= Integer.MAX_VALUE
+				&& Math.abs(cy) <= Integer.MAX_VALUE) {
+			cell = (Cell) this.cells.get(cellKey((int) cx, (int) cy));
+		}
+		Cell large = this.largeEntities;
+
+		// both lists are in the order the entities were added, so walk them
+		// backwards together to find the last entity that contains the point
+		int i = (cell != null ? cell.size - 1 : -1);
+		int j = large.size - 1;
+		while (i >= 0 || j >= 0) {
+			int index;
+			if (j < 0 || (i >= 0 && cell.indices[i] > large.indices[j])) {
+				index = cell.indices[i--];
+			} else {
+				index = large.indices[j--];
+			}
+			ChartEntity entity = (ChartEntity) this.entities.get(index);
+			if (entity != null) {
+				if (entity.getArea().contains(x, y)) {
+					return entity;
+				}
+			} else {
+				VirtualItems v = this.virtualItems;
+				if (v.hotspots[index].contains(x - v.x[index], y - v.y[index])) {
+					return createVirtualEntity(index);
+				}
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Enters all the entities into a new index.
+	 */
+	private void rebuildIndex() {
+		this.cells = new HashMap();
+		this.largeEntities = new Cell();
+		int entityCount = this.entities.size();
+		for (int i = 0; i < entityCount; i++) {
+			addToIndex(i);
+		}
+		this.indexedCount = entityCount;
+	}
+
+	/**
+	 * Enters an entity into the grid cells that its bounding box overlaps.
+	 * 
+	 * @param index
+	 *            the index of the entity in the list.
+	 */
+	private void addToIndex(int index) {
+		ChartEntity entity = (ChartEntity) this.entities.get(index);
+		double bx;
+		double by;
+		Rectangle2D bounds;
+		if (entity != null) {
+			bounds = entity.getArea().getBounds2D();
+			bx = bounds.getX();
+			by = bounds.getY();
+		} else {
+			VirtualItems v = this.virtualItems;
+			if (v.hotspots[index] != this.lastHotspot) {
+				this.lastHotspot = v.hotspots[index];
+				this.lastHotspotBounds = this.lastHotspot.getBounds2D();
+			}
+			bounds = this.lastHotspotBounds;
+			bx = bounds.getX() + v.x[index];
+			by = bounds.getY() + v.y[index];
+		}
+		double x0 = Math.floor(bx / this.cellSize);
+		double y0 = Math.floor(by / this.cellSize);
+		double x1 = Math.floor((bx + bounds.getWidth()) / this.cellSize);
+		double y1 = Math.floor((by + bounds.getHeight()) / this.cellSize);
+		// also catches NaN and infinite bounds
+		if (!((x1 - x0 + 1.0) * (y1 - y0 + 1.0) <= MAX_CELLS_PER_ENTITY)
+				|| Math.abs(x0) > Integer.MAX_VALUE
+				|| Math.abs(y0) > Integer.MAX_VALUE
+				|| Math.abs(x1) > Integer.MAX_VALUE
+				|| Math.abs(y1) > Integer.MAX_VALUE) {
+			this.largeEntities.add(index);
+			return;
+		}
+		for (int cx = (int) x0; cx <= (int) x1; cx++) {
+			for (int cy = (int) y0; cy <= (int) y1; cy++) {
+				Long key = cellKey(cx, cy);
+				Cell cell = (Cell) this.cells.get(key);
+				if (cell == null) {
+					cell = new Cell();
+					this.cells.put(key, cell);
+				}
+				cell.add(index);
+			}
+		}
+	}
+
+	/**
+	 * Returns the key for a grid cell.
+	 * 
+	 * @param cx
+	 *            the cell column.
+	 * @param cy
+	 *            the cell row.
+	 * 
+	 * @return The key.
+	 */
+	private static Long cellKey(int cx, int cy) {
+		return new Long(((long) cx << 32) | (cy & 0xFFFFFFFFL));
+	}
+
 	/**
 	 * Returns the entities in an unmodifiable collection.
 	 * 
 	 * @return The entities.
 	 */
 	public Collection getEntities() {
+		createVirtualEntities();
 		return Collections.unmodifiableCollection(this.entities);
 	}
 
@@ -164,7 +500,124 @@ public class StandardEntityCollection implements EntityCollection, Cloneable,
 	 * @return An iterator.
 	 */
 	public Iterator iterator() {
+		createVirtualEntities();
 		return this.entities.iterator();
 	}
 
+	/**
+	 * Provides serialization support.
+	 * 
+	 * @param stream
+	 *            the output stream.
+	 * 
+	 * @throws IOException
+	 *             if there is an I/O error.
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		createVirtualEntities();
+		stream.defaultWriteObject();
+	}
+
+	/**
+	 * The items recorded for virtual entities, in arrays indexed by entity
+	 * index.
+	 */
+	private static class VirtualItems {
+
+		/** The hotspot shapes. */
+		Shape[] hotspots = new Shape[16];
+
+		/** The datasets. */
+		XYDataset[] datasets = new XYDataset[16];
+
+		/** The series indices. */
+		int[] series = new int[16];
+
+		/** The item indices. */
+		int[] items = new int[16];
+
+		/** The x-coordinates. */
+		double[] x = new double[16];
+
+		/** The y-coordinates. */
+		double[] y = new double[16];
+
+		/**
+		 * Records an item, growing the arrays if necessary.
+		 */
+		void set(int index, Shape hotspot, XYDataset dataset, int s, int i,
+				double xx, double yy) {
+			if (index >= this.x.length) {
+				int capacity = Math.max(index + 1, this.x.length * 2);
+				Shape[] h = new Shape[capacity];
+				System.arraycopy(this.hotspots, 0, h, 0, this.hotspots.length);
+				this.hotspots = h;
+				XYDataset[] d = new XYDataset[capacity];
+				System.arraycopy(this.datasets, 0, d, 0, this.datasets.length);
+				this.datasets = d;
+				this.series = grow(this.series, capacity);
+				this.items = grow(this.items, capacity);
+				this.x = grow(this.x, capacity);
+				this.y = grow(this.y, capacity);
+			}
+			this.hotspots[index] = hotspot;
+			this.datasets[index] = dataset;
+			this.series[index] = s;
+			this.items[index] = i;
+			this.x[index] = xx;
+			this.y[index] = yy;
+		}
+
+		/**
+		 * Releases the references held for an item.
+		 */
+		void clear(int index) {
+			this.hotspots[index] = null;
+			this.datasets[index] = null;
+		}
+
+		/** Returns a copy of an array with a larger capacity. */
+		private static int[] grow(int[] array, int capacity) {
+			int[] result = new int[capacity];
+			System.arraycopy(array, 0, result, 0, array.length);
+			return result;
+		}
+
+		/** Returns a copy of an array with a larger capacity. */
+		private static double[] grow(double[] array, int capacity) {
+			double[] result = new double[capacity];
+			System.arraycopy(array, 0, result, 0, array.length);
+			return result;
+		}
+
+	}
+
+	/**
+	 * A growable list of entity indices, in ascending order.
+	 */
+	private static class Cell {
+
+		/** The indices. */
+		int[] indices = new int[4];
+
+		/** The number of indices. */
+		int size;
+
+		/**
+		 * Appends an index.
+		 * 
+		 * @param index
+		 *            the index.
+		 */
+		void add(int index) {
+			if (this.size == this.indices.length) {
+				int[] grown = new int[this.size * 2];
+				System.arraycopy(this.indices, 0, grown, 0, this.size);
+				this.indices = grown;
+			}
+			this.indices[this.size++] = index;
+		}
+
+	}
+
 }
@@ -0,0 +1,431 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * ChartRenderService.java
+ * -----------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.panel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.core.ChartRenderingInfo;
+import net.droidsolutions.droidcharts.core.JFreeChart;
+import net.droidsolutions.droidcharts.core.entity.StandardEntityCollection;
+import net.droidsolutions.droidcharts.core.event.ChartChangeEvent;
+import net.droidsolutions.droidcharts.core.event.ChartChangeListener;
+
+/**
+ * Renders a {@link JFreeChart} into an offscreen bitmap on a worker thread,
+ * so that a view only has to copy the most recently completed bitmap in its
+ * <code>onDraw()</code> method.
+ * <P>
+ * Two bitmaps are used: the chart is drawn into the back buffer and, once
+ * drawing is complete, the back and front buffers are swapped atomically.
+ * Requests made while a render is pending or running are coalesced into a
+ * single render. A render that is in progress is not interrupted by a newer
+ * request: its bitmap is displayed when it completes and the chart is then
+ * rendered again, so the display keeps updating even when requests arrive
+ * faster than the chart can be drawn. At most one render is in progress for
+ * each service, even when the executor is shared by several services.
+ * The service registers itself as a change listener with the chart, so a
+ * render is requested whenever the chart reports a change (give the chart a
+ * {@link net.droidsolutions.droidcharts.common.ChangeEventDispatcher} to
+ * limit these requests to one per display frame).
+ * <P>
+ * The chart (and its datasets) must not be modified while a render is in
+ * progress; update the data on the rendering executor or synchronize the
+ * updates with the chart drawing.
+ */
+public class ChartRenderService implements ChartChangeListener {
+
+	/** The chart. */
+	private JFreeChart chart;
+
+	/** The executor that renders the chart. */
+	private ExecutorService executor;
+
+	/** A flag that indicates whether the executor was created by the service. */
+	private boolean ownsExecutor;
+
+	/** A flag that controls whether chart entities are collected. */
+	private volatile boolean entityCollectionEnabled;
+
+	/** The callback invoked after the buffers are swapped. */
+	private Runnable renderCallback;
+
+	/** The lock for the buffer and request state. */
+	private final Object lock = new Object();
+
+	/** The bitmap that is displayed. */
+	private Bitmap frontBuffer;
+
+	/** The rendering info for the front buffer. */
+	private ChartRenderingInfo frontInfo;
+
+	/** The bitmap that the chart is rendered into. */
+	private Bitmap backBuffer;
+
+	/** The requested width. */
+	private int width;
+
+	/** The requested height. */
+	private int height;
+
+	/** Incremented for each render request. */
+	private long requestCount;
+
+	/** A flag that indicates whether a render task is queued or running. */
+	private boolean renderScheduled;
+
+	/** A flag that indicates whether the service has been shut down. */
+	private boolean shutdown;
+
+	/** The task that renders the chart. */
+	private final Runnable renderTask = new Runnable() {
+		public void run() {
+			renderPending();
+		}
+	};
+
+	/**
+	 * Creates a new service that renders the chart on its own worker thread.
+	 *
+	 * @param chart
+	 *            the chart (<code>null</code> not permitted).
+	 */
+	public ChartRenderService(JFreeChart chart) {
+		this(chart, Executors.newSingleThreadExecutor());
+		this.ownsExecutor = true;
+	}
+
+	/**
+	 * Creates a new service that renders the chart using the specified
+	 * executor (which may be shared by several services).
+	 *
+	 * @param chart
+	 *            the chart (<code>null</code> not permitted).
+	 * @param executor
+	 *            the executor (<code>null</code> not permitted).
+	 */
+	public ChartRenderService(JFreeChart chart, ExecutorService executor) {
+		if (chart == null) {
+			throw new IllegalArgumentException("Null 'chart' argument.");
+		}
+		if (executor == null) {
+			throw new IllegalArgumentException("Null 'executor' argument.");
+		}
+		this.chart = chart;
+		this.executor = executor;
+		this.ownsExecutor = false;
+		this.entityCollectionEnabled = true;
+		chart.addChangeListener(this);
+	}
+
+	/**
+	 * Returns the chart.
+	 *
+	 * @return The chart (never <code>null</code>).
+	 */
+	public JFreeChart getChart() {
+		return this.chart;
+	}
+
+	/**
+	 * Returns the flag that controls whether chart entities are collected
+	 * during rendering.
+	 *
+	 * @return A boolean.
+	 *
+	 * @see #setEntityCollectionEnabled(boolean)
+	 */
+	public boolean isEntityCollectionEnabled() {
+		return this.entityCollectionEnabled;
+	}
+
+	/**
+	 * Sets the flag that controls whether chart entities are collected during
+	 * rendering (they are needed for {@link #getRenderingInfo()} to support
+	 * tool tips and item lookup). Switching entity collection off allows an
+	 * {@link net.droidsolutions.droidcharts.core.plot.XYPlot} with append
+	 * rendering enabled to render incrementally.
+	 *
+	 * @param enabled
+	 *            the flag.
+	 *
+	 * @see #isEntityCollectionEnabled()
+	 */
+	public void setEntityCollectionEnabled(boolean enabled) {
+		this.entityCollectionEnabled = enabled;
+	}
+
+	/**
+	 * Returns the callback that is invoked (on the worker thread) each time a
+	 * new bitmap becomes available.
+	 *
+	 * @return The callback (possibly <code>null</code>).
+	 *
+	 * @see #setRenderCallback(Runnable)
+	 */
+	public Runnable getRenderCallback() {
+		return this.renderCallback;
+	}
+
+	/**
+	 * Sets the callback that is invoked (on the worker thread) each time a new
+	 * bitmap becomes available. A view would typically call
+	 * <code>postInvalidate()</code> from the callback.
+	 *
+	 * @param callback
+	 *            the callback (<code>null</code> permitted).
+	 *
+	 * @see #getRenderCallback()
+	 */
+	public void setRenderCallback(Runnable callback) {
+		this.renderCallback = callback;
+	}
+
+	/**
+	 * Sets the size of the rendered bitmap and requests a render if the size
+	 * has changed.
+	 *
+	 * @param width
+	 *            the width (in pixels).
+	 * @param height
+	 *            the height (in pixels).
+	 */
+	public void setSize(int width, int height) {
+		synchronized (this.lock) {
+			if (this.width == width && this.height == height) {
+				return;
+			}
+			this.width = width;
+			this.height = height;
+		}
+		requestRender();
+	}
+
+	/**
+	 * Requests that the chart be rendered again. Requests that arrive before
+	 * a pending render has completed are merged into a single render.
+	 *
+	 * @throws RejectedExecutionException
+	 *             if the executor does not accept the render task (a later
+	 *             request tries again).
+	 */
+	public void requestRender() {
+		synchronized (this.lock) {
+			if (this.shutdown) {
+				return;
+			}
+			this.requestCount++;
+			if (this.renderScheduled) {
+				return;
+			}
+			this.renderScheduled = true;
+		}
+		try {
+			this.executor.execute(this.renderTask);
+		} catch (RuntimeException e) {
+			synchronized (this.lock) {
+				this.renderScheduled = false;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Receives notification of a chart change and requests a render.
+	 *
+	 * @param event
+	 *            the event.
+	 */
+	public void chartChanged(ChartChangeEvent event) {
+		requestRender();
+	}
+
+	/**
+	 * Draws the most recently rendered bitmap, if there is one.
+	 *
+	 * @param canvas
+	 *            the canvas.
+	 * @param x
+	 *            the x-coordinate for the bitmap.
+	 * @param y
+	 *            the y-coordinate for the bitmap.
+	 *
+	 * @return <code>true</code> if a bitmap was drawn.
+	 */
+	public boolean draw(Canvas canvas, float x, float y) {
+		synchronized (this.lock) {
+			if (this.frontBuffer == null) {
+				return false;
+			}
+			canvas.drawBitmap(this.frontBuffer, x, y, null);
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the rendering info for the most recently rendered bitmap.
+	 *
+	 * @return The rendering info (possibly <code>null</code>).
+	 */
+	public ChartRenderingInfo getRenderingInfo() {
+		synchronized (this.lock) {
+			return this.frontInfo;
+		}
+	}
+
+	/**
+	 * Stops rendering, deregisters the service from the chart, shuts down the
+	 * executor (if it was created by this service) and releases the bitmaps.
+	 */
+	public void shutdown() {
+		this.chart.removeChangeListener(this);
+		synchronized (this.lock) {
+			this.shutdown = true;
+			if (this.frontBuffer != null) {
+				this.frontBuffer.recycle();
+				this.frontBuffer = null;
+			}
+			this.frontInfo = null;
+			if (!this.renderScheduled && this.backBuffer != null) {
+				this.backBuffer.recycle();
+				this.backBuffer = null;
+			}
+		}
+		if (this.ownsExecutor) {
+			this.executor.shutdown();
+		}
+	}
+
+	/**
+	 * Renders the chart and swaps the buffers, repeating until no request
+	 * has arrived during the last render. Called on the worker thread. If
+	 * drawing the chart (or the render callback) throws an exception, the
+	 * exception is passed on to the executor and the next request starts a
+	 * new render.
+	 */
+	private void renderPending() {
+		// true while this task is responsible for clearing renderScheduled
+		boolean scheduled = true;
+		try {
+			while (true) {
+				long request;
+				int w;
+				int h;
+				synchronized (this.lock) {
+					if (this.shutdown || this.width <= 0 || this.height <= 0) {
+						this.renderScheduled = false;
+						scheduled = false;
+						releaseBackBuffer();
+						return;
+					}
+					request = this.requestCount;
+					w = this.width;
+					h = this.height;
+				}
+				Bitmap bitmap = this.backBuffer;
+				if (bitmap == null || bitmap.getWidth() != w
+						|| bitmap.getHeight() != h) {
+					if (bitmap != null) {
+						bitmap.recycle();
+					}
+					bitmap = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+					this.backBuffer = bitmap;
+				} else {
+					bitmap.eraseColor(Color.TRANSPARENT);
+				}
+				ChartRenderingInfo info = new ChartRenderingInfo(
+						this.entityCollectionEnabled ? new StandardEntityCollection()
+								: null);
+				this.chart.draw(new Canvas(bitmap), new Rectangle2D.Double(0, 0,
+						w, h), info);
+				Runnable callback = null;
+				boolean again;
+				synchronized (this.lock) {
+					if (!this.shutdown) {
+						// publish this frame even if it is already out of
+						// date, so that the display does not starve
+						this.backBuffer = this.frontBuffer;
+						this.frontBuffer = bitmap;
+						this.frontInfo = info;
+						callback = this.renderCallback;
+					}
+					again = this.requestCount != request && !this.shutdown;
+					if (!again) {
+						this.renderScheduled = false;
+						scheduled = false;
+						releaseBackBuffer();
+					}
+				}
+				if (callback != null) {
+					callback.run();
+				}
+				if (!again) {
+					return;
+				}
+			}
+		} finally {
+			if (scheduled) {
+				synchronized (this.lock) {
+					this.renderScheduled = false;
+					releaseBackBuffer();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Recycles the back buffer. The caller must hold the lock.
+	 */
+	private void releaseBackBuffer() {
+		if (this.shutdown && this.backBuffer != null) {
+			this.backBuffer.recycle();
+			this.backBuffer = null;
+		}
+	}
+
+}
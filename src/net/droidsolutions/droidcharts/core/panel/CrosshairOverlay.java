@@ -0,0 +1,290 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * CrosshairOverlay.java
+ * ---------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.panel;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.core.ChartRenderingInfo;
+import net.droidsolutions.droidcharts.core.JFreeChart;
+import net.droidsolutions.droidcharts.core.axis.ValueAxis;
+import net.droidsolutions.droidcharts.core.plot.PlotOrientation;
+import net.droidsolutions.droidcharts.core.plot.XYPlot;
+
+/**
+ * An overlay that draws a domain and/or range crosshair on top of an
+ * {@link XYPlot}. Because the overlay is painted after the (possibly cached)
+ * chart layers, moving the crosshair does not require the data to be
+ * rendered again.
+ */
+public class CrosshairOverlay implements Overlay, Serializable {
+
+	/** For serialization. */
+	private static final long serialVersionUID = 3920151264958447331L;
+
+	/** The domain value (<code>NaN</code> if no domain crosshair is shown). */
+	private double domainValue;
+
+	/** The range value (<code>NaN</code> if no range crosshair is shown). */
+	private double rangeValue;
+
+	/** The paint used to draw the crosshair lines. */
+	private transient Paint paint;
+
+	/** The stroke width used to draw the crosshair lines. */
+	private float stroke;
+
+	/**
+	 * Creates a new overlay with no crosshairs visible.
+	 */
+	public CrosshairOverlay() {
+		this.domainValue = Double.NaN;
+		this.rangeValue = Double.NaN;
+		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.paint.setColor(Color.BLUE);
+		this.stroke = 1.0f;
+	}
+
+	/**
+	 * Returns the domain value for the crosshair.
+	 * 
+	 * @return The domain value (<code>NaN</code> if the domain crosshair is
+	 *         hidden).
+	 * 
+	 * @see #setDomainValue(double)
+	 */
+	public double getDomainValue() {
+		return this.domainValue;
+	}
+
+	/**
+	 * Sets the domain value for the crosshair. Set the value to
+	 * <code>NaN</code> to hide the domain crosshair.
+	 * 
+	 * @param value
+	 *            the value.
+	 * 
+	 * @see #getDomainValue()
+	 */
+	public void setDomainValue(double value) {
+		this.domainValue = value;
+	}
+
+	/**
+	 * Returns the range value for the crosshair.
+	 * 
+	 * @return The range value (<code>NaN</code> if the range crosshair is
+	 *         hidden).
+	 * 
+	 * @see #setRangeValue(double)
+	 */
+	public double getRangeValue() {
+		return this.rangeValue;
+	}
+
+	/**
+	 * Sets the range value for the crosshair. Set the value to
+	 * <code>NaN</code> to hide the range crosshair.
+	 * 
+	 * @param value
+	 *            the value.
+	 * 
+	 * @see #getRangeValue()
+	 */
+	public void setRangeValue(double value) {
+		this.rangeValue = value;
+	}
+
+	/**
+	 * Returns the paint used to draw the crosshair lines.
+	 * 
+	 * @return The paint (never <code>null</code>).
+	 * 
+	 * @see #setPaint(Paint)
+	 */
+	public Paint getPaint() {
+		return this.paint;
+	}
+
+	/**
+	 * Sets the paint used to draw the crosshair lines.
+	 * 
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 * 
+	 * @see #getPaint()
+	 */
+	public void setPaint(Paint paint) {
+		if (paint == null) {
+			throw new IllegalArgumentException("Null 'paint' argument.");
+		}
+		this.paint = paint;
+	}
+
+	/**
+	 * Returns the stroke width used to draw the crosshair lines.
+	 * 
+	 * @return The stroke width.
+	 * 
+	 * @see #setStroke(float)
+	 */
+	public float getStroke() {
+		return this.stroke;
+	}
+
+	/**
+	 * Sets the stroke width used to draw the crosshair lines.
+	 * 
+	 * @param stroke
+	 *            the stroke width.
+	 * 
+	 * @see #getStroke()
+	 */
+	public void setStroke(float stroke) {
+		this.stroke = stroke;
+	}
+
+	/**
+	 * Paints the crosshairs, if the chart has an {@link XYPlot}.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param chart
+	 *            the chart.
+	 * @param info
+	 *            the rendering info for the chart.
+	 */
+	public void paintOverlay(Canvas g2, JFreeChart chart,
+			ChartRenderingInfo info) {
+		if (info == null || !(chart.getPlot() instanceof XYPlot)) {
+			return;
+		}
+		XYPlot plot = (XYPlot) chart.getPlot();
+		Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+		if (dataArea == null || dataArea.isEmpty()) {
+			return;
+		}
+		boolean vertical = plot.getOrientation() == PlotOrientation.VERTICAL;
+		this.paint.setStyle(Paint.Style.STROKE);
+		this.paint.setStrokeWidth(this.stroke);
+		ValueAxis xAxis = plot.getDomainAxis();
+		if (!Double.isNaN(this.domainValue) && xAxis != null
+				&& xAxis.getRange().contains(this.domainValue)) {
+			float v = (float) xAxis.valueToJava2D(this.domainValue, dataArea,
+					plot.getDomainAxisEdge());
+			drawLine(g2, dataArea, v, vertical);
+		}
+		ValueAxis yAxis = plot.getRangeAxis();
+		if (!Double.isNaN(this.rangeValue) && yAxis != null
+				&& yAxis.getRange().contains(this.rangeValue)) {
+			float v = (float) yAxis.valueToJava2D(this.rangeValue, dataArea,
+					plot.getRangeAxisEdge());
+			drawLine(g2, dataArea, v, !vertical);
+		}
+	}
+
+	/**
+	 * Draws a vertical or horizontal line across the data area.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param v
+	 *            the x-coordinate (vertical line) or y-coordinate (horizontal
+	 *            line).
+	 * @param vertical
+	 *            draw a vertical line?
+	 */
+	private void drawLine(Canvas g2, Rectangle2D dataArea, float v,
+			boolean vertical) {
+		if (vertical) {
+			g2.drawLine(v, (float) dataArea.getMinY(), v,
+					(float) dataArea.getMaxY(), this.paint);
+		} else {
+			g2.drawLine((float) dataArea.getMinX(), v,
+					(float) dataArea.getMaxX(), v, this.paint);
+		}
+	}
+
+	/**
+	 * Provides serialization support. The paint is not serializable, so its
+	 * color is written instead.
+	 * 
+	 * @param stream
+	 *            the output stream.
+	 * 
+	 * @throws IOException
+	 *             if there is an I/O error.
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		stream.defaultWriteObject();
+		stream.writeInt(this.paint.getColor());
+	}
+
+	/**
+	 * Provides serialization support. The paint is re-created from the
+	 * color that was written by {@link #writeObject(ObjectOutputStream)}.
+	 * 
+	 * @param stream
+	 *            the input stream.
+	 * 
+	 * @throws IOException
+	 *             if there is an I/O error.
+	 * @throws ClassNotFoundException
+	 *             if there is a classpath problem.
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		stream.defaultReadObject();
+		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.paint.setColor(stream.readInt());
+	}
+
+}
@@ -0,0 +1,106 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * HandlerChangeScheduler.java
+ * ---------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.panel;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
+
+/**
+ * A {@link ChangeEventDispatcher.Scheduler} that ticks the dispatcher from a
+ * {@link Handler}, so that the merged change events are delivered on the
+ * handler's thread (the main thread by default).  With the default frame
+ * interval this gives at most one chart change event per display frame.
+ */
+public class HandlerChangeScheduler implements ChangeEventDispatcher.Scheduler {
+
+	/** The handler. */
+	private Handler handler;
+
+	/**
+	 * Creates a new scheduler that ticks on the main thread.
+	 */
+	public HandlerChangeScheduler() {
+		this(new Handler(Looper.getMainLooper()));
+	}
+
+	/**
+	 * Creates a new scheduler that ticks on the specified handler.
+	 *
+	 * @param handler
+	 *            the handler (<code>null</code> not permitted).
+	 */
+	public HandlerChangeScheduler(Handler handler) {
+		if (handler == null) {
+			throw new IllegalArgumentException("Null 'handler' argument.");
+		}
+		this.handler = handler;
+	}
+
+	/**
+	 * Returns the handler.
+	 *
+	 * @return The handler (never <code>null</code>).
+	 */
+	public Handler getHandler() {
+		return this.handler;
+	}
+
+	/**
+	 * Posts a tick of the dispatcher to the handler.
+	 *
+	 * @param dispatcher
+	 *            the dispatcher.
+	 * @param delayMillis
+	 *            the delay in milliseconds.
+	 */
+	public void scheduleTick(final ChangeEventDispatcher dispatcher,
+			long delayMillis) {
+		this.handler.postDelayed(new Runnable() {
+			public void run() {
+				dispatcher.tick();
+			}
+		}, delayMillis);
+	}
+
+}
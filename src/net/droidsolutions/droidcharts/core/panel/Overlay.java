@@ -0,0 +1,71 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------
+ * Overlay.java
+ * ------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.panel;
+
+import android.graphics.Canvas;
+
+import net.droidsolutions.droidcharts.core.ChartRenderingInfo;
+import net.droidsolutions.droidcharts.core.JFreeChart;
+
+/**
+ * Defines the interface for an overlay that is painted on top of a chart
+ * after the chart itself has been drawn.
+ *
+ * @see JFreeChart#addOverlay(Overlay)
+ */
+public interface Overlay {
+
+	/**
+	 * Paints the overlay.
+	 *
+	 * @param g2
+	 *            the graphics device.
+	 * @param chart
+	 *            the chart.
+	 * @param info
+	 *            the rendering info for the chart (gives access to the plot
+	 *            and data areas).
+	 */
+	public void paintOverlay(Canvas g2, JFreeChart chart,
+			ChartRenderingInfo info);
+
+}
@@ -46,6 +46,7 @@
  *               1565168 (DG);
  * 06-Feb-2007 : Added new fields and methods to fix bug 1086307 (DG);
  * 26-Jun-2008 : Now tracks dataset index (DG);
+ * 17-Oct-2026 : Added clone() and merge() methods (DS);
  *
  */
 
@@ -58,7 +59,7 @@ import net.droidsolutions.droidcharts.awt.Point2D;
  * calls to the renderer's draw method. This class is used internally by
  * JFreeChart - it is not intended for external use.
  */
-public class CrosshairState {
+public class CrosshairState implements Cloneable {
 
 	/**
 	 * A flag that controls whether the distance is calculated in data space or
@@ -517,4 +518,40 @@ public class CrosshairState {
 		return this.rangeAxisIndex;
 	}
 
+	/**
+	 * Updates this state with the crosshair point from another state, if that
+	 * point is closer to the anchor. The other state is typically a clone of
+	 * this state that was used to render a dataset separately, so merging the
+	 * clones in dataset rendering order gives the same result as rendering
+	 * all the datasets with this state.
+	 * 
+	 * @param state
+	 *            the state (<code>null</code> not permitted).
+	 */
+	public void merge(CrosshairState state) {
+		if (state == null) {
+			throw new IllegalArgumentException("Null 'state' argument.");
+		}
+		if (state.distance < this.distance) {
+			this.crosshairX = state.crosshairX;
+			this.crosshairY = state.crosshairY;
+			this.datasetIndex = state.datasetIndex;
+			this.domainAxisIndex = state.domainAxisIndex;
+			this.rangeAxisIndex = state.rangeAxisIndex;
+			this.distance = state.distance;
+		}
+	}
+
+	/**
+	 * Returns a clone of this state.
+	 * 
+	 * @return A clone.
+	 * 
+	 * @throws CloneNotSupportedException
+	 *             not thrown by this class, but subclasses may differ.
+	 */
+	public Object clone() throws CloneNotSupportedException {
+		return super.clone();
+	}
+
 }
@@ -0,0 +1,167 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * DecimationMode.java
+ * -------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+
+/**
+ * Defines the tokens that indicate how an {@link XYPlot} reduces a dense
+ * series to the items that are actually passed to the renderer.
+ */
+public final class DecimationMode implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3561790342876413263L;
+
+    /** Pass every (visible) item to the renderer. */
+    public static final DecimationMode NONE
+            = new DecimationMode("DecimationMode.NONE");
+
+    /**
+     * For each pixel column along the domain axis, pass only the first, last,
+     * minimum and maximum items to the renderer.  Lines drawn through the
+     * remaining items look the same as lines drawn through all the items.
+     */
+    public static final DecimationMode MIN_MAX
+            = new DecimationMode("DecimationMode.MIN_MAX");
+
+    /**
+     * Pass roughly one item per pixel column to the renderer, chosen with the
+     * Largest-Triangle-Three-Buckets algorithm.  This keeps the shape of the
+     * series but, unlike {@link #MIN_MAX}, does not preserve every extreme
+     * value or gap.
+     */
+    public static final DecimationMode LTTB
+            = new DecimationMode("DecimationMode.LTTB");
+
+    /**
+     * Pass the first and last items, and the minimum and maximum items of
+     * each bucket in the level of an {@link XYSeries} level-of-detail
+     * pyramid that best matches the pixel density, to the renderer.  This
+     * avoids scanning the visible items, so zooming and panning cost about
+     * the same whatever the size of the series.  It applies to the series
+     * of an {@link XYSeriesCollection} that have the level-of-detail pyramid
+     * enabled; other series are decimated as for {@link #MIN_MAX}.
+     */
+    public static final DecimationMode LEVEL_OF_DETAIL
+            = new DecimationMode("DecimationMode.LEVEL_OF_DETAIL");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private DecimationMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string (never <code>null</code>).
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DecimationMode)) {
+            return false;
+        }
+        DecimationMode mode = (DecimationMode) obj;
+        if (!this.name.equals(mode.toString())) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(DecimationMode.NONE)) {
+            return DecimationMode.NONE;
+        }
+        else if (this.equals(DecimationMode.MIN_MAX)) {
+            return DecimationMode.MIN_MAX;
+        }
+        else if (this.equals(DecimationMode.LTTB)) {
+            return DecimationMode.LTTB;
+        }
+        else if (this.equals(DecimationMode.LEVEL_OF_DETAIL)) {
+            return DecimationMode.LEVEL_OF_DETAIL;
+        }
+        return null;
+    }
+
+}
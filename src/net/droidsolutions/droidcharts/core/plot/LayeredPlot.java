@@ -0,0 +1,108 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * LayeredPlot.java
+ * ----------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+import android.graphics.Canvas;
+import net.droidsolutions.droidcharts.awt.Point2D;
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+
+/**
+ * An interface for plots that can draw their axes and their data separately,
+ * so that the {@link net.droidsolutions.droidcharts.core.JFreeChart} layer
+ * cache can redraw the data without redrawing the axes. Drawing the axis
+ * layer and then the data layer for the same area gives the same result as
+ * {@link Plot#draw(Canvas, Rectangle2D, Point2D, PlotState,
+ * PlotRenderingInfo)}.
+ */
+public interface LayeredPlot {
+
+	/**
+	 * Draws the parts of the plot that depend only on the plot and its axes:
+	 * the background, the axes, the tick bands and the gridlines.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area (in Java2D space).
+	 * @param parentState
+	 *            the state from the parent plot, if there is one (
+	 *            <code>null</code> permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 */
+	public void drawAxisLayer(Canvas g2, Rectangle2D area,
+			PlotState parentState, PlotRenderingInfo info);
+
+	/**
+	 * Draws the parts of the plot that are drawn over the axis layer: the
+	 * markers, annotations, data items, crosshairs and outline.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area (in Java2D space).
+	 * @param anchor
+	 *            an anchor point in Java2D space (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 */
+	public void drawDataLayer(Canvas g2, Rectangle2D area, Point2D anchor,
+			PlotRenderingInfo info);
+
+	/**
+	 * Returns <code>true</code> if the axis layer last drawn by
+	 * {@link #drawAxisLayer(Canvas, Rectangle2D, PlotState,
+	 * PlotRenderingInfo)} is still current for the given area, that is, the
+	 * area is the same and no axis range has changed since (for example,
+	 * through an auto-range update after the data changed).
+	 * 
+	 * @param area
+	 *            the plot area (<code>null</code> not permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	public boolean isAxisLayerCurrent(Rectangle2D area);
+
+}
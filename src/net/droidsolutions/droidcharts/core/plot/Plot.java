@@ -125,12 +125,17 @@
  * 15-Aug-2008 : Added setDrawingSupplier() method with notify flag (DG);
  * 13-Jan-2009 : Added notify flag (DG);
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
+ * 17-Oct-2026 : Restored the change listener list, added setNotify() and
+ *               support for a ChangeEventDispatcher (DS);
+ * 17-Oct-2026 : Implemented DatasetChangeListener again (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.plot;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.droidsolutions.droidcharts.awt.Ellipse2D;
 import net.droidsolutions.droidcharts.awt.Font;
@@ -138,16 +143,21 @@ import net.droidsolutions.droidcharts.awt.Point2D;
 import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.awt.Shape;
 import net.droidsolutions.droidcharts.common.Align;
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
 import net.droidsolutions.droidcharts.common.RectangleEdge;
 import net.droidsolutions.droidcharts.common.RectangleInsets;
 import net.droidsolutions.droidcharts.core.JFreeChart;
 import net.droidsolutions.droidcharts.core.LegendItemCollection;
 import net.droidsolutions.droidcharts.core.LegendItemSource;
 import net.droidsolutions.droidcharts.core.axis.AxisLocation;
+import net.droidsolutions.droidcharts.core.data.general.DatasetChangeEvent;
+import net.droidsolutions.droidcharts.core.data.general.DatasetChangeListener;
 import net.droidsolutions.droidcharts.core.data.general.DatasetGroup;
 import net.droidsolutions.droidcharts.core.entity.EntityCollection;
 import net.droidsolutions.droidcharts.core.entity.PlotEntity;
+import net.droidsolutions.droidcharts.core.event.ChartChangeEventType;
 import net.droidsolutions.droidcharts.core.event.PlotChangeEvent;
+import net.droidsolutions.droidcharts.core.event.PlotChangeListener;
 import net.droidsolutions.droidcharts.core.text.G2TextMeasurer;
 import net.droidsolutions.droidcharts.core.text.TextBlock;
 import net.droidsolutions.droidcharts.core.text.TextBlockAnchor;
@@ -162,7 +172,8 @@ import android.graphics.Typeface;
  * delegates the drawing of axes and data to the plot. This base class provides
  * facilities common to most plot types.
  */
-public abstract class Plot implements LegendItemSource, Cloneable, Serializable {
+public abstract class Plot implements DatasetChangeListener,
+		LegendItemSource, Cloneable, Serializable, ChangeEventDispatcher.Source {
 
 	/** For serialization. */
 	private static final long serialVersionUID = -8831571430103671324L;
@@ -267,6 +278,21 @@ public abstract class Plot implements LegendItemSource, Cloneable, Serializable
 	 */
 	private boolean notify;
 
+	/** Storage for registered change listeners. */
+	private transient List listeners;
+
+	/**
+	 * The dispatcher that coalesces change events (<code>null</code> if
+	 * events are sent immediately).
+	 */
+	private transient ChangeEventDispatcher changeDispatcher;
+
+	/**
+	 * The type of the changes recorded since the last dispatch
+	 * (<code>null</code> if there are none).
+	 */
+	private transient ChartChangeEventType pendingType;
+
 	/**
 	 * Creates a new plot.
 	 */
@@ -288,6 +314,7 @@ public abstract class Plot implements LegendItemSource, Cloneable, Serializable
 		this.noDataMessagePaint.setARGB(0, 255, 255, 255);
 
 		this.drawingSupplier = new DefaultDrawingSupplier();
+		this.notify = true;
 
 	}
 
@@ -780,6 +807,174 @@ public abstract class Plot implements LegendItemSource, Cloneable, Serializable
 		return this.notify;
 	}
 
+	/**
+	 * Sets a flag that controls whether or not listeners receive
+	 * {@link PlotChangeEvent} notifications.
+	 * 
+	 * @param notify
+	 *            a boolean.
+	 * 
+	 * @see #isNotify()
+	 * 
+	 * @since 1.0.13
+	 */
+	public void setNotify(boolean notify) {
+		this.notify = notify;
+		// if the flag is being set to true, there may be queued up changes...
+		if (notify) {
+			fireChangeEvent();
+		}
+	}
+
+	/**
+	 * Registers an object for notification of changes to the plot.
+	 * 
+	 * @param listener
+	 *            the object to be registered.
+	 * 
+	 * @see #removeChangeListener(PlotChangeListener)
+	 */
+	public void addChangeListener(PlotChangeListener listener) {
+		if (this.listeners == null) {
+			this.listeners = new ArrayList();
+		}
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Unregisters an object for notification of changes to the plot.
+	 * 
+	 * @param listener
+	 *            the object to be unregistered.
+	 * 
+	 * @see #addChangeListener(PlotChangeListener)
+	 */
+	public void removeChangeListener(PlotChangeListener listener) {
+		if (this.listeners != null) {
+			this.listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Returns the dispatcher that coalesces the change events for this plot.
+	 * 
+	 * @return The dispatcher (possibly <code>null</code>).
+	 * 
+	 * @see #setChangeDispatcher(ChangeEventDispatcher)
+	 */
+	public ChangeEventDispatcher getChangeDispatcher() {
+		return this.changeDispatcher;
+	}
+
+	/**
+	 * Sets the dispatcher that coalesces the change events for this plot.
+	 * While a dispatcher is set, {@link #fireChangeEvent()} only records the
+	 * change and the registered listeners receive a single
+	 * {@link PlotChangeEvent} when the dispatcher next ticks.
+	 * 
+	 * @param dispatcher
+	 *            the dispatcher (<code>null</code> to send events
+	 *            immediately).
+	 * 
+	 * @see #getChangeDispatcher()
+	 */
+	public void setChangeDispatcher(ChangeEventDispatcher dispatcher) {
+		this.changeDispatcher = dispatcher;
+	}
+
+	/**
+	 * Notifies all registered listeners that the plot has been modified.
+	 * 
+	 * @param event
+	 *            information about the change event.
+	 */
+	public void notifyListeners(PlotChangeEvent event) {
+		// if the 'notify' flag has been switched to false, we don't notify
+		// the listeners
+		if (!this.notify || this.listeners == null) {
+			return;
+		}
+		Object[] listenerList = this.listeners.toArray();
+		for (int i = listenerList.length - 1; i >= 0; i--) {
+			((PlotChangeListener) listenerList[i]).plotChanged(event);
+		}
+	}
+
+	/**
+	 * Sends a {@link PlotChangeEvent} to all registered listeners (or, if a
+	 * change dispatcher is set, records the change so that a single event is
+	 * sent when the dispatcher next ticks).
+	 * 
+	 * @since 1.0.10
+	 */
+	protected void fireChangeEvent() {
+		fireChangeEvent(ChartChangeEventType.GENERAL);
+	}
+
+	/**
+	 * Sends a {@link PlotChangeEvent} with the specified type to all
+	 * registered listeners (or, if a change dispatcher is set, records the
+	 * change so that a single event is sent when the dispatcher next ticks;
+	 * the type of that event is <code>type</code> if all the recorded changes
+	 * have the same type, and {@link ChartChangeEventType#GENERAL} otherwise).
+	 * 
+	 * @param type
+	 *            the event type (<code>null</code> not permitted).
+	 */
+	protected void fireChangeEvent(ChartChangeEventType type) {
+		if (type == null) {
+			throw new IllegalArgumentException("Null 'type' argument.");
+		}
+		if (!this.notify) {
+			return;
+		}
+		ChangeEventDispatcher dispatcher = this.changeDispatcher;
+		if (dispatcher != null) {
+			synchronized (this) {
+				if (this.pendingType == null) {
+					this.pendingType = type;
+				} else if (this.pendingType != type) {
+					this.pendingType = ChartChangeEventType.GENERAL;
+				}
+			}
+			dispatcher.post(this);
+		} else {
+			PlotChangeEvent event = new PlotChangeEvent(this);
+			event.setType(type);
+			notifyListeners(event);
+		}
+	}
+
+	/**
+	 * Sends a single {@link PlotChangeEvent} to the registered listeners.
+	 * This is called by the change dispatcher.
+	 */
+	public void dispatchChange() {
+		ChartChangeEventType type;
+		synchronized (this) {
+			type = this.pendingType;
+			this.pendingType = null;
+		}
+		PlotChangeEvent event = new PlotChangeEvent(this);
+		if (type != null) {
+			event.setType(type);
+		}
+		notifyListeners(event);
+	}
+
+	/**
+	 * Receives notification of a change to one of the plot's datasets. This
+	 * implementation sends a {@link PlotChangeEvent} with the type
+	 * {@link ChartChangeEventType#DATASET_UPDATED} to all registered
+	 * listeners. Subclasses typically update their axes first.
+	 * 
+	 * @param event
+	 *            information about the event (not used here).
+	 */
+	public void datasetChanged(DatasetChangeEvent event) {
+		fireChangeEvent(ChartChangeEventType.DATASET_UPDATED);
+	}
+
 	/**
 	 * Draws the plot within the specified area. The anchor is a point on the
 	 * chart that is specified externally (for instance, it may be the last
@@ -0,0 +1,234 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * XYItemLocation.java
+ * -------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+import java.io.Serializable;
+
+/**
+ * The location of a data item in an {@link XYPlot}, as returned by
+ * {@link XYPlot#findNearestItem(double, double, PlotRenderingInfo)}.
+ * Instances of this class are immutable.
+ */
+public final class XYItemLocation implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2945106832516339710L;
+
+    /** The dataset index. */
+    private int datasetIndex;
+
+    /** The series index. */
+    private int series;
+
+    /** The item index. */
+    private int item;
+
+    /** The x-value of the item. */
+    private double xValue;
+
+    /** The y-value of the item. */
+    private double yValue;
+
+    /** The x-coordinate of the item in Java2D space. */
+    private double java2DX;
+
+    /** The y-coordinate of the item in Java2D space. */
+    private double java2DY;
+
+    /** The distance from the query point in Java2D space. */
+    private double distance;
+
+    /**
+     * Creates a new item location.
+     *
+     * @param datasetIndex  the dataset index.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xValue  the x-value of the item.
+     * @param yValue  the y-value of the item.
+     * @param java2DX  the x-coordinate of the item in Java2D space.
+     * @param java2DY  the y-coordinate of the item in Java2D space.
+     * @param distance  the distance from the query point in Java2D space.
+     */
+    public XYItemLocation(int datasetIndex, int series, int item,
+            double xValue, double yValue, double java2DX, double java2DY,
+            double distance) {
+        this.datasetIndex = datasetIndex;
+        this.series = series;
+        this.item = item;
+        this.xValue = xValue;
+        this.yValue = yValue;
+        this.java2DX = java2DX;
+        this.java2DY = java2DY;
+        this.distance = distance;
+    }
+
+    /**
+     * Returns the index of the dataset in the plot.
+     *
+     * @return The dataset index.
+     */
+    public int getDatasetIndex() {
+        return this.datasetIndex;
+    }
+
+    /**
+     * Returns the series index.
+     *
+     * @return The series index.
+     */
+    public int getSeriesIndex() {
+        return this.series;
+    }
+
+    /**
+     * Returns the item index.
+     *
+     * @return The item index.
+     */
+    public int getItem() {
+        return this.item;
+    }
+
+    /**
+     * Returns the x-value of the item.
+     *
+     * @return The x-value.
+     */
+    public double getXValue() {
+        return this.xValue;
+    }
+
+    /**
+     * Returns the y-value of the item.
+     *
+     * @return The y-value.
+     */
+    public double getYValue() {
+        return this.yValue;
+    }
+
+    /**
+     * Returns the x-coordinate of the item in Java2D space.
+     *
+     * @return The x-coordinate.
+     */
+    public double getJava2DX() {
+        return this.java2DX;
+    }
+
+    /**
+     * Returns the y-coordinate of the item in Java2D space.
+     *
+     * @return The y-coordinate.
+     */
+    public double getJava2DY() {
+        return this.java2DY;
+    }
+
+    /**
+     * Returns the distance from the query point to the item in Java2D space.
+     *
+     * @return The distance.
+     */
+    public double getDistance() {
+        return this.distance;
+    }
+
+    /**
+     * Tests this location for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYItemLocation)) {
+            return false;
+        }
+        XYItemLocation that = (XYItemLocation) obj;
+        return this.datasetIndex == that.datasetIndex
+                && this.series == that.series && this.item == that.item
+                && Double.doubleToLongBits(this.xValue)
+                        == Double.doubleToLongBits(that.xValue)
+                && Double.doubleToLongBits(this.yValue)
+                        == Double.doubleToLongBits(that.yValue)
+                && Double.doubleToLongBits(this.java2DX)
+                        == Double.doubleToLongBits(that.java2DX)
+                && Double.doubleToLongBits(this.java2DY)
+                        == Double.doubleToLongBits(that.java2DY)
+                && Double.doubleToLongBits(this.distance)
+                        == Double.doubleToLongBits(that.distance);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 193;
+        result = 37 * result + this.datasetIndex;
+        result = 37 * result + this.series;
+        result = 37 * result + this.item;
+        long temp = Double.doubleToLongBits(this.xValue);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(this.yValue);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        return result;
+    }
+
+    /**
+     * Returns a string representing this location, for debugging.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        return "XYItemLocation[dataset=" + this.datasetIndex + ", series="
+                + this.series + ", item=" + this.item + ", distance="
+                + this.distance + "]";
+    }
+
+}
@@ -0,0 +1,276 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * XYItemTree.java
+ * ---------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+/**
+ * A two-dimensional k-d tree over the Java2D positions of the items in one
+ * series, used by {@link XYPlot} to find the item nearest to a point when
+ * the x-values are not in ascending order.  The tree is stored implicitly in
+ * arrays: the node for the range <code>[lo, hi)</code> is at the middle
+ * index, with the lower half on the left and the upper half on the right.
+ */
+final class XYItemTree {
+
+    /** The x-coordinates. */
+    private double[] x;
+
+    /** The y-coordinates. */
+    private double[] y;
+
+    /** The item indices. */
+    private int[] items;
+
+    /** The number of points. */
+    private int count;
+
+    /** The number of items in the series when the tree was built. */
+    private int itemCount;
+
+    /** The geometry that the positions were calculated with. */
+    private double[] geometry;
+
+    /**
+     * Creates a tree.  The arrays are taken over (not copied) and reordered.
+     *
+     * @param x  the x-coordinates.
+     * @param y  the y-coordinates.
+     * @param items  the item indices.
+     * @param count  the number of points.
+     * @param itemCount  the number of items in the series.
+     * @param geometry  the geometry that the positions were calculated with.
+     */
+    XYItemTree(double[] x, double[] y, int[] items, int count, int itemCount,
+            double[] geometry) {
+        this.x = x;
+        this.y = y;
+        this.items = items;
+        this.count = count;
+        this.itemCount = itemCount;
+        this.geometry = geometry;
+        build(0, count, true);
+    }
+
+    /**
+     * Returns <code>true</code> if the tree was built for the specified item
+     * count and geometry.
+     *
+     * @param itemCount  the item count.
+     * @param geometry  the geometry.
+     *
+     * @return A boolean.
+     */
+    boolean matches(int itemCount, double[] geometry) {
+        if (itemCount != this.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < geometry.length; i++) {
+            if (Double.doubleToLongBits(geometry[i])
+                    != Double.doubleToLongBits(this.geometry[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the item index of a point.
+     *
+     * @param p  the point index.
+     *
+     * @return The item index.
+     */
+    int getItem(int p) {
+        return this.items[p];
+    }
+
+    /**
+     * Returns the x-coordinate of a point.
+     *
+     * @param p  the point index.
+     *
+     * @return The x-coordinate.
+     */
+    double getX(int p) {
+        return this.x[p];
+    }
+
+    /**
+     * Returns the y-coordinate of a point.
+     *
+     * @param p  the point index.
+     *
+     * @return The y-coordinate.
+     */
+    double getY(int p) {
+        return this.y[p];
+    }
+
+    /**
+     * Finds the point nearest to (px, py) that is closer than the specified
+     * distance.
+     *
+     * @param px  the x-coordinate.
+     * @param py  the y-coordinate.
+     * @param maxDistanceSq  the square of the distance.
+     *
+     * @return The point index, or -1 if no point is close enough.
+     */
+    int findNearest(double px, double py, double maxDistanceSq) {
+        double[] best = new double[] {maxDistanceSq, -1.0};
+        search(0, this.count, true, px, py, best);
+        return (int) best[1];
+    }
+
+    /**
+     * Searches a subtree.
+     *
+     * @param lo  the first point index.
+     * @param hi  the point index after the last.
+     * @param splitX  <code>true</code> if the subtree is split on x.
+     * @param px  the x-coordinate.
+     * @param py  the y-coordinate.
+     * @param best  the square of the best distance and the best point index.
+     */
+    private void search(int lo, int hi, boolean splitX, double px, double py,
+            double[] best) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = this.x[mid] - px;
+        double dy = this.y[mid] - py;
+        double d = dx * dx + dy * dy;
+        if (d < best[0]) {
+            best[0] = d;
+            best[1] = mid;
+        }
+        double delta = splitX ? -dx : -dy;
+        if (delta < 0.0) {
+            search(lo, mid, !splitX, px, py, best);
+            if (delta * delta < best[0]) {
+                search(mid + 1, hi, !splitX, px, py, best);
+            }
+        }
+        else {
+            search(mid + 1, hi, !splitX, px, py, best);
+            if (delta * delta < best[0]) {
+                search(lo, mid, !splitX, px, py, best);
+            }
+        }
+    }
+
+    /**
+     * Arranges the points in <code>[lo, hi)</code> into a subtree.
+     *
+     * @param lo  the first point index.
+     * @param hi  the point index after the last.
+     * @param splitX  <code>true</code> to split on x.
+     */
+    private void build(int lo, int hi, boolean splitX) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, splitX ? this.x : this.y);
+            build(lo, mid, !splitX);
+            lo = mid + 1;
+            splitX = !splitX;
+        }
+    }
+
+    /**
+     * Partially sorts the points in <code>[left, right]</code> so that the
+     * point at index <code>k</code> has its final position in the order of
+     * the specified coordinate.
+     *
+     * @param left  the first point index.
+     * @param right  the last point index.
+     * @param k  the index to select.
+     * @param v  the coordinates to order by.
+     */
+    private void select(int left, int right, int k, double[] v) {
+        while (left < right) {
+            double pivot = v[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (v[i] < pivot) {
+                    i++;
+                }
+                while (v[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            }
+            else if (k >= i) {
+                left = i;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Swaps two points.
+     *
+     * @param i  the first point index.
+     * @param j  the second point index.
+     */
+    private void swap(int i, int j) {
+        double t = this.x[i];
+        this.x[i] = this.x[j];
+        this.x[j] = t;
+        t = this.y[i];
+        this.y[i] = this.y[j];
+        this.y[j] = t;
+        int n = this.items[i];
+        this.items[i] = this.items[j];
+        this.items[j] = n;
+    }
+
+}
@@ -230,12 +230,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -247,6 +252,7 @@ import net.droidsolutions.droidcharts.common.Layer;
 import net.droidsolutions.droidcharts.common.ObjectList;
 import net.droidsolutions.droidcharts.common.RectangleEdge;
 import net.droidsolutions.droidcharts.common.RectangleInsets;
+import net.droidsolutions.droidcharts.core.ChartRenderingInfo;
 import net.droidsolutions.droidcharts.core.LegendItem;
 import net.droidsolutions.droidcharts.core.LegendItemCollection;
 import net.droidsolutions.droidcharts.core.anotations.XYAnnotation;
@@ -259,15 +265,24 @@ import net.droidsolutions.droidcharts.core.axis.AxisState;
 import net.droidsolutions.droidcharts.core.axis.TickType;
 import net.droidsolutions.droidcharts.core.axis.ValueAxis;
 import net.droidsolutions.droidcharts.core.axis.ValueTick;
+import net.droidsolutions.droidcharts.core.data.DomainOrder;
 import net.droidsolutions.droidcharts.core.data.Range;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
+import net.droidsolutions.droidcharts.core.data.general.DatasetChangeEvent;
 import net.droidsolutions.droidcharts.core.data.general.DatasetUtilities;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+import net.droidsolutions.droidcharts.core.entity.EntityCollection;
+import net.droidsolutions.droidcharts.core.entity.StandardEntityCollection;
+import net.droidsolutions.droidcharts.core.event.ChartChangeEventType;
 import net.droidsolutions.droidcharts.core.event.RendererChangeEvent;
 import net.droidsolutions.droidcharts.core.event.RendererChangeListener;
+import net.droidsolutions.droidcharts.core.renderer.AbstractRenderer;
 import net.droidsolutions.droidcharts.core.renderer.RendererUtilities;
 import net.droidsolutions.droidcharts.core.renderer.xy.AbstractXYItemRenderer;
 import net.droidsolutions.droidcharts.core.renderer.xy.XYItemRenderer;
 import net.droidsolutions.droidcharts.core.renderer.xy.XYItemRendererState;
+import net.droidsolutions.droidcharts.core.renderer.xy.XYLineAndShapeRenderer;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs. This plot can
@@ -281,7 +296,7 @@ import net.droidsolutions.droidcharts.core.renderer.xy.XYItemRendererState;
  * creating pre-configured charts.
  */
 public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
-		RendererChangeListener, Cloneable {
+		LayeredPlot, RendererChangeListener, Cloneable {
 
 	/** For serialization. */
 	private static final long serialVersionUID = 7044148245716569264L;
@@ -530,6 +545,94 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 	 */
 	private SeriesRenderingOrder seriesRenderingOrder = SeriesRenderingOrder.REVERSE;
 
+	/**
+	 * Controls how dense series are reduced before the items are passed to
+	 * the renderer.
+	 */
+	private DecimationMode decimationMode = DecimationMode.NONE;
+
+	/**
+	 * A flag that controls whether the data items are drawn incrementally
+	 * onto a retained bitmap.
+	 */
+	private boolean appendRenderingEnabled;
+
+	/** The retained data layer (used for append rendering). */
+	private transient Bitmap dataLayer;
+
+	/** The data area for which the data layer was drawn. */
+	private transient Rectangle2D dataLayerArea;
+
+	/** The orientation for which the data layer was drawn. */
+	private transient PlotOrientation dataLayerOrientation;
+
+	/** The axis ranges for which the data layer was drawn. */
+	private transient List dataLayerRanges;
+
+	/** The datasets that have been drawn on the data layer. */
+	private transient XYDataset[] dataLayerDatasets;
+
+	/** The renderers that have drawn the data layer. */
+	private transient XYItemRenderer[] dataLayerRenderers;
+
+	/**
+	 * The series paints, strokes, shapes and visibility flags of the
+	 * renderers when the data layer was drawn.
+	 */
+	private transient List dataLayerStyles;
+
+	/**
+	 * The modification count of each series (by dataset index) when the data
+	 * layer was drawn. Appending items leaves the count unchanged, any other
+	 * change to a series increments it.
+	 */
+	private transient int[][] dataLayerModificationCounts;
+
+	/**
+	 * A flag that is set when the plot or a renderer reports a change, so
+	 * that the data layer is redrawn in full.
+	 */
+	private transient volatile boolean dataLayerInvalid;
+
+	/** The last rendered item index for each series, by dataset index. */
+	private transient int[][] lastRenderedItemIndices;
+
+	/** The plot area for which the axis layer was last drawn. */
+	private transient Rectangle2D axisLayerArea;
+
+	/** The data area calculated when the axis layer was last drawn. */
+	private transient Rectangle2D axisLayerDataArea;
+
+	/** The axis ranges for which the axis layer was last drawn. */
+	private transient List axisLayerRanges;
+
+	/**
+	 * The executor used to render datasets in parallel (<code>null</code> to
+	 * render the datasets one after the other).
+	 */
+	private transient ExecutorService renderExecutor;
+
+	/** The offscreen layers used for parallel rendering, by position. */
+	private transient Bitmap[] datasetLayers;
+
+	/**
+	 * A flag that controls whether the dataset bounds used to auto-range the
+	 * axes are cached between dataset changes.
+	 */
+	private boolean dataRangeCacheEnabled;
+
+	/** The cached dataset bounds for the domain axes, by axis index. */
+	private transient ObjectList domainDataBounds;
+
+	/** The cached dataset bounds for the range axes, by axis index. */
+	private transient ObjectList rangeDataBounds;
+
+	/**
+	 * The k-d trees used to find the nearest item in datasets that are not
+	 * ordered by x-value, keyed by dataset (<code>null</code> until needed).
+	 */
+	private transient Map itemTrees;
+
 	/**
 	 * The weight for this plot (only relevant if this is a subplot in a
 	 * combined plot).
@@ -608,10 +711,11 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		this.datasetToRangeAxesMap = new TreeMap();
 
 		this.annotations = new java.util.ArrayList();
+		this.dataRangeCacheEnabled = true;
 
 		this.datasets.set(0, dataset);
 		if (dataset != null) {
-			// dataset.addChangeListener(this);
+			dataset.addChangeListener(this);
 		}
 
 		this.renderers.set(0, renderer);
@@ -1421,16 +1525,16 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 	public void setDataset(int index, XYDataset dataset) {
 		XYDataset existing = getDataset(index);
 		if (existing != null) {
-			// existing.removeChangeListener(this);
+			existing.removeChangeListener(this);
 		}
 		this.datasets.set(index, dataset);
 		if (dataset != null) {
-			// dataset.addChangeListener(this);
+			dataset.addChangeListener(this);
 		}
 
 		// send a dataset change event to self...
-		// DatasetChangeEvent event = new DatasetChangeEvent(this, dataset);
-		// datasetChanged(event);
+		DatasetChangeEvent event = new DatasetChangeEvent(this, dataset);
+		datasetChanged(event);
 	}
 
 	/**
@@ -1499,7 +1603,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		Integer key = new Integer(index);
 		this.datasetToDomainAxesMap.put(key, new ArrayList(axisIndices));
 		// fake a dataset change event to update axes...
-		// datasetChanged(new DatasetChangeEvent(this, getDataset(index)));
+		datasetChanged(new DatasetChangeEvent(this, getDataset(index)));
 	}
 
 	/**
@@ -1539,7 +1643,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		Integer key = new Integer(index);
 		this.datasetToRangeAxesMap.put(key, new ArrayList(axisIndices));
 		// fake a dataset change event to update axes...
-		// datasetChanged(new DatasetChangeEvent(this, getDataset(index)));
+		datasetChanged(new DatasetChangeEvent(this, getDataset(index)));
 	}
 
 	/**
@@ -1748,6 +1852,732 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		// fireChangeEvent();
 	}
 
+	/**
+	 * Returns the decimation mode.
+	 * 
+	 * @return The mode (never <code>null</code>).
+	 * 
+	 * @see #setDecimationMode(DecimationMode)
+	 */
+	public DecimationMode getDecimationMode() {
+		return this.decimationMode;
+	}
+
+	/**
+	 * Sets the decimation mode and sends a {@link PlotChangeEvent} to all
+	 * registered listeners. When the mode is not {@link DecimationMode#NONE},
+	 * the plot passes only a subset of the items in each series to the
+	 * renderer (typically a few items per pixel column), so the rendering
+	 * cost depends on the width of the data area rather than the number of
+	 * items. Decimation is only applied to renderers whose
+	 * {@link AbstractXYItemRenderer#isDecimationSupported()} method returns
+	 * <code>true</code>, such as
+	 * {@link net.droidsolutions.droidcharts.core.renderer.xy.XYLineAndShapeRenderer},
+	 * which connect each item to
+	 * {@link XYItemRendererState#getPreviousItemIndex(int)}; other renderers
+	 * are passed every item. Shapes and entities are only created for the
+	 * retained items.
+	 * 
+	 * @param mode
+	 *            the mode (<code>null</code> not permitted).
+	 * 
+	 * @see #getDecimationMode()
+	 */
+	public void setDecimationMode(DecimationMode mode) {
+		if (mode == null) {
+			throw new IllegalArgumentException("Null 'mode' argument.");
+		}
+		this.decimationMode = mode;
+		fireChangeEvent();
+	}
+
+	/**
+	 * Returns the flag that controls whether data items are rendered
+	 * incrementally.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setAppendRenderingEnabled(boolean)
+	 */
+	public boolean isAppendRenderingEnabled() {
+		return this.appendRenderingEnabled;
+	}
+
+	/**
+	 * Sets the flag that controls whether data items are rendered
+	 * incrementally and sends a {@link PlotChangeEvent} to all registered
+	 * listeners. When enabled, the plot draws its data items onto a retained
+	 * bitmap and, as long as the data area, orientation, axis ranges,
+	 * datasets, renderers and series styles (paint, stroke, shape and
+	 * visibility) are unchanged and the series have only grown at the end
+	 * (see {@link XYSeries#getModificationCount()}), each drawing renders just
+	 * the items appended since the previous one. Any other change (for
+	 * example, an auto-range update of an axis, an updated item or a plot
+	 * change event) causes a full redraw. Incremental rendering is only used
+	 * for {@link XYSeriesCollection} datasets, and is suspended while
+	 * crosshairs are visible, while entities are being collected and while a
+	 * {@link DecimationMode} other than NONE is in effect.
+	 * 
+	 * @param enabled
+	 *            the flag.
+	 * 
+	 * @see #isAppendRenderingEnabled()
+	 */
+	public void setAppendRenderingEnabled(boolean enabled) {
+		this.appendRenderingEnabled = enabled;
+		if (!enabled) {
+			releaseDataLayer();
+		}
+		// fireChangeEvent();
+	}
+
+	/**
+	 * Returns the executor used to render the datasets in parallel.
+	 * 
+	 * @return The executor (possibly <code>null</code>).
+	 * 
+	 * @see #setRenderExecutor(ExecutorService)
+	 */
+	public ExecutorService getRenderExecutor() {
+		return this.renderExecutor;
+	}
+
+	/**
+	 * Sets the executor used to render the datasets in parallel and sends a
+	 * {@link PlotChangeEvent} to all registered listeners. When an executor
+	 * is set, each dataset is rendered into its own offscreen bitmap on the
+	 * executor and the bitmaps are then drawn in the dataset rendering order.
+	 * Datasets that share a renderer are rendered by the same task, since
+	 * renderers are not thread-safe. The plot does not shut the executor
+	 * down.
+	 * 
+	 * @param executor
+	 *            the executor (<code>null</code> permitted, to render the
+	 *            datasets sequentially).
+	 * 
+	 * @see #getRenderExecutor()
+	 */
+	public void setRenderExecutor(ExecutorService executor) {
+		this.renderExecutor = executor;
+		if (executor == null) {
+			releaseDatasetLayers();
+		}
+		// fireChangeEvent();
+	}
+
+	/**
+	 * Renders all the datasets, in the specified order.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param info
+	 *            the plot rendering info (<code>null</code> permitted).
+	 * @param crosshairState
+	 *            collects crosshair information (<code>null</code> permitted).
+	 * @param reverse
+	 *            render the datasets in reverse order?
+	 * 
+	 * @return A flag that indicates whether any data was actually rendered.
+	 */
+	private boolean renderDatasets(Canvas g2, Rectangle2D dataArea,
+			PlotRenderingInfo info, CrosshairState crosshairState,
+			boolean reverse) {
+		int datasetCount = getDatasetCount();
+		int[] indices = new int[datasetCount];
+		for (int i = 0; i < datasetCount; i++) {
+			indices[i] = reverse ? datasetCount - 1 - i : i;
+		}
+		Canvas dataCanvas = beginDataLayer(g2, dataArea, info);
+		boolean foundData = false;
+		if (dataCanvas == g2 && this.renderExecutor != null
+				&& datasetCount > 1) {
+			foundData = renderParallel(g2, dataArea, indices, info,
+					crosshairState);
+		} else {
+			for (int i = 0; i < datasetCount; i++) {
+				foundData = render(dataCanvas, dataArea, indices[i], info,
+						crosshairState, dataCanvas != g2)
+						|| foundData;
+			}
+		}
+		endDataLayer(g2, dataArea, dataCanvas);
+		return foundData;
+	}
+
+	/**
+	 * Renders the datasets into offscreen layers using the render executor,
+	 * then draws the layers in order and merges the crosshair state and
+	 * entities collected for each layer.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param indices
+	 *            the dataset indices, in rendering order.
+	 * @param info
+	 *            the plot rendering info (<code>null</code> permitted).
+	 * @param crosshairState
+	 *            collects crosshair information (<code>null</code> permitted).
+	 * 
+	 * @return A flag that indicates whether any data was actually rendered.
+	 */
+	private boolean renderParallel(Canvas g2, Rectangle2D dataArea,
+			int[] indices, PlotRenderingInfo info,
+			CrosshairState crosshairState) {
+		int width = (int) Math.ceil(dataArea.getWidth());
+		int height = (int) Math.ceil(dataArea.getHeight());
+		if (width <= 0 || height <= 0) {
+			return false;
+		}
+		int count = indices.length;
+		Bitmap[] layers = getDatasetLayers(count, width, height);
+		CrosshairState[] states = new CrosshairState[count];
+		PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+		boolean[] found = new boolean[count];
+		EntityCollection entities = null;
+		if (info != null && info.getOwner() != null) {
+			entities = info.getOwner().getEntityCollection();
+		}
+
+		// group the layers by renderer, since a renderer must not be used by
+		// two threads at the same time
+		Map tasks = new IdentityHashMap();
+		List taskList = new ArrayList();
+		for (int i = 0; i < count; i++) {
+			int index = indices[i];
+			XYItemRenderer renderer = getRenderer(index);
+			if (renderer == null) {
+				renderer = getRenderer();
+			}
+			XYDataset dataset = getDataset(index);
+			if (renderer != null && dataset != null) {
+				// resolve the series attributes on this thread, since the
+				// drawing supplier is shared by all renderers
+				for (int s = 0; s < dataset.getSeriesCount(); s++) {
+					renderer.getItemPaint(s, 0);
+					renderer.getItemOutlinePaint(s, 0);
+					renderer.getItemStroke(s, 0);
+					renderer.getItemOutlineStroke(s, 0);
+					renderer.getItemShape(s, 0);
+				}
+			}
+			if (crosshairState != null) {
+				try {
+					states[i] = (CrosshairState) crosshairState.clone();
+				} catch (CloneNotSupportedException e) {
+					throw new RuntimeException(e.getMessage());
+				}
+			}
+			if (info != null) {
+				StandardEntityCollection layerEntities = null;
+				if (entities != null) {
+					layerEntities = new StandardEntityCollection();
+					if (entities instanceof StandardEntityCollection) {
+						layerEntities
+								.setVirtualItemEntities(((StandardEntityCollection) entities)
+										.isVirtualItemEntities());
+					}
+				}
+				ChartRenderingInfo layerOwner = new ChartRenderingInfo(
+						layerEntities);
+				infos[i] = layerOwner.getPlotInfo();
+				infos[i].setPlotArea(info.getPlotArea());
+				infos[i].setDataArea(info.getDataArea());
+			}
+			DatasetLayerTask task = (DatasetLayerTask) tasks.get(renderer);
+			if (task == null) {
+				task = new DatasetLayerTask(dataArea, indices, layers, infos,
+						states, found);
+				tasks.put(renderer, task);
+				taskList.add(task);
+			}
+			task.add(i);
+		}
+
+		List futures = new ArrayList();
+		for (int t = 0; t < taskList.size(); t++) {
+			futures.add(this.renderExecutor.submit((Runnable) taskList.get(t)));
+		}
+		for (int t = 0; t < futures.size(); t++) {
+			try {
+				((Future) futures.get(t)).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while rendering.");
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new RuntimeException(String.valueOf(cause));
+			}
+		}
+
+		boolean foundData = false;
+		float x = (float) dataArea.getX();
+		float y = (float) dataArea.getY();
+		for (int i = 0; i < count; i++) {
+			if (found[i]) {
+				g2.drawBitmap(layers[i], x, y, null);
+				foundData = true;
+			}
+			if (crosshairState != null) {
+				crosshairState.merge(states[i]);
+			}
+			if (entities != null) {
+				entities.addAll(infos[i].getOwner().getEntityCollection());
+			}
+		}
+		return foundData;
+	}
+
+	/**
+	 * Returns cleared offscreen layers for parallel rendering, reusing the
+	 * existing layers where possible.
+	 * 
+	 * @param count
+	 *            the number of layers.
+	 * @param width
+	 *            the layer width.
+	 * @param height
+	 *            the layer height.
+	 * 
+	 * @return The layers.
+	 */
+	private Bitmap[] getDatasetLayers(int count, int width, int height) {
+		if (this.datasetLayers != null && this.datasetLayers.length > 0
+				&& (this.datasetLayers[0].getWidth() != width
+						|| this.datasetLayers[0].getHeight() != height)) {
+			releaseDatasetLayers();
+		}
+		if (this.datasetLayers == null || this.datasetLayers.length != count) {
+			Bitmap[] layers = new Bitmap[count];
+			int reused = 0;
+			if (this.datasetLayers != null) {
+				reused = Math.min(count, this.datasetLayers.length);
+				System.arraycopy(this.datasetLayers, 0, layers, 0, reused);
+				for (int i = reused; i < this.datasetLayers.length; i++) {
+					this.datasetLayers[i].recycle();
+				}
+			}
+			for (int i = reused; i < count; i++) {
+				layers[i] = Bitmap.createBitmap(width, height,
+						Bitmap.Config.ARGB_8888);
+			}
+			this.datasetLayers = layers;
+		}
+		for (int i = 0; i < count; i++) {
+			this.datasetLayers[i].eraseColor(Color.TRANSPARENT);
+		}
+		return this.datasetLayers;
+	}
+
+	/**
+	 * Releases the offscreen layers used for parallel rendering.
+	 */
+	private void releaseDatasetLayers() {
+		if (this.datasetLayers != null) {
+			for (int i = 0; i < this.datasetLayers.length; i++) {
+				this.datasetLayers[i].recycle();
+			}
+			this.datasetLayers = null;
+		}
+	}
+
+	/**
+	 * A task that renders one or more datasets (all using the same renderer)
+	 * into their offscreen layers.
+	 */
+	private class DatasetLayerTask implements Runnable {
+
+		/** The data area. */
+		private Rectangle2D dataArea;
+
+		/** The dataset indices, by layer position. */
+		private int[] indices;
+
+		/** The layers. */
+		private Bitmap[] layers;
+
+		/** The rendering info for each layer. */
+		private PlotRenderingInfo[] infos;
+
+		/** The crosshair state for each layer. */
+		private CrosshairState[] states;
+
+		/** Records whether any data was rendered in each layer. */
+		private boolean[] found;
+
+		/** The layer positions rendered by this task. */
+		private List positions;
+
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param dataArea
+		 *            the data area.
+		 * @param indices
+		 *            the dataset indices, by layer position.
+		 * @param layers
+		 *            the layers.
+		 * @param infos
+		 *            the rendering info for each layer.
+		 * @param states
+		 *            the crosshair state for each layer.
+		 * @param found
+		 *            records whether any data was rendered in each layer.
+		 */
+		DatasetLayerTask(Rectangle2D dataArea, int[] indices,
+				Bitmap[] layers, PlotRenderingInfo[] infos,
+				CrosshairState[] states, boolean[] found) {
+			this.dataArea = dataArea;
+			this.indices = indices;
+			this.layers = layers;
+			this.infos = infos;
+			this.states = states;
+			this.found = found;
+			this.positions = new ArrayList();
+		}
+
+		/**
+		 * Adds a layer position to the task.
+		 * 
+		 * @param position
+		 *            the position.
+		 */
+		void add(int position) {
+			this.positions.add(new Integer(position));
+		}
+
+		/**
+		 * Renders the datasets.
+		 */
+		public void run() {
+			for (int p = 0; p < this.positions.size(); p++) {
+				int i = ((Integer) this.positions.get(p)).intValue();
+				Canvas canvas = new Canvas(this.layers[i]);
+				canvas.translate((float) -this.dataArea.getX(),
+						(float) -this.dataArea.getY());
+				this.found[i] = render(canvas, this.dataArea,
+						this.indices[i], this.infos[i], this.states[i],
+						false);
+			}
+		}
+	}
+
+	/**
+	 * Sends a {@link PlotChangeEvent} with the specified type to all
+	 * registered listeners. Any change other than a dataset update also
+	 * causes the next drawing to redraw the retained data layer in full.
+	 * 
+	 * @param type
+	 *            the event type (<code>null</code> not permitted).
+	 */
+	protected void fireChangeEvent(ChartChangeEventType type) {
+		if (type != ChartChangeEventType.DATASET_UPDATED) {
+			this.dataLayerInvalid = true;
+		}
+		super.fireChangeEvent(type);
+	}
+
+	/**
+	 * Returns the canvas that data items should be rendered to. If append
+	 * rendering is possible this is a canvas for the retained data layer
+	 * (which is cleared first if it cannot be reused), otherwise it is
+	 * <code>g2</code>.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param info
+	 *            the plot rendering info (<code>null</code> permitted).
+	 * 
+	 * @return The canvas for rendering data items.
+	 */
+	private Canvas beginDataLayer(Canvas g2, Rectangle2D dataArea,
+			PlotRenderingInfo info) {
+		if (!this.appendRenderingEnabled || !canRenderIncrementally(info)) {
+			releaseDataLayer();
+			return g2;
+		}
+		int width = (int) Math.ceil(dataArea.getWidth());
+		int height = (int) Math.ceil(dataArea.getHeight());
+		if (width <= 0 || height <= 0) {
+			return g2;
+		}
+		List ranges = getAxisRanges();
+		if (this.dataLayer == null || this.dataLayer.getWidth() != width
+				|| this.dataLayer.getHeight() != height) {
+			releaseDataLayer();
+			this.dataLayer = Bitmap.createBitmap(width, height,
+					Bitmap.Config.ARGB_8888);
+		} else if (this.dataLayerInvalid
+				|| !dataArea.equals(this.dataLayerArea)
+				|| getOrientation() != this.dataLayerOrientation
+				|| !ranges.equals(this.dataLayerRanges)
+				|| !getRendererStyles().equals(this.dataLayerStyles)
+				|| !isAppendOnly()) {
+			this.dataLayer.eraseColor(Color.TRANSPARENT);
+			this.lastRenderedItemIndices = null;
+		}
+		this.dataLayerInvalid = false;
+		this.dataLayerArea = (Rectangle2D) dataArea.clone();
+		this.dataLayerOrientation = getOrientation();
+		this.dataLayerRanges = ranges;
+		this.dataLayerStyles = getRendererStyles();
+		int datasetCount = getDatasetCount();
+		this.dataLayerDatasets = new XYDataset[datasetCount];
+		this.dataLayerRenderers = new XYItemRenderer[datasetCount];
+		this.dataLayerModificationCounts = new int[datasetCount][];
+		for (int i = 0; i < datasetCount; i++) {
+			XYDataset dataset = getDataset(i);
+			this.dataLayerDatasets[i] = dataset;
+			this.dataLayerRenderers[i] = getRendererForDataset(dataset);
+			if (dataset != null) {
+				XYSeriesCollection collection = (XYSeriesCollection) dataset;
+				int[] counts = new int[collection.getSeriesCount()];
+				for (int s = 0; s < counts.length; s++) {
+					counts[s] = collection.getSeries(s)
+							.getModificationCount();
+				}
+				this.dataLayerModificationCounts[i] = counts;
+			}
+		}
+		Canvas canvas = new Canvas(this.dataLayer);
+		canvas.translate((float) -dataArea.getX(), (float) -dataArea.getY());
+		return canvas;
+	}
+
+	/**
+	 * Draws the retained data layer, if the data items were rendered to it.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param dataCanvas
+	 *            the canvas returned by
+	 *            {@link #beginDataLayer(Canvas, Rectangle2D, PlotRenderingInfo)}.
+	 */
+	private void endDataLayer(Canvas g2, Rectangle2D dataArea,
+			Canvas dataCanvas) {
+		if (dataCanvas != g2) {
+			g2.drawBitmap(this.dataLayer, (float) dataArea.getX(),
+					(float) dataArea.getY(), null);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the data items can be rendered
+	 * incrementally. This is not possible if the renderers must see every
+	 * item again (to collect entities or crosshair values, or to decimate a
+	 * series), or if a dataset cannot report changes to existing items (only
+	 * an {@link XYSeriesCollection} can, through
+	 * {@link XYSeries#getModificationCount()}).
+	 * 
+	 * @param info
+	 *            the plot rendering info (<code>null</code> permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	private boolean canRenderIncrementally(PlotRenderingInfo info) {
+		if (this.decimationMode != DecimationMode.NONE
+				|| isDomainCrosshairVisible() || isRangeCrosshairVisible()) {
+			return false;
+		}
+		for (int i = 0; i < getDatasetCount(); i++) {
+			XYDataset dataset = getDataset(i);
+			if (dataset != null && !(dataset instanceof XYSeriesCollection)) {
+				return false;
+			}
+		}
+		return info == null || info.getOwner() == null
+				|| info.getOwner().getEntityCollection() == null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the datasets and renderers are the ones
+	 * that drew the data layer and the series have only had items added at
+	 * the end since then.
+	 * 
+	 * @return A boolean.
+	 */
+	private boolean isAppendOnly() {
+		int datasetCount = getDatasetCount();
+		if (this.dataLayerDatasets == null
+				|| this.dataLayerDatasets.length != datasetCount) {
+			return false;
+		}
+		for (int i = 0; i < datasetCount; i++) {
+			XYDataset dataset = getDataset(i);
+			XYItemRenderer renderer = getRendererForDataset(dataset);
+			if (dataset != this.dataLayerDatasets[i]
+					|| renderer != this.dataLayerRenderers[i]) {
+				return false;
+			}
+			if (dataset == null) {
+				continue;
+			}
+			XYSeriesCollection collection = (XYSeriesCollection) dataset;
+			int[] counts = this.dataLayerModificationCounts[i];
+			if (counts.length != collection.getSeriesCount()) {
+				return false;
+			}
+			int[] lastRendered = getLastRenderedItemIndices(i);
+			for (int s = 0; s < counts.length; s++) {
+				XYSeries series = collection.getSeries(s);
+				if (series.getModificationCount() != counts[s]) {
+					return false;
+				}
+				if (lastRendered != null && s < lastRendered.length
+						&& lastRendered[s] >= series.getItemCount()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the series paints, strokes, shapes and visibility flags of the
+	 * renderers, so that a change to any of them can be detected (renderers
+	 * do not report their changes to the plot).
+	 * 
+	 * @return A list that is equal to an earlier list if nothing has changed.
+	 */
+	private List getRendererStyles() {
+		List styles = new ArrayList();
+		for (int i = 0; i < getDatasetCount(); i++) {
+			XYDataset dataset = getDataset(i);
+			XYItemRenderer renderer = getRendererForDataset(dataset);
+			if (dataset == null || renderer == null) {
+				continue;
+			}
+			for (int s = 0; s < dataset.getSeriesCount(); s++) {
+				styles.add(Boolean.valueOf(renderer.getItemVisible(s, 0)));
+				if (renderer instanceof AbstractRenderer) {
+					AbstractRenderer r = (AbstractRenderer) renderer;
+					addPaintStyle(styles, r.getItemPaint(s, 0));
+					addPaintStyle(styles, r.getItemFillPaint(s, 0));
+					addPaintStyle(styles, r.getItemOutlinePaint(s, 0));
+					styles.add(r.getItemStroke(s, 0));
+					styles.add(r.getItemOutlineStroke(s, 0));
+					styles.add(r.getItemShape(s, 0));
+				}
+				if (renderer instanceof XYLineAndShapeRenderer) {
+					XYLineAndShapeRenderer r;
+					r = (XYLineAndShapeRenderer) renderer;
+					styles.add(Boolean.valueOf(r.getItemLineVisible(s, 0)));
+					styles.add(Boolean.valueOf(r.getItemShapeVisible(s, 0)));
+					styles.add(Boolean.valueOf(r.getItemShapeFilled(s, 0)));
+				}
+			}
+			if (renderer instanceof XYLineAndShapeRenderer) {
+				XYLineAndShapeRenderer r = (XYLineAndShapeRenderer) renderer;
+				styles.add(Boolean.valueOf(r.getDrawOutlines()));
+				styles.add(Boolean.valueOf(r.getUseFillPaint()));
+				styles.add(Boolean.valueOf(r.getUseOutlinePaint()));
+				styles.add(Boolean.valueOf(r.getDrawSeriesLineAsPath()));
+				styles.add(Boolean.valueOf(r.getFastLineMode()));
+			}
+		}
+		return styles;
+	}
+
+	/**
+	 * Adds a paint and its current color to a list of renderer styles (a
+	 * paint can be changed without being replaced).
+	 * 
+	 * @param styles
+	 *            the styles.
+	 * @param paint
+	 *            the paint (<code>null</code> permitted).
+	 */
+	private static void addPaintStyle(List styles, Paint paint) {
+		styles.add(paint);
+		styles.add(paint != null ? new Integer(paint.getColor()) : null);
+	}
+
+	/**
+	 * Returns the ranges of the domain axes followed by the ranges of the
+	 * range axes (<code>null</code> for a missing axis).
+	 * 
+	 * @return A list of ranges.
+	 */
+	private List getAxisRanges() {
+		List ranges = new ArrayList();
+		for (int i = 0; i < getDomainAxisCount(); i++) {
+			ValueAxis axis = getDomainAxis(i);
+			ranges.add(axis != null ? axis.getRange() : null);
+		}
+		for (int i = 0; i < getRangeAxisCount(); i++) {
+			ValueAxis axis = getRangeAxis(i);
+			ranges.add(axis != null ? axis.getRange() : null);
+		}
+		return ranges;
+	}
+
+	/**
+	 * Releases the retained data layer.
+	 */
+	private void releaseDataLayer() {
+		if (this.dataLayer != null) {
+			this.dataLayer.recycle();
+			this.dataLayer = null;
+		}
+		this.dataLayerArea = null;
+		this.dataLayerRanges = null;
+		this.dataLayerDatasets = null;
+		this.dataLayerRenderers = null;
+		this.dataLayerStyles = null;
+		this.dataLayerModificationCounts = null;
+		this.lastRenderedItemIndices = null;
+	}
+
+	/**
+	 * Returns the last rendered item indices (by series) for a dataset.
+	 * 
+	 * @param index
+	 *            the dataset index.
+	 * 
+	 * @return The indices (possibly <code>null</code>).
+	 */
+	private int[] getLastRenderedItemIndices(int index) {
+		if (this.lastRenderedItemIndices == null
+				|| index >= this.lastRenderedItemIndices.length) {
+			return null;
+		}
+		return this.lastRenderedItemIndices[index];
+	}
+
+	/**
+	 * Records the last rendered item indices (by series) for a dataset.
+	 * 
+	 * @param index
+	 *            the dataset index.
+	 * @param indices
+	 *            the indices (<code>null</code> permitted).
+	 */
+	private void setLastRenderedItemIndices(int index, int[] indices) {
+		if (this.lastRenderedItemIndices == null
+				|| index >= this.lastRenderedItemIndices.length) {
+			int[][] grown = new int[index + 1][];
+			if (this.lastRenderedItemIndices != null) {
+				System.arraycopy(this.lastRenderedItemIndices, 0, grown, 0,
+						this.lastRenderedItemIndices.length);
+			}
+			this.lastRenderedItemIndices = grown;
+		}
+		this.lastRenderedItemIndices[index] = indices;
+	}
+
 	/**
 	 * Returns the index of the specified renderer, or <code>-1</code> if the
 	 * renderer is not assigned to this plot.
@@ -3271,18 +4101,209 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		RectangleInsets insets = getInsets();
 		insets.trim(area);
 
-		AxisSpace space = calculateAxisSpace(g2, area);
-		Rectangle2D dataArea = space.shrink(area, null);
-		this.axisOffset.trim(dataArea);
+		Rectangle2D dataArea = calculateDataArea(g2, area);
+		createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+		if (info != null) {
+			info.setDataArea(dataArea);
+		}
+
+		renderAxisLayer(g2, area, dataArea, parentState, info);
+		renderDataLayer(g2, dataArea, anchor, info);
+	}
+
+	/**
+	 * Draws the background, axes, tick bands and gridlines of the plot. This
+	 * is the first part of
+	 * {@link #draw(Canvas, Rectangle2D, Point2D, PlotState, PlotRenderingInfo)}
+	 * , and can be cached separately from the data layer.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area (in Java2D space).
+	 * @param parentState
+	 *            the state from the parent plot, if there is one (
+	 *            <code>null</code> permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 * 
+	 * @see #drawDataLayer(Canvas, Rectangle2D, Point2D, PlotRenderingInfo)
+	 */
+	public void drawAxisLayer(Canvas g2, Rectangle2D area,
+			PlotState parentState, PlotRenderingInfo info) {
+		this.axisLayerArea = null;
+		if (area.getWidth() <= MINIMUM_WIDTH_TO_DRAW
+				|| area.getHeight() <= MINIMUM_HEIGHT_TO_DRAW) {
+			return;
+		}
+		Rectangle2D plotArea = (Rectangle2D) area.clone();
+		getInsets().trim(plotArea);
+		Rectangle2D dataArea = calculateDataArea(g2, plotArea);
+		renderAxisLayer(g2, plotArea, dataArea, parentState, info);
+		this.axisLayerArea = (Rectangle2D) area.clone();
+		this.axisLayerDataArea = dataArea;
+		this.axisLayerRanges = getAxisRanges();
+	}
+
+	/**
+	 * Draws the markers, annotations, data items, crosshairs and outline of
+	 * the plot. This is the second part of
+	 * {@link #draw(Canvas, Rectangle2D, Point2D, PlotState, PlotRenderingInfo)}
+	 * , and records the plot area, data area and plot entity in
+	 * <code>info</code>.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area (in Java2D space).
+	 * @param anchor
+	 *            an anchor point in Java2D space (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 * 
+	 * @see #drawAxisLayer(Canvas, Rectangle2D, PlotState, PlotRenderingInfo)
+	 */
+	public void drawDataLayer(Canvas g2, Rectangle2D area, Point2D anchor,
+			PlotRenderingInfo info) {
+		if (area.getWidth() <= MINIMUM_WIDTH_TO_DRAW
+				|| area.getHeight() <= MINIMUM_HEIGHT_TO_DRAW) {
+			return;
+		}
+		Rectangle2D plotArea = (Rectangle2D) area.clone();
+		getInsets().trim(plotArea);
+		Rectangle2D dataArea;
+		if (isAxisLayerCurrent(area)) {
+			dataArea = (Rectangle2D) this.axisLayerDataArea.clone();
+		} else {
+			dataArea = calculateDataArea(g2, plotArea);
+		}
+		if (info != null) {
+			info.setPlotArea(plotArea);
+		}
 		createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
 		if (info != null) {
 			info.setDataArea(dataArea);
 		}
+		renderDataLayer(g2, dataArea, anchor, info);
+	}
+
+	/**
+	 * Returns <code>true</code> if the axis layer drawn by the last call to
+	 * {@link #drawAxisLayer(Canvas, Rectangle2D, PlotState, PlotRenderingInfo)}
+	 * was drawn for the same area and axis ranges.
+	 * 
+	 * @param area
+	 *            the plot area (<code>null</code> not permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	public boolean isAxisLayerCurrent(Rectangle2D area) {
+		if (area == null) {
+			throw new IllegalArgumentException("Null 'area' argument.");
+		}
+		return this.axisLayerArea != null && this.axisLayerArea.equals(area)
+				&& getAxisRanges().equals(this.axisLayerRanges);
+	}
+
+	/**
+	 * Calculates the data area for a plot area (after the insets have been
+	 * removed), leaving space for the axes.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area, less the insets.
+	 * 
+	 * @return The data area.
+	 */
+	private Rectangle2D calculateDataArea(Canvas g2, Rectangle2D area) {
+		AxisSpace space = calculateAxisSpace(g2, area);
+		Rectangle2D dataArea = space.shrink(area, null);
+		this.axisOffset.trim(dataArea);
+		return dataArea;
+	}
+
+	/**
+	 * Draws the background, axes, tick bands and gridlines.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param area
+	 *            the plot area, less the insets.
+	 * @param dataArea
+	 *            the data area.
+	 * @param parentState
+	 *            the state from the parent plot (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 */
+	private void renderAxisLayer(Canvas g2, Rectangle2D area,
+			Rectangle2D dataArea, PlotState parentState,
+			PlotRenderingInfo info) {
 
 		// draw the plot background and axes...
 		drawBackground(g2, dataArea);
 		Map axisStateMap = drawAxes(g2, area, dataArea, info);
 
+		g2.save();
+		g2.clipRect((float) dataArea.getMinX(), (float) dataArea.getMinY(),
+				(float) dataArea.getMaxX(), (float) dataArea.getMaxY());
+
+		AxisState domainAxisState = (AxisState) axisStateMap
+				.get(getDomainAxis());
+		if (domainAxisState == null) {
+			if (parentState != null) {
+				domainAxisState = (AxisState) parentState.getSharedAxisStates()
+						.get(getDomainAxis());
+			}
+		}
+
+		AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
+		if (rangeAxisState == null) {
+			if (parentState != null) {
+				rangeAxisState = (AxisState) parentState.getSharedAxisStates()
+						.get(getRangeAxis());
+			}
+		}
+		if (domainAxisState != null) {
+			drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
+		}
+		if (rangeAxisState != null) {
+			drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
+		}
+		if (domainAxisState != null) {
+			drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
+			drawZeroDomainBaseline(g2, dataArea);
+		}
+		if (rangeAxisState != null) {
+			drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
+			drawZeroRangeBaseline(g2, dataArea);
+		}
+		g2.restore();
+	}
+
+	/**
+	 * Draws the markers, annotations, data items, crosshairs and outline.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the data area.
+	 * @param anchor
+	 *            an anchor point in Java2D space (<code>null</code>
+	 *            permitted).
+	 * @param info
+	 *            collects chart drawing information (<code>null</code>
+	 *            permitted).
+	 */
+	private void renderDataLayer(Canvas g2, Rectangle2D dataArea,
+			Point2D anchor, PlotRenderingInfo info) {
+
 		PlotOrientation orient = getOrientation();
 
 		// the anchor point is typically the point where the mouse last
@@ -3329,37 +4350,6 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		g2.clipRect((float) dataArea.getMinX(), (float) dataArea.getMinY(),
 				(float) dataArea.getMaxX(), (float) dataArea.getMaxY());
 
-		AxisState domainAxisState = (AxisState) axisStateMap
-				.get(getDomainAxis());
-		if (domainAxisState == null) {
-			if (parentState != null) {
-				domainAxisState = (AxisState) parentState.getSharedAxisStates()
-						.get(getDomainAxis());
-			}
-		}
-
-		AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
-		if (rangeAxisState == null) {
-			if (parentState != null) {
-				rangeAxisState = (AxisState) parentState.getSharedAxisStates()
-						.get(getRangeAxis());
-			}
-		}
-		if (domainAxisState != null) {
-			drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
-		}
-		if (rangeAxisState != null) {
-			drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
-		}
-		if (domainAxisState != null) {
-			drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
-			drawZeroDomainBaseline(g2, dataArea);
-		}
-		if (rangeAxisState != null) {
-			drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
-			drawZeroRangeBaseline(g2, dataArea);
-		}
-
 		// draw the markers that are associated with a specific renderer...
 		for (int i = 0; i < this.renderers.size(); i++) {
 			drawDomainMarkers(g2, dataArea, i, Layer.BACKGROUND);
@@ -3386,10 +4376,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 			}
 
 			// render data items...
-			for (int i = 0; i < getDatasetCount(); i++) {
-				foundData = render(g2, dataArea, i, info, crosshairState)
-						|| foundData;
-			}
+			foundData = renderDatasets(g2, dataArea, info, crosshairState,
+					false) || foundData;
 
 			// draw foreground annotations
 			for (int i = 0; i < rendererCount; i++) {
@@ -3419,10 +4407,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 				}
 			}
 
-			for (int i = getDatasetCount() - 1; i >= 0; i--) {
-				foundData = render(g2, dataArea, i, info, crosshairState)
-						|| foundData;
-			}
+			foundData = renderDatasets(g2, dataArea, info, crosshairState,
+					true) || foundData;
 
 			// draw foreground annotations
 			for (int i = rendererCount - 1; i >= 0; i--) {
@@ -3822,6 +4808,35 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 	 */
 	public boolean render(Canvas g2, Rectangle2D dataArea, int index,
 			PlotRenderingInfo info, CrosshairState crosshairState) {
+		return render(g2, dataArea, index, info, crosshairState, false);
+	}
+
+	/**
+	 * Draws a representation of the data within the dataArea region. When
+	 * <code>incremental</code> is <code>true</code>, only the items added
+	 * since the last incremental drawing of the dataset are rendered. The
+	 * renderer state carries the index of the last item rendered previously,
+	 * so that the renderer can connect the new items to it without drawing
+	 * it again.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the region in which the data is to be drawn.
+	 * @param index
+	 *            the dataset index.
+	 * @param info
+	 *            an optional object for collection dimension information.
+	 * @param crosshairState
+	 *            collects crosshair information (<code>null</code> permitted).
+	 * @param incremental
+	 *            render only the newly appended items?
+	 * 
+	 * @return A flag that indicates whether any data was actually rendered.
+	 */
+	private boolean render(Canvas g2, Rectangle2D dataArea, int index,
+			PlotRenderingInfo info, CrosshairState crosshairState,
+			boolean incremental) {
 
 		boolean foundData = false;
 		XYDataset dataset = getDataset(index);
@@ -3842,65 +4857,195 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
 			XYItemRendererState state = renderer.initialise(g2, dataArea, this,
 					dataset, info);
+			if (incremental) {
+				state.setLastRenderedItemIndices(getLastRenderedItemIndices(
+						index));
+			}
 			int passCount = renderer.getPassCount();
+			int seriesCount = dataset.getSeriesCount();
+			boolean decimating = this.decimationMode != DecimationMode.NONE
+					&& renderer instanceof AbstractXYItemRenderer
+					&& ((AbstractXYItemRenderer) renderer)
+							.isDecimationSupported();
+
+			// find the items to render for each series (once for all passes)
+			int[] firstItems = new int[seriesCount];
+			int[] lastItems = new int[seriesCount];
+			int[][] selections = new int[seriesCount][];
+			for (int series = 0; series < seriesCount; series++) {
+				int firstItem = 0;
+				int lastItem = dataset.getItemCount(series) - 1;
+				if (lastItem >= 0 && state.getProcessVisibleItemsOnly()) {
+					int[] itemBounds = RendererUtilities.findLiveItems(
+							dataset, series, xAxis.getLowerBound(),
+							xAxis.getUpperBound());
+					firstItem = Math.max(itemBounds[0] - 1, 0);
+					lastItem = Math.min(itemBounds[1] + 1, lastItem);
+				}
+				if (incremental) {
+					int lastRendered = state.getLastRenderedItemIndex(series);
+					if (lastRendered >= lastItem) {
+						// nothing new to draw for this series
+						firstItem = lastItem + 1;
+					} else {
+						// the renderer connects the first new item to the
+						// last rendered one, which is not drawn again
+						firstItem = Math.max(firstItem, lastRendered + 1);
+					}
+				} else if (decimating && firstItem <= lastItem) {
+					selections[series] = decimate(dataset, series, firstItem,
+							lastItem, xAxis, dataArea);
+				}
+				firstItems[series] = firstItem;
+				lastItems[series] = lastItem;
+			}
 
 			SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
 			if (seriesOrder == SeriesRenderingOrder.REVERSE) {
 				// render series in reverse order
 				for (int pass = 0; pass < passCount; pass++) {
-					int seriesCount = dataset.getSeriesCount();
 					for (int series = seriesCount - 1; series >= 0; series--) {
-						int firstItem = 0;
-						int lastItem = dataset.getItemCount(series) - 1;
-						if (lastItem == -1) {
-							continue;
-						}
-						if (state.getProcessVisibleItemsOnly()) {
-							int[] itemBounds = RendererUtilities.findLiveItems(
-									dataset, series, xAxis.getLowerBound(),
-									xAxis.getUpperBound());
-							firstItem = Math.max(itemBounds[0] - 1, 0);
-							lastItem = Math.min(itemBounds[1] + 1, lastItem);
-						}
-						state.startSeriesPass(dataset, series, firstItem,
-								lastItem, pass, passCount);
-						for (int item = firstItem; item <= lastItem; item++) {
-							renderer.drawItem(g2, state, dataArea, info, this,
-									xAxis, yAxis, dataset, series, item,
-									crosshairState, pass);
-						}
-						state.endSeriesPass(dataset, series, firstItem,
-								lastItem, pass, passCount);
+						renderSeries(g2, dataArea, info, crosshairState,
+								renderer, state, xAxis, yAxis, dataset,
+								series, firstItems[series], lastItems[series],
+								selections[series], pass, passCount);
 					}
 				}
 			} else {
 				// render series in forward order
 				for (int pass = 0; pass < passCount; pass++) {
-					int seriesCount = dataset.getSeriesCount();
 					for (int series = 0; series < seriesCount; series++) {
-						int firstItem = 0;
-						int lastItem = dataset.getItemCount(series) - 1;
-						if (state.getProcessVisibleItemsOnly()) {
-							int[] itemBounds = RendererUtilities.findLiveItems(
-									dataset, series, xAxis.getLowerBound(),
-									xAxis.getUpperBound());
-							firstItem = Math.max(itemBounds[0] - 1, 0);
-							lastItem = Math.min(itemBounds[1] + 1, lastItem);
-						}
-						state.startSeriesPass(dataset, series, firstItem,
-								lastItem, pass, passCount);
-						for (int item = firstItem; item <= lastItem; item++) {
-							renderer.drawItem(g2, state, dataArea, info, this,
-									xAxis, yAxis, dataset, series, item,
-									crosshairState, pass);
-						}
-						state.endSeriesPass(dataset, series, firstItem,
-								lastItem, pass, passCount);
+						renderSeries(g2, dataArea, info, crosshairState,
+								renderer, state, xAxis, yAxis, dataset,
+								series, firstItems[series], lastItems[series],
+								selections[series], pass, passCount);
 					}
 				}
 			}
+
+			if (incremental) {
+				for (int series = 0; series < seriesCount; series++) {
+					if (firstItems[series] <= lastItems[series]) {
+						state.setLastRenderedItemIndex(series,
+								lastItems[series]);
+					}
+				}
+				setLastRenderedItemIndices(index, state
+						.getLastRenderedItemIndices());
+			}
+		}
+		return foundData;
+	}
+
+	/**
+	 * Renders one pass through the items of a series.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param dataArea
+	 *            the region in which the data is to be drawn.
+	 * @param info
+	 *            an optional object for collection dimension information.
+	 * @param crosshairState
+	 *            collects crosshair information (<code>null</code> permitted).
+	 * @param renderer
+	 *            the renderer.
+	 * @param state
+	 *            the renderer state.
+	 * @param xAxis
+	 *            the domain axis.
+	 * @param yAxis
+	 *            the range axis.
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index.
+	 * @param firstItem
+	 *            the index of the first item to render.
+	 * @param lastItem
+	 *            the index of the last item to render.
+	 * @param selection
+	 *            the decimated item indices (<code>null</code> to render all
+	 *            items from <code>firstItem</code> to <code>lastItem</code>).
+	 * @param pass
+	 *            the pass index.
+	 * @param passCount
+	 *            the number of passes.
+	 */
+	private void renderSeries(Canvas g2, Rectangle2D dataArea,
+			PlotRenderingInfo info, CrosshairState crosshairState,
+			XYItemRenderer renderer, XYItemRendererState state,
+			ValueAxis xAxis, ValueAxis yAxis, XYDataset dataset, int series,
+			int firstItem, int lastItem, int[] selection, int pass,
+			int passCount) {
+		if (lastItem < firstItem) {
+			return;
+		}
+		state.setItemSelection(selection);
+		state.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+				passCount);
+		if (selection == null) {
+			for (int item = firstItem; item <= lastItem; item++) {
+				renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+						yAxis, dataset, series, item, crosshairState, pass);
+			}
+		} else {
+			for (int i = 0; i < selection.length; i++) {
+				renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+						yAxis, dataset, series, selection[i], crosshairState,
+						pass);
+			}
+		}
+		state.endSeriesPass(dataset, series, firstItem, lastItem, pass,
+				passCount);
+	}
+
+	/**
+	 * Selects the items in a series that are passed to the renderer,
+	 * according to the current decimation mode.
+	 * 
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index.
+	 * @param firstItem
+	 *            the index of the first item to render.
+	 * @param lastItem
+	 *            the index of the last item to render.
+	 * @param xAxis
+	 *            the domain axis.
+	 * @param dataArea
+	 *            the data area.
+	 * 
+	 * @return The selected item indices, or <code>null</code> to render all
+	 *         items from <code>firstItem</code> to <code>lastItem</code>.
+	 */
+	private int[] decimate(XYDataset dataset, int series, int firstItem,
+			int lastItem, ValueAxis xAxis, Rectangle2D dataArea) {
+		if (lastItem - firstItem < 3) {
+			return null;
+		}
+		RectangleEdge domainEdge = getDomainAxisEdge();
+		if (this.decimationMode == DecimationMode.MIN_MAX) {
+			return RendererUtilities.decimateMinMax(dataset, series,
+					firstItem, lastItem, xAxis, dataArea, domainEdge);
+		} else if (this.decimationMode == DecimationMode.LTTB) {
+			return RendererUtilities.decimateLTTB(dataset, series, firstItem,
+					lastItem, RendererUtilities.getDomainPixelCount(dataArea,
+							domainEdge));
+		} else if (this.decimationMode == DecimationMode.LEVEL_OF_DETAIL) {
+			if (dataset instanceof XYSeriesCollection) {
+				XYSeries s = ((XYSeriesCollection) dataset).getSeries(series);
+				if (s.isLevelOfDetailEnabled()) {
+					return s.getLevelOfDetailSelection(firstItem, lastItem,
+							RendererUtilities.getDomainPixelCount(dataArea,
+									domainEdge));
+				}
+			}
+			return RendererUtilities.decimateMinMax(dataset, series,
+					firstItem, lastItem, xAxis, dataArea, domainEdge);
 		}
-		return foundData;
+		return null;
 	}
 
 	/**
@@ -4471,6 +5616,307 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		}
 	}
 
+	/**
+	 * Returns the data item nearest to a point in Java2D space, using the
+	 * axis ranges and data area from the last time the plot was drawn.  Only
+	 * the items of the visible series that lie within the data area are
+	 * considered.  Since no rendering is needed, this can be used to move the
+	 * crosshair to an item while a touch is dragged across the plot.
+	 * <P>
+	 * For a dataset with x-values in ascending order, the item with the
+	 * nearest x-value is found with a binary search and the neighbouring
+	 * items are scanned until they are further away along the domain axis
+	 * than the nearest item found so far.  For other datasets, a k-d tree of
+	 * the item positions is built on the first query and reused until the
+	 * dataset or the plot geometry changes.
+	 * 
+	 * @param x
+	 *            the x-coordinate (in Java2D space).
+	 * @param y
+	 *            the y-coordinate (in Java2D space).
+	 * @param info
+	 *            the plot rendering info (<code>null</code> not permitted).
+	 * 
+	 * @return The nearest item (<code>null</code> if there are no items).
+	 * 
+	 * @see #findNearestItem(double, double, PlotRenderingInfo, double)
+	 */
+	public XYItemLocation findNearestItem(double x, double y,
+			PlotRenderingInfo info) {
+		return findNearestItem(x, y, info, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the data item nearest to a point in Java2D space that is no
+	 * further away than the specified distance (see
+	 * {@link #findNearestItem(double, double, PlotRenderingInfo)}).
+	 * 
+	 * @param x
+	 *            the x-coordinate (in Java2D space).
+	 * @param y
+	 *            the y-coordinate (in Java2D space).
+	 * @param info
+	 *            the plot rendering info (<code>null</code> not permitted).
+	 * @param maxDistance
+	 *            the maximum distance (in Java2D units).
+	 * 
+	 * @return The nearest item (<code>null</code> if there is no item
+	 *         within the distance).
+	 */
+	public XYItemLocation findNearestItem(double x, double y,
+			PlotRenderingInfo info, double maxDistance) {
+		if (info == null) {
+			throw new IllegalArgumentException("Null 'info' argument.");
+		}
+		Rectangle2D dataArea = info.getDataArea();
+		boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+		double domainPos = vertical ? x : y;
+		double rangePos = vertical ? y : x;
+		Map oldTrees = this.itemTrees;
+		Map trees = new IdentityHashMap();
+
+		XYItemLocation result = null;
+		double bestSq = maxDistance * maxDistance;
+		for (int d = 0; d < this.datasets.size(); d++) {
+			XYDataset dataset = getDataset(d);
+			XYItemRenderer r = getRendererForDataset(dataset);
+			ValueAxis xAxis = getDomainAxisForDataset(d);
+			ValueAxis yAxis = getRangeAxisForDataset(d);
+			if (dataset == null || r == null || xAxis == null
+					|| yAxis == null) {
+				continue;
+			}
+			RectangleEdge xEdge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
+			RectangleEdge yEdge = getRangeAxisEdge(getRangeAxisIndex(yAxis));
+			boolean ascending = (dataset.getDomainOrder() == DomainOrder.ASCENDING);
+			double[] geometry = null;
+			XYItemTree[] seriesTrees = null;
+			if (!ascending) {
+				geometry = new double[] { dataArea.getX(), dataArea.getY(),
+						dataArea.getWidth(), dataArea.getHeight(),
+						xAxis.getLowerBound(), xAxis.getUpperBound(),
+						yAxis.getLowerBound(), yAxis.getUpperBound(),
+						vertical ? 0.0 : 1.0, xEdge.hashCode(),
+						yEdge.hashCode(), xAxis.isInverted() ? 1.0 : 0.0,
+						yAxis.isInverted() ? 1.0 : 0.0 };
+				seriesTrees = new XYItemTree[dataset.getSeriesCount()];
+				trees.put(dataset, seriesTrees);
+			}
+
+			for (int s = 0; s < dataset.getSeriesCount(); s++) {
+				if (!r.isSeriesVisible(s) || dataset.getItemCount(s) == 0) {
+					continue;
+				}
+				if (ascending) {
+					XYItemLocation location = findNearestAscendingItem(
+							dataset, d, s, domainPos, rangePos, dataArea,
+							xAxis, xEdge, yAxis, yEdge, bestSq);
+					if (location != null) {
+						result = location;
+						bestSq = location.getDistance()
+								* location.getDistance();
+					}
+					continue;
+				}
+				int itemCount = dataset.getItemCount(s);
+				XYItemTree tree = null;
+				if (oldTrees != null) {
+					XYItemTree[] old = (XYItemTree[]) oldTrees.get(dataset);
+					if (old != null && s < old.length && old[s] != null
+							&& old[s].matches(itemCount, geometry)) {
+						tree = old[s];
+					}
+				}
+				if (tree == null) {
+					tree = createItemTree(dataset, s, dataArea, xAxis, xEdge,
+							yAxis, yEdge, geometry);
+				}
+				seriesTrees[s] = tree;
+				int p = tree.findNearest(domainPos, rangePos, bestSq);
+				if (p >= 0) {
+					int item = tree.getItem(p);
+					double dx = tree.getX(p) - domainPos;
+					double dy = tree.getY(p) - rangePos;
+					double distSq = dx * dx + dy * dy;
+					result = createItemLocation(dataset, d, s, item,
+							tree.getX(p), tree.getY(p), Math.sqrt(distSq));
+					bestSq = distSq;
+				}
+			}
+		}
+		this.itemTrees = trees;
+		return result;
+	}
+
+	/**
+	 * Finds the item in a series with ascending x-values that is nearest to
+	 * a point.  The coordinates are given along the domain and range axes.
+	 * 
+	 * @param dataset
+	 *            the dataset.
+	 * @param datasetIndex
+	 *            the dataset index.
+	 * @param series
+	 *            the series index.
+	 * @param domainPos
+	 *            the coordinate of the point along the domain axis.
+	 * @param rangePos
+	 *            the coordinate of the point along the range axis.
+	 * @param dataArea
+	 *            the data area.
+	 * @param xAxis
+	 *            the domain axis.
+	 * @param xEdge
+	 *            the domain axis edge.
+	 * @param yAxis
+	 *            the range axis.
+	 * @param yEdge
+	 *            the range axis edge.
+	 * @param maxDistanceSq
+	 *            the square of the maximum distance.
+	 * 
+	 * @return The item location, or <code>null</code> if there is no item
+	 *         closer than the specified distance.
+	 */
+	private XYItemLocation findNearestAscendingItem(XYDataset dataset,
+			int datasetIndex, int series, double domainPos, double rangePos,
+			Rectangle2D dataArea, ValueAxis xAxis, RectangleEdge xEdge,
+			ValueAxis yAxis, RectangleEdge yEdge, double maxDistanceSq) {
+		int itemCount = dataset.getItemCount(series);
+		double xx = xAxis.java2DToValue(domainPos, dataArea, xEdge);
+		int start = 0;
+		if (!Double.isNaN(xx) && !Double.isInfinite(xx)) {
+			start = RendererUtilities.findLiveItemsLowerBound(dataset, series,
+					xx, Double.POSITIVE_INFINITY);
+		}
+		double bestSq = maxDistanceSq;
+		int bestItem = -1;
+		double bestDomain = 0.0;
+		double bestRange = 0.0;
+
+		// scan outwards from the start until the items are further away
+		// along the domain axis than the best item so far
+		boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+		for (int step = 0; step < 2; step++) {
+			int i = (step == 0 ? start : start - 1);
+			int di = (step == 0 ? 1 : -1);
+			for (; i >= 0 && i < itemCount; i += di) {
+				double tx = xAxis.valueToJava2D(dataset.getXValue(series, i),
+						dataArea, xEdge);
+				if (Double.isNaN(tx)) {
+					continue;
+				}
+				double dx = tx - domainPos;
+				if (dx * dx >= bestSq) {
+					break;
+				}
+				double ty = yAxis.valueToJava2D(dataset.getYValue(series, i),
+						dataArea, yEdge);
+				if (Double.isNaN(ty)) {
+					continue;
+				}
+				double dy = ty - rangePos;
+				double distSq = dx * dx + dy * dy;
+				if (distSq < bestSq
+						&& (vertical ? dataArea.contains(tx, ty) : dataArea
+								.contains(ty, tx))) {
+					bestSq = distSq;
+					bestItem = i;
+					bestDomain = tx;
+					bestRange = ty;
+				}
+			}
+		}
+		if (bestItem < 0) {
+			return null;
+		}
+		return createItemLocation(dataset, datasetIndex, series, bestItem,
+				bestDomain, bestRange, Math.sqrt(bestSq));
+	}
+
+	/**
+	 * Creates a k-d tree of the positions of the items in a series that lie
+	 * within the data area.
+	 * 
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index.
+	 * @param dataArea
+	 *            the data area.
+	 * @param xAxis
+	 *            the domain axis.
+	 * @param xEdge
+	 *            the domain axis edge.
+	 * @param yAxis
+	 *            the range axis.
+	 * @param yEdge
+	 *            the range axis edge.
+	 * @param geometry
+	 *            the values that the tree is only valid for.
+	 * 
+	 * @return The tree.
+	 */
+	private XYItemTree createItemTree(XYDataset dataset, int series,
+			Rectangle2D dataArea, ValueAxis xAxis, RectangleEdge xEdge,
+			ValueAxis yAxis, RectangleEdge yEdge, double[] geometry) {
+		boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+		int itemCount = dataset.getItemCount(series);
+		double[] xs = new double[itemCount];
+		double[] ys = new double[itemCount];
+		int[] items = new int[itemCount];
+		int count = 0;
+		for (int i = 0; i < itemCount; i++) {
+			double tx = xAxis.valueToJava2D(dataset.getXValue(series, i),
+					dataArea, xEdge);
+			double ty = yAxis.valueToJava2D(dataset.getYValue(series, i),
+					dataArea, yEdge);
+			if (Double.isNaN(tx) || Double.isNaN(ty)) {
+				continue;
+			}
+			if (vertical ? !dataArea.contains(tx, ty) : !dataArea.contains(
+					ty, tx)) {
+				continue;
+			}
+			xs[count] = tx;
+			ys[count] = ty;
+			items[count] = i;
+			count++;
+		}
+		return new XYItemTree(xs, ys, items, count, itemCount, geometry);
+	}
+
+	/**
+	 * Creates the location of an item, given its coordinates along the
+	 * domain and range axes.
+	 * 
+	 * @param dataset
+	 *            the dataset.
+	 * @param datasetIndex
+	 *            the dataset index.
+	 * @param series
+	 *            the series index.
+	 * @param item
+	 *            the item index.
+	 * @param domainPos
+	 *            the coordinate of the item along the domain axis.
+	 * @param rangePos
+	 *            the coordinate of the item along the range axis.
+	 * @param distance
+	 *            the distance from the query point.
+	 * 
+	 * @return The location.
+	 */
+	private XYItemLocation createItemLocation(XYDataset dataset,
+			int datasetIndex, int series, int item, double domainPos,
+			double rangePos, double distance) {
+		boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+		return new XYItemLocation(datasetIndex, series, item,
+				dataset.getXValue(series, item),
+				dataset.getYValue(series, item), vertical ? domainPos
+						: rangePos, vertical ? rangePos : domainPos, distance);
+	}
+
 	/**
 	 * A utility method that returns a list of datasets that are mapped to a
 	 * particular axis.
@@ -4579,6 +6025,13 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
 	/**
 	 * Returns the range for the specified axis.
+	 * <P>
+	 * If the data range cache is enabled (see
+	 * {@link #setDataRangeCacheEnabled(boolean)}), the bounds of each dataset
+	 * are remembered for each axis and only found again after the dataset has
+	 * sent a change event. When only items have been appended to the series
+	 * of an {@link XYSeriesCollection}, the remembered bounds are widened
+	 * with the new items instead.
 	 * 
 	 * @param axis
 	 *            the axis.
@@ -4627,43 +6080,65 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 			}
 		}
 
+		// the cached bounds can be used unless the axis is both a domain and
+		// a range axis
+		ObjectList cache = null;
+		int cacheIndex = -1;
+		DatasetBounds[] cached = null;
+		if (this.dataRangeCacheEnabled && (domainIndex < 0 || rangeIndex < 0)) {
+			if (isDomainAxis) {
+				if (this.domainDataBounds == null) {
+					this.domainDataBounds = new ObjectList();
+				}
+				cache = this.domainDataBounds;
+				cacheIndex = domainIndex;
+			} else {
+				if (this.rangeDataBounds == null) {
+					this.rangeDataBounds = new ObjectList();
+				}
+				cache = this.rangeDataBounds;
+				cacheIndex = rangeIndex;
+			}
+			if (cacheIndex >= 0) {
+				cached = (DatasetBounds[]) cache.get(cacheIndex);
+			}
+		}
+
 		// iterate through the datasets that map to the axis and get the union
 		// of the ranges.
-		Iterator iterator = mappedDatasets.iterator();
-		while (iterator.hasNext()) {
-			XYDataset d = (XYDataset) iterator.next();
-			if (d != null) {
-				XYItemRenderer r = getRendererForDataset(d);
-				if (isDomainAxis) {
-					if (r != null) {
-						result = Range.combine(result, r.findDomainBounds(d));
-					} else {
-						result = Range.combine(result, DatasetUtilities
-								.findDomainBounds(d));
-					}
-				} else {
-					if (r != null) {
-						result = Range.combine(result, r.findRangeBounds(d));
-					} else {
-						result = Range.combine(result, DatasetUtilities
-								.findRangeBounds(d));
-					}
-				}
-				// FIXME: the XYItemRenderer interface doesn't specify the
-				// getAnnotations() method but it should
-				if (r instanceof AbstractXYItemRenderer) {
-					AbstractXYItemRenderer rr = (AbstractXYItemRenderer) r;
-					Collection c = rr.getAnnotations();
-					Iterator i = c.iterator();
-					while (i.hasNext()) {
-						XYAnnotation a = (XYAnnotation) i.next();
-						if (a instanceof XYAnnotationBoundsInfo) {
-							includedAnnotations.add(a);
-						}
+		DatasetBounds[] bounds = new DatasetBounds[mappedDatasets.size()];
+		for (int d = 0; d < bounds.length; d++) {
+			XYDataset dataset = (XYDataset) mappedDatasets.get(d);
+			if (dataset == null) {
+				continue;
+			}
+			XYItemRenderer r = getRendererForDataset(dataset);
+			DatasetBounds b = null;
+			if (cached != null && d < cached.length) {
+				b = cached[d];
+			}
+			if (b == null || !refreshDatasetBounds(b, dataset, r, isDomainAxis)) {
+				b = createDatasetBounds(dataset, r, isDomainAxis);
+			}
+			bounds[d] = b;
+			result = Range.combine(result, b.bounds);
+			// FIXME: the XYItemRenderer interface doesn't specify the
+			// getAnnotations() method but it should
+			if (r instanceof AbstractXYItemRenderer) {
+				AbstractXYItemRenderer rr = (AbstractXYItemRenderer) r;
+				Collection c = rr.getAnnotations();
+				Iterator i = c.iterator();
+				while (i.hasNext()) {
+					XYAnnotation a = (XYAnnotation) i.next();
+					if (a instanceof XYAnnotationBoundsInfo) {
+						includedAnnotations.add(a);
 					}
 				}
 			}
 		}
+		if (cache != null && cacheIndex >= 0) {
+			cache.set(cacheIndex, bounds);
+		}
 
 		Iterator it = includedAnnotations.iterator();
 		while (it.hasNext()) {
@@ -4681,24 +6156,360 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
 	}
 
-	/*  *//**
+	/**
+	 * Finds the bounds of a dataset along a domain or range axis, and records
+	 * what is needed to tell later whether they are still current.
+	 * 
+	 * @param dataset
+	 *            the dataset (<code>null</code> not permitted).
+	 * @param r
+	 *            the renderer for the dataset (<code>null</code> permitted).
+	 * @param isDomainAxis
+	 *            a flag that indicates whether the bounds are for a domain
+	 *            axis.
+	 * 
+	 * @return The bounds.
+	 */
+	private DatasetBounds createDatasetBounds(XYDataset dataset,
+			XYItemRenderer r, boolean isDomainAxis) {
+		DatasetBounds b = new DatasetBounds();
+		b.dataset = dataset;
+		b.renderer = r;
+		b.cacheable = (r == null || r instanceof AbstractXYItemRenderer);
+		b.visibleOnly = (r instanceof AbstractXYItemRenderer)
+				&& ((AbstractXYItemRenderer) r)
+						.getDataBoundsIncludesVisibleSeriesOnly();
+		int seriesCount = dataset.getSeriesCount();
+		if (b.visibleOnly) {
+			b.visible = new boolean[seriesCount];
+			for (int s = 0; s < seriesCount; s++) {
+				b.visible[s] = r.isSeriesVisible(s);
+			}
+		}
+		if (!isDomainAxis) {
+			b.xRange = getBoundsDomainRange(r, b.visibleOnly);
+		}
+
+		// record the series before the bounds are found, so that any change
+		// made in the meantime is detected later
+		XYSeriesCollection collection = null;
+		if (b.cacheable && dataset instanceof XYSeriesCollection) {
+			collection = (XYSeriesCollection) dataset;
+			b.series = new XYSeries[seriesCount];
+			b.modificationCounts = new int[seriesCount];
+			b.itemCounts = new int[seriesCount];
+			for (int s = 0; s < seriesCount; s++) {
+				XYSeries series = collection.getSeries(s);
+				b.series[s] = series;
+				b.modificationCounts[s] = series.getModificationCount();
+				b.itemCounts[s] = series.getItemCount();
+			}
+		}
+
+		if (isDomainAxis) {
+			if (r != null) {
+				b.bounds = r.findDomainBounds(dataset);
+			} else {
+				b.bounds = DatasetUtilities.findDomainBounds(dataset);
+			}
+		} else {
+			if (r != null) {
+				b.bounds = r.findRangeBounds(dataset);
+			} else {
+				b.bounds = DatasetUtilities.findRangeBounds(dataset);
+			}
+		}
+
+		// the x-values of the items included in the bounds of a range axis
+		if (collection != null && !isDomainAxis) {
+			for (int s = 0; s < seriesCount; s++) {
+				if (b.visibleOnly && !b.visible[s]) {
+					continue;
+				}
+				XYSeries series = b.series[s];
+				double minX = series.getMinX();
+				double maxX = series.getMaxX();
+				if (!Double.isNaN(minX) && !Double.isNaN(maxX)) {
+					b.xExtent = Range.combine(b.xExtent, new Range(minX, maxX));
+				}
+			}
+		}
+		b.valid = true;
+		return b;
+	}
+
+	/**
+	 * Checks whether the cached bounds of a dataset are still current and,
+	 * if items have only been appended to the series of an
+	 * {@link XYSeriesCollection}, widens them to include the new items.
+	 * 
+	 * @param b
+	 *            the cached bounds (<code>null</code> not permitted).
+	 * @param dataset
+	 *            the dataset (<code>null</code> not permitted).
+	 * @param r
+	 *            the renderer for the dataset (<code>null</code> permitted).
+	 * @param isDomainAxis
+	 *            a flag that indicates whether the bounds are for a domain
+	 *            axis.
+	 * 
+	 * @return <code>true</code> if the bounds are current, and
+	 *         <code>false</code> if they must be found again.
+	 */
+	private boolean refreshDatasetBounds(DatasetBounds b, XYDataset dataset,
+			XYItemRenderer r, boolean isDomainAxis) {
+		if (!b.cacheable || b.dataset != dataset || b.renderer != r) {
+			return false;
+		}
+		// renderer changes are not reported to the plot, so check the
+		// settings that the renderer uses to find the bounds
+		boolean visibleOnly = (r instanceof AbstractXYItemRenderer)
+				&& ((AbstractXYItemRenderer) r)
+						.getDataBoundsIncludesVisibleSeriesOnly();
+		if (visibleOnly != b.visibleOnly) {
+			return false;
+		}
+		if (visibleOnly) {
+			int seriesCount = dataset.getSeriesCount();
+			if (seriesCount != b.visible.length) {
+				return false;
+			}
+			for (int s = 0; s < seriesCount; s++) {
+				if (r.isSeriesVisible(s) != b.visible[s]) {
+					return false;
+				}
+			}
+		}
+		Range xRange = null;
+		if (!isDomainAxis) {
+			xRange = getBoundsDomainRange(r, visibleOnly);
+		}
+		boolean sameXRange = (xRange == null ? b.xRange == null : xRange
+				.equals(b.xRange));
+		if (b.valid && sameXRange) {
+			return true;
+		}
+
+		// the dataset or the domain range has changed...the bounds can only
+		// be widened if nothing but appends have happened
+		if (b.series == null) {
+			return false;
+		}
+		XYSeriesCollection collection = (XYSeriesCollection) dataset;
+		int seriesCount = b.series.length;
+		if (collection.getSeriesCount() != seriesCount) {
+			return false;
+		}
+		int[] itemCounts = new int[seriesCount];
+		for (int s = 0; s < seriesCount; s++) {
+			XYSeries series = collection.getSeries(s);
+			if (series != b.series[s]) {
+				return false;
+			}
+			itemCounts[s] = series.getItemCount();
+			if (series.getModificationCount() != b.modificationCounts[s]
+					|| itemCounts[s] < b.itemCounts[s]) {
+				return false;
+			}
+		}
+		// with a new domain range, the old items only give the same bounds
+		// if all of them lie within both the old and the new range
+		if (!sameXRange && b.xExtent != null) {
+			if (!contains(b.xRange, b.xExtent) || !contains(xRange, b.xExtent)) {
+				return false;
+			}
+		}
+
+		Range bounds = b.bounds;
+		Range xExtent = b.xExtent;
+		for (int s = 0; s < seriesCount; s++) {
+			if (visibleOnly && !b.visible[s]) {
+				continue;
+			}
+			XYSeries series = b.series[s];
+			double lower = Double.POSITIVE_INFINITY;
+			double upper = Double.NEGATIVE_INFINITY;
+			double minX = Double.POSITIVE_INFINITY;
+			double maxX = Double.NEGATIVE_INFINITY;
+			for (int i = b.itemCounts[s]; i < itemCounts[s]; i++) {
+				double x = series.getXValue(i);
+				if (Double.isNaN(x)) {
+					continue;
+				}
+				if (isDomainAxis) {
+					lower = Math.min(lower, x);
+					upper = Math.max(upper, x);
+				} else {
+					minX = Math.min(minX, x);
+					maxX = Math.max(maxX, x);
+					double y = series.getYValue(i);
+					if (!Double.isNaN(y)
+							&& (xRange == null || xRange.contains(x))) {
+						lower = Math.min(lower, y);
+						upper = Math.max(upper, y);
+					}
+				}
+			}
+			if (lower <= upper) {
+				bounds = Range.combine(bounds, new Range(lower, upper));
+			}
+			if (minX <= maxX) {
+				xExtent = Range.combine(xExtent, new Range(minX, maxX));
+			}
+		}
+		b.bounds = bounds;
+		b.xExtent = xExtent;
+		b.xRange = xRange;
+		b.itemCounts = itemCounts;
+		b.valid = true;
+		return true;
+	}
+
+	/**
+	 * Returns the domain axis range that an {@link AbstractXYItemRenderer}
+	 * uses to limit the items included in the range bounds of a dataset.
+	 * 
+	 * @param r
+	 *            the renderer (<code>null</code> permitted).
+	 * @param visibleOnly
+	 *            the renderer's flag for including visible series only.
+	 * 
+	 * @return The range (<code>null</code> if the items are not limited).
+	 */
+	private Range getBoundsDomainRange(XYItemRenderer r, boolean visibleOnly) {
+		if (!visibleOnly) {
+			return null;
+		}
+		XYPlot p = ((AbstractXYItemRenderer) r).getPlot();
+		if (p == null) {
+			return null;
+		}
+		int index = p.getIndexOf(r);
+		ValueAxis xAxis = null;
+		if (index >= 0) {
+			xAxis = p.getDomainAxisForDataset(index);
+		}
+		return (xAxis != null ? xAxis.getRange() : null);
+	}
+
+	/**
+	 * Returns <code>true</code> if a range (where <code>null</code> means no
+	 * limit) contains another range.
+	 * 
+	 * @param outer
+	 *            the outer range (<code>null</code> permitted).
+	 * @param inner
+	 *            the inner range (<code>null</code> not permitted).
+	 * 
+	 * @return A boolean.
+	 */
+	private static boolean contains(Range outer, Range inner) {
+		return outer == null
+				|| (outer.getLowerBound() <= inner.getLowerBound() && outer
+						.getUpperBound() >= inner.getUpperBound());
+	}
+
+	/**
+	 * Returns the flag that controls whether the dataset bounds used to
+	 * auto-range the axes are cached between dataset changes.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setDataRangeCacheEnabled(boolean)
+	 */
+	public boolean isDataRangeCacheEnabled() {
+		return this.dataRangeCacheEnabled;
+	}
+
+	/**
+	 * Sets the flag that controls whether the dataset bounds used to
+	 * auto-range the axes are cached between dataset changes (see
+	 * {@link #getDataRange(ValueAxis)}). The cache relies on the datasets
+	 * sending change events, so it should be disabled if a dataset is
+	 * modified without notifying its listeners. Only the bounds found with
+	 * an {@link AbstractXYItemRenderer} (or no renderer) are cached.
+	 * 
+	 * @param enabled
+	 *            the flag.
+	 * 
+	 * @see #isDataRangeCacheEnabled()
+	 */
+	public void setDataRangeCacheEnabled(boolean enabled) {
+		this.dataRangeCacheEnabled = enabled;
+		this.domainDataBounds = null;
+		this.rangeDataBounds = null;
+	}
+
+	/**
+	 * Marks the cached bounds of a dataset as out of date, for the axes that
+	 * the dataset is mapped to.
+	 * 
+	 * @param dataset
+	 *            the dataset (<code>null</code> marks all the cached bounds
+	 *            as out of date).
+	 */
+	private void invalidateDataBounds(Object dataset) {
+		invalidateDataBounds(this.domainDataBounds, dataset);
+		invalidateDataBounds(this.rangeDataBounds, dataset);
+	}
+
+	/**
+	 * Marks the cached bounds of a dataset as out of date.
+	 * 
+	 * @param cache
+	 *            the cached bounds by axis index (<code>null</code>
+	 *            permitted).
+	 * @param dataset
+	 *            the dataset (<code>null</code> for all datasets).
+	 */
+	private static void invalidateDataBounds(ObjectList cache, Object dataset) {
+		if (cache == null) {
+			return;
+		}
+		for (int i = 0; i < cache.size(); i++) {
+			DatasetBounds[] bounds = (DatasetBounds[]) cache.get(i);
+			if (bounds == null) {
+				continue;
+			}
+			for (int d = 0; d < bounds.length; d++) {
+				if (bounds[d] != null
+						&& (dataset == null || bounds[d].dataset == dataset)) {
+					bounds[d].valid = false;
+				}
+			}
+		}
+	}
+
+	/**
 	 * Receives notification of a change to the plot's dataset.
 	 * <P>
-	 * The axis ranges are updated if necessary.
+	 * The cached bounds of the dataset are marked as out of date and the axis
+	 * ranges are updated if necessary.
 	 * 
 	 * @param event
-	 *            information about the event (not used here).
-	 */
-	/*
-	 * public void datasetChanged(DatasetChangeEvent event) {
-	 * configureDomainAxes(); configureRangeAxes(); if (getParent() != null) {
-	 * getParent().datasetChanged(event); } else { PlotChangeEvent e = new
-	 * PlotChangeEvent(this); e.setType(ChartChangeEventType.DATASET_UPDATED);
-	 * notifyListeners(e); } }
+	 *            information about the event.
 	 */
+	public void datasetChanged(DatasetChangeEvent event) {
+		invalidateDataBounds(event.getDataset());
+		if (this.itemTrees != null) {
+			if (event.getDataset() != null) {
+				this.itemTrees.remove(event.getDataset());
+			} else {
+				this.itemTrees = null;
+			}
+		}
+		configureDomainAxes();
+		configureRangeAxes();
+		if (getParent() != null) {
+			getParent().datasetChanged(event);
+		} else {
+			fireChangeEvent(ChartChangeEventType.DATASET_UPDATED);
+		}
+	}
 
 	/**
-	 * Receives notification of a renderer change event.
+	 * Receives notification of a renderer change event, and passes it on to
+	 * the plot's listeners as a {@link PlotChangeEvent}.
 	 * 
 	 * @param event
 	 *            the event.
@@ -4710,7 +6521,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 			configureDomainAxes();
 			configureRangeAxes();
 		}
-		// fireChangeEvent();
+		this.dataLayerInvalid = true;
+		fireChangeEvent();
 	}
 
 	/**
@@ -5505,4 +7317,50 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 		return result;
 	}
 
+	/**
+	 * The cached bounds of one dataset along one axis.
+	 */
+	private static class DatasetBounds {
+
+		/** The dataset. */
+		XYDataset dataset;
+
+		/** The renderer used to find the bounds. */
+		XYItemRenderer renderer;
+
+		/** A flag that indicates whether the bounds can be kept. */
+		boolean cacheable;
+
+		/** The renderer's flag for including visible series only. */
+		boolean visibleOnly;
+
+		/** The series visibility (<code>null</code> if not used). */
+		boolean[] visible;
+
+		/**
+		 * The domain range that limits the items included in the range bounds
+		 * (<code>null</code> for no limit).
+		 */
+		Range xRange;
+
+		/** The bounds (<code>null</code> if there are no values). */
+		Range bounds;
+
+		/** A flag that indicates whether the dataset has not changed since. */
+		boolean valid;
+
+		/** The series (<code>null</code> if the bounds cannot be widened). */
+		XYSeries[] series;
+
+		/** The item count of each series. */
+		int[] itemCounts;
+
+		/** The modification count of each series. */
+		int[] modificationCounts;
+
+		/** The range of the x-values included in range bounds. */
+		Range xExtent;
+
+	}
+
 }
@@ -87,11 +87,14 @@
  *               updated renderer events for series visibility changes (DG);
  * 01-Apr-2009 : Factored up the defaultEntityRadius field from the
  *               AbstractXYItemRenderer class (DG);
+ * 17-Oct-2026 : Restored the change listener list (DS);
  */
 
 package net.droidsolutions.droidcharts.core.renderer;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.droidsolutions.droidcharts.awt.Font;
 import net.droidsolutions.droidcharts.awt.Point2D;
@@ -101,9 +104,11 @@ import net.droidsolutions.droidcharts.common.BooleanList;
 import net.droidsolutions.droidcharts.common.ObjectList;
 import net.droidsolutions.droidcharts.common.PaintList;
 import net.droidsolutions.droidcharts.common.ShapeList;
+import net.droidsolutions.droidcharts.common.ShapePathCache;
 import net.droidsolutions.droidcharts.common.StrokeList;
 import net.droidsolutions.droidcharts.common.TextAnchor;
 import net.droidsolutions.droidcharts.core.event.RendererChangeEvent;
+import net.droidsolutions.droidcharts.core.event.RendererChangeListener;
 import net.droidsolutions.droidcharts.core.label.ItemLabelAnchor;
 import net.droidsolutions.droidcharts.core.label.ItemLabelPosition;
 import net.droidsolutions.droidcharts.core.plot.DrawingSupplier;
@@ -260,6 +265,9 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
 	/** The base shape. */
 	private transient Shape baseShape;
 
+	/** Converts and caches the Android paths for the item shapes. */
+	private transient ShapePathCache pathCache;
+
 	/** Visibility of the item labels PER series. */
 	private BooleanList itemLabelsVisibleList;
 
@@ -360,6 +368,9 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
 	/** The default radius for the entity 'hotspot' */
 	private int defaultEntityRadius;
 
+	/** Storage for registered change listeners. */
+	private transient List listeners;
+
 	/**
 	 * Default constructor.
 	 */
@@ -1719,6 +1730,20 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
 		this.autoPopulateSeriesShape = auto;
 	}
 
+	/**
+	 * Returns the cache that subclasses use to convert item shapes to
+	 * Android paths. Drawing a series shape through the cache converts it
+	 * once and then only offsets the cached path for each item.
+	 * 
+	 * @return The cache (never <code>null</code>).
+	 */
+	protected ShapePathCache getPathCache() {
+		if (this.pathCache == null) {
+			this.pathCache = new ShapePathCache();
+		}
+		return this.pathCache;
+	}
+
 	// ITEM LABEL VISIBILITY...
 
 	/**
@@ -2844,4 +2869,78 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
 		return result;
 	}
 
+	/**
+	 * Registers an object to receive notification of changes to the
+	 * renderer.
+	 * 
+	 * @param listener
+	 *            the listener (<code>null</code> not permitted).
+	 * 
+	 * @see #removeChangeListener(RendererChangeListener)
+	 */
+	public void addChangeListener(RendererChangeListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Null 'listener' argument.");
+		}
+		if (this.listeners == null) {
+			this.listeners = new ArrayList();
+		}
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Deregisters an object so that it no longer receives notification of
+	 * changes to the renderer.
+	 * 
+	 * @param listener
+	 *            the object (<code>null</code> not permitted).
+	 * 
+	 * @see #addChangeListener(RendererChangeListener)
+	 */
+	public void removeChangeListener(RendererChangeListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Null 'listener' argument.");
+		}
+		if (this.listeners != null) {
+			this.listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the specified object is registered with
+	 * the renderer as a listener. Most applications won't need to call this
+	 * method, it exists mainly for use by unit testing code.
+	 * 
+	 * @param listener
+	 *            the listener.
+	 * 
+	 * @return A boolean.
+	 */
+	public boolean hasListener(RendererChangeListener listener) {
+		return this.listeners != null && this.listeners.contains(listener);
+	}
+
+	/**
+	 * Sends a {@link RendererChangeEvent} to all registered listeners.
+	 */
+	protected void fireChangeEvent() {
+		notifyListeners(new RendererChangeEvent(this));
+	}
+
+	/**
+	 * Notifies all registered listeners that the renderer has been modified.
+	 * 
+	 * @param event
+	 *            information about the change event.
+	 */
+	public void notifyListeners(RendererChangeEvent event) {
+		if (this.listeners == null) {
+			return;
+		}
+		Object[] listenerList = this.listeners.toArray();
+		for (int i = listenerList.length - 1; i >= 0; i--) {
+			((RendererChangeListener) listenerList[i]).rendererChanged(event);
+		}
+	}
+
 }
@@ -36,11 +36,15 @@
  * -------
  * 19-Apr-2007 : Version 1 (DG);
  * 27-Mar-2009 : Fixed results for unsorted datasets (DG);
+ * 17-Oct-2026 : Added decimateMinMax() and decimateLTTB() methods (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.renderer;
 
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.common.RectangleEdge;
+import net.droidsolutions.droidcharts.core.axis.ValueAxis;
 import net.droidsolutions.droidcharts.core.data.DomainOrder;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 
@@ -268,4 +272,341 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Returns the number of whole pixels spanned by the domain axis in the
+     * specified data area.
+     *
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param domainEdge  the domain axis edge (<code>null</code> not
+     *     permitted).
+     *
+     * @return The pixel count (at least 1).
+     */
+    public static int getDomainPixelCount(Rectangle2D dataArea,
+            RectangleEdge domainEdge) {
+        if (dataArea == null) {
+            throw new IllegalArgumentException("Null 'dataArea' argument.");
+        }
+        double extent = RectangleEdge.isTopOrBottom(domainEdge)
+                ? dataArea.getWidth() : dataArea.getHeight();
+        return Math.max(1, (int) Math.ceil(extent));
+    }
+
+    /**
+     * Selects the items from <code>firstItem</code> to <code>lastItem</code>
+     * (inclusive) that are needed to draw a line through the series without
+     * any visible difference.  For each run of consecutive items that fall
+     * in the same pixel column of the domain axis, only the first, last,
+     * minimum and maximum items are retained.  Items with a <code>NaN</code>
+     * value are always retained so that gaps in the series are preserved.
+     * <P>
+     * The work done here is linear in the number of items, but the number of
+     * items passed on to the renderer is at most four per pixel column.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param domainEdge  the domain axis edge (<code>null</code> not
+     *     permitted).
+     *
+     * @return The selected item indices in ascending order, or
+     *     <code>null</code> if decimation would not reduce the item count.
+     */
+    public static int[] decimateMinMax(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (domainAxis == null) {
+            throw new IllegalArgumentException("Null 'domainAxis' argument.");
+        }
+        int count = lastItem - firstItem + 1;
+        int pixels = getDomainPixelCount(dataArea, domainEdge);
+        if (count <= 4 * pixels) {
+            return null;
+        }
+        int[] result = new int[Math.min(count, 4 * pixels + 16)];
+        int size = 0;
+        boolean open = false;
+        long column = 0;
+        int first = 0;
+        int last = 0;
+        int min = 0;
+        int max = 0;
+        double minY = 0.0;
+        double maxY = 0.0;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            double transX = Double.NaN;
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                transX = domainAxis.valueToJava2D(x, dataArea, domainEdge);
+            }
+            if (Double.isNaN(transX)) {
+                // close the current column and keep the item as a gap marker
+                if (open) {
+                    result = ensureCapacity(result, size + 4);
+                    size = addGroup(result, size, first, min, max, last);
+                    open = false;
+                }
+                result = ensureCapacity(result, size + 1);
+                result[size++] = item;
+                continue;
+            }
+            long c = (long) Math.floor(transX);
+            if (open && c == column) {
+                if (y < minY) {
+                    minY = y;
+                    min = item;
+                }
+                if (y > maxY) {
+                    maxY = y;
+                    max = item;
+                }
+                last = item;
+            }
+            else {
+                if (open) {
+                    result = ensureCapacity(result, size + 4);
+                    size = addGroup(result, size, first, min, max, last);
+                }
+                open = true;
+                column = c;
+                first = item;
+                last = item;
+                min = item;
+                max = item;
+                minY = y;
+                maxY = y;
+            }
+        }
+        if (open) {
+            result = ensureCapacity(result, size + 4);
+            size = addGroup(result, size, first, min, max, last);
+        }
+        if (size >= count) {
+            return null;
+        }
+        int[] selection = new int[size];
+        System.arraycopy(result, 0, selection, 0, size);
+        return selection;
+    }
+
+    /**
+     * Appends the distinct indices of a pixel column group, in ascending
+     * order, to the buffer (which must have room for four more indices).
+     *
+     * @param buffer  the buffer.
+     * @param size  the number of indices in the buffer.
+     * @param first  the first item in the group.
+     * @param min  the item with the minimum y-value.
+     * @param max  the item with the maximum y-value.
+     * @param last  the last item in the group.
+     *
+     * @return The new number of indices in the buffer.
+     */
+    private static int addGroup(int[] buffer, int size, int first, int min,
+            int max, int last) {
+        int lower = Math.min(min, max);
+        int upper = Math.max(min, max);
+        buffer[size++] = first;
+        if (lower != first) {
+            buffer[size++] = lower;
+        }
+        if (upper != lower && upper != first) {
+            buffer[size++] = upper;
+        }
+        if (last != upper && last != first) {
+            buffer[size++] = last;
+        }
+        return size;
+    }
+
+    /**
+     * Returns an array with at least the specified capacity, copying the
+     * content of the given array if a larger array is required.
+     *
+     * @param buffer  the buffer.
+     * @param capacity  the required capacity.
+     *
+     * @return The buffer (possibly a new array).
+     */
+    private static int[] ensureCapacity(int[] buffer, int capacity) {
+        if (capacity <= buffer.length) {
+            return buffer;
+        }
+        int[] result = new int[Math.max(capacity, buffer.length * 2)];
+        System.arraycopy(buffer, 0, result, 0, buffer.length);
+        return result;
+    }
+
+    /**
+     * Selects approximately <code>threshold</code> items from
+     * <code>firstItem</code> to <code>lastItem</code> (inclusive) using the
+     * Largest-Triangle-Three-Buckets algorithm.  Each run of items that can
+     * be drawn is decimated separately, with a share of the threshold in
+     * proportion to its length, and keeps its first and last items.  The
+     * first item of each run of items with a <code>NaN</code> value is
+     * retained as a gap marker, so that lines are not drawn across gaps in
+     * the series, and the last item is always retained.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param threshold  the number of items to select (typically the number
+     *     of pixels spanned by the domain axis).
+     *
+     * @return The selected item indices in ascending order, or
+     *     <code>null</code> if decimation would not reduce the item count.
+     */
+    public static int[] decimateLTTB(XYDataset dataset, int series,
+            int firstItem, int lastItem, int threshold) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        int count = lastItem - firstItem + 1;
+        threshold = Math.max(threshold, 3);
+        if (count <= threshold) {
+            return null;
+        }
+        // count the items that can be drawn
+        int n = 0;
+        for (int item = firstItem; item <= lastItem; item++) {
+            if (isDrawable(dataset, series, item)) {
+                n++;
+            }
+        }
+        int[] result = new int[Math.min(count, threshold + 16)];
+        int size = 0;
+        int item = firstItem;
+        while (item <= lastItem) {
+            if (!isDrawable(dataset, series, item)) {
+                // keep the first item of the gap as a marker
+                result = ensureCapacity(result, size + 1);
+                result[size++] = item;
+                while (item <= lastItem
+                        && !isDrawable(dataset, series, item)) {
+                    item++;
+                }
+                continue;
+            }
+            int runStart = item;
+            while (item <= lastItem && isDrawable(dataset, series, item)) {
+                item++;
+            }
+            int runEnd = item - 1;
+            int runCount = runEnd - runStart + 1;
+            int runThreshold = (int) Math.ceil((double) threshold * runCount
+                    / n);
+            result = ensureCapacity(result, size
+                    + Math.min(runCount, Math.max(runThreshold, 2)));
+            size = addLTTB(dataset, series, runStart, runEnd, runThreshold,
+                    result, size);
+        }
+        // the last item is always retained (even if it is NaN) so that
+        // renderers can rely on seeing it
+        if (result[size - 1] != lastItem) {
+            result = ensureCapacity(result, size + 1);
+            result[size++] = lastItem;
+        }
+        if (size >= count) {
+            return null;
+        }
+        int[] selection = new int[size];
+        System.arraycopy(result, 0, selection, 0, size);
+        return selection;
+    }
+
+    /**
+     * Returns <code>true</code> if neither the x-value nor the y-value of an
+     * item is <code>NaN</code>.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return A boolean.
+     */
+    private static boolean isDrawable(XYDataset dataset, int series,
+            int item) {
+        return !Double.isNaN(dataset.getXValue(series, item))
+                && !Double.isNaN(dataset.getYValue(series, item));
+    }
+
+    /**
+     * Appends the items selected by the Largest-Triangle-Three-Buckets
+     * algorithm from a run of items that can all be drawn to the buffer
+     * (which must have room for them).  The first and last items of the run
+     * are always selected.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item in the run.
+     * @param last  the index of the last item in the run.
+     * @param threshold  the number of items to select.
+     * @param buffer  the buffer.
+     * @param size  the number of indices in the buffer.
+     *
+     * @return The new number of indices in the buffer.
+     */
+    private static int addLTTB(XYDataset dataset, int series, int first,
+            int last, int threshold, int[] buffer, int size) {
+        int n = last - first + 1;
+        if (n <= threshold) {
+            for (int item = first; item <= last; item++) {
+                buffer[size++] = item;
+            }
+            return size;
+        }
+        buffer[size++] = first;
+        if (threshold < 3) {
+            buffer[size++] = last;
+            return size;
+        }
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int a = first;
+        for (int i = 0; i < threshold - 2; i++) {
+            // the average of the next bucket is the third triangle vertex
+            int nextStart = first + (int) Math.floor((i + 1) * bucketSize)
+                    + 1;
+            int nextEnd = Math.min(first + (int) Math.floor((i + 2)
+                    * bucketSize) + 1, last + 1);
+            double avgX = 0.0;
+            double avgY = 0.0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += dataset.getXValue(series, j);
+                avgY += dataset.getYValue(series, j);
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX = avgX / nextCount;
+            avgY = avgY / nextCount;
+
+            int start = first + (int) Math.floor(i * bucketSize) + 1;
+            int end = first + (int) Math.floor((i + 1) * bucketSize) + 1;
+            double ax = dataset.getXValue(series, a);
+            double ay = dataset.getYValue(series, a);
+            double maxArea = -1.0;
+            int selected = start;
+            for (int j = start; j < end; j++) {
+                double x = dataset.getXValue(series, j);
+                double y = dataset.getYValue(series, j);
+                double area = Math.abs((ax - avgX) * (y - ay)
+                        - (ax - x) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = j;
+                }
+            }
+            buffer[size++] = selected;
+            a = selected;
+        }
+        buffer[size++] = last;
+        return size;
+    }
+
 }
@@ -96,14 +96,13 @@ package net.droidsolutions.droidcharts.core.renderer.category;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.Path;
 import net.droidsolutions.droidcharts.awt.Font;
 import net.droidsolutions.droidcharts.awt.Line2D;
-import net.droidsolutions.droidcharts.awt.PathIterator;
 import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.awt.Shape;
 import net.droidsolutions.droidcharts.common.BooleanList;
 import net.droidsolutions.droidcharts.common.BooleanUtilities;
+import net.droidsolutions.droidcharts.common.ShapePathCache;
 import net.droidsolutions.droidcharts.common.ShapeUtilities;
 import net.droidsolutions.droidcharts.core.LegendItem;
 import net.droidsolutions.droidcharts.core.axis.CategoryAxis;
@@ -1036,13 +1035,15 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 
 		if (pass == 1) {
 			Shape shape = getItemShape(row, column);
+			double shapeX = x1;
+			double shapeY = y1;
 			if (orientation == PlotOrientation.HORIZONTAL) {
-				shape = ShapeUtilities.createTranslatedShape(shape, y1, x1);
-			} else if (orientation == PlotOrientation.VERTICAL) {
-				shape = ShapeUtilities.createTranslatedShape(shape, x1, y1);
+				shapeX = y1;
+				shapeY = x1;
 			}
 
 			if (getItemShapeVisible(row, column)) {
+				ShapePathCache cache = getPathCache();
 				if (getItemShapeFilled(row, column)) {
 					Paint paint ;
 					if (this.useFillPaint) {
@@ -1051,8 +1052,7 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 						paint = getItemPaint(row, column);
 					}
 				paint.setStyle(Paint.Style.FILL_AND_STROKE);
-				Path path = convertAwtPathToAndroid(shape.getPathIterator(null));	
-				g2.drawPath(path, paint);
+				cache.drawShape(g2, shape, shapeX, shapeY, paint);
 				
 				}
 				if (this.drawOutlines) {
@@ -1064,8 +1064,7 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 					}
 					paint.setStyle(Paint.Style.STROKE);
 					paint.setStrokeWidth(getItemOutlineStroke(row, column));
-					Path path = convertAwtPathToAndroid(shape.getPathIterator(null));	
-					g2.drawPath(path, paint);
+					cache.drawShape(g2, shape, shapeX, shapeY, paint);
 				}
 			}
 
@@ -1089,7 +1088,9 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 			// add an item entity, if this information is being collected
 			EntityCollection entities = state.getEntityCollection();
 			if (entities != null) {
-				addItemEntity(entities, dataset, row, column, shape);
+				addItemEntity(entities, dataset, row, column,
+						ShapeUtilities.createTranslatedShape(shape, shapeX,
+								shapeY));
 			}
 		}
 
@@ -1252,43 +1253,5 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 		// TODO Auto-generated method stub
 
 	}
-	
-	private Path convertAwtPathToAndroid(PathIterator pi) {
-		Path path = new Path();
-		float[] coords = new float[6];
-		while (!pi.isDone()) {
-			int windingRule = pi.getWindingRule();
-
-			if (windingRule == PathIterator.WIND_EVEN_ODD) {
-				path.setFillType(Path.FillType.EVEN_ODD);
-			} else {
-				path.setFillType(Path.FillType.INVERSE_EVEN_ODD);
-			}
-
-			int pathType = pi.currentSegment(coords);
-
-			switch (pathType) {
-			case PathIterator.SEG_CLOSE:
-				path.close();
-				break;
-			case PathIterator.SEG_CUBICTO:
-				path.cubicTo(coords[0], coords[1], coords[2], coords[3],
-						coords[4], coords[5]);
-				break;
-			case PathIterator.SEG_LINETO:
-				path.lineTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_MOVETO:
-				path.moveTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_QUADTO:
-				path.quadTo(coords[0], coords[1], coords[2], coords[3]);
-				break;
-			}
-
-			pi.next();
-		}
-		return path;
-	}
 
 }
@@ -109,6 +109,8 @@
  * 27-Mar-2009 : Added new findDomainBounds() and findRangeBounds() methods to
  *               take account of hidden series (DG);
  * 01-Apr-2009 : Moved defaultEntityRadius up to superclass (DG);
+ * 17-Oct-2026 : Added addItemEntity() method for virtual entities (DS);
+ * 17-Oct-2026 : Added isDecimationSupported() method (DS);
  * 
  */
 
@@ -133,6 +135,7 @@ import net.droidsolutions.droidcharts.common.LengthAdjustmentType;
 import net.droidsolutions.droidcharts.common.ObjectList;
 import net.droidsolutions.droidcharts.common.RectangleAnchor;
 import net.droidsolutions.droidcharts.common.RectangleInsets;
+import net.droidsolutions.droidcharts.common.ShapeUtilities;
 import net.droidsolutions.droidcharts.core.LegendItem;
 import net.droidsolutions.droidcharts.core.LegendItemCollection;
 import net.droidsolutions.droidcharts.core.anotations.XYAnnotation;
@@ -141,6 +144,7 @@ import net.droidsolutions.droidcharts.core.data.Range;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 import net.droidsolutions.droidcharts.core.data.general.DatasetUtilities;
 import net.droidsolutions.droidcharts.core.entity.EntityCollection;
+import net.droidsolutions.droidcharts.core.entity.StandardEntityCollection;
 import net.droidsolutions.droidcharts.core.entity.XYItemEntity;
 import net.droidsolutions.droidcharts.core.label.ItemLabelPosition;
 import net.droidsolutions.droidcharts.core.label.StandardXYSeriesLabelGenerator;
@@ -258,6 +262,12 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     /** The legend item URL generator. */
     private XYSeriesLabelGenerator legendItemURLGenerator;
 
+    /** The default entity hotspot, centred on (0, 0). */
+    private transient Shape entityHotspot;
+
+    /** The radius of the default entity hotspot. */
+    private transient double entityHotspotRadius;
+
     /**
      * Creates a renderer where the tooltip generator and the URL generator are
      * both <code>null</code>.
@@ -329,6 +339,24 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
 
     }
 
+    /**
+     * Returns <code>true</code> if this renderer can draw a series from a
+     * subset of its items, that is, if it connects each item to
+     * {@link XYItemRendererState#getPreviousItemIndex(int)} rather than to
+     * <code>item - 1</code>.  An {@link XYPlot} only applies its decimation
+     * mode to renderers that return <code>true</code>.
+     * <P>
+     * This implementation returns <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see XYPlot#setDecimationMode(
+     *     net.droidsolutions.droidcharts.core.plot.DecimationMode)
+     */
+    public boolean isDecimationSupported() {
+        return false;
+    }
+
     // ITEM LABEL GENERATOR
 
     /**
@@ -1460,23 +1488,87 @@ p.setAlpha(oldAlpha);
         if (!getItemCreateEntity(series, item)) {
             return;
         }
-        Shape hotspot = area;
-        if (hotspot == null) {
-            double r = getDefaultEntityRadius();
-            double w = r * 2;
+        if (area == null) {
             if (getPlot().getOrientation() == PlotOrientation.VERTICAL) {
-                hotspot = new Ellipse2D.Double(entityX - r, entityY - r, w, w);
+                addDefaultEntity(entities, dataset, series, item, entityX,
+                        entityY);
             }
             else {
-                hotspot = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
+                addDefaultEntity(entities, dataset, series, item, entityY,
+                        entityX);
             }
+            return;
         }
-       
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
+        XYItemEntity entity = new XYItemEntity(area, dataset, series, item,
                 "", "");
         entities.add(entity);
     }
 
+    /**
+     * Adds an entity for an item whose hotspot is the item shape drawn at
+     * (x, y).  Unlike {@link #addEntity(EntityCollection, Shape, XYDataset,
+     * int, int, double, double)}, this does not need a translated copy of the
+     * shape, so a {@link StandardEntityCollection} with virtual item entities
+     * enabled can record the item without creating any objects.
+     *
+     * @param entities  the entity collection being populated.
+     * @param shape  the item shape, centred on (0, 0) (if <code>null</code>,
+     *     a hotspot is created as in the <code>addEntity()</code> method).
+     * @param dataset  the dataset.
+     * @param series  the series.
+     * @param item  the item.
+     * @param x  the x-coordinate of the shape (in Java2D space).
+     * @param y  the y-coordinate of the shape (in Java2D space).
+     */
+    protected void addItemEntity(EntityCollection entities, Shape shape,
+                                 XYDataset dataset, int series, int item,
+                                 double x, double y) {
+        if (shape == null) {
+            addEntity(entities, null, dataset, series, item, x, y);
+            return;
+        }
+        if (!getItemCreateEntity(series, item)) {
+            return;
+        }
+        if (entities instanceof StandardEntityCollection) {
+            ((StandardEntityCollection) entities).addXYItem(shape, dataset,
+                    series, item, x, y);
+        }
+        else {
+            entities.add(new XYItemEntity(
+                    ShapeUtilities.createTranslatedShape(shape, x, y),
+                    dataset, series, item, "", ""));
+        }
+    }
+
+    /**
+     * Adds an entity with a circular hotspot of the default entity radius.
+     *
+     * @param entities  the entity collection being populated.
+     * @param dataset  the dataset.
+     * @param series  the series.
+     * @param item  the item.
+     * @param x  the x-coordinate of the centre (in Java2D space).
+     * @param y  the y-coordinate of the centre (in Java2D space).
+     */
+    private void addDefaultEntity(EntityCollection entities,
+                                  XYDataset dataset, int series, int item,
+                                  double x, double y) {
+        double r = getDefaultEntityRadius();
+        if (this.entityHotspot == null || this.entityHotspotRadius != r) {
+            this.entityHotspot = new Ellipse2D.Double(-r, -r, r * 2, r * 2);
+            this.entityHotspotRadius = r;
+        }
+        if (entities instanceof StandardEntityCollection) {
+            ((StandardEntityCollection) entities).addXYItem(
+                    this.entityHotspot, dataset, series, item, x, y);
+        }
+        else {
+            entities.add(new XYItemEntity(new Ellipse2D.Double(x - r, y - r,
+                    r * 2, r * 2), dataset, series, item, "", ""));
+        }
+    }
+
     /**
      * Returns <code>true</code> if the specified point (x, y) falls within or
      * on the boundary of the specified rectangle.
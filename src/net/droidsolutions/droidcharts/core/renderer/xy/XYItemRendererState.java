@@ -50,6 +50,8 @@ package net.droidsolutions.droidcharts.core.renderer.xy;
 
 
 
+import java.util.Arrays;
+
 import net.droidsolutions.droidcharts.awt.Line2D;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 import net.droidsolutions.droidcharts.core.plot.PlotRenderingInfo;
@@ -90,6 +92,20 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * The (ascending) indices of the items that the plot passes to the
+     * renderer for the current series, or <code>null</code> if every item
+     * between the first and last item indices is passed.
+     */
+    private int[] itemSelection;
+
+    /**
+     * The index of the last item rendered for each series in the previous
+     * (incremental) drawing, or <code>null</code> if nothing has been
+     * rendered yet.
+     */
+    private int[] lastRenderedItemIndices;
+
     /**
      * Creates a new state.
      *
@@ -152,6 +168,123 @@ public class XYItemRendererState extends RendererState {
         return this.lastItemIndex;
     }
 
+    /**
+     * Returns the indices of the items that the plot passes to the renderer
+     * for the current series, or <code>null</code> if all items between the
+     * first and last item indices are passed.
+     *
+     * @return The item indices (possibly <code>null</code>).
+     *
+     * @see #setItemSelection(int[])
+     */
+    public int[] getItemSelection() {
+        return this.itemSelection;
+    }
+
+    /**
+     * Sets the indices of the items that the plot passes to the renderer for
+     * the current series.  The plot calls this method (typically after
+     * decimating a dense series) before
+     * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
+     *
+     * @param selection  the item indices in ascending order
+     *     (<code>null</code> permitted).
+     *
+     * @see #getItemSelection()
+     */
+    public void setItemSelection(int[] selection) {
+        this.itemSelection = selection;
+    }
+
+    /**
+     * Returns the index of the item that was passed to the renderer before
+     * the specified item in the current series.  Renderers that connect
+     * consecutive items should use this method rather than
+     * <code>item - 1</code> so that they work with a decimated series.
+     *
+     * @param item  the item index.
+     *
+     * @return The previous item index (negative if there is no previous
+     *     item).
+     *
+     * @see #getItemSelection()
+     */
+    public int getPreviousItemIndex(int item) {
+        if (this.itemSelection == null) {
+            return item - 1;
+        }
+        int index = Arrays.binarySearch(this.itemSelection, item);
+        if (index > 0) {
+            return this.itemSelection[index - 1];
+        }
+        // the first selected item connects to its predecessor as usual
+        return item - 1;
+    }
+
+    /**
+     * Returns the index of the last item that has been rendered for a series
+     * by an earlier (incremental) drawing of the plot.
+     *
+     * @param series  the series index.
+     *
+     * @return The item index (<code>-1</code> if no items have been
+     *     rendered for the series).
+     *
+     * @see #setLastRenderedItemIndex(int, int)
+     */
+    public int getLastRenderedItemIndex(int series) {
+        if (this.lastRenderedItemIndices == null
+                || series >= this.lastRenderedItemIndices.length) {
+            return -1;
+        }
+        return this.lastRenderedItemIndices[series];
+    }
+
+    /**
+     * Records the index of the last item that has been rendered for a
+     * series.
+     *
+     * @param series  the series index.
+     * @param item  the item index (<code>-1</code> for none).
+     *
+     * @see #getLastRenderedItemIndex(int)
+     */
+    public void setLastRenderedItemIndex(int series, int item) {
+        if (this.lastRenderedItemIndices == null
+                || series >= this.lastRenderedItemIndices.length) {
+            int[] indices = new int[series + 1];
+            int count = 0;
+            if (this.lastRenderedItemIndices != null) {
+                count = this.lastRenderedItemIndices.length;
+                System.arraycopy(this.lastRenderedItemIndices, 0, indices, 0,
+                        count);
+            }
+            Arrays.fill(indices, count, indices.length, -1);
+            this.lastRenderedItemIndices = indices;
+        }
+        this.lastRenderedItemIndices[series] = item;
+    }
+
+    /**
+     * Returns the last rendered item indices for all series, so that the
+     * plot can carry them over to the state for the next drawing.
+     *
+     * @return The indices (possibly <code>null</code>).
+     */
+    public int[] getLastRenderedItemIndices() {
+        return this.lastRenderedItemIndices;
+    }
+
+    /**
+     * Sets the last rendered item indices for all series (typically the
+     * indices recorded by the state of the previous drawing).
+     *
+     * @param indices  the indices (<code>null</code> permitted).
+     */
+    public void setLastRenderedItemIndices(int[] indices) {
+        this.lastRenderedItemIndices = indices;
+    }
+
     /**
      * This method is called by the {@link XYPlot} when it starts a pass
      * through the (visible) items in a series.  The default implementation
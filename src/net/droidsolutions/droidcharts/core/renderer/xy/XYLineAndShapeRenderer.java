@@ -74,23 +74,21 @@ import java.io.Serializable;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Path;
 
+import net.droidsolutions.droidcharts.awt.Ellipse2D;
 import net.droidsolutions.droidcharts.awt.Font;
 import net.droidsolutions.droidcharts.awt.GeneralPath;
 import net.droidsolutions.droidcharts.awt.Line2D;
-import net.droidsolutions.droidcharts.awt.PathIterator;
 import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.awt.Shape;
 import net.droidsolutions.droidcharts.common.BooleanList;
 import net.droidsolutions.droidcharts.common.BooleanUtilities;
 import net.droidsolutions.droidcharts.common.RectangleEdge;
-import net.droidsolutions.droidcharts.common.ShapeUtilities;
+import net.droidsolutions.droidcharts.common.ShapePathCache;
 import net.droidsolutions.droidcharts.core.LegendItem;
 import net.droidsolutions.droidcharts.core.axis.ValueAxis;
 import net.droidsolutions.droidcharts.core.data.XYDataset;
 import net.droidsolutions.droidcharts.core.entity.EntityCollection;
-import net.droidsolutions.droidcharts.core.event.RendererChangeListener;
 import net.droidsolutions.droidcharts.core.label.ItemLabelPosition;
 import net.droidsolutions.droidcharts.core.label.XYItemLabelGenerator;
 import net.droidsolutions.droidcharts.core.plot.CrosshairState;
@@ -186,6 +184,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 	 */
 	private boolean drawSeriesLineAsPath;
 
+	/**
+	 * A flag that controls whether lines and shapes are collected into a
+	 * coordinate buffer and drawn with one call per series.
+	 */
+	private boolean fastLineMode;
+
 	/**
 	 * Creates a new renderer with both lines and shapes visible.
 	 */
@@ -221,6 +225,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		// default, not outline paint
 
 		this.drawSeriesLineAsPath = false;
+		this.fastLineMode = false;
 	}
 
 	/**
@@ -252,6 +257,43 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		}
 	}
 
+	/**
+	 * Returns a flag that controls whether or not the renderer uses the fast
+	 * line mode.
+	 * 
+	 * @return A boolean.
+	 * 
+	 * @see #setFastLineMode(boolean)
+	 */
+	public boolean getFastLineMode() {
+		return this.fastLineMode;
+	}
+
+	/**
+	 * Sets the flag that controls whether or not the renderer uses the fast
+	 * line mode and sends a {@link RendererChangeEvent} to all registered
+	 * listeners. In this mode the line segments for a series are projected
+	 * into a reusable coordinate buffer, and each run of segments with the
+	 * same paint and stroke is drawn with a single call to
+	 * <code>Canvas.drawLines()</code>. Filled square and circular shapes
+	 * without outlines are drawn the same way with
+	 * <code>Canvas.drawPoints()</code>; other shapes are drawn one by one.
+	 * The segments and shapes are drawn in the same order as in the normal
+	 * mode. This mode takes precedence over the
+	 * {@link #getDrawSeriesLineAsPath()} setting.
+	 * 
+	 * @param flag
+	 *            the flag.
+	 * 
+	 * @see #getFastLineMode()
+	 */
+	public void setFastLineMode(boolean flag) {
+		if (this.fastLineMode != flag) {
+			this.fastLineMode = flag;
+			fireChangeEvent();
+		}
+	}
+
 	/**
 	 * Returns the number of passes through the data that the renderer requires
 	 * in order to draw the chart. Most charts will require a single pass, but
@@ -817,6 +859,39 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		 */
 		private boolean lastPointGood;
 
+		/** The x-coordinate of the last point (used in fast line mode). */
+		private float lastX;
+
+		/** The y-coordinate of the last point (used in fast line mode). */
+		private float lastY;
+
+		/**
+		 * The coordinates collected for the current series pass (used in fast
+		 * line mode).
+		 */
+		private float[] coordinates = new float[256];
+
+		/** The number of values in the coordinates array. */
+		private int coordinateCount;
+
+		/**
+		 * The shape of the points in the coordinates array, for the item pass
+		 * in fast line mode.
+		 */
+		private Shape pointShape;
+
+		/**
+		 * The paint for the segments or points in the coordinates array (used
+		 * in fast line mode).
+		 */
+		private Paint batchPaint;
+
+		/**
+		 * The stroke width for the segments or points in the coordinates
+		 * array (used in fast line mode).
+		 */
+		private float batchStroke;
+
 		/**
 		 * Creates a new state instance.
 		 * 
@@ -848,6 +923,83 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 			this.lastPointGood = good;
 		}
 
+		/**
+		 * Returns the coordinate buffer for the current series pass. Only the
+		 * first {@link #getCoordinateCount()} values are valid.
+		 * 
+		 * @return The coordinate buffer.
+		 */
+		public float[] getCoordinates() {
+			return this.coordinates;
+		}
+
+		/**
+		 * Returns the number of values in the coordinate buffer.
+		 * 
+		 * @return The number of values.
+		 */
+		public int getCoordinateCount() {
+			return this.coordinateCount;
+		}
+
+		/**
+		 * Appends a point to the coordinate buffer.
+		 * 
+		 * @param x
+		 *            the x-coordinate.
+		 * @param y
+		 *            the y-coordinate.
+		 */
+		public void addPoint(float x, float y) {
+			ensureCapacity(this.coordinateCount + 2);
+			this.coordinates[this.coordinateCount++] = x;
+			this.coordinates[this.coordinateCount++] = y;
+		}
+
+		/**
+		 * Appends a line segment to the coordinate buffer.
+		 * 
+		 * @param x0
+		 *            the x-coordinate of the start point.
+		 * @param y0
+		 *            the y-coordinate of the start point.
+		 * @param x1
+		 *            the x-coordinate of the end point.
+		 * @param y1
+		 *            the y-coordinate of the end point.
+		 */
+		public void addSegment(float x0, float y0, float x1, float y1) {
+			ensureCapacity(this.coordinateCount + 4);
+			this.coordinates[this.coordinateCount++] = x0;
+			this.coordinates[this.coordinateCount++] = y0;
+			this.coordinates[this.coordinateCount++] = x1;
+			this.coordinates[this.coordinateCount++] = y1;
+		}
+
+		/**
+		 * Empties the coordinate buffer (the array itself is kept for
+		 * reuse).
+		 */
+		public void clearCoordinates() {
+			this.coordinateCount = 0;
+		}
+
+		/**
+		 * Grows the coordinate buffer if necessary.
+		 * 
+		 * @param capacity
+		 *            the required capacity.
+		 */
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.coordinates.length) {
+				float[] grown = new float[Math.max(capacity,
+						this.coordinates.length * 2)];
+				System.arraycopy(this.coordinates, 0, grown, 0,
+						this.coordinateCount);
+				this.coordinates = grown;
+			}
+		}
+
 		/**
 		 * This method is called by the {@link XYPlot} at the start of each
 		 * series pass. We reset the state for the current series.
@@ -869,12 +1021,25 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 				int firstItem, int lastItem, int pass, int passCount) {
 			this.seriesPath.reset();
 			this.lastPointGood = false;
+			this.coordinateCount = 0;
+			this.pointShape = null;
+			this.batchPaint = null;
 			super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
 					passCount);
 		}
 
 	}
 
+	/**
+	 * Returns <code>true</code>, since this renderer starts each line segment
+	 * at {@link XYItemRendererState#getPreviousItemIndex(int)}.
+	 * 
+	 * @return <code>true</code>.
+	 */
+	public boolean isDecimationSupported() {
+		return true;
+	}
+
 	/**
 	 * Initialises the renderer.
 	 * <P>
@@ -940,6 +1105,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 			ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
 			int series, int item, CrosshairState crosshairState, int pass) {
 
+		if (this.fastLineMode) {
+			drawItemFast(g2, (State) state, dataArea, info, plot, domainAxis,
+					rangeAxis, dataset, series, item, crosshairState, pass);
+			return;
+		}
+
 		// do nothing if item is not visible
 		if (!getItemVisible(series, item)) {
 			return;
@@ -971,6 +1142,378 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		}
 	}
 
+	/**
+	 * Draws a single data item in fast line mode. Line segments and simple
+	 * shapes are projected into the coordinate buffer in the state and drawn
+	 * when the last item in the series pass is reached.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param state
+	 *            the renderer state.
+	 * @param dataArea
+	 *            the area within which the data is being drawn.
+	 * @param info
+	 *            collects information about the drawing.
+	 * @param plot
+	 *            the plot.
+	 * @param domainAxis
+	 *            the domain axis.
+	 * @param rangeAxis
+	 *            the range axis.
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index (zero-based).
+	 * @param item
+	 *            the item index (zero-based).
+	 * @param crosshairState
+	 *            crosshair information for the plot (<code>null</code>
+	 *            permitted).
+	 * @param pass
+	 *            the pass index.
+	 */
+	protected void drawItemFast(Canvas g2, State state, Rectangle2D dataArea,
+			PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis,
+			ValueAxis rangeAxis, XYDataset dataset, int series, int item,
+			CrosshairState crosshairState, int pass) {
+
+		if (getItemVisible(series, item)) {
+			if (isLinePass(pass)) {
+				if (getItemLineVisible(series, item)) {
+					addLineSegment(g2, state, plot, dataset, series, item,
+							domainAxis, rangeAxis, dataArea);
+				} else {
+					state.setLastPointGood(false);
+				}
+			} else if (isItemPass(pass)) {
+				EntityCollection entities = null;
+				if (info != null) {
+					entities = info.getOwner().getEntityCollection();
+				}
+				drawSecondaryPassFast(g2, state, plot, dataset, pass, series,
+						item, domainAxis, dataArea, rangeAxis,
+						crosshairState, entities);
+			}
+		}
+		if (item == state.getLastItemIndex()) {
+			if (isLinePass(pass)) {
+				drawLineSegments(g2, state);
+			} else if (isItemPass(pass)) {
+				drawPoints(g2, state);
+			}
+		}
+	}
+
+	/**
+	 * Adds the line segment that ends at the specified item to the
+	 * coordinate buffer in the state (fast line mode). If the paint or stroke
+	 * for the item differs from the one for the buffered segments, the
+	 * buffered segments are drawn first.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param state
+	 *            the renderer state.
+	 * @param plot
+	 *            the plot.
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index (zero-based).
+	 * @param item
+	 *            the item index (zero-based).
+	 * @param domainAxis
+	 *            the domain axis.
+	 * @param rangeAxis
+	 *            the range axis.
+	 * @param dataArea
+	 *            the area within which the data is being drawn.
+	 */
+	private void addLineSegment(Canvas g2, State state, XYPlot plot,
+			XYDataset dataset, int series, int item, ValueAxis domainAxis,
+			ValueAxis rangeAxis, Rectangle2D dataArea) {
+		startAtLastRenderedItem(state, plot, dataset, series, item,
+				domainAxis, rangeAxis, dataArea);
+		double x1 = dataset.getXValue(series, item);
+		double y1 = dataset.getYValue(series, item);
+		if (Double.isNaN(x1) || Double.isNaN(y1)) {
+			state.setLastPointGood(false);
+			return;
+		}
+		double transX1 = domainAxis.valueToJava2D(x1, dataArea,
+				plot.getDomainAxisEdge());
+		double transY1 = rangeAxis.valueToJava2D(y1, dataArea,
+				plot.getRangeAxisEdge());
+		if (Double.isNaN(transX1) || Double.isNaN(transY1)) {
+			state.setLastPointGood(false);
+			return;
+		}
+		float x = (float) transX1;
+		float y = (float) transY1;
+		if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+			x = (float) transY1;
+			y = (float) transX1;
+		}
+		if (state.isLastPointGood()) {
+			float x0 = state.lastX;
+			float y0 = state.lastY;
+			// skip segments that lie entirely on one side of the data area
+			double minX = dataArea.getMinX();
+			double maxX = dataArea.getMaxX();
+			double minY = dataArea.getMinY();
+			double maxY = dataArea.getMaxY();
+			boolean outside = (x0 < minX && x < minX)
+					|| (x0 > maxX && x > maxX) || (y0 < minY && y < minY)
+					|| (y0 > maxY && y > maxY);
+			if (!outside) {
+				// the segment is drawn with the paint and stroke of the item
+				// it ends at, as in drawPrimaryLine()
+				Paint paint = getItemPaint(series, item);
+				float stroke = getItemStroke(series, item).floatValue();
+				if (paint != state.batchPaint || stroke != state.batchStroke) {
+					drawLineSegments(g2, state);
+					state.batchPaint = paint;
+					state.batchStroke = stroke;
+				}
+				state.addSegment(x0, y0, x, y);
+			}
+		}
+		state.lastX = x;
+		state.lastY = y;
+		state.setLastPointGood(true);
+	}
+
+	/**
+	 * Starts the line for a series at the item that was rendered last by an
+	 * earlier (incremental) drawing of the plot, if the specified item is the
+	 * first one to be drawn and follows that item. The earlier item is not
+	 * drawn again: its position is only recorded in the state as the start of
+	 * the next line segment.
+	 * 
+	 * @param state
+	 *            the renderer state.
+	 * @param plot
+	 *            the plot.
+	 * @param dataset
+	 *            the dataset.
+	 * @param series
+	 *            the series index (zero-based).
+	 * @param item
+	 *            the item index (zero-based).
+	 * @param domainAxis
+	 *            the domain axis.
+	 * @param rangeAxis
+	 *            the range axis.
+	 * @param dataArea
+	 *            the area within which the data is being drawn.
+	 * 
+	 * @return <code>true</code> if the line was started at the earlier item.
+	 * 
+	 * @see XYItemRendererState#getLastRenderedItemIndex(int)
+	 */
+	private boolean startAtLastRenderedItem(State state, XYPlot plot,
+			XYDataset dataset, int series, int item, ValueAxis domainAxis,
+			ValueAxis rangeAxis, Rectangle2D dataArea) {
+		int previous = item - 1;
+		if (item != state.getFirstItemIndex() || previous < 0
+				|| state.getLastRenderedItemIndex(series) != previous
+				|| state.isLastPointGood()) {
+			return false;
+		}
+		if (!getItemVisible(series, previous)
+				|| !getItemLineVisible(series, previous)) {
+			return false;
+		}
+		double x0 = dataset.getXValue(series, previous);
+		double y0 = dataset.getYValue(series, previous);
+		double transX0 = domainAxis.valueToJava2D(x0, dataArea,
+				plot.getDomainAxisEdge());
+		double transY0 = rangeAxis.valueToJava2D(y0, dataArea,
+				plot.getRangeAxisEdge());
+		if (Double.isNaN(transX0) || Double.isNaN(transY0)) {
+			return false;
+		}
+		if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+			state.lastX = (float) transY0;
+			state.lastY = (float) transX0;
+		} else {
+			state.lastX = (float) transX0;
+			state.lastY = (float) transY0;
+		}
+		state.setLastPointGood(true);
+		return true;
+	}
+
+	/**
+	 * Draws the line segments collected in the state with a single call to
+	 * <code>Canvas.drawLines()</code> (fast line mode).
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param state
+	 *            the renderer state.
+	 */
+	private void drawLineSegments(Canvas g2, State state) {
+		if (state.getCoordinateCount() > 0) {
+			Paint p = state.batchPaint;
+			p.setStyle(Paint.Style.STROKE);
+			p.setStrokeWidth(state.batchStroke);
+			g2.drawLines(state.getCoordinates(), 0,
+					state.getCoordinateCount(), p);
+		}
+		state.clearCoordinates();
+	}
+
+	/**
+	 * Draws the shape for an item and adds the item label, crosshair value
+	 * and entity (fast line mode). Filled square and circular shapes without
+	 * outlines are added to the coordinate buffer in the state as points;
+	 * other shapes are drawn immediately by
+	 * {@link #drawSecondaryPass(Canvas, XYPlot, XYDataset, int, int, int,
+	 * ValueAxis, Rectangle2D, ValueAxis, CrosshairState, EntityCollection)},
+	 * after the buffered points, so that the drawing order is the same as in
+	 * the normal mode.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param state
+	 *            the renderer state.
+	 * @param plot
+	 *            the plot.
+	 * @param dataset
+	 *            the dataset.
+	 * @param pass
+	 *            the pass.
+	 * @param series
+	 *            the series index (zero-based).
+	 * @param item
+	 *            the item index (zero-based).
+	 * @param domainAxis
+	 *            the domain axis.
+	 * @param dataArea
+	 *            the area within which the data is being drawn.
+	 * @param rangeAxis
+	 *            the range axis.
+	 * @param crosshairState
+	 *            the crosshair state.
+	 * @param entities
+	 *            the entity collection (<code>null</code> permitted).
+	 */
+	private void drawSecondaryPassFast(Canvas g2, State state, XYPlot plot,
+			XYDataset dataset, int pass, int series, int item,
+			ValueAxis domainAxis, Rectangle2D dataArea, ValueAxis rangeAxis,
+			CrosshairState crosshairState, EntityCollection entities) {
+
+		Shape shape = null;
+		if (getItemShapeVisible(series, item) && !this.drawOutlines
+				&& getItemShapeFilled(series, item)) {
+			shape = getItemShape(series, item);
+		}
+		if (shape == null || !isPointShape(shape)) {
+			drawPoints(g2, state);
+			drawSecondaryPass(g2, plot, dataset, pass, series, item,
+					domainAxis, dataArea, rangeAxis, crosshairState, entities);
+			return;
+		}
+		double x1 = dataset.getXValue(series, item);
+		double y1 = dataset.getYValue(series, item);
+		if (Double.isNaN(y1) || Double.isNaN(x1)) {
+			return;
+		}
+		PlotOrientation orientation = plot.getOrientation();
+		double transX1 = domainAxis.valueToJava2D(x1, dataArea,
+				plot.getDomainAxisEdge());
+		double transY1 = rangeAxis.valueToJava2D(y1, dataArea,
+				plot.getRangeAxisEdge());
+		double xx = transX1;
+		double yy = transY1;
+		if (orientation == PlotOrientation.HORIZONTAL) {
+			xx = transY1;
+			yy = transX1;
+		}
+
+		Paint paint;
+		if (this.useFillPaint) {
+			paint = getItemFillPaint(series, item);
+		} else {
+			paint = getItemPaint(series, item);
+		}
+		float stroke = getItemStroke(series, item).floatValue();
+		if (state.pointShape != shape || paint != state.batchPaint
+				|| stroke != state.batchStroke) {
+			// a different shape or paint needs a separate call, so flush
+			drawPoints(g2, state);
+			state.pointShape = shape;
+			state.batchPaint = paint;
+			state.batchStroke = stroke;
+		}
+		if (getPathCache().intersects(shape, xx, yy, dataArea)) {
+			state.addPoint((float) xx, (float) yy);
+		}
+
+		if (isItemLabelVisible(series, item)) {
+			// the label is drawn over the shape
+			drawPoints(g2, state);
+			drawItemLabel(g2, orientation, dataset, series, item, xx, yy,
+					(y1 < 0.0));
+		}
+		int domainAxisIndex = plot.getDomainAxisIndex(domainAxis);
+		int rangeAxisIndex = plot.getRangeAxisIndex(rangeAxis);
+		updateCrosshairValues(crosshairState, x1, y1, domainAxisIndex,
+				rangeAxisIndex, transX1, transY1, orientation);
+		if (entities != null && isPointInRect(dataArea, xx, yy)) {
+			addItemEntity(entities, shape, dataset, series, item, xx, yy);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the shape can be drawn as a single point,
+	 * that is, if it is a square or circle centred on the origin.
+	 * 
+	 * @param shape
+	 *            the shape.
+	 * 
+	 * @return A boolean.
+	 */
+	private boolean isPointShape(Shape shape) {
+		if (!(shape instanceof Rectangle2D) && !(shape instanceof Ellipse2D)) {
+			return false;
+		}
+		Rectangle2D bounds = getPathCache().getBounds(shape);
+		return bounds.getWidth() == bounds.getHeight()
+				&& bounds.getCenterX() == 0.0 && bounds.getCenterY() == 0.0;
+	}
+
+	/**
+	 * Draws the points collected in the state with a single call to
+	 * <code>Canvas.drawPoints()</code> (fast line mode). Each point covers
+	 * the same area as the shape filled and stroked by
+	 * {@link #drawSecondaryPass(Canvas, XYPlot, XYDataset, int, int, int,
+	 * ValueAxis, Rectangle2D, ValueAxis, CrosshairState, EntityCollection)}.
+	 * 
+	 * @param g2
+	 *            the graphics device.
+	 * @param state
+	 *            the renderer state.
+	 */
+	private void drawPoints(Canvas g2, State state) {
+		if (state.getCoordinateCount() > 0 && state.pointShape != null) {
+			Paint p = state.batchPaint;
+			Paint.Cap cap = p.getStrokeCap();
+			p.setStyle(Paint.Style.STROKE);
+			p.setStrokeWidth((float) getPathCache().getBounds(
+					state.pointShape).getWidth()
+					+ state.batchStroke);
+			p.setStrokeCap(state.pointShape instanceof Ellipse2D
+					? Paint.Cap.ROUND : Paint.Cap.SQUARE);
+			g2.drawPoints(state.getCoordinates(), 0,
+					state.getCoordinateCount(), p);
+			p.setStrokeCap(cap);
+		}
+		state.clearCoordinates();
+	}
+
 	/**
 	 * Returns <code>true</code> if the specified pass is the one for drawing
 	 * lines.
@@ -1026,7 +1569,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 	protected void drawPrimaryLine(XYItemRendererState state, Canvas g2,
 			XYPlot plot, XYDataset dataset, int pass, int series, int item,
 			ValueAxis domainAxis, ValueAxis rangeAxis, Rectangle2D dataArea) {
-		if (item == 0) {
+		// the previous item is not item - 1 when the plot decimates the series
+		int previous = state.getPreviousItemIndex(item);
+		if (previous < 0) {
 			return;
 		}
 
@@ -1037,8 +1582,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 			return;
 		}
 
-		double x0 = dataset.getXValue(series, item - 1);
-		double y0 = dataset.getYValue(series, item - 1);
+		double x0 = dataset.getXValue(series, previous);
+		double y0 = dataset.getYValue(series, previous);
 		if (Double.isNaN(y0) || Double.isNaN(x0)) {
 			return;
 		}
@@ -1090,8 +1635,13 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		Paint p = getItemPaint(series, item);
 		p.setStyle(Paint.Style.STROKE);
 		p.setStrokeWidth(getItemStroke(series, item));
-		Path path = convertAwtPathToAndroid(shape.getPathIterator(null));	
-		g2.drawPath(path, p);
+		if (shape instanceof Line2D) {
+			Line2D line = (Line2D) shape;
+			g2.drawLine((float) line.getX1(), (float) line.getY1(),
+					(float) line.getX2(), (float) line.getY2(), p);
+		} else {
+			g2.drawPath(getPathCache().convert(shape), p);
+		}
 	}
 
 	/**
@@ -1135,6 +1685,10 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
 
 		State s = (State) state;
+		if (startAtLastRenderedItem(s, plot, dataset, series, item,
+				domainAxis, rangeAxis, dataArea)) {
+			s.seriesPath.moveTo(s.lastX, s.lastY);
+		}
 		// update path to reflect latest point
 		if (!Double.isNaN(transX1) && !Double.isNaN(transY1)) {
 			float x = (float) transX1;
@@ -1195,7 +1749,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 			Rectangle2D dataArea, ValueAxis rangeAxis,
 			CrosshairState crosshairState, EntityCollection entities) {
 
-		Shape entityArea = null;
+		Shape entityShape = null;
 
 		// get the data point...
 		double x1 = dataset.getXValue(series, item);
@@ -1212,15 +1766,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 
 		if (getItemShapeVisible(series, item)) {
 			Shape shape = getItemShape(series, item);
+			double shapeX = transX1;
+			double shapeY = transY1;
 			if (orientation == PlotOrientation.HORIZONTAL) {
-				shape = ShapeUtilities.createTranslatedShape(shape, transY1,
-						transX1);
-			} else if (orientation == PlotOrientation.VERTICAL) {
-				shape = ShapeUtilities.createTranslatedShape(shape, transX1,
-						transY1);
+				shapeX = transY1;
+				shapeY = transX1;
 			}
-			entityArea = shape;
-			if (shape.intersects(dataArea)) {
+			entityShape = shape;
+			ShapePathCache cache = getPathCache();
+			if (cache.intersects(shape, shapeX, shapeY, dataArea)) {
 				if (getItemShapeFilled(series, item)) {
 					Paint p;
 					if (this.useFillPaint) {
@@ -1230,9 +1784,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 					}
 					p.setStyle(Paint.Style.FILL_AND_STROKE);
 					p.setStrokeWidth(getItemStroke(series, item));
-					Path path = convertAwtPathToAndroid(shape
-							.getPathIterator(null));
-					g2.drawPath(path, p);
+					cache.drawShape(g2, shape, shapeX, shapeY, p);
 				}
 				if (this.drawOutlines) {
 					Paint p;
@@ -1243,9 +1795,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 					}
 					p.setStyle(Paint.Style.STROKE);
 					p.setStrokeWidth(getItemStroke(series, item));
-					Path path = convertAwtPathToAndroid(shape
-							.getPathIterator(null));
-					g2.drawPath(path, p);
+					cache.drawShape(g2, shape, shapeX, shapeY, p);
 				}
 			}
 		}
@@ -1271,7 +1821,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		// add an entity for the item, but only if it falls within the data
 		// area...
 		if (entities != null && isPointInRect(dataArea, xx, yy)) {
-			addEntity(entities, entityArea, dataset, series, item, xx, yy);
+			addItemEntity(entities, entityShape, dataset, series, item, xx,
+					yy);
 		}
 	}
 
@@ -1333,12 +1884,6 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 
 	}
 
-	@Override
-	public void addChangeListener(RendererChangeListener listener) {
-		// TODO Auto-generated method stub
-
-	}
-
 	@Override
 	public Font getItemLabelFont() {
 		// TODO Auto-generated method stub
@@ -1375,12 +1920,6 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 		return null;
 	}
 
-	@Override
-	public void removeChangeListener(RendererChangeListener listener) {
-		// TODO Auto-generated method stub
-
-	}
-
 	@Override
 	public void setBaseOutlineStroke(Float stroke) {
 		// TODO Auto-generated method stub
@@ -1521,42 +2060,4 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements
 
 	}
 
-	private Path convertAwtPathToAndroid(PathIterator pi) {
-		Path path = new Path();
-		float[] coords = new float[6];
-		while (!pi.isDone()) {
-			int windingRule = pi.getWindingRule();
-
-			if (windingRule == PathIterator.WIND_EVEN_ODD) {
-				path.setFillType(Path.FillType.EVEN_ODD);
-			} else {
-				path.setFillType(Path.FillType.INVERSE_EVEN_ODD);
-			}
-
-			int pathType = pi.currentSegment(coords);
-
-			switch (pathType) {
-			case PathIterator.SEG_CLOSE:
-				path.close();
-				break;
-			case PathIterator.SEG_CUBICTO:
-				path.cubicTo(coords[0], coords[1], coords[2], coords[3],
-						coords[4], coords[5]);
-				break;
-			case PathIterator.SEG_LINETO:
-				path.lineTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_MOVETO:
-				path.moveTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_QUADTO:
-				path.quadTo(coords[0], coords[1], coords[2], coords[3]);
-				break;
-			}
-
-			pi.next();
-		}
-		return path;
-	}
-
 }
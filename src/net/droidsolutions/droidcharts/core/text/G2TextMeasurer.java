@@ -34,12 +34,13 @@
  * Changes
  * -------
  * 07-Jan-2004 : Version 1 (DG);
+ * 17-Oct-2026 : Measure through the shared TextMetricsCache, without copying
+ *               the text (DS);
  *
  */
 
 package net.droidsolutions.droidcharts.core.text;
 
-import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import android.graphics.Paint;
 
 /**
@@ -61,7 +62,8 @@ public class G2TextMeasurer implements TextMeasurer {
 	}
 
 	/**
-	 * Returns the string width.
+	 * Returns the string width.  The width is looked up in the shared
+	 * {@link TextMetricsCache}.
 	 * 
 	 * @param text
 	 *            the text.
@@ -75,10 +77,8 @@ public class G2TextMeasurer implements TextMeasurer {
 	public float getStringWidth(final String text, final int start,
 			final int end) {
 
-		final Rectangle2D bounds = TextUtilities.getTextBounds(text.substring(
-				start, end), p);
-		final float result = (float) bounds.getWidth();
-		return result;
+		return TextMetricsCache.getSharedInstance().getWidth(text, start, end,
+				p);
 	}
 
 }
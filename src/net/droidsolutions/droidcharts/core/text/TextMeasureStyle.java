@@ -0,0 +1,199 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2004, by Object Refinery Limited and Contributors.
+ * 
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ * 
+ * ---------------------
+ * TextMeasureStyle.java
+ * ---------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.text;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+/**
+ * The settings of a {@link Paint} that change the size of the text it
+ * draws: the typeface, the text size, the horizontal scale and skew, and the
+ * fake bold and subpixel flags.  Two paints with equal styles measure any
+ * text to the same bounds, so this is the key used by the caches of text
+ * measurements ({@link TextMetricsCache}, and the category label cache of
+ * <code>CategoryAxis</code>).
+ * <P>
+ * Instances of this class are immutable once created with
+ * {@link #TextMeasureStyle(Paint)}.
+ */
+public final class TextMeasureStyle {
+
+	/** The typeface (<code>null</code> for the default). */
+	private Typeface typeface;
+
+	/** The text size. */
+	private float size;
+
+	/** The horizontal scale factor. */
+	private float scaleX;
+
+	/** The horizontal skew factor. */
+	private float skewX;
+
+	/** The fake bold flag. */
+	private boolean fakeBold;
+
+	/** The subpixel flag. */
+	private boolean subpixel;
+
+	/** The hash code. */
+	private int hash;
+
+	/**
+	 * Creates a style with no typeface and a zero text size, to be set by
+	 * {@link #set(Paint)}.
+	 */
+	TextMeasureStyle() {
+		this.scaleX = 1.0f;
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Creates a new style from the current settings of a paint.
+	 *
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 */
+	public TextMeasureStyle(Paint paint) {
+		if (paint == null) {
+			throw new IllegalArgumentException("Null 'paint' argument.");
+		}
+		set(paint);
+	}
+
+	/**
+	 * Copies the settings of a paint into this style.  This is only used for
+	 * the lookup keys of {@link TextMetricsCache}, which are reused.
+	 *
+	 * @param paint
+	 *            the paint.
+	 */
+	void set(Paint paint) {
+		this.typeface = paint.getTypeface();
+		this.size = paint.getTextSize();
+		this.scaleX = paint.getTextScaleX();
+		this.skewX = paint.getTextSkewX();
+		this.fakeBold = paint.isFakeBoldText();
+		this.subpixel = paint.isSubpixelText();
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Returns <code>true</code> if a paint has the same settings as this
+	 * style, without creating a new style for it.
+	 *
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 *
+	 * @return A boolean.
+	 */
+	public boolean matches(Paint paint) {
+		if (paint == null) {
+			throw new IllegalArgumentException("Null 'paint' argument.");
+		}
+		Typeface t = paint.getTypeface();
+		return (this.typeface == null ? t == null : this.typeface.equals(t))
+				&& Float.floatToIntBits(this.size) == Float
+						.floatToIntBits(paint.getTextSize())
+				&& Float.floatToIntBits(this.scaleX) == Float
+						.floatToIntBits(paint.getTextScaleX())
+				&& Float.floatToIntBits(this.skewX) == Float
+						.floatToIntBits(paint.getTextSkewX())
+				&& this.fakeBold == paint.isFakeBoldText()
+				&& this.subpixel == paint.isSubpixelText();
+	}
+
+	/**
+	 * Tests this style for equality with an arbitrary object.
+	 *
+	 * @param obj
+	 *            the object (<code>null</code> permitted).
+	 *
+	 * @return A boolean.
+	 */
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof TextMeasureStyle)) {
+			return false;
+		}
+		TextMeasureStyle that = (TextMeasureStyle) obj;
+		if (this.hash != that.hash) {
+			return false;
+		}
+		if (this.typeface == null ? that.typeface != null : !this.typeface
+				.equals(that.typeface)) {
+			return false;
+		}
+		return Float.floatToIntBits(this.size) == Float
+				.floatToIntBits(that.size)
+				&& Float.floatToIntBits(this.scaleX) == Float
+						.floatToIntBits(that.scaleX)
+				&& Float.floatToIntBits(this.skewX) == Float
+						.floatToIntBits(that.skewX)
+				&& this.fakeBold == that.fakeBold
+				&& this.subpixel == that.subpixel;
+	}
+
+	/**
+	 * Returns a hash code for this style.
+	 *
+	 * @return A hash code.
+	 */
+	public int hashCode() {
+		return this.hash;
+	}
+
+	/**
+	 * Computes the hash code from the settings.
+	 *
+	 * @return The hash code.
+	 */
+	private int computeHash() {
+		int h = (this.typeface != null ? this.typeface.hashCode() : 0);
+		h = 31 * h + Float.floatToIntBits(this.size);
+		h = 31 * h + Float.floatToIntBits(this.scaleX);
+		h = 31 * h + Float.floatToIntBits(this.skewX);
+		h = 31 * h + (this.fakeBold ? 1 : 0);
+		h = 31 * h + (this.subpixel ? 1 : 0);
+		return h;
+	}
+
+}
@@ -0,0 +1,423 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2004, by Object Refinery Limited and Contributors.
+ * 
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ * 
+ * ---------------------
+ * TextMetricsCache.java
+ * ---------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.text;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.droidsolutions.droidcharts.awt.Rectangle;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+/**
+ * A least-recently-used cache of text bounds, keyed by the text settings of
+ * the paint (see {@link TextMeasureStyle}) and the characters measured.
+ * Axis tick labels and category labels are measured again every time a
+ * chart is drawn, and {@link G2TextMeasurer} is called repeatedly for the
+ * same text while labels are wrapped, so most measurements can be answered
+ * from the cache.
+ * <P>
+ * A lookup does not allocate: the characters are compared in place, and
+ * only a miss copies the text into a new cache entry.  The hit and miss
+ * counts are available to help choose a capacity.
+ * <P>
+ * The methods of this class are synchronized, so one instance (see
+ * {@link #getSharedInstance()}) can be used by charts drawn on different
+ * threads.
+ */
+public class TextMetricsCache {
+
+	/** The default capacity. */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/** The cache used by {@link TextUtilities} and {@link G2TextMeasurer}. */
+	private static final TextMetricsCache SHARED_INSTANCE = new TextMetricsCache(
+			DEFAULT_CAPACITY);
+
+	/** The maximum number of entries (zero disables caching). */
+	private int capacity;
+
+	/** The entries, least recently used first. */
+	private Map entries;
+
+	/** A key reused for lookups. */
+	private Key probe;
+
+	/** The text settings of the paint, reused for lookups. */
+	private TextMeasureStyle probeStyle;
+
+	/** A rectangle reused for measuring. */
+	private Rect rect;
+
+	/** The number of lookups found in the cache. */
+	private int hitCount;
+
+	/** The number of lookups not found in the cache. */
+	private int missCount;
+
+	/**
+	 * Returns the cache shared by {@link TextUtilities} and
+	 * {@link G2TextMeasurer}.
+	 *
+	 * @return The shared cache.
+	 */
+	public static TextMetricsCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param capacity
+	 *            the maximum number of entries (zero disables caching).
+	 */
+	public TextMetricsCache(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"Requires 'capacity' to be non-negative.");
+		}
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap(16, 0.75f, true) {
+			protected boolean removeEldestEntry(Map.Entry eldest) {
+				return size() > TextMetricsCache.this.capacity;
+			}
+		};
+		this.probe = new Key();
+		this.probeStyle = new TextMeasureStyle();
+		this.rect = new Rect();
+	}
+
+	/**
+	 * Returns the maximum number of entries.
+	 *
+	 * @return The capacity.
+	 *
+	 * @see #setCapacity(int)
+	 */
+	public synchronized int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Sets the maximum number of entries, discarding the least recently used
+	 * entries if there are too many.
+	 *
+	 * @param capacity
+	 *            the capacity (zero disables caching).
+	 *
+	 * @see #getCapacity()
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"Requires 'capacity' to be non-negative.");
+		}
+		this.capacity = capacity;
+		int excess = this.entries.size() - capacity;
+		Iterator iterator = this.entries.keySet().iterator();
+		while (excess-- > 0) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Returns the number of entries in the cache.
+	 *
+	 * @return The entry count.
+	 */
+	public synchronized int getSize() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns the number of lookups that were found in the cache.
+	 *
+	 * @return The hit count.
+	 *
+	 * @see #getMissCount()
+	 */
+	public synchronized int getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Returns the number of lookups that were not found in the cache.
+	 *
+	 * @return The miss count.
+	 *
+	 * @see #getHitCount()
+	 */
+	public synchronized int getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Resets the hit and miss counts to zero.
+	 */
+	public synchronized void resetStatistics() {
+		this.hitCount = 0;
+		this.missCount = 0;
+	}
+
+	/**
+	 * Removes all entries from the cache.  The hit and miss counts are not
+	 * changed.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the width of the bounds of some text.
+	 *
+	 * @param text
+	 *            the text (<code>null</code> not permitted).
+	 * @param start
+	 *            the index of the first character to measure.
+	 * @param end
+	 *            the index after the last character to measure.
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 *
+	 * @return The width.
+	 */
+	public synchronized int getWidth(String text, int start, int end,
+			Paint paint) {
+		return lookup(text, start, end, paint).width;
+	}
+
+	/**
+	 * Returns the height of the bounds of some text.
+	 *
+	 * @param text
+	 *            the text (<code>null</code> not permitted).
+	 * @param start
+	 *            the index of the first character to measure.
+	 * @param end
+	 *            the index after the last character to measure.
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 *
+	 * @return The height.
+	 */
+	public synchronized int getHeight(String text, int start, int end,
+			Paint paint) {
+		return lookup(text, start, end, paint).height;
+	}
+
+	/**
+	 * Returns the width and height of the bounds of some text, with a single
+	 * lookup.
+	 *
+	 * @param text
+	 *            the text (<code>null</code> not permitted).
+	 * @param start
+	 *            the index of the first character to measure.
+	 * @param end
+	 *            the index after the last character to measure.
+	 * @param paint
+	 *            the paint (<code>null</code> not permitted).
+	 *
+	 * @return A new rectangle at the origin, with the width and height of the
+	 *         text bounds.
+	 */
+	public synchronized Rectangle getBounds(String text, int start, int end,
+			Paint paint) {
+		Metrics metrics = lookup(text, start, end, paint);
+		return new Rectangle(metrics.width, metrics.height);
+	}
+
+	/**
+	 * Returns the entry for some text, measuring the text if it is not in
+	 * the cache.  The caller must hold the lock on this cache.
+	 *
+	 * @param text
+	 *            the text.
+	 * @param start
+	 *            the index of the first character to measure.
+	 * @param end
+	 *            the index after the last character to measure.
+	 * @param paint
+	 *            the paint.
+	 *
+	 * @return The entry.
+	 */
+	private Metrics lookup(String text, int start, int end, Paint paint) {
+		if (text == null) {
+			throw new IllegalArgumentException("Null 'text' argument.");
+		}
+		if (paint == null) {
+			throw new IllegalArgumentException("Null 'paint' argument.");
+		}
+		this.probeStyle.set(paint);
+		this.probe.set(this.probeStyle, text, start, end);
+		Metrics metrics = (Metrics) this.entries.get(this.probe);
+		this.probe.set(this.probeStyle, "", 0, 0);
+		if (metrics != null) {
+			this.hitCount++;
+			return metrics;
+		}
+		this.missCount++;
+		paint.getTextBounds(text, start, end, this.rect);
+		metrics = new Metrics(this.rect.width(), this.rect.height());
+		if (this.capacity > 0) {
+			Key key = new Key();
+			key.set(new TextMeasureStyle(paint), text.substring(start, end), 0,
+					end - start);
+			this.entries.put(key, metrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * The key for a cache entry.  The characters are a range within a
+	 * string, so that the lookup key can refer to the caller's text without
+	 * copying it.
+	 */
+	private static final class Key {
+
+		/** The text settings of the paint. */
+		private TextMeasureStyle style;
+
+		/** The string containing the characters. */
+		private String text;
+
+		/** The index of the first character. */
+		private int start;
+
+		/** The index after the last character. */
+		private int end;
+
+		/** The hash code. */
+		private int hash;
+
+		/**
+		 * Sets the fields of this key.
+		 *
+		 * @param style
+		 *            the text settings of the paint.
+		 * @param text
+		 *            the string containing the characters.
+		 * @param start
+		 *            the index of the first character.
+		 * @param end
+		 *            the index after the last character.
+		 */
+		void set(TextMeasureStyle style, String text, int start, int end) {
+			this.style = style;
+			this.text = text;
+			this.start = start;
+			this.end = end;
+			int h = style.hashCode();
+			for (int i = start; i < end; i++) {
+				h = 31 * h + text.charAt(i);
+			}
+			this.hash = h;
+		}
+
+		/**
+		 * Tests this key for equality with an arbitrary object.
+		 *
+		 * @param obj
+		 *            the object (<code>null</code> permitted).
+		 *
+		 * @return A boolean.
+		 */
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) obj;
+			if (this.hash != that.hash) {
+				return false;
+			}
+			if (!this.style.equals(that.style)) {
+				return false;
+			}
+			int length = this.end - this.start;
+			if (length != that.end - that.start) {
+				return false;
+			}
+			return this.text.regionMatches(this.start, that.text, that.start,
+					length);
+		}
+
+		/**
+		 * Returns a hash code for this key.
+		 *
+		 * @return A hash code.
+		 */
+		public int hashCode() {
+			return this.hash;
+		}
+
+	}
+
+	/**
+	 * The measurements for a cache entry.
+	 */
+	private static final class Metrics {
+
+		/** The width of the text bounds. */
+		private final int width;
+
+		/** The height of the text bounds. */
+		private final int height;
+
+		/**
+		 * Creates a new entry.
+		 *
+		 * @param width
+		 *            the width.
+		 * @param height
+		 *            the height.
+		 */
+		Metrics(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+	}
+
+}
@@ -38,6 +38,7 @@
  * 07-Apr-2004 : Added getTextBounds() method and useFontMetricsGetStringBounds flag (DG);
  * 08-Apr-2004 : Changed word break iterator to line break iterator in the createTextBlock()
  *               method - see bug report 926074 (DG);
+ * 17-Oct-2026 : Look up text bounds in the shared TextMetricsCache (DS);
  *
  */
 
@@ -46,12 +47,10 @@ package net.droidsolutions.droidcharts.core.text;
 import java.text.BreakIterator;
 
 import net.droidsolutions.droidcharts.awt.Font;
-import net.droidsolutions.droidcharts.awt.Rectangle;
 import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.common.TextAnchor;
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.Rect;
 
 /**
  * Some utility methods for working with text.
@@ -214,7 +213,8 @@ public abstract class TextUtilities {
 	}
 
 	/**
-	 * Returns the bounds for the specified text.
+	 * Returns the bounds for the specified text.  The measurements are looked
+	 * up in the shared {@link TextMetricsCache}.
 	 * 
 	 * @param text
 	 *            the text (<code>null</code> permitted).
@@ -227,10 +227,8 @@ public abstract class TextUtilities {
 	 */
 	public static Rectangle2D getTextBounds(final String text, final Paint fm) {
 
-		Rect bounds = new Rect();
-		fm.getTextBounds(text, 0, text.length(), bounds);
-
-		return new Rectangle(bounds.width(), bounds.height());
+		return TextMetricsCache.getSharedInstance().getBounds(text, 0,
+				text.length(), fm);
 	}
 
 	/**
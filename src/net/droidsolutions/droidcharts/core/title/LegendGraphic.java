@@ -52,8 +52,6 @@ package net.droidsolutions.droidcharts.core.title;
 
 import net.droidsolutions.droidcharts.awt.Ellipse2D;
 import net.droidsolutions.droidcharts.awt.Line2D;
-import net.droidsolutions.droidcharts.awt.Path2D;
-import net.droidsolutions.droidcharts.awt.PathIterator;
 import net.droidsolutions.droidcharts.awt.Point2D;
 import net.droidsolutions.droidcharts.awt.Polygon;
 import net.droidsolutions.droidcharts.awt.Rectangle;
@@ -61,6 +59,7 @@ import net.droidsolutions.droidcharts.awt.Rectangle2D;
 import net.droidsolutions.droidcharts.awt.Shape;
 import net.droidsolutions.droidcharts.common.GradientPaintTransformer;
 import net.droidsolutions.droidcharts.common.RectangleAnchor;
+import net.droidsolutions.droidcharts.common.ShapePathCache;
 import net.droidsolutions.droidcharts.common.ShapeUtilities;
 import net.droidsolutions.droidcharts.common.Size2D;
 import net.droidsolutions.droidcharts.common.StandardGradientPaintTransformer;
@@ -667,12 +666,11 @@ public class LegendGraphic extends AbstractBlock implements Block {
 				}
 			}
 			else if (shape instanceof Polygon) {
-				Path2D polygon = (Path2D) s;
+				Path path = ShapePathCache.createPath(s);
 				if (this.shapeFilled) {
 					Paint p = this.fillPaint;
 
 					p.setStyle(Paint.Style.FILL_AND_STROKE);
-					Path path = convertAwtPathToAndroid(polygon.getPathIterator(null));
 					g2.drawPath(path, p);
 							
 					
@@ -682,7 +680,6 @@ public class LegendGraphic extends AbstractBlock implements Block {
 
 					p.setStyle(Paint.Style.STROKE);
 					p.setStrokeWidth(outlineStroke);
-					Path path = convertAwtPathToAndroid(polygon.getPathIterator(null));
 					g2.drawPath(path, p);
 
 				}
@@ -713,44 +710,6 @@ public class LegendGraphic extends AbstractBlock implements Block {
 		draw(g2, area);
 
 	}
-	
-	private Path convertAwtPathToAndroid(PathIterator pi) {
-		Path path = new Path();
-		float[] coords = new float[6];
-		while (!pi.isDone()) {
-			int windingRule = pi.getWindingRule();
-
-			if (windingRule == PathIterator.WIND_EVEN_ODD) {
-				path.setFillType(Path.FillType.EVEN_ODD);
-			} else {
-				path.setFillType(Path.FillType.INVERSE_EVEN_ODD);
-			}
-
-			int pathType = pi.currentSegment(coords);
-
-			switch (pathType) {
-			case PathIterator.SEG_CLOSE:
-				path.close();
-				break;
-			case PathIterator.SEG_CUBICTO:
-				path.cubicTo(coords[0], coords[1], coords[2], coords[3],
-						coords[4], coords[5]);
-				break;
-			case PathIterator.SEG_LINETO:
-				path.lineTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_MOVETO:
-				path.moveTo(coords[0], coords[1]);
-				break;
-			case PathIterator.SEG_QUADTO:
-				path.quadTo(coords[0], coords[1], coords[2], coords[3]);
-				break;
-			}
-
-			pi.next();
-		}
-		return path;
-	}
 
 
 }
@@ -0,0 +1,332 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DefaultKeyedValuesTests.java
+ * ----------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.common.SortOrder;
+
+/**
+ * Tests for the {@link DefaultKeyedValues} class, in particular for the
+ * index from keys to items, which is kept up to date incrementally.
+ */
+public class DefaultKeyedValuesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     * 
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DefaultKeyedValuesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     * 
+     * @param name
+     *            the name of the tests.
+     */
+    public DefaultKeyedValuesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the basic methods.
+     */
+    public void testBasic() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        assertEquals(0, v.getItemCount());
+        assertEquals(-1, v.getIndex("A"));
+        v.addValue("A", 1.0);
+        v.addValue("B", 2.0);
+        v.setValue("A", 3.0);
+        assertEquals(2, v.getItemCount());
+        assertEquals(0, v.getIndex("A"));
+        assertEquals(new Double(3.0), v.getValue("A"));
+        assertEquals("B", v.getKey(1));
+        v.setValue("C", null);
+        assertNull(v.getValue(2));
+        assertEquals(2, v.getIndex("C"));
+        boolean pass = false;
+        try {
+            v.getValue("D");
+        } catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * A rolling window removes the first item and appends a new one many
+     * times, moving the items through the arrays.
+     */
+    public void testRollingWindow() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        for (int i = 0; i < 10; i++) {
+            v.addValue(new Integer(i), i);
+        }
+        for (int i = 10; i < 1000; i++) {
+            v.removeValue(0);
+            v.addValue(new Integer(i), i);
+            assertEquals(10, v.getItemCount());
+            assertEquals(0, v.getIndex(new Integer(i - 9)));
+            assertEquals(9, v.getIndex(new Integer(i)));
+            assertEquals(-1, v.getIndex(new Integer(i - 10)));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(new Integer(990 + i), v.getKey(i));
+            assertEquals(990.0 + i, v.getValue(i).doubleValue(), 0.0);
+        }
+    }
+
+    /**
+     * Inserting at the front after removing the first item reuses the room
+     * in front of the items.
+     */
+    public void testInsertAtFront() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("A", 1.0);
+        v.addValue("B", 2.0);
+        v.addValue("C", 3.0);
+        v.removeValue(0);
+        v.insertValue(0, "Z", 26.0);
+        v.insertValue(0, "Y", 25.0);
+        checkItems(v, new String[] { "Y", "Z", "B", "C" });
+        v.insertValue(0, "C", 4.0);
+        checkItems(v, new String[] { "C", "Y", "Z", "B" });
+        assertEquals(4.0, v.getValue("C").doubleValue(), 0.0);
+    }
+
+    /**
+     * An existing item cannot be moved past the end of the list, and the
+     * list is not changed by the attempt.
+     */
+    public void testInsertExistingPastEnd() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("A", 1.0);
+        v.addValue("B", 2.0);
+        boolean pass = false;
+        try {
+            v.insertValue(2, "A", 5.0);
+        } catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        checkItems(v, new String[] { "A", "B" });
+        assertEquals(1.0, v.getValue("A").doubleValue(), 0.0);
+    }
+
+    /**
+     * setValues() updates existing keys and appends new ones, in order.
+     */
+    public void testSetValues() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("A", 1.0);
+        v.addValue("B", 2.0);
+        v.setValues(new Comparable[] { "B", "C", "D", "A" }, new double[] {
+                20.0, 30.0, 40.0, 10.0 });
+        checkItems(v, new String[] { "A", "B", "C", "D" });
+        assertEquals(10.0, v.getValue("A").doubleValue(), 0.0);
+        assertEquals(40.0, v.getValue("D").doubleValue(), 0.0);
+        boolean pass = false;
+        try {
+            v.setValues(new Comparable[] { "E", null }, new double[] { 1.0,
+                    2.0 });
+        } catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertEquals(-1, v.getIndex("E"));
+    }
+
+    /**
+     * A random mix of changes, checked against a list after every change.
+     */
+    public void testRandomChanges() {
+        Random random = new Random(22L);
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        List keys = new ArrayList();
+        List values = new ArrayList();
+        int nextKey = 0;
+        for (int n = 0; n < 3000; n++) {
+            int size = keys.size();
+            int op = random.nextInt(8);
+            Double value = new Double(random.nextInt(100));
+            if (op <= 1 || size == 0) {
+                Comparable key = "K" + nextKey++;
+                v.addValue(key, value);
+                keys.add(key);
+                values.add(value);
+            } else if (op == 2) {
+                int i = random.nextInt(size);
+                v.setValue((Comparable) keys.get(i), value);
+                values.set(i, value);
+            } else if (op == 3) {
+                int i = random.nextInt(size);
+                v.removeValue(i);
+                keys.remove(i);
+                values.remove(i);
+            } else if (op == 4) {
+                int i = random.nextInt(size);
+                v.removeValue((Comparable) keys.get(i));
+                keys.remove(i);
+                values.remove(i);
+            } else if (op == 5) {
+                int position = random.nextInt(size + 1);
+                Comparable key = "K" + nextKey++;
+                v.insertValue(position, key, value);
+                keys.add(position, key);
+                values.add(position, value);
+            } else if (op == 6) {
+                // move an existing item
+                int i = random.nextInt(size);
+                int position = random.nextInt(size);
+                Comparable key = (Comparable) keys.get(i);
+                v.insertValue(position, key, value);
+                keys.remove(i);
+                values.remove(i);
+                keys.add(position, key);
+                values.add(position, value);
+            } else {
+                v.removeValue(0);
+                keys.remove(0);
+                values.remove(0);
+            }
+            assertEquals(keys.size(), v.getItemCount());
+            for (int i = 0; i < keys.size(); i++) {
+                assertEquals(keys.get(i), v.getKey(i));
+                assertEquals(values.get(i), v.getValue(i));
+                assertEquals(i, v.getIndex((Comparable) keys.get(i)));
+            }
+            assertEquals(-1, v.getIndex("K" + nextKey));
+            assertEquals(keys, v.getKeys());
+        }
+    }
+
+    /**
+     * Sorting renumbers the index.
+     */
+    public void testSort() {
+        DefaultKeyedValues v = new DefaultKeyedValues();
+        v.addValue("C", 1.0);
+        v.addValue("A", 3.0);
+        v.addValue("B", 2.0);
+        v.removeValue(0);
+        v.addValue("C", 0.0);
+        v.sortByKeys(SortOrder.ASCENDING);
+        checkItems(v, new String[] { "A", "B", "C" });
+        v.sortByValues(SortOrder.DESCENDING);
+        checkItems(v, new String[] { "A", "B", "C" });
+        v.sortByValues(SortOrder.ASCENDING);
+        checkItems(v, new String[] { "C", "B", "A" });
+    }
+
+    /**
+     * Confirm that cloning works, and that the clone is independent.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        DefaultKeyedValues v1 = new DefaultKeyedValues();
+        v1.addValue("A", 1.0);
+        v1.addValue("B", 2.0);
+        v1.removeValue(0);
+        DefaultKeyedValues v2 = (DefaultKeyedValues) v1.clone();
+        assertTrue(v1 != v2);
+        assertEquals(v1, v2);
+        v1.addValue("C", 3.0);
+        v2.insertValue(0, "D", 4.0);
+        checkItems(v1, new String[] { "B", "C" });
+        checkItems(v2, new String[] { "D", "B" });
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality and a
+     * working index.
+     */
+    public void testSerialization() throws Exception {
+        DefaultKeyedValues v1 = new DefaultKeyedValues();
+        v1.addValue("A", 1.0);
+        v1.addValue("B", null);
+        v1.addValue("C", 3.0);
+        v1.removeValue(0);
+        v1.insertValue(1, "D", 4.0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(buffer);
+        out.writeObject(v1);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        DefaultKeyedValues v2 = (DefaultKeyedValues) in.readObject();
+        in.close();
+        assertEquals(v1, v2);
+        checkItems(v2, new String[] { "B", "D", "C" });
+        v2.addValue("E", 5.0);
+        assertEquals(3, v2.getIndex("E"));
+    }
+
+    /**
+     * Checks the keys of a collection, and that each key maps to its index.
+     * 
+     * @param v
+     *            the collection.
+     * @param keys
+     *            the expected keys.
+     */
+    private static void checkItems(DefaultKeyedValues v, String[] keys) {
+        assertEquals(keys.length, v.getItemCount());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i], v.getKey(i));
+            assertEquals(i, v.getIndex(keys[i]));
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------
+ * RollingCategoryDatasetTests.java
+ * --------------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.core.data.general.DatasetChangeEvent;
+import net.droidsolutions.droidcharts.core.data.general.DatasetChangeListener;
+
+/**
+ * Tests for the {@link RollingCategoryDataset} class.
+ */
+public class RollingCategoryDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RollingCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RollingCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * An empty dataset has no columns until the first increment.
+     */
+    public void testEmpty() {
+        RollingCategoryDataset d = new RollingCategoryDataset(4, 10L);
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        assertEquals(0, d.getColumnKeys().size());
+        assertEquals(Long.MIN_VALUE, d.getNewestBucketTime());
+        assertEquals(-1, d.getColumnIndex(new Long(0L)));
+        assertTrue(d.increment("A", 25L, 1.0));
+        assertEquals(4, d.getColumnCount());
+        assertEquals(20L, d.getNewestBucketTime());
+        checkColumnKeys(d, -10L);
+    }
+
+    /**
+     * Rolling the window past the end of the ring buffer reuses the slots
+     * of the oldest buckets, and clears them first.
+     */
+    public void testWraparound() {
+        RollingCategoryDataset d = new RollingCategoryDataset(4, 10L);
+        for (int i = 0; i < 4; i++) {
+            d.increment("A", i * 10L, i + 1);
+        }
+        d.increment("B", 35L, 10.0);
+        checkColumnKeys(d, 0L);
+        checkRow(d, "A", new Double[] {new Double(1.0), new Double(2.0),
+                new Double(3.0), new Double(4.0)});
+        checkRow(d, "B", new Double[] {null, null, null, new Double(10.0)});
+
+        // bucket 4 takes the slot of bucket 0
+        d.increment("A", 41L, 5.0);
+        checkColumnKeys(d, 10L);
+        checkRow(d, "A", new Double[] {new Double(2.0), new Double(3.0),
+                new Double(4.0), new Double(5.0)});
+        checkRow(d, "B", new Double[] {null, null, new Double(10.0), null});
+        assertEquals(-1, d.getColumnIndex(new Long(0L)));
+        assertEquals(3, d.getColumnIndex(new Long(40L)));
+        assertEquals(-1, d.getColumnIndex(new Long(45L)));
+
+        // skip two buckets, both slots are cleared
+        d.increment("B", 70L, 7.0);
+        checkColumnKeys(d, 40L);
+        checkRow(d, "A", new Double[] {new Double(5.0), null, null, null});
+        checkRow(d, "B", new Double[] {null, null, null, new Double(7.0)});
+        assertEquals(new Double(5.0), d.getValue("A", new Long(40L)));
+    }
+
+    /**
+     * Rolling the window by more than the bucket count clears every bucket.
+     */
+    public void testRollPastWindow() {
+        RollingCategoryDataset d = new RollingCategoryDataset(3, 100L);
+        for (int i = 0; i < 3; i++) {
+            d.increment("A", i * 100L, 1.0);
+        }
+        d.advance(100000L);
+        assertEquals(100000L, d.getNewestBucketTime());
+        checkColumnKeys(d, 99800L);
+        checkRow(d, "A", new Double[] {null, null, null});
+        d.increment("A", 99850L, 2.0);
+        checkRow(d, "A", new Double[] {new Double(2.0), null, null});
+    }
+
+    /**
+     * An increment before the oldest bucket is rejected, and an increment
+     * in an older bucket within the window does not roll the window back.
+     */
+    public void testIncrementOld() {
+        RollingCategoryDataset d = new RollingCategoryDataset(4, 10L);
+        d.increment("A", 100L, 1.0);
+        assertFalse(d.increment("A", 69L, 1.0));
+        assertFalse(d.increment("B", 60L, 1.0));
+        assertEquals(1, d.getRowCount());
+        assertTrue(d.increment("A", 70L, 2.0));
+        assertTrue(d.increment("A", 75L, 2.0));
+        assertEquals(100L, d.getNewestBucketTime());
+        checkRow(d, "A", new Double[] {new Double(4.0), null, null,
+                new Double(1.0)});
+    }
+
+    /**
+     * Negative times fall in the bucket that starts at or before the time.
+     */
+    public void testNegativeTimes() {
+        RollingCategoryDataset d = new RollingCategoryDataset(3, 10L);
+        d.increment("A", -25L, 1.0);
+        assertEquals(-30L, d.getNewestBucketTime());
+        d.increment("A", -10L, 2.0);
+        d.increment("A", -1L, 3.0);
+        checkColumnKeys(d, -30L);
+        checkRow(d, "A", new Double[] {new Double(1.0), null,
+                new Double(5.0)});
+        d.increment("A", 5L, 4.0);
+        checkColumnKeys(d, -20L);
+        checkRow(d, "A", new Double[] {null, new Double(5.0),
+                new Double(4.0)});
+    }
+
+    /**
+     * A random sequence of increments, checked against a map of bucket
+     * totals after every change.
+     */
+    public void testRandomIncrements() {
+        Random random = new Random(23L);
+        int bucketCount = 5;
+        long millis = 7L;
+        RollingCategoryDataset d = new RollingCategoryDataset(bucketCount,
+                millis);
+        String[] rows = new String[] {"A", "B", "C"};
+        Map totals = new HashMap();
+        long newest = 0L;
+        for (int n = 0; n < 2000; n++) {
+            String row = rows[random.nextInt(rows.length)];
+            long time = newest * millis + random.nextInt(9 * (int) millis)
+                    - 5 * millis;
+            if (random.nextInt(10) == 0) {
+                time += 10 * millis;
+            }
+            long bucket = (long) Math.floor((double) time / millis);
+            double delta = random.nextInt(10);
+            boolean accepted = d.increment(row, time, delta);
+            if (n > 0 && bucket <= newest - bucketCount) {
+                assertFalse(accepted);
+                continue;
+            }
+            assertTrue(accepted);
+            newest = (n == 0 ? bucket : Math.max(newest, bucket));
+            String key = row + bucket;
+            Double total = (Double) totals.get(key);
+            totals.put(key, new Double((total == null ? 0.0
+                    : total.doubleValue()) + delta));
+            assertEquals(newest * millis, d.getNewestBucketTime());
+            for (int c = 0; c < bucketCount; c++) {
+                long b = newest - bucketCount + 1 + c;
+                assertEquals(new Long(b * millis), d.getColumnKey(c));
+                for (int r = 0; r < d.getRowCount(); r++) {
+                    assertEquals(totals.get(d.getRowKey(r) + "" + b),
+                            d.getValue(r, c));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check the change events: by default only increments that roll the
+     * window or add a row send an event, and other increments are reported
+     * by the next call to advance().
+     */
+    public void testChangeEvents() {
+        RollingCategoryDataset d = new RollingCategoryDataset(4, 10L);
+        final int[] events = new int[1];
+        d.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                events[0]++;
+            }
+        });
+        d.increment("A", 0L, 1.0);
+        assertEquals(1, events[0]);
+        d.increment("A", 5L, 1.0);
+        d.increment("A", 6L, 1.0);
+        assertEquals(1, events[0]);
+        d.increment("B", 6L, 1.0);
+        assertEquals(2, events[0]);
+        d.increment("A", 15L, 1.0);
+        assertEquals(3, events[0]);
+
+        // advance() reports the pending increments once
+        d.increment("A", 16L, 1.0);
+        assertEquals(3, events[0]);
+        d.advance(17L);
+        assertEquals(4, events[0]);
+        d.advance(18L);
+        assertEquals(4, events[0]);
+        d.advance(25L);
+        assertEquals(5, events[0]);
+
+        // a rejected increment does not leave a change pending
+        d.increment("A", -100L, 1.0);
+        d.advance(25L);
+        assertEquals(5, events[0]);
+
+        d.increment("A", 26L, 1.0, true);
+        assertEquals(6, events[0]);
+        d.setNotifyOnIncrement(true);
+        assertTrue(d.getNotifyOnIncrement());
+        d.increment("A", 27L, 1.0);
+        assertEquals(7, events[0]);
+        d.advance(28L);
+        assertEquals(7, events[0]);
+
+        d.removeRow("B");
+        assertEquals(8, events[0]);
+        d.clear();
+        assertEquals(9, events[0]);
+    }
+
+    /**
+     * Removing a row renumbers the rows that follow it.
+     */
+    public void testRemoveRow() {
+        RollingCategoryDataset d = new RollingCategoryDataset(2, 10L);
+        d.increment("A", 0L, 1.0);
+        d.increment("B", 0L, 2.0);
+        d.increment("C", 10L, 3.0);
+        d.removeRow("A");
+        assertEquals(2, d.getRowCount());
+        assertEquals(-1, d.getRowIndex("A"));
+        assertEquals(0, d.getRowIndex("B"));
+        assertEquals(1, d.getRowIndex("C"));
+        checkRow(d, "C", new Double[] {null, new Double(3.0)});
+        boolean pass = false;
+        try {
+            d.removeRow("A");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Clearing the dataset also resets the window, so that older times are
+     * accepted again.
+     */
+    public void testClear() {
+        RollingCategoryDataset d = new RollingCategoryDataset(2, 10L);
+        d.increment("A", 100L, 1.0);
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        assertTrue(d.increment("A", 0L, 1.0));
+        checkColumnKeys(d, -10L);
+    }
+
+    /**
+     * Some checks for the equals() method, including a comparison with a
+     * {@link DefaultCategoryDataset} holding the same values.
+     */
+    public void testEquals() {
+        RollingCategoryDataset d1 = new RollingCategoryDataset(2, 10L);
+        RollingCategoryDataset d2 = new RollingCategoryDataset(2, 10L);
+        assertEquals(d1, d2);
+        d1.increment("A", 10L, 1.0);
+        assertFalse(d1.equals(d2));
+        d2.increment("A", 15L, 1.0);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.increment("A", 0L, 1.0);
+        assertFalse(d1.equals(d2));
+
+        DefaultCategoryDataset d3 = new DefaultCategoryDataset();
+        d3.addValue(new Double(1.0), "A", new Long(0L));
+        d3.addValue(new Double(1.0), "A", new Long(10L));
+        assertEquals(d1, d3);
+    }
+
+    /**
+     * Confirm that cloning works, and that the clone is independent.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        RollingCategoryDataset d1 = new RollingCategoryDataset(3, 10L);
+        d1.increment("A", 0L, 1.0);
+        d1.increment("A", 10L, 2.0);
+        RollingCategoryDataset d2 = (RollingCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertEquals(d1, d2);
+        d1.increment("A", 10L, 2.0);
+        d1.increment("B", 40L, 1.0);
+        assertFalse(d1.equals(d2));
+        assertEquals(1, d2.getRowCount());
+        checkColumnKeys(d2, -10L);
+        checkRow(d2, "A", new Double[] {null, new Double(1.0),
+                new Double(2.0)});
+    }
+
+    /**
+     * Checks that the column keys are consecutive bucket start times.
+     *
+     * @param d  the dataset.
+     * @param oldest  the expected key of the first column.
+     */
+    private static void checkColumnKeys(RollingCategoryDataset d,
+            long oldest) {
+        long millis = d.getBucketMillis();
+        for (int c = 0; c < d.getColumnCount(); c++) {
+            Long key = new Long(oldest + c * millis);
+            assertEquals(key, d.getColumnKey(c));
+            assertEquals(c, d.getColumnIndex(key));
+        }
+    }
+
+    /**
+     * Checks the values in a row, oldest bucket first.
+     *
+     * @param d  the dataset.
+     * @param rowKey  the row key.
+     * @param expected  the expected values.
+     */
+    private static void checkRow(RollingCategoryDataset d, String rowKey,
+            Double[] expected) {
+        int row = d.getRowIndex(rowKey);
+        assertTrue(row >= 0);
+        assertEquals(expected.length, d.getColumnCount());
+        for (int c = 0; c < expected.length; c++) {
+            assertEquals(expected[c], d.getValue(row, c));
+        }
+    }
+
+}
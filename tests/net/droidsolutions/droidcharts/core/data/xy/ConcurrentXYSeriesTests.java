@@ -0,0 +1,258 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * ConcurrentXYSeriesTests.java
+ * ----------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.common.ChangeEventDispatcher;
+import net.droidsolutions.droidcharts.core.data.general.SeriesChangeEvent;
+import net.droidsolutions.droidcharts.core.data.general.SeriesChangeListener;
+
+/**
+ * Tests for the {@link ConcurrentXYSeries} class.
+ */
+public class ConcurrentXYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ConcurrentXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ConcurrentXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * With automatic publication disabled, readers only see the items once
+     * they are published, and a snapshot never changes.
+     */
+    public void testManualPublish() {
+        ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(-1L);
+        s.add(1.0, 10.0);
+        s.add(2.0, 20.0);
+        assertEquals(0, s.getItemCount());
+        assertTrue(s.publish());
+        assertFalse(s.publish());
+        ConcurrentXYSeries.Snapshot snapshot = s.getSnapshot();
+        assertEquals(2, snapshot.getItemCount());
+        s.add(3.0, 5.0);
+        s.publish();
+        assertEquals(3, s.getItemCount());
+        assertEquals(2, snapshot.getItemCount());
+        assertEquals(20.0, snapshot.getMaxY(), 0.0);
+        assertEquals(5.0, s.getMinY(), 0.0);
+        assertEquals(3.0, s.getMaxX(), 0.0);
+    }
+
+    /**
+     * In sliding window mode the published items are the newest ones, and
+     * an older snapshot keeps its items after their chunks have been
+     * dropped from the series.
+     */
+    public void testSlidingWindow() {
+        ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(0L);
+        s.setMaximumItemCount(100);
+        for (int i = 0; i < 500; i++) {
+            s.add(i, -i);
+        }
+        ConcurrentXYSeries.Snapshot old = s.getSnapshot();
+        for (int i = 500; i < 10000; i++) {
+            s.add(i, -i);
+        }
+        assertEquals(100, s.getItemCount());
+        assertEquals(9900.0, s.getXValue(0), 0.0);
+        assertEquals(9999.0, s.getMaxX(), 0.0);
+        assertEquals(-9999.0, s.getMinY(), 0.0);
+        assertEquals(-9900.0, s.getMaxY(), 0.0);
+        assertEquals(100, old.getItemCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(400.0 + i, old.getXValue(i), 0.0);
+            assertEquals(-400.0 - i, old.getYValue(i), 0.0);
+        }
+        assertEquals(400.0, old.getMinX(), 0.0);
+        assertEquals(-400.0, old.getMaxY(), 0.0);
+    }
+
+    /**
+     * Removing the first items and clearing the series.
+     */
+    public void testRemoveAndClear() {
+        ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(0L);
+        for (int i = 0; i < 3000; i++) {
+            s.add(i, i % 7);
+        }
+        s.delete(0, 1999);
+        assertEquals(1000, s.getItemCount());
+        assertEquals(2000.0, s.getMinX(), 0.0);
+        assertEquals(2000.0, s.remove(0).getXValue(), 0.0);
+        assertEquals(2001.0, s.getXValue(0), 0.0);
+        boolean pass = false;
+        try {
+            s.remove(1);
+        }
+        catch (UnsupportedOperationException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        s.add(5.0, 5.0);
+        assertEquals(1, s.getItemCount());
+    }
+
+    /**
+     * A reader on another thread always sees a consistent snapshot while
+     * the items are appended.
+     */
+    public void testConcurrentReader() throws InterruptedException {
+        final ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(0L);
+        s.setMaximumItemCount(5000);
+        final int count = 200000;
+        final String[] failure = new String[1];
+        Thread reader = new Thread() {
+            public void run() {
+                double lastX = -1.0;
+                while (lastX < count - 1) {
+                    ConcurrentXYSeries.Snapshot snapshot = s.getSnapshot();
+                    int n = snapshot.getItemCount();
+                    if (n == 0) {
+                        continue;
+                    }
+                    double first = snapshot.getXValue(0);
+                    double last = snapshot.getXValue(n - 1);
+                    if (last - first != n - 1 || last < lastX
+                            || snapshot.getMaxX() != last
+                            || snapshot.getMinY() != -last
+                            || snapshot.getYValue(n / 2) != -(first + n / 2)) {
+                        failure[0] = "Inconsistent snapshot: " + first + ", "
+                                + last + ", " + n;
+                        return;
+                    }
+                    lastX = last;
+                }
+            }
+        };
+        reader.start();
+        for (int i = 0; i < count; i++) {
+            s.add(i, -i);
+        }
+        reader.join(30000L);
+        assertFalse(reader.isAlive());
+        assertNull(failure[0], failure[0]);
+    }
+
+    /**
+     * Appends on the producer thread never call the listeners; the change is
+     * delivered by the dispatcher, with the items that were appended after
+     * the last automatic publication.
+     */
+    public void testDispatcherNotification() throws InterruptedException {
+        final ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(60000L);
+        ChangeEventDispatcher dispatcher = new ChangeEventDispatcher();
+        s.setChangeDispatcher(dispatcher);
+        final Thread[] threads = new Thread[1];
+        final int[] events = new int[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+                threads[0] = Thread.currentThread();
+            }
+        });
+        Thread writer = new Thread() {
+            public void run() {
+                for (int i = 0; i < 100; i++) {
+                    s.add(i, i);
+                }
+            }
+        };
+        writer.start();
+        writer.join();
+        assertEquals(0, events[0]);
+        assertEquals(1, s.getItemCount());
+        dispatcher.flush();
+        assertEquals(1, events[0]);
+        assertSame(Thread.currentThread(), threads[0]);
+        assertEquals(100, s.getItemCount());
+        assertFalse(dispatcher.flush());
+    }
+
+    /**
+     * Without a dispatcher, publish() reports the changes to the listeners
+     * on the calling thread.
+     */
+    public void testPublishNotification() {
+        ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        s.setPublishInterval(60000L);
+        final int[] events = new int[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+        s.add(1.0, 1.0);
+        s.add(2.0, 2.0);
+        assertEquals(0, events[0]);
+        assertEquals(1, s.getItemCount());
+        assertTrue(s.publish());
+        assertEquals(1, events[0]);
+        assertEquals(2, s.getItemCount());
+        assertFalse(s.publish());
+        assertEquals(1, events[0]);
+    }
+
+}
@@ -0,0 +1,260 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * XYRangeIndexTests.java
+ * ----------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.core.data.Range;
+
+/**
+ * Tests for the {@link XYRangeIndex} class.
+ */
+public class XYRangeIndexTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYRangeIndexTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYRangeIndexTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the getRange() method on a few items.
+     */
+    public void testGetRange() {
+        XYRangeIndex index = new XYRangeIndex();
+        index.add(3.0);
+        index.add(-1.0);
+        index.add(7.0);
+        index.add(2.0);
+        assertEquals(4, index.getItemCount());
+        assertEquals(new Range(-1.0, 7.0), index.getRange(0, 3));
+        assertEquals(new Range(3.0, 3.0), index.getRange(0, 0));
+        assertEquals(new Range(2.0, 7.0), index.getRange(2, 3));
+        assertEquals(new Range(-1.0, 3.0), index.getRange(0, 1));
+    }
+
+    /**
+     * <code>Double.NaN</code> values are ignored, and a run of items that
+     * only has <code>Double.NaN</code> values has no range.
+     */
+    public void testNaN() {
+        XYRangeIndex index = new XYRangeIndex();
+        index.add(Double.NaN);
+        index.add(5.0);
+        index.add(Double.NaN);
+        assertNull(index.getRange(0, 0));
+        assertNull(index.getRange(2, 2));
+        assertEquals(new Range(5.0, 5.0), index.getRange(0, 2));
+        index.set(1, Double.NaN);
+        assertNull(index.getRange(0, 2));
+    }
+
+    /**
+     * Items that are out of bounds are rejected.
+     */
+    public void testGetRangeOutOfBounds() {
+        XYRangeIndex index = new XYRangeIndex();
+        index.add(1.0);
+        index.add(2.0);
+        boolean pass = false;
+        try {
+            index.getRange(0, 2);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        index.removeFirst(1);
+        pass = false;
+        try {
+            index.getRange(0, 1);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            index.removeFirst(2);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Removing the first items and setting values updates the ranges.
+     */
+    public void testRemoveFirstAndSet() {
+        XYRangeIndex index = new XYRangeIndex();
+        for (int i = 0; i < 10; i++) {
+            index.add(i);
+        }
+        index.removeFirst(4);
+        assertEquals(6, index.getItemCount());
+        assertEquals(new Range(4.0, 9.0), index.getRange(0, 5));
+        index.set(0, 100.0);
+        assertEquals(new Range(5.0, 100.0), index.getRange(0, 5));
+        assertEquals(new Range(5.0, 9.0), index.getRange(1, 5));
+        index.removeFirst(6);
+        assertEquals(0, index.getItemCount());
+        index.add(-3.0);
+        assertEquals(new Range(-3.0, -3.0), index.getRange(0, 0));
+    }
+
+    /**
+     * A sliding window keeps evicting and appending, so the items move
+     * through the leaves and are compacted back to the start many times.
+     * Every range is checked against a scan of the values.
+     */
+    public void testSlidingWindow() {
+        Random random = new Random(8L);
+        XYRangeIndex index = new XYRangeIndex();
+        double[] values = new double[2000];
+        int window = 37;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextGaussian());
+            index.add(values[i]);
+            if (index.getItemCount() > window) {
+                index.removeFirst(1);
+            }
+            int first = Math.max(0, i - window + 1);
+            int count = index.getItemCount();
+            assertEquals(i - first + 1, count);
+            int a = random.nextInt(count);
+            int b = a + random.nextInt(count - a);
+            assertEquals(scan(values, first + a, first + b),
+                    index.getRange(a, b));
+        }
+    }
+
+    /**
+     * A series that grows past the initial capacity, with random updates.
+     */
+    public void testGrowthAndUpdates() {
+        Random random = new Random(11L);
+        XYRangeIndex index = new XYRangeIndex();
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble();
+            index.add(values[i]);
+        }
+        for (int n = 0; n < 500; n++) {
+            int item = random.nextInt(values.length);
+            values[item] = random.nextDouble() * 10.0 - 5.0;
+            index.set(item, values[item]);
+            int a = random.nextInt(values.length);
+            int b = a + random.nextInt(values.length - a);
+            assertEquals(scan(values, a, b), index.getRange(a, b));
+        }
+        index.clear();
+        assertEquals(0, index.getItemCount());
+    }
+
+    /**
+     * The range index of an XYSeries gives the same bounds as a scan, for a
+     * series with a maximum item count.
+     */
+    public void testSeriesFindRangeBounds() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        s1.setMaximumItemCount(50);
+        s2.setMaximumItemCount(50);
+        s2.setRangeIndexEnabled(true);
+        Random random = new Random(3L);
+        for (int i = 0; i < 300; i++) {
+            double y = random.nextGaussian();
+            s1.add(i, y);
+            s2.add(i, y);
+            Range xRange = new Range(i - 30.5, i - 10.5);
+            assertEquals(s1.findRangeBounds(xRange),
+                    s2.findRangeBounds(xRange));
+        }
+        s1.updateByIndex(25, new Double(1000.0));
+        s2.updateByIndex(25, new Double(1000.0));
+        Range xRange = new Range(0.0, 1000.0);
+        assertEquals(s1.findRangeBounds(xRange), s2.findRangeBounds(xRange));
+        assertEquals(1000.0, s2.findRangeBounds(xRange).getUpperBound(), 0.0);
+    }
+
+    /**
+     * Returns the range of some values, ignoring <code>Double.NaN</code>.
+     *
+     * @param values  the values.
+     * @param first  the index of the first value.
+     * @param last  the index of the last value.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    private static Range scan(double[] values, int first, int last) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = first; i <= last; i++) {
+            if (!Double.isNaN(values[i])) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+        }
+        return (min > max ? null : new Range(min, max));
+    }
+
+}
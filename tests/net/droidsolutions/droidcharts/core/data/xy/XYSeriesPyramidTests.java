@@ -0,0 +1,324 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * XYSeriesPyramidTests.java
+ * -------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.data.xy;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link XYSeriesPyramid} class.
+ */
+public class XYSeriesPyramidTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYSeriesPyramidTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYSeriesPyramidTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The bucket statistics of a pyramid built from a series match a scan of
+     * the items in each bucket, at every level.
+     */
+    public void testBuckets() {
+        XYSeries series = createSeries(1000, 1L);
+        XYSeriesPyramid pyramid = new XYSeriesPyramid(series);
+        assertEquals(1000, pyramid.getItemCount());
+        // 1000 items fill two buckets of 256 items, so there is a level
+        // with buckets of 512 items above them, but not of 1024
+        assertEquals(9, pyramid.getLevelCount());
+        checkBuckets(pyramid, series, 0L);
+    }
+
+    /**
+     * A pyramid that is built by appending items matches one built from the
+     * whole series.
+     */
+    public void testAdd() {
+        XYSeries series = createSeries(300, 2L);
+        XYSeriesPyramid pyramid = new XYSeriesPyramid();
+        for (int i = 0; i < series.getItemCount(); i++) {
+            pyramid.add(series.getYValue(i));
+        }
+        checkBuckets(pyramid, series, 0L);
+    }
+
+    /**
+     * Evicting items from the start of the series keeps the other items in
+     * their buckets, and recalculates the first bucket of each level.
+     */
+    public void testRemoveFirst() {
+        XYSeries series = createSeries(200, 3L);
+        XYSeriesPyramid pyramid = new XYSeriesPyramid(series);
+        Random random = new Random(4L);
+        long removed = 0L;
+        double x = series.getItemCount();
+        for (int n = 0; n < 100; n++) {
+            int count = random.nextInt(5) + 1;
+            for (int i = 0; i < count; i++) {
+                series.remove(0);
+            }
+            pyramid.removeFirst(series, count);
+            removed += count;
+            for (int i = 0; i < count; i++) {
+                double y = random.nextGaussian();
+                series.add(x++, y);
+                pyramid.add(y);
+            }
+            checkBuckets(pyramid, series, removed);
+        }
+    }
+
+    /**
+     * Updating an item recalculates the buckets that contain it.
+     */
+    public void testUpdate() {
+        XYSeries series = createSeries(100, 5L);
+        XYSeriesPyramid pyramid = new XYSeriesPyramid(series);
+        series.updateByIndex(37, new Double(1000.0));
+        pyramid.update(series, 37);
+        series.updateByIndex(64, new Double(-1000.0));
+        pyramid.update(series, 64);
+        series.updateByIndex(3, new Double(Double.NaN));
+        pyramid.update(series, 3);
+        checkBuckets(pyramid, series, 0L);
+        assertEquals(1000.0, pyramid.getMaximum(6, 37), 0.0);
+        assertEquals(-1000.0, pyramid.getMinimum(6, 64), 0.0);
+    }
+
+    /**
+     * A bucket without y-values has no minimum, maximum or average.
+     */
+    public void testMissingValues() {
+        XYSeriesPyramid pyramid = new XYSeriesPyramid();
+        pyramid.add(Double.NaN);
+        pyramid.add(Double.NaN);
+        pyramid.add(1.0);
+        pyramid.add(3.0);
+        assertTrue(Double.isNaN(pyramid.getMinimum(1, 0)));
+        assertTrue(Double.isNaN(pyramid.getMaximum(1, 1)));
+        assertTrue(Double.isNaN(pyramid.getAverage(1, 0)));
+        assertEquals(1.0, pyramid.getMinimum(2, 0), 0.0);
+        assertEquals(3.0, pyramid.getMaximum(2, 0), 0.0);
+        assertEquals(2.0, pyramid.getAverage(2, 3), 0.0);
+    }
+
+    /**
+     * The selection is in ascending order, starts and ends with the ends of
+     * the run, holds the extremes of the run and a missing value, and has
+     * far fewer items than the run.
+     */
+    public void testGetSelection() {
+        XYSeries series = createSeries(10000, 6L);
+        series.updateByIndex(4321, new Double(Double.NaN));
+        XYSeriesPyramid pyramid = new XYSeriesPyramid(series);
+        int first = 123;
+        int last = 9876;
+        int[] selection = pyramid.getSelection(first, last, 100);
+        assertNotNull(selection);
+        assertEquals(first, selection[0]);
+        assertEquals(last, selection[selection.length - 1]);
+        for (int i = 1; i < selection.length; i++) {
+            assertTrue(selection[i] > selection[i - 1]);
+        }
+        assertTrue(selection.length < 1000);
+
+        int minItem = first;
+        int maxItem = first;
+        for (int i = first; i <= last; i++) {
+            double y = series.getYValue(i);
+            if (y < series.getYValue(minItem)) {
+                minItem = i;
+            }
+            if (y > series.getYValue(maxItem)) {
+                maxItem = i;
+            }
+        }
+        assertTrue(contains(selection, minItem));
+        assertTrue(contains(selection, maxItem));
+        assertTrue(contains(selection, 4321));
+    }
+
+    /**
+     * There is no selection when there are too few items per pixel, or the
+     * arguments are out of range.
+     */
+    public void testGetSelectionNull() {
+        XYSeries series = createSeries(1000, 7L);
+        XYSeriesPyramid pyramid = new XYSeriesPyramid(series);
+        assertNull(pyramid.getSelection(0, 999, 500));
+        assertNull(pyramid.getSelection(0, 1000, 10));
+        assertNull(pyramid.getSelection(10, 5, 10));
+        assertNull(pyramid.getSelection(0, 999, 0));
+        assertNotNull(pyramid.getSelection(0, 999, 10));
+    }
+
+    /**
+     * A series with the level of detail enabled keeps its pyramid up to
+     * date in sliding window mode.
+     */
+    public void testSeriesSelection() {
+        XYSeries series = new XYSeries("S");
+        series.setMaximumItemCount(2000);
+        series.setLevelOfDetailEnabled(true);
+        Random random = new Random(9L);
+        for (int i = 0; i < 5000; i++) {
+            series.add(i, random.nextGaussian());
+            if (i % 500 == 499) {
+                int[] selection = series.getLevelOfDetailSelection(0,
+                        series.getItemCount() - 1, 50);
+                XYSeriesPyramid fresh = new XYSeriesPyramid(series);
+                int[] expected = fresh.getSelection(0,
+                        series.getItemCount() - 1, 50);
+                assertNotNull(selection);
+                int minItem = 0;
+                int maxItem = 0;
+                for (int j = 0; j < series.getItemCount(); j++) {
+                    if (series.getYValue(j) < series.getYValue(minItem)) {
+                        minItem = j;
+                    }
+                    if (series.getYValue(j) > series.getYValue(maxItem)) {
+                        maxItem = j;
+                    }
+                }
+                assertTrue(contains(selection, minItem));
+                assertTrue(contains(selection, maxItem));
+                assertTrue(contains(expected, minItem));
+            }
+        }
+    }
+
+    /**
+     * Creates a series with random y-values.
+     *
+     * @param count  the number of items.
+     * @param seed  the random seed.
+     *
+     * @return The series.
+     */
+    private static XYSeries createSeries(int count, long seed) {
+        XYSeries series = new XYSeries("S");
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            series.add(i, random.nextGaussian());
+        }
+        return series;
+    }
+
+    /**
+     * Checks the statistics of every bucket against a scan of its items.
+     *
+     * @param pyramid  the pyramid.
+     * @param series  the series.
+     * @param firstPosition  the number of items evicted since the pyramid
+     *     was built.
+     */
+    private static void checkBuckets(XYSeriesPyramid pyramid,
+            XYSeries series, long firstPosition) {
+        int count = series.getItemCount();
+        assertEquals(count, pyramid.getItemCount());
+        for (int level = 1; level <= pyramid.getLevelCount(); level++) {
+            for (int item = 0; item < count; item++) {
+                long bucketStart = ((firstPosition + item) >> level) << level;
+                int first = (int) Math.max(0L, bucketStart - firstPosition);
+                int last = (int) Math.min(count - 1,
+                        bucketStart + (1L << level) - 1 - firstPosition);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                double sum = 0.0;
+                int n = 0;
+                for (int i = first; i <= last; i++) {
+                    double y = series.getYValue(i);
+                    if (!Double.isNaN(y)) {
+                        min = Math.min(min, y);
+                        max = Math.max(max, y);
+                        sum += y;
+                        n++;
+                    }
+                }
+                if (n == 0) {
+                    assertTrue(Double.isNaN(pyramid.getMinimum(level, item)));
+                    assertTrue(Double.isNaN(pyramid.getMaximum(level, item)));
+                }
+                else {
+                    assertEquals(min, pyramid.getMinimum(level, item), 0.0);
+                    assertEquals(max, pyramid.getMaximum(level, item), 0.0);
+                    assertEquals(sum / n, pyramid.getAverage(level, item),
+                            1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if an array contains a value.
+     *
+     * @param array  the array.
+     * @param value  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean contains(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,297 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------------
+ * StandardEntityCollectionTests.java
+ * ----------------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.entity;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.awt.Shape;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link StandardEntityCollection} class, in particular for
+ * the grid index used by {@link StandardEntityCollection#getEntity(double,
+ * double)} and for virtual item entities.
+ */
+public class StandardEntityCollectionTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(StandardEntityCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public StandardEntityCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the last entity added to a collection that contains a point,
+     * by testing every entity.
+     *
+     * @param c  the collection.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    private static ChartEntity scan(StandardEntityCollection c, double x,
+            double y) {
+        for (int i = c.getEntityCount() - 1; i >= 0; i--) {
+            ChartEntity entity = c.getEntity(i);
+            if (entity.getArea().contains(x, y)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Overlapping entities of many sizes (including some too large to be
+     * entered cell by cell): the last entity added that contains the point
+     * is returned, as with a linear scan.
+     */
+    public void testGetEntityLastAddedWins() {
+        Random random = new Random(19L);
+        StandardEntityCollection c = new StandardEntityCollection(10.0);
+        for (int i = 0; i < 500; i++) {
+            double w = (i % 50 == 0 ? 300.0 : random.nextDouble() * 30.0);
+            double h = (i % 50 == 0 ? 200.0 : random.nextDouble() * 30.0);
+            c.add(new ChartEntity(new Rectangle2D.Double(
+                    random.nextDouble() * 400.0 - 50.0,
+                    random.nextDouble() * 300.0 - 50.0, w, h)));
+            if (i % 100 == 0) {
+                // lookups between additions
+                assertSame(scan(c, 100.0, 100.0), c.getEntity(100.0, 100.0));
+            }
+        }
+        for (int n = 0; n < 2000; n++) {
+            double x = random.nextDouble() * 450.0 - 75.0;
+            double y = random.nextDouble() * 350.0 - 75.0;
+            assertSame(scan(c, x, y), c.getEntity(x, y));
+        }
+    }
+
+    /**
+     * Points on and near cell boundaries, and far outside the grid.
+     */
+    public void testGetEntityCellBoundaries() {
+        StandardEntityCollection c = new StandardEntityCollection(10.0);
+        ChartEntity e1 = new ChartEntity(new Rectangle2D.Double(5.0, 5.0,
+                10.0, 10.0));
+        ChartEntity e2 = new ChartEntity(new Rectangle2D.Double(-20.0, -20.0,
+                10.0, 10.0));
+        c.add(e1);
+        c.add(e2);
+        assertSame(e1, c.getEntity(10.0, 10.0));
+        assertSame(e1, c.getEntity(5.0, 14.9));
+        assertSame(e2, c.getEntity(-15.0, -11.0));
+        assertNull(c.getEntity(-5.0, -5.0));
+        assertNull(c.getEntity(1.0e20, 1.0e20));
+        assertNull(c.getEntity(Double.NaN, 0.0));
+    }
+
+    /**
+     * Entities with infinite or NaN bounds are still found.
+     */
+    public void testGetEntityUnboundedArea() {
+        StandardEntityCollection c = new StandardEntityCollection();
+        ChartEntity e1 = new ChartEntity(new Rectangle2D.Double(
+                Double.NEGATIVE_INFINITY, 0.0, Double.POSITIVE_INFINITY,
+                10.0));
+        c.add(e1);
+        ChartEntity e2 = new ChartEntity(new Rectangle2D.Double(0.0, 0.0,
+                5.0, 5.0));
+        c.add(e2);
+        assertSame(e2, c.getEntity(1.0, 1.0));
+        assertSame(scan(c, -1000.0, 5.0), c.getEntity(-1000.0, 5.0));
+        assertNull(c.getEntity(1.0, 20.0));
+    }
+
+    /**
+     * The index is rebuilt after the collection is cleared.
+     */
+    public void testClear() {
+        StandardEntityCollection c = new StandardEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 5.0, 5.0)));
+        assertNotNull(c.getEntity(1.0, 1.0));
+        c.clear();
+        assertEquals(0, c.getEntityCount());
+        assertNull(c.getEntity(1.0, 1.0));
+        ChartEntity e = new ChartEntity(new Rectangle2D.Double(0.0, 0.0,
+                2.0, 2.0));
+        c.add(e);
+        assertSame(e, c.getEntity(1.0, 1.0));
+    }
+
+    /**
+     * The cell size must be positive and finite.
+     */
+    public void testCellSize() {
+        assertEquals(StandardEntityCollection.DEFAULT_CELL_SIZE,
+                new StandardEntityCollection().getCellSize(), 0.0);
+        assertEquals(5.0, new StandardEntityCollection(5.0).getCellSize(),
+                0.0);
+        double[] invalid = new double[] {0.0, -1.0, Double.NaN,
+                Double.POSITIVE_INFINITY};
+        for (int i = 0; i < invalid.length; i++) {
+            boolean pass = false;
+            try {
+                new StandardEntityCollection(invalid[i]);
+            }
+            catch (IllegalArgumentException e) {
+                pass = true;
+            }
+            assertTrue(pass);
+        }
+    }
+
+    /**
+     * Virtual item entities are created when they are looked up, with the
+     * hotspot translated to the item's position.
+     */
+    public void testVirtualItemEntities() {
+        XYSeriesCollection dataset = new XYSeriesCollection(new XYSeries(
+                "S1"));
+        Shape hotspot = new Rectangle2D.Double(-2.0, -2.0, 4.0, 4.0);
+        StandardEntityCollection c = new StandardEntityCollection(10.0);
+        c.setVirtualItemEntities(true);
+        assertTrue(c.isVirtualItemEntities());
+        for (int i = 0; i < 100; i++) {
+            c.addXYItem(hotspot, dataset, 0, i, i * 3.0, 50.0);
+        }
+        ChartEntity other = new ChartEntity(new Rectangle2D.Double(100.0,
+                40.0, 20.0, 20.0));
+        c.add(other);
+        assertEquals(101, c.getEntityCount());
+
+        // item 10 is at (30, 50) and overlaps item 9 and item 11
+        XYItemEntity entity = (XYItemEntity) c.getEntity(30.5, 50.0);
+        assertEquals(10, entity.getItem());
+        assertEquals(0, entity.getSeriesIndex());
+        assertSame(dataset, entity.getDataset());
+        assertEquals(new Rectangle2D.Double(28.0, 48.0, 4.0, 4.0),
+                entity.getArea().getBounds2D());
+        assertSame(entity, c.getEntity(10));
+        assertSame(entity, c.getEntity(30.5, 50.0));
+        assertEquals(11, ((XYItemEntity) c.getEntity(31.5, 50.0)).getItem());
+
+        // the entity added last wins over the items
+        assertSame(other, c.getEntity(105.0, 50.0));
+        assertEquals(20, ((XYItemEntity) c.getEntity(60.0, 50.0)).getItem());
+        assertNull(c.getEntity(30.0, 60.0));
+
+        // iteration creates every entity, in order
+        Iterator iterator = c.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ((XYItemEntity) iterator.next()).getItem());
+        }
+        assertSame(other, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Without the virtual flag, addXYItem() creates the entity at once.
+     */
+    public void testAddXYItem() {
+        XYSeriesCollection dataset = new XYSeriesCollection(new XYSeries(
+                "S1"));
+        Shape hotspot = new Rectangle2D.Double(-2.0, -2.0, 4.0, 4.0);
+        StandardEntityCollection c = new StandardEntityCollection();
+        assertFalse(c.isVirtualItemEntities());
+        c.addXYItem(hotspot, dataset, 1, 7, 10.0, 20.0);
+        XYItemEntity entity = (XYItemEntity) c.getEntities().iterator()
+                .next();
+        assertEquals(7, entity.getItem());
+        assertEquals(1, entity.getSeriesIndex());
+        assertSame(entity, c.getEntity(9.0, 21.0));
+    }
+
+    /**
+     * Virtual item entities and ordinary entities can be copied between
+     * collections, with or without the virtual flag, and keep their order.
+     */
+    public void testAddAll() {
+        XYSeriesCollection dataset = new XYSeriesCollection(new XYSeries(
+                "S1"));
+        Shape hotspot = new Rectangle2D.Double(-2.0, -2.0, 4.0, 4.0);
+        StandardEntityCollection source = new StandardEntityCollection();
+        source.setVirtualItemEntities(true);
+        source.addXYItem(hotspot, dataset, 0, 0, 10.0, 10.0);
+        ChartEntity other = new ChartEntity(new Rectangle2D.Double(0.0, 0.0,
+                20.0, 20.0));
+        source.add(other);
+        source.addXYItem(hotspot, dataset, 0, 1, 12.0, 10.0);
+        // create one of the entities before copying
+        assertEquals(0, ((XYItemEntity) source.getEntity(0)).getItem());
+
+        for (int v = 0; v < 2; v++) {
+            StandardEntityCollection target = new StandardEntityCollection();
+            target.setVirtualItemEntities(v == 1);
+            target.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0,
+                    100.0, 100.0)));
+            target.addAll(source);
+            assertEquals(4, target.getEntityCount());
+            assertSame(source.getEntity(0), target.getEntity(1));
+            assertSame(other, target.getEntity(2));
+            XYItemEntity entity = (XYItemEntity) target.getEntity(13.0,
+                    10.0);
+            assertEquals(1, entity.getItem());
+            assertSame(other, target.getEntity(5.0, 5.0));
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * XYItemTreeTests.java
+ * --------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.common.RectangleEdge;
+import net.droidsolutions.droidcharts.core.axis.NumberAxis;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+import net.droidsolutions.droidcharts.core.renderer.xy.XYLineAndShapeRenderer;
+
+/**
+ * Tests for the <code>XYItemTree</code> class, and for the
+ * {@link XYPlot#findNearestItem(double, double, PlotRenderingInfo, double)}
+ * method that uses it.
+ */
+public class XYItemTreeTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYItemTreeTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYItemTreeTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The nearest point matches a scan of all the points, for random points
+     * and queries.
+     */
+    public void testFindNearest() {
+        Random random = new Random(1L);
+        for (int n = 0; n < 20; n++) {
+            int count = 1 + random.nextInt(500);
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = random.nextDouble() * 400.0;
+                ys[i] = random.nextDouble() * 300.0;
+            }
+            checkTree(xs, ys, random, 50);
+        }
+    }
+
+    /**
+     * Points with many equal coordinates (such as a series drawn on a few
+     * rows and columns of pixels) are arranged and searched correctly.
+     */
+    public void testDuplicateCoordinates() {
+        Random random = new Random(2L);
+        int count = 1000;
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = random.nextInt(5);
+            ys[i] = (i % 3 == 0 ? 7.0 : random.nextInt(4));
+        }
+        checkTree(xs, ys, random, 200);
+    }
+
+    /**
+     * No point is found when the tree is empty or all the points are further
+     * away than the maximum distance.
+     */
+    public void testNoneFound() {
+        XYItemTree tree = new XYItemTree(new double[0], new double[0],
+                new int[0], 0, 0, new double[0]);
+        assertEquals(-1, tree.findNearest(1.0, 1.0, Double.POSITIVE_INFINITY));
+        tree = new XYItemTree(new double[] {0.0, 10.0},
+                new double[] {0.0, 10.0}, new int[] {0, 1}, 2, 2,
+                new double[0]);
+        assertEquals(-1, tree.findNearest(5.0, 0.0, 16.0));
+        int p = tree.findNearest(5.0, 0.0, 25.0 + 1e-9);
+        assertEquals(0, tree.getItem(p));
+    }
+
+    /**
+     * The points keep their item indices when they are reordered, and the
+     * tree only matches the item count and geometry it was built with.
+     */
+    public void testItemsAndMatches() {
+        double[] xs = new double[] {5.0, 1.0, 4.0, 2.0, 3.0};
+        double[] ys = new double[] {50.0, 10.0, 40.0, 20.0, 30.0};
+        int[] items = new int[] {0, 1, 2, 3, 4};
+        double[] geometry = new double[] {1.0, 2.0, 3.0};
+        XYItemTree tree = new XYItemTree(xs, ys, items, 5, 6, geometry);
+        for (int p = 0; p < 5; p++) {
+            int item = tree.getItem(p);
+            assertEquals(new double[] {5.0, 1.0, 4.0, 2.0, 3.0}[item],
+                    tree.getX(p), 0.0);
+            assertEquals(tree.getX(p) * 10.0, tree.getY(p), 0.0);
+        }
+        assertTrue(tree.matches(6, new double[] {1.0, 2.0, 3.0}));
+        assertFalse(tree.matches(5, new double[] {1.0, 2.0, 3.0}));
+        assertFalse(tree.matches(6, new double[] {1.0, 2.0, 3.5}));
+    }
+
+    /**
+     * The plot finds the same nearest item for a series that is not sorted
+     * (using the tree) as for the same items in a sorted series.
+     */
+    public void testFindNearestItem() {
+        Random random = new Random(3L);
+        XYSeries unsorted = new XYSeries("U", false, true);
+        XYSeries sorted = new XYSeries("S", true, true);
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 100.0;
+            double y = random.nextDouble() * 100.0;
+            unsorted.add(x, y);
+            sorted.add(x, y);
+        }
+        XYPlot p1 = createPlot(unsorted);
+        XYPlot p2 = createPlot(sorted);
+        PlotRenderingInfo info = new PlotRenderingInfo(null);
+        Rectangle2D area = new Rectangle2D.Double(10.0, 20.0, 400.0, 300.0);
+        info.setDataArea(area);
+        NumberAxis xAxis = (NumberAxis) p1.getDomainAxis();
+        NumberAxis yAxis = (NumberAxis) p1.getRangeAxis();
+        for (int n = 0; n < 200; n++) {
+            double px = 10.0 + random.nextDouble() * 400.0;
+            double py = 20.0 + random.nextDouble() * 300.0;
+            XYItemLocation l1 = p1.findNearestItem(px, py, info, 25.0);
+            XYItemLocation l2 = p2.findNearestItem(px, py, info, 25.0);
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < unsorted.getItemCount(); i++) {
+                double jx = xAxis.valueToJava2D(unsorted.getXValue(i), area,
+                        RectangleEdge.BOTTOM);
+                double jy = yAxis.valueToJava2D(unsorted.getYValue(i), area,
+                        RectangleEdge.LEFT);
+                best = Math.min(best, Math.sqrt((jx - px) * (jx - px)
+                        + (jy - py) * (jy - py)));
+            }
+            if (best > 25.0) {
+                assertNull(l1);
+                assertNull(l2);
+            }
+            else {
+                assertNotNull(l1);
+                assertNotNull(l2);
+                assertEquals(best, l1.getDistance(), 1e-9);
+                assertEquals(best, l2.getDistance(), 1e-9);
+                assertEquals(l2.getXValue(), l1.getXValue(), 0.0);
+                assertEquals(unsorted.getXValue(l1.getItem()),
+                        l1.getXValue(), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Creates a plot with fixed axis ranges for one series.
+     *
+     * @param series  the series.
+     *
+     * @return The plot.
+     */
+    private static XYPlot createPlot(XYSeries series) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 100.0);
+        return new XYPlot(new XYSeriesCollection(series), xAxis, yAxis,
+                new XYLineAndShapeRenderer());
+    }
+
+    /**
+     * Builds a tree for some points and checks random queries against a
+     * scan of the points.
+     *
+     * @param xs  the x-coordinates.
+     * @param ys  the y-coordinates.
+     * @param random  the random number generator.
+     * @param queries  the number of queries.
+     */
+    private static void checkTree(double[] xs, double[] ys, Random random,
+            int queries) {
+        int count = xs.length;
+        int[] items = new int[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = i;
+        }
+        XYItemTree tree = new XYItemTree((double[]) xs.clone(),
+                (double[]) ys.clone(), items, count, count, new double[0]);
+        for (int q = 0; q < queries; q++) {
+            double px = random.nextDouble() * 420.0 - 10.0;
+            double py = random.nextDouble() * 320.0 - 10.0;
+            double maxSq = (q % 2 == 0 ? Double.POSITIVE_INFINITY : 400.0);
+            double best = maxSq;
+            for (int i = 0; i < count; i++) {
+                double d = (xs[i] - px) * (xs[i] - px) + (ys[i] - py)
+                        * (ys[i] - py);
+                best = Math.min(best, d);
+            }
+            int p = tree.findNearest(px, py, maxSq);
+            if (best >= maxSq) {
+                assertEquals(-1, p);
+            }
+            else {
+                assertTrue(p >= 0);
+                int item = tree.getItem(p);
+                double d = (xs[item] - px) * (xs[item] - px)
+                        + (ys[item] - py) * (ys[item] - py);
+                assertEquals(best, d, 0.0);
+                assertEquals(xs[item], tree.getX(p), 0.0);
+                assertEquals(ys[item], tree.getY(p), 0.0);
+            }
+        }
+    }
+
+}
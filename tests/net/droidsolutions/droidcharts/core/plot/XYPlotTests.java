@@ -0,0 +1,269 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * XYPlotTests.java
+ * ----------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.plot;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.core.axis.NumberAxis;
+import net.droidsolutions.droidcharts.core.axis.ValueAxis;
+import net.droidsolutions.droidcharts.core.data.XYDataset;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+import net.droidsolutions.droidcharts.core.renderer.xy.XYItemRendererState;
+import net.droidsolutions.droidcharts.core.renderer.xy.XYLineAndShapeRenderer;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Tests for the append rendering of the {@link XYPlot} class: the checks
+ * that decide whether the retained data layer can be reused, so that only
+ * the items appended since the previous drawing are rendered.
+ */
+public class XYPlotTests extends TestCase {
+
+    /** The series drawn by the plot. */
+    private XYSeries series;
+
+    /** The renderer, which counts the items it draws. */
+    private CountingRenderer renderer;
+
+    /** The plot. */
+    private XYPlot plot;
+
+    /** The area the plot is drawn in. */
+    private Rectangle2D area;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYPlotTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYPlotTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a plot with fixed axis ranges and ten items, with append
+     * rendering enabled.
+     */
+    protected void setUp() {
+        this.series = new XYSeries("S1");
+        for (int i = 0; i < 10; i++) {
+            this.series.add(i, i % 3);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setAutoRange(false);
+        xAxis.setRange(0.0, 100.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setAutoRange(false);
+        yAxis.setRange(-10.0, 10.0);
+        this.renderer = new CountingRenderer();
+        this.plot = new XYPlot(new XYSeriesCollection(this.series), xAxis,
+                yAxis, this.renderer);
+        this.plot.setAppendRenderingEnabled(true);
+        this.area = new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0);
+    }
+
+    /**
+     * Draws the plot and returns the number of items rendered.
+     *
+     * @return The number of items rendered.
+     */
+    private int draw() {
+        this.renderer.count = 0;
+        this.plot.draw(new Canvas(), this.area, null, null, null);
+        return this.renderer.count;
+    }
+
+    /**
+     * Only the appended items are rendered, and nothing is rendered if the
+     * series has not changed.
+     */
+    public void testAppend() {
+        assertEquals(10, draw());
+        assertEquals(0, draw());
+        this.series.add(10.0, 1.0);
+        assertEquals(1, draw());
+        this.series.add(11.0, 2.0);
+        this.series.add(12.0, 0.0);
+        assertEquals(2, draw());
+        assertEquals(0, draw());
+    }
+
+    /**
+     * Every item is rendered when append rendering is disabled.
+     */
+    public void testDisabled() {
+        this.plot.setAppendRenderingEnabled(false);
+        assertFalse(this.plot.isAppendRenderingEnabled());
+        assertEquals(10, draw());
+        assertEquals(10, draw());
+        this.series.add(10.0, 1.0);
+        assertEquals(11, draw());
+    }
+
+    /**
+     * Updating an existing item, or removing one, redraws the layer.
+     */
+    public void testChangedItems() {
+        assertEquals(10, draw());
+        this.series.update(new Double(3.0), new Double(5.0));
+        assertEquals(10, draw());
+        this.series.add(10.0, 1.0);
+        assertEquals(1, draw());
+        this.series.remove(0);
+        assertEquals(10, draw());
+        this.series.remove(9);
+        assertEquals(9, draw());
+        this.series.add(20.0, 1.0);
+        assertEquals(1, draw());
+    }
+
+    /**
+     * A change to an axis range redraws the layer.
+     */
+    public void testAxisRangeChanged() {
+        assertEquals(10, draw());
+        this.plot.getRangeAxis().setRange(-5.0, 5.0);
+        assertEquals(10, draw());
+        this.series.add(10.0, 1.0);
+        assertEquals(1, draw());
+        this.plot.getDomainAxis().setRange(0.0, 50.0);
+        assertEquals(11, draw());
+    }
+
+    /**
+     * A change to the data area redraws the layer.
+     */
+    public void testAreaChanged() {
+        assertEquals(10, draw());
+        this.area = new Rectangle2D.Double(0.0, 0.0, 400.0, 200.0);
+        assertEquals(10, draw());
+        assertEquals(0, draw());
+        this.area = new Rectangle2D.Double(10.0, 0.0, 400.0, 200.0);
+        assertEquals(10, draw());
+    }
+
+    /**
+     * A change to the series style redraws the layer, including a change
+     * to a paint that is not replaced.
+     */
+    public void testStyleChanged() {
+        Paint paint = new Paint();
+        paint.setColor(0xFF0000FF);
+        this.renderer.setSeriesPaint(0, paint);
+        assertEquals(10, draw());
+        assertEquals(0, draw());
+        this.renderer.setSeriesPaint(0, new Paint());
+        assertEquals(10, draw());
+        this.renderer.getSeriesPaint(0).setColor(0xFF00FF00);
+        assertEquals(10, draw());
+        this.renderer.setSeriesShapesVisible(0, false);
+        assertEquals(10, draw());
+        assertEquals(0, draw());
+    }
+
+    /**
+     * Replacing the dataset redraws the layer.
+     */
+    public void testDatasetChanged() {
+        assertEquals(10, draw());
+        XYSeries other = new XYSeries("S2");
+        other.add(1.0, 1.0);
+        other.add(2.0, 2.0);
+        this.plot.setDataset(new XYSeriesCollection(other));
+        assertEquals(2, draw());
+        other.add(3.0, 3.0);
+        assertEquals(1, draw());
+    }
+
+    /**
+     * Append rendering is suspended while a crosshair is visible, since
+     * the crosshair state needs every item.
+     */
+    public void testCrosshairVisible() {
+        this.plot.setDomainCrosshairVisible(true);
+        assertEquals(10, draw());
+        assertEquals(10, draw());
+        this.plot.setDomainCrosshairVisible(false);
+        assertEquals(10, draw());
+        assertEquals(0, draw());
+    }
+
+    /**
+     * A renderer that counts the items drawn in the first pass.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        /** The number of items drawn. */
+        int count;
+
+        /**
+         * Counts an item and draws it.
+         */
+        public void drawItem(Canvas g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            if (pass == 0) {
+                this.count++;
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+
+    }
+
+}
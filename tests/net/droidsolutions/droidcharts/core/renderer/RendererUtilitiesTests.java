@@ -0,0 +1,309 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * RendererUtilitiesTests.java
+ * ---------------------------
+ *
+ * (C) Copyright 2026, by DroidSolutions and Contributors.
+ *
+ * Original Author:  DroidSolutions;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (DS);
+ *
+ */
+
+package net.droidsolutions.droidcharts.core.renderer;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import net.droidsolutions.droidcharts.awt.Rectangle2D;
+import net.droidsolutions.droidcharts.common.RectangleEdge;
+import net.droidsolutions.droidcharts.core.axis.NumberAxis;
+import net.droidsolutions.droidcharts.core.data.XYDataset;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeries;
+import net.droidsolutions.droidcharts.core.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the decimation methods of the {@link RendererUtilities} class.
+ */
+public class RendererUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RendererUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RendererUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a dataset with one series of random y-values at x = 0, 1, 2,
+     * ..., with <code>NaN</code> y-values for the items from
+     * <code>gapStart</code> to <code>gapEnd</code> (inclusive).
+     *
+     * @param count  the number of items.
+     * @param gapStart  the first item in the gap (-1 for no gap).
+     * @param gapEnd  the last item in the gap.
+     *
+     * @return The dataset.
+     */
+    private static XYDataset createDataset(int count, int gapStart,
+            int gapEnd) {
+        Random random = new Random(4L);
+        XYSeries series = new XYSeries("S1", false);
+        for (int i = 0; i < count; i++) {
+            if (i >= gapStart && i <= gapEnd) {
+                series.add(i, Double.NaN);
+            }
+            else {
+                series.add(i, random.nextGaussian());
+            }
+        }
+        return new XYSeriesCollection(series);
+    }
+
+    /**
+     * Checks that a selection is in ascending order, and that no two
+     * consecutive items in the selection have an item with a
+     * <code>NaN</code> value between them (which would draw a line across
+     * a gap).
+     *
+     * @param dataset  the dataset.
+     * @param selection  the selected items.
+     */
+    private static void checkSelection(XYDataset dataset, int[] selection) {
+        for (int i = 1; i < selection.length; i++) {
+            assertTrue(selection[i] > selection[i - 1]);
+            if (Double.isNaN(dataset.getYValue(0, selection[i]))
+                    || Double.isNaN(dataset.getYValue(0, selection[i - 1]))) {
+                continue;
+            }
+            for (int item = selection[i - 1] + 1; item < selection[i];
+                    item++) {
+                assertFalse("Line drawn across the gap at item " + item,
+                        Double.isNaN(dataset.getYValue(0, item)));
+            }
+        }
+    }
+
+    /**
+     * Some checks for the decimateLTTB() method.
+     */
+    public void testDecimateLTTB() {
+        XYDataset d = createDataset(1000, -1, -1);
+        assertNull(RendererUtilities.decimateLTTB(d, 0, 0, 999, 1000));
+        assertNull(RendererUtilities.decimateLTTB(d, 0, 0, 49, 50));
+        int[] selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 50);
+        assertEquals(50, selection.length);
+        assertEquals(0, selection[0]);
+        assertEquals(999, selection[49]);
+        checkSelection(d, selection);
+
+        // a subrange
+        selection = RendererUtilities.decimateLTTB(d, 0, 100, 299, 20);
+        assertEquals(20, selection.length);
+        assertEquals(100, selection[0]);
+        assertEquals(299, selection[19]);
+        checkSelection(d, selection);
+    }
+
+    /**
+     * The decimateLTTB() method keeps the largest triangle in each bucket,
+     * so a single spike is always selected.
+     */
+    public void testDecimateLTTBSpike() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, (i == 537 ? 100.0 : 0.0));
+        }
+        XYDataset d = new XYSeriesCollection(series);
+        int[] selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 50);
+        boolean found = false;
+        for (int i = 0; i < selection.length; i++) {
+            found = found || selection[i] == 537;
+        }
+        assertTrue(found);
+    }
+
+    /**
+     * The decimateLTTB() method keeps a gap marker for each gap in the
+     * series, so that lines are not drawn across the gaps.
+     */
+    public void testDecimateLTTBGaps() {
+        XYDataset d = createDataset(1000, 400, 599);
+        int[] selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 50);
+        checkSelection(d, selection);
+        int markers = 0;
+        for (int i = 0; i < selection.length; i++) {
+            if (Double.isNaN(d.getYValue(0, selection[i]))) {
+                markers++;
+                assertEquals(400, selection[i]);
+                assertEquals(399, selection[i - 1]);
+                assertEquals(600, selection[i + 1]);
+            }
+        }
+        assertEquals(1, markers);
+        assertTrue(selection.length <= 50 + 3);
+        assertEquals(999, selection[selection.length - 1]);
+
+        // a gap at each end, the last item is always retained
+        d = createDataset(1000, 0, 99);
+        selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 50);
+        assertEquals(0, selection[0]);
+        assertEquals(100, selection[1]);
+        checkSelection(d, selection);
+        d = createDataset(1000, 900, 999);
+        selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 50);
+        assertEquals(899, selection[selection.length - 3]);
+        assertEquals(900, selection[selection.length - 2]);
+        assertEquals(999, selection[selection.length - 1]);
+        checkSelection(d, selection);
+
+        // many single item gaps
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, (i % 10 == 5 ? Double.NaN : i));
+        }
+        d = new XYSeriesCollection(series);
+        selection = RendererUtilities.decimateLTTB(d, 0, 0, 999, 300);
+        checkSelection(d, selection);
+        assertTrue(selection.length < 1000);
+
+        // only gaps
+        d = createDataset(100, 0, 99);
+        selection = RendererUtilities.decimateLTTB(d, 0, 0, 99, 10);
+        assertEquals(2, selection.length);
+        assertEquals(0, selection[0]);
+        assertEquals(99, selection[1]);
+    }
+
+    /**
+     * Some checks for the decimateMinMax() method: each pixel column keeps
+     * its first, last, minimum and maximum items.
+     */
+    public void testDecimateMinMax() {
+        XYDataset d = createDataset(1000, -1, -1);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        Rectangle2D wide = new Rectangle2D.Double(0.0, 0.0, 250.0, 50.0);
+        assertNull(RendererUtilities.decimateMinMax(d, 0, 0, 999, axis,
+                wide, RectangleEdge.BOTTOM));
+        int[] selection = RendererUtilities.decimateMinMax(d, 0, 0, 999,
+                axis, area, RectangleEdge.BOTTOM);
+        assertTrue(selection.length <= 400);
+        checkSelection(d, selection);
+        int first = 0;
+        while (first < 1000) {
+            // the items in the same pixel column as the first
+            long column = column(axis, area, first);
+            int last = first;
+            int min = first;
+            int max = first;
+            while (last + 1 < 1000 && column(axis, area, last + 1) == column) {
+                last++;
+                if (d.getYValue(0, last) < d.getYValue(0, min)) {
+                    min = last;
+                }
+                if (d.getYValue(0, last) > d.getYValue(0, max)) {
+                    max = last;
+                }
+            }
+            assertTrue(contains(selection, first));
+            assertTrue(contains(selection, min));
+            assertTrue(contains(selection, max));
+            assertTrue(contains(selection, last));
+            first = last + 1;
+        }
+    }
+
+    /**
+     * Returns the pixel column of an item with x-value equal to its index.
+     *
+     * @param axis  the domain axis.
+     * @param area  the data area.
+     * @param item  the item index.
+     *
+     * @return The pixel column.
+     */
+    private static long column(NumberAxis axis, Rectangle2D area, int item) {
+        return (long) Math.floor(axis.valueToJava2D(item, area,
+                RectangleEdge.BOTTOM));
+    }
+
+    /**
+     * The decimateMinMax() method keeps the items with a <code>NaN</code>
+     * value as gap markers.
+     */
+    public void testDecimateMinMaxGaps() {
+        XYDataset d = createDataset(1000, 400, 599);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 50.0, 50.0);
+        int[] selection = RendererUtilities.decimateMinMax(d, 0, 0, 999,
+                axis, area, RectangleEdge.BOTTOM);
+        checkSelection(d, selection);
+        assertTrue(contains(selection, 399));
+        assertTrue(contains(selection, 400));
+        assertTrue(contains(selection, 600));
+    }
+
+    /**
+     * Returns <code>true</code> if an array contains a value.
+     *
+     * @param array  the array.
+     * @param value  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean contains(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}